@@ -0,0 +1,165 @@
+package benchmark.AUTO;
+
+import benchmark.Constants.AUTO.IdManagerBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import control.AUTO.Components.IdManager;
+import control.AUTO.Files.FileManager;
+import model.AUTO.Components.Component;
+import model.ActionQueue.ActionQueue;
+import model.ActionQueue.ActionQueuePublic;
+import model.StateBus.StateBus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark that compares the lookup tables of the IdManager with the previous search through the component list
+ * Every component looks up the IDs of its targets by name before it sends an action, so this is done for most actions
+ * @author Philipp Schulz
+ */
+public class IdManagerBenchmark implements IdManagerBenchmarkConstants
+{
+    // local fields
+    private final IdManager idManager;
+    private final List<Component> componentList;
+    private final String[] names;
+    private final int[] ids;
+
+    /**
+     * Constructor of the IdManagerBenchmark class
+     * @param idManager Instance of the IdManager with the current component list
+     * @author Philipp Schulz
+     */
+    public IdManagerBenchmark(IdManager idManager)
+    {
+        // initialize local fields
+        this.idManager = idManager;
+        this.componentList = idManager.getComponentSnapshot().getComponentList();
+        this.names = new String[LOOKUP_COUNT];
+        this.ids = new int[LOOKUP_COUNT];
+        // prepare lookups of all known components and a few unknown names and IDs
+        List<String> lookupNames = new ArrayList<>();
+        List<Integer> lookupIDs = new ArrayList<>();
+        for(Component component : this.componentList)
+        {
+            lookupNames.add(component.getComponentName());
+            lookupIDs.add(component.getComponentID());
+        }
+        for(String name : UNKNOWN_NAMES)
+        {
+            lookupNames.add(name);
+        }
+        for(int id : UNKNOWN_IDS)
+        {
+            lookupIDs.add(id);
+        }
+        for(int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            this.names[i] = lookupNames.get(i % lookupNames.size());
+            this.ids[i] = lookupIDs.get(i % lookupIDs.size());
+        }
+    }
+
+    /**
+     * Main method, runs the benchmark from the program directory (requires resources/componentList.txt)
+     * @param args Arguments given during call of the program, not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        // read the component list the same way as Auto does during startup
+        ActionQueuePublic actionQueue = new ActionQueuePublic(new ActionQueue(), new StateBus());
+        IdManager idManager = new IdManager(actionQueue);
+        FileManager fileManager = new FileManager(actionQueue, idManager);
+        fileManager.readComponentList();
+        if(fileManager.getComponentList().isEmpty())
+        {
+            System.out.println(ERROR_COMPONENT_LIST);
+            return;
+        }
+        // set the list twice, the first list becomes the old component list
+        idManager.setComponentList(fileManager.getComponentList());
+        idManager.setComponentList(fileManager.getComponentList());
+        // run the benchmark
+        new IdManagerBenchmark(idManager).run(new MicroBenchmark());
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark)
+    {
+        // make sure that both lookups deliver the same results
+        verifyLookups();
+        // measure both lookups in both directions
+        microBenchmark.printHeader();
+        double legacyIDScore = microBenchmark.measure(BENCHMARK_LEGACY_ID_BY_NAME,
+                invocation -> getLegacyComponentIDByName(this.names[invocation & LOOKUP_MASK]));
+        double idScore = microBenchmark.measure(BENCHMARK_ID_BY_NAME,
+                invocation -> this.idManager.getComponentIDByName(this.names[invocation & LOOKUP_MASK]));
+        double legacyNameScore = microBenchmark.measure(BENCHMARK_LEGACY_NAME_BY_ID,
+                invocation -> getLegacyComponentNameByID(this.ids[invocation & LOOKUP_MASK]).length());
+        double nameScore = microBenchmark.measure(BENCHMARK_NAME_BY_ID,
+                invocation -> this.idManager.getComponentNameByID(this.ids[invocation & LOOKUP_MASK]).length());
+        microBenchmark.measure(BENCHMARK_NAME_BY_OLD_ID,
+                invocation -> this.idManager.getComponentNameByOldID(this.ids[invocation & LOOKUP_MASK]).length());
+        System.out.printf(RESULT_SPEEDUP, legacyIDScore/idScore, legacyNameScore/nameScore);
+    }
+
+    /**
+     * Method for checking that the lookup tables deliver the same results as the previous search
+     * @author Philipp Schulz
+     */
+    private void verifyLookups()
+    {
+        for(int i = 0; i < LOOKUP_COUNT; i++)
+        {
+            if(getLegacyComponentIDByName(this.names[i]) != this.idManager.getComponentIDByName(this.names[i]))
+            {
+                throw new IllegalStateException(ERROR_MISMATCH + this.names[i]);
+            }
+            if(!getLegacyComponentNameByID(this.ids[i]).equals(this.idManager.getComponentNameByID(this.ids[i])))
+            {
+                throw new IllegalStateException(ERROR_MISMATCH + this.ids[i]);
+            }
+        }
+    }
+
+    /**
+     * Method for getting the ID of a component like the IdManager did before the lookup tables
+     * @param componentName Name of the component
+     * @return ID of the component, -1 if not found in component list
+     * @author Philipp Schulz
+     */
+    private int getLegacyComponentIDByName(String componentName)
+    {
+        for(Component component : this.componentList)
+        {
+            if(component.getComponentName().equals(componentName))
+            {
+                return component.getComponentID();
+            }
+        }
+        return UNKNOWN_ID;
+    }
+
+    /**
+     * Method for getting the name of a component like the IdManager did before the lookup tables
+     * @param componentID ID of the component
+     * @return Name of the component, "" if not found in component list
+     * @author Philipp Schulz
+     */
+    private String getLegacyComponentNameByID(int componentID)
+    {
+        for(Component component : this.componentList)
+        {
+            if(component.getComponentID() == componentID)
+            {
+                return component.getComponentName();
+            }
+        }
+        return EMPTY_STRING;
+    }
+}
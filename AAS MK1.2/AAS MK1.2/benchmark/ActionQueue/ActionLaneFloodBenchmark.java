@@ -0,0 +1,293 @@
+package benchmark.ActionQueue;
+
+import benchmark.Constants.ActionQueue.ActionLaneFloodBenchmarkConstants;
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionLane;
+import model.ActionQueue.ActionQueue;
+import model.ActionQueue.ActionRingBuffer;
+import model.Constants.ActionHandlingConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for the latency of control actions while other threads flood the action queue with prints and sounds
+ * Compares a single FIFO for all actions (previous ActionQueue) with the lanes of the ActionQueue, the consumer takes
+ * bursts like the ActionQueueManager and simulates the handling time of every action
+ * @author Philipp Schulz
+ */
+public class ActionLaneFloodBenchmark implements ActionLaneFloodBenchmarkConstants, ActionHandlingConstants
+{
+    // local fields
+    private final long runTime;
+    private final long[] sendTimes;
+    private final long[] controlLatencies;
+    private final String[] soundTexts;
+    private ActionRingBuffer fifo;
+    private ActionQueue actionQueue;
+    private volatile boolean running;
+    private int receivedControlActions;
+    private long handledFloodActions;
+
+    /**
+     * Constructor of the ActionLaneFloodBenchmark class, the duration of a run can be overridden via system property
+     * @author Philipp Schulz
+     */
+    public ActionLaneFloodBenchmark()
+    {
+        // initialize local fields
+        this.runTime = Long.getLong(PROPERTY_RUN_TIME, DEFAULT_RUN_TIME);
+        this.sendTimes = new long[MAXIMUM_CONTROL_ACTIONS];
+        this.controlLatencies = new long[MAXIMUM_CONTROL_ACTIONS];
+        this.soundTexts = new String[FLOOD_SOUND_TEXTS];
+        for(int i = 0; i < FLOOD_SOUND_TEXTS; i++)
+        {
+            this.soundTexts[i] = FLOOD_SOUND_TEXT + i;
+        }
+        this.running = false;
+    }
+
+    /**
+     * Main method of the benchmark, runs headless
+     * @param args Not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        try
+        {
+            new ActionLaneFloodBenchmark().run();
+        }
+        catch(InterruptedException e)
+        {
+            System.out.println(ERROR_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Method for running the benchmark with both queues
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    public void run() throws InterruptedException
+    {
+        System.out.printf(HEADER_FORMAT, (Object[]) HEADER_COLUMNS);
+        // warm up both queues once, the results are discarded
+        runFlood(false);
+        runFlood(true);
+        double fifoLatency = printResult(QUEUE_FIFO, runFlood(false));
+        double laneLatency = printResult(QUEUE_LANES, runFlood(true));
+        // print the overflow counters of all lanes of the last run
+        for(int lane = 0; lane < ActionQueue.LANE_COUNT; lane++)
+        {
+            ActionLane actionLane = this.actionQueue.getActionLane(lane);
+            System.out.printf(LANE_FORMAT, actionLane.getName(), actionLane.getCapacity(), actionLane.getWeight(),
+                    ActionLane.OVERFLOW_POLICY_NAMES[actionLane.getOverflowPolicy()], actionLane.getBlockedActions(),
+                    actionLane.getDroppedActions(), actionLane.getCoalescedActions(), actionLane.getRejectedActions());
+        }
+        System.out.printf(RESULT_SPEEDUP, fifoLatency/laneLatency);
+    }
+
+    /**
+     * Method for running a single flood
+     * @param useLanes True to use the ActionQueue with lanes, false to use a single FIFO
+     * @return Sorted latencies in [ns] of all received control actions
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    private long[] runFlood(boolean useLanes) throws InterruptedException
+    {
+        // create empty queues for every run
+        this.fifo = new ActionRingBuffer(FIFO_CAPACITY);
+        this.actionQueue = new ActionQueue();
+        this.receivedControlActions = 0;
+        this.handledFloodActions = 0;
+        this.running = true;
+        // start the consumer, the flood producers and the control producer
+        Thread consumer = new Thread(() -> consume(useLanes));
+        consumer.start();
+        Thread[] floodProducers = new Thread[FLOOD_PRODUCERS];
+        for(int producer = 0; producer < FLOOD_PRODUCERS; producer++)
+        {
+            floodProducers[producer] = new Thread(() -> flood(useLanes));
+            floodProducers[producer].start();
+        }
+        Thread controlProducer = new Thread(() -> sendControlActions(useLanes));
+        controlProducer.start();
+        // let the flood run and stop all threads
+        Thread.sleep(this.runTime);
+        this.running = false;
+        controlProducer.join();
+        for(Thread floodProducer : floodProducers)
+        {
+            floodProducer.join();
+        }
+        consumer.join();
+        long[] latencies = Arrays.copyOf(this.controlLatencies, this.receivedControlActions);
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    /**
+     * Method for flooding the queue with prints and sounds as fast as possible
+     * @param useLanes True to use the ActionQueue with lanes, false to use a single FIFO
+     * @author Philipp Schulz
+     */
+    private void flood(boolean useLanes)
+    {
+        int floodIndex = 0;
+        while(this.running)
+        {
+            Action action;
+            if(floodIndex%INDEX_TWO == INDEX_ZERO)
+            {
+                action = new Action(TARGET_INDEX, ORIGIN_INDEX, WAIT_FOR_EXECUTION, ACTION_TERMINAL_MANAGER_PRINT, FLOOD_PRINT_TEXT, ERROR_COUNT);
+            }
+            else
+            {
+                action = new Action(TARGET_INDEX, ORIGIN_INDEX, WAIT_FOR_EXECUTION, ACTION_PLAY_SOUND_GLADOS,
+                        this.soundTexts[floodIndex%FLOOD_SOUND_TEXTS], ERROR_COUNT);
+            }
+            floodIndex++;
+            enqueue(useLanes, action);
+        }
+    }
+
+    /**
+     * Method for sending control actions in fixed intervals
+     * @param useLanes True to use the ActionQueue with lanes, false to use a single FIFO
+     * @author Philipp Schulz
+     */
+    private void sendControlActions(boolean useLanes)
+    {
+        int controlIndex = 0;
+        while(this.running && controlIndex < MAXIMUM_CONTROL_ACTIONS)
+        {
+            Action action = new Action(TARGET_INDEX, ORIGIN_INDEX, WAIT_FOR_EXECUTION, ACTION_VOICE_RECOGNITION_ABORT, CONTROL_TEXT, ERROR_COUNT);
+            action.setValue(controlIndex);
+            // the send time is published together with the action
+            this.sendTimes[controlIndex] = System.nanoTime();
+            enqueue(useLanes, action);
+            controlIndex++;
+            LockSupport.parkNanos(CONTROL_INTERVAL);
+        }
+    }
+
+    /**
+     * Method for adding an action to the queue, a full FIFO makes the producer wait like the previous ActionQueue
+     * @param useLanes True to use the ActionQueue with lanes, false to use a single FIFO
+     * @param action Action that should be added
+     * @author Philipp Schulz
+     */
+    private void enqueue(boolean useLanes, Action action)
+    {
+        if(useLanes)
+        {
+            this.actionQueue.addNewActionToActionQueue(action);
+        }
+        else
+        {
+            while(!this.fifo.offer(action) && this.running)
+            {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Method for taking the actions out of the queue in bursts and handling them
+     * @param useLanes True to use the ActionQueue with lanes, false to use a single FIFO
+     * @author Philipp Schulz
+     */
+    private void consume(boolean useLanes)
+    {
+        ArrayList<Action> burst = new ArrayList<>(BURST_SIZE);
+        try
+        {
+            while(this.running)
+            {
+                // wait for the next action and take all other available actions as one burst, like the ActionQueueManager
+                Action action = useLanes ? this.actionQueue.waitForNextActionFromQueue(CONSUMER_WAIT_TIME) : this.fifo.poll(CONSUMER_WAIT_TIME);
+                if(action == null)
+                {
+                    continue;
+                }
+                burst.add(action);
+                if(useLanes)
+                {
+                    this.actionQueue.drainActionsFromQueue(burst, BURST_SIZE);
+                }
+                else
+                {
+                    this.fifo.drainTo(burst, BURST_SIZE);
+                }
+                for(Action burstAction : burst)
+                {
+                    handle(burstAction);
+                }
+                burst.clear();
+            }
+        }
+        catch(InterruptedException e)
+        {
+            this.running = false;
+        }
+    }
+
+    /**
+     * Method for handling a single action, control actions record their latency
+     * @param action Action that was taken out of the queue
+     * @author Philipp Schulz
+     */
+    private void handle(Action action)
+    {
+        if(action.getOpcode() == ACTION_VOICE_RECOGNITION_ABORT)
+        {
+            this.controlLatencies[this.receivedControlActions] = System.nanoTime() - this.sendTimes[action.getValue()];
+            this.receivedControlActions++;
+        }
+        else
+        {
+            this.handledFloodActions++;
+        }
+        // simulate the work of the target component
+        long end = System.nanoTime() + DISPATCH_WORK;
+        while(System.nanoTime() < end)
+        {
+            // busy waiting, the consumer keeps the CPU like a component that is working
+        }
+    }
+
+    /**
+     * Method for printing the result of a run
+     * @param name Name of the queue
+     * @param latencies Sorted latencies in [ns] of all received control actions
+     * @return 99th percentile of the latencies in [ns]
+     * @author Philipp Schulz
+     */
+    private double printResult(String name, long[] latencies)
+    {
+        long p99 = percentile(latencies, PERCENTILE_99);
+        System.out.printf(RESULT_FORMAT, name, latencies.length, percentile(latencies, PERCENTILE_50)/NANOSECONDS_PER_MICROSECOND,
+                p99/NANOSECONDS_PER_MICROSECOND, percentile(latencies, PERCENTILE_MAXIMUM)/NANOSECONDS_PER_MICROSECOND, this.handledFloodActions);
+        return p99;
+    }
+
+    /**
+     * Method for getting a percentile of sorted values
+     * @param sortedValues Values in ascending order
+     * @param percentile Percentile between 0 and 1
+     * @return Value of the percentile, 0 if there are no values
+     * @author Philipp Schulz
+     */
+    private long percentile(long[] sortedValues, double percentile)
+    {
+        if(sortedValues.length == INDEX_ZERO)
+        {
+            return INDEX_ZERO;
+        }
+        int index = (int) Math.ceil(percentile*sortedValues.length) - INDEX_ONE;
+        return sortedValues[Math.max(INDEX_ZERO, Math.min(index, sortedValues.length-INDEX_ONE))];
+    }
+}
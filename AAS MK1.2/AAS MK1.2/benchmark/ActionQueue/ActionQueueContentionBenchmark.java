@@ -0,0 +1,363 @@
+package benchmark.ActionQueue;
+
+import benchmark.Constants.ActionQueue.ActionQueueContentionBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionRingBuffer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark of the central action queue with 1 to 8 producer threads and one consumer thread
+ * Compares the previous ArrayBlockingQueue (single lock) with the lock-free ActionRingBuffer, every enqueue is timed
+ * individually to get the tail latency, the consumer takes bursts like the ActionQueueManager and checks that the
+ * actions of every producer arrive complete and in order
+ * @author Philipp Schulz
+ */
+public class ActionQueueContentionBenchmark implements ActionQueueContentionBenchmarkConstants
+{
+    // local fields
+    private final int operationsPerProducer;
+    private final int warmupRounds;
+    private final int measurementRounds;
+    private final Action[][] actions;
+    private final long[][] latencies;
+    private final long[] producerTimes;
+    private ArrayBlockingQueue<Action> legacyQueue;
+    private ActionRingBuffer ringBuffer;
+    private volatile String consumerError;
+
+    /**
+     * Constructor of the ActionQueueContentionBenchmark class, settings can be overridden via system properties
+     * @author Philipp Schulz
+     */
+    public ActionQueueContentionBenchmark()
+    {
+        // initialize local fields
+        this.operationsPerProducer = Integer.getInteger(PROPERTY_OPERATIONS_PER_PRODUCER, DEFAULT_OPERATIONS_PER_PRODUCER);
+        this.warmupRounds = Integer.getInteger(PROPERTY_WARMUP_ROUNDS, DEFAULT_WARMUP_ROUNDS);
+        this.measurementRounds = Integer.getInteger(PROPERTY_MEASUREMENT_ROUNDS, DEFAULT_MEASUREMENT_ROUNDS);
+        int maximumProducers = PRODUCER_COUNTS[PRODUCER_COUNTS.length-1];
+        this.actions = new Action[maximumProducers][this.operationsPerProducer];
+        this.latencies = new long[maximumProducers][this.operationsPerProducer];
+        this.producerTimes = new long[maximumProducers];
+        this.consumerError = null;
+        // prepare all actions once, allocations must not be part of the measured enqueue
+        for(int producer = 0; producer < maximumProducers; producer++)
+        {
+            for(int i = 0; i < this.operationsPerProducer; i++)
+            {
+                this.actions[producer][i] = new Action(TARGET_INDEX, producer, WAIT_FOR_EXECUTION, OPCODE, TEXT, ERROR_COUNT);
+                this.actions[producer][i].setValue(i);
+            }
+        }
+    }
+
+    /**
+     * Main method of the benchmark, runs headless
+     * @param args Not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        try
+        {
+            new ActionQueueContentionBenchmark().run();
+        }
+        catch(InterruptedException e)
+        {
+            System.out.println(ERROR_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    public void run() throws InterruptedException
+    {
+        // measure the pure cost of adding and taking an action without any other thread
+        measureUncontended(new MicroBenchmark());
+        System.out.printf(HEADER_FORMAT, (Object[]) HEADER_COLUMNS);
+        double[][] legacyResults = new double[PRODUCER_COUNTS.length][];
+        double[][] ringBufferResults = new double[PRODUCER_COUNTS.length][];
+        // measure both queues for every number of producers
+        for(int i = 0; i < PRODUCER_COUNTS.length; i++)
+        {
+            legacyResults[i] = measureQueue(false, PRODUCER_COUNTS[i]);
+            ringBufferResults[i] = measureQueue(true, PRODUCER_COUNTS[i]);
+        }
+        // print the comparison, values above 1 mean that the ring buffer is faster
+        System.out.println(SPEEDUP_HEADER);
+        for(int i = 0; i < PRODUCER_COUNTS.length; i++)
+        {
+            System.out.printf(RESULT_SPEEDUP, PRODUCER_COUNTS[i],
+                    legacyResults[i][RESULT_MEAN]/ringBufferResults[i][RESULT_MEAN],
+                    legacyResults[i][RESULT_P99]/ringBufferResults[i][RESULT_P99],
+                    legacyResults[i][RESULT_P999]/ringBufferResults[i][RESULT_P999]);
+        }
+    }
+
+    /**
+     * Method for measuring one enqueue and one dequeue of both queues within a single thread
+     * @param microBenchmark Instance of the benchmark harness
+     * @author Philipp Schulz
+     */
+    private void measureUncontended(MicroBenchmark microBenchmark)
+    {
+        ArrayBlockingQueue<Action> uncontendedLegacyQueue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        ActionRingBuffer uncontendedRingBuffer = new ActionRingBuffer(QUEUE_CAPACITY);
+        Action[] producerActions = this.actions[0];
+        microBenchmark.printHeader();
+        double legacyScore = microBenchmark.measure(BENCHMARK_UNCONTENDED_LEGACY, invocation ->
+        {
+            uncontendedLegacyQueue.offer(producerActions[invocation & UNCONTENDED_MASK]);
+            return uncontendedLegacyQueue.poll().getValue();
+        });
+        double ringBufferScore = microBenchmark.measure(BENCHMARK_UNCONTENDED_RING_BUFFER, invocation ->
+        {
+            uncontendedRingBuffer.offer(producerActions[invocation & UNCONTENDED_MASK]);
+            return uncontendedRingBuffer.poll().getValue();
+        });
+        System.out.printf(RESULT_UNCONTENDED_SPEEDUP, legacyScore/ringBufferScore);
+    }
+
+    /**
+     * Method for measuring one queue with the given number of producers
+     * @param useRingBuffer True to measure the ActionRingBuffer, false to measure the ArrayBlockingQueue
+     * @param producers Number of producer threads
+     * @return Result array with the mean values of all measured rounds
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    private double[] measureQueue(boolean useRingBuffer, int producers) throws InterruptedException
+    {
+        // run the warmup rounds, results are discarded
+        for(int round = 0; round < this.warmupRounds; round++)
+        {
+            runRound(useRingBuffer, producers);
+        }
+        // run the measured rounds and calculate the mean of every value
+        double[] result = new double[RESULT_LENGTH];
+        for(int round = 0; round < this.measurementRounds; round++)
+        {
+            double[] roundResult = runRound(useRingBuffer, producers);
+            for(int i = 0; i < RESULT_LENGTH; i++)
+            {
+                result[i] += roundResult[i]/this.measurementRounds;
+            }
+        }
+        System.out.printf(RESULT_FORMAT, useRingBuffer ? QUEUE_RING_BUFFER : QUEUE_LEGACY, producers,
+                result[RESULT_MEAN], result[RESULT_THROUGHPUT], (long) result[RESULT_P50], (long) result[RESULT_P99],
+                (long) result[RESULT_P999], (long) result[RESULT_MAX]);
+        return result;
+    }
+
+    /**
+     * Method for running a single round, all producers add their actions while the consumer takes them out
+     * @param useRingBuffer True to measure the ActionRingBuffer, false to measure the ArrayBlockingQueue
+     * @param producers Number of producer threads
+     * @return Result array of this round
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    private double[] runRound(boolean useRingBuffer, int producers) throws InterruptedException
+    {
+        // create an empty queue for every round
+        this.legacyQueue = useRingBuffer ? null : new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.ringBuffer = useRingBuffer ? new ActionRingBuffer(QUEUE_CAPACITY) : null;
+        this.consumerError = null;
+        CountDownLatch startSignal = new CountDownLatch(1);
+        // start the consumer and all producers, the producers wait for the start signal
+        Thread consumer = new Thread(() -> consume(useRingBuffer, producers));
+        consumer.start();
+        Thread[] producerThreads = new Thread[producers];
+        for(int producer = 0; producer < producers; producer++)
+        {
+            int producerIndex = producer;
+            producerThreads[producer] = new Thread(() -> produce(useRingBuffer, producerIndex, startSignal));
+            producerThreads[producer].start();
+        }
+        long start = System.nanoTime();
+        startSignal.countDown();
+        for(Thread producerThread : producerThreads)
+        {
+            producerThread.join();
+        }
+        long end = System.nanoTime();
+        consumer.join();
+        if(this.consumerError != null)
+        {
+            throw new IllegalStateException(this.consumerError);
+        }
+        return evaluateRound(producers, end - start);
+    }
+
+    /**
+     * Method for adding all actions of one producer, measures every single enqueue
+     * @param useRingBuffer True to use the ActionRingBuffer, false to use the ArrayBlockingQueue
+     * @param producer Index of the producer
+     * @param startSignal Latch that is released when all threads are started
+     * @author Philipp Schulz
+     */
+    private void produce(boolean useRingBuffer, int producer, CountDownLatch startSignal)
+    {
+        Action[] producerActions = this.actions[producer];
+        long[] producerLatencies = this.latencies[producer];
+        try
+        {
+            startSignal.await();
+        }
+        catch(InterruptedException e)
+        {
+            return;
+        }
+        // both queues use their own loop, a shared loop would mix the profiles of both queues in the JIT compiler
+        long start = System.nanoTime();
+        if(useRingBuffer)
+        {
+            enqueueRingBuffer(producerActions, producerLatencies);
+        }
+        else
+        {
+            enqueueLegacy(producerActions, producerLatencies);
+        }
+        this.producerTimes[producer] = System.nanoTime() - start;
+    }
+
+    /**
+     * Method for adding actions to the ActionRingBuffer, retries if the ring buffer is full
+     * @param producerActions Actions that should be added
+     * @param producerLatencies Array that receives the time in [ns] until every action was accepted
+     * @author Philipp Schulz
+     */
+    private void enqueueRingBuffer(Action[] producerActions, long[] producerLatencies)
+    {
+        for(int i = 0; i < producerActions.length; i++)
+        {
+            long enqueueStart = System.nanoTime();
+            while(!this.ringBuffer.offer(producerActions[i]))
+            {
+                Thread.yield();
+            }
+            producerLatencies[i] = System.nanoTime() - enqueueStart;
+        }
+    }
+
+    /**
+     * Method for adding actions to the ArrayBlockingQueue, retries if the queue is full
+     * @param producerActions Actions that should be added
+     * @param producerLatencies Array that receives the time in [ns] until every action was accepted
+     * @author Philipp Schulz
+     */
+    private void enqueueLegacy(Action[] producerActions, long[] producerLatencies)
+    {
+        for(int i = 0; i < producerActions.length; i++)
+        {
+            long enqueueStart = System.nanoTime();
+            while(!this.legacyQueue.offer(producerActions[i]))
+            {
+                Thread.yield();
+            }
+            producerLatencies[i] = System.nanoTime() - enqueueStart;
+        }
+    }
+
+    /**
+     * Method for taking all actions out of the queue in bursts, checks the order of the actions of every producer
+     * @param useRingBuffer True to use the ActionRingBuffer, false to use the ArrayBlockingQueue
+     * @param producers Number of producer threads
+     * @author Philipp Schulz
+     */
+    private void consume(boolean useRingBuffer, int producers)
+    {
+        int[] expectedValues = new int[producers];
+        ArrayList<Action> burst = new ArrayList<>(BURST_SIZE);
+        long remainingActions = (long) producers*this.operationsPerProducer;
+        try
+        {
+            while(remainingActions > 0)
+            {
+                // wait for the next action and take all other available actions as one burst
+                Action action = useRingBuffer ? this.ringBuffer.poll(CONSUMER_WAIT_TIME)
+                        : this.legacyQueue.poll(CONSUMER_WAIT_TIME, TimeUnit.MILLISECONDS);
+                if(action == null)
+                {
+                    continue;
+                }
+                burst.add(action);
+                if(useRingBuffer)
+                {
+                    this.ringBuffer.drainTo(burst, BURST_SIZE);
+                }
+                else
+                {
+                    this.legacyQueue.drainTo(burst, BURST_SIZE);
+                }
+                // every producer adds its actions with increasing values
+                for(Action burstAction : burst)
+                {
+                    int producer = burstAction.getOriginIndex();
+                    if(burstAction.getValue() != expectedValues[producer])
+                    {
+                        this.consumerError = String.format(ERROR_ORDER, producer, expectedValues[producer], burstAction.getValue());
+                        return;
+                    }
+                    expectedValues[producer]++;
+                }
+                remainingActions -= burst.size();
+                burst.clear();
+            }
+        }
+        catch(InterruptedException e)
+        {
+            this.consumerError = ERROR_INTERRUPTED;
+        }
+    }
+
+    /**
+     * Method for calculating the results of a round from the measured times of all producers
+     * @param producers Number of producer threads
+     * @param elapsedTime Time in [ns] until all producers were finished
+     * @return Result array of the round
+     * @author Philipp Schulz
+     */
+    private double[] evaluateRound(int producers, long elapsedTime)
+    {
+        int operations = producers*this.operationsPerProducer;
+        long[] allLatencies = new long[operations];
+        double meanCost = 0;
+        for(int producer = 0; producer < producers; producer++)
+        {
+            System.arraycopy(this.latencies[producer], 0, allLatencies, producer*this.operationsPerProducer, this.operationsPerProducer);
+            meanCost += (double) this.producerTimes[producer]/this.operationsPerProducer/producers;
+        }
+        Arrays.sort(allLatencies);
+        double[] result = new double[RESULT_LENGTH];
+        result[RESULT_MEAN] = meanCost;
+        result[RESULT_THROUGHPUT] = operations/(elapsedTime/(double) NANOSECONDS_PER_SECOND)/OPERATIONS_PER_MEGA_OPERATION;
+        result[RESULT_P50] = percentile(allLatencies, PERCENTILE_50);
+        result[RESULT_P99] = percentile(allLatencies, PERCENTILE_99);
+        result[RESULT_P999] = percentile(allLatencies, PERCENTILE_999);
+        result[RESULT_MAX] = allLatencies[allLatencies.length-1];
+        return result;
+    }
+
+    /**
+     * Method for getting a percentile of sorted values
+     * @param sortedValues Values in ascending order
+     * @param percentile Percentile between 0 and 1
+     * @return Value of the percentile
+     * @author Philipp Schulz
+     */
+    private long percentile(long[] sortedValues, double percentile)
+    {
+        int index = (int) Math.ceil(percentile*sortedValues.length) - 1;
+        return sortedValues[Math.max(0, Math.min(index, sortedValues.length-1))];
+    }
+}
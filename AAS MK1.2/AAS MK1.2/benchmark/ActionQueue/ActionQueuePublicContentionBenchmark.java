@@ -0,0 +1,223 @@
+package benchmark.ActionQueue;
+
+import benchmark.Constants.ActionQueue.ActionQueuePublicContentionBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionQueue;
+import model.ActionQueue.ActionQueuePublic;
+import model.StateBus.StateBus;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Contention benchmark of the public action queue with 1 to 8 producer threads and one consumer thread
+ * Every producer takes its actions from the ActionPool and adds them via ActionQueuePublic like a component does, the
+ * consumer takes bursts like the ActionQueueManager, gives the actions back to the ActionPool and checks that the
+ * actions of every producer arrive complete and in order
+ * @author Philipp Schulz
+ */
+public class ActionQueuePublicContentionBenchmark implements ActionQueuePublicContentionBenchmarkConstants
+{
+    // local fields
+    private final int operationsPerProducer;
+    private final int warmupRounds;
+    private final int measurementRounds;
+    private final ActionQueue actionQueue;
+    private final ActionQueuePublic actionQueuePublic;
+    private final long[] producerTimes;
+    private final long[] rejectedOffers;
+    private volatile String consumerError;
+
+    /**
+     * Constructor of the ActionQueuePublicContentionBenchmark class, settings can be overridden via system properties
+     * @author Philipp Schulz
+     */
+    public ActionQueuePublicContentionBenchmark()
+    {
+        // initialize local fields
+        this.operationsPerProducer = Integer.getInteger(PROPERTY_OPERATIONS_PER_PRODUCER, DEFAULT_OPERATIONS_PER_PRODUCER);
+        this.warmupRounds = Integer.getInteger(PROPERTY_WARMUP_ROUNDS, DEFAULT_WARMUP_ROUNDS);
+        this.measurementRounds = Integer.getInteger(PROPERTY_MEASUREMENT_ROUNDS, DEFAULT_MEASUREMENT_ROUNDS);
+        this.actionQueue = new ActionQueue();
+        this.actionQueuePublic = new ActionQueuePublic(this.actionQueue, new StateBus());
+        int maximumProducers = PRODUCER_COUNTS[PRODUCER_COUNTS.length-1];
+        this.producerTimes = new long[maximumProducers];
+        this.rejectedOffers = new long[maximumProducers];
+        this.consumerError = null;
+    }
+
+    /**
+     * Main method of the benchmark, runs headless
+     * @param args Not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        try
+        {
+            new ActionQueuePublicContentionBenchmark().run(new MicroBenchmark());
+        }
+        catch(InterruptedException e)
+        {
+            System.out.println(ERROR_INTERRUPTED);
+        }
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness, used to save the results
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark) throws InterruptedException
+    {
+        System.out.printf(HEADER_FORMAT, (Object[]) HEADER_COLUMNS);
+        for(int producers : PRODUCER_COUNTS)
+        {
+            // run the warmup rounds, results are discarded
+            for(int round = 0; round < this.warmupRounds; round++)
+            {
+                runRound(producers);
+            }
+            // run the measured rounds and calculate the mean of every value
+            double[] result = new double[RESULT_LENGTH];
+            for(int round = 0; round < this.measurementRounds; round++)
+            {
+                double[] roundResult = runRound(producers);
+                for(int i = 0; i < RESULT_LENGTH; i++)
+                {
+                    result[i] += roundResult[i]/this.measurementRounds;
+                }
+            }
+            System.out.printf(RESULT_FORMAT, QUEUE_NAME, producers, result[RESULT_MEAN], result[RESULT_THROUGHPUT],
+                    result[RESULT_REJECTED]);
+            microBenchmark.recordResult(String.format(BENCHMARK_NAME, producers), result[RESULT_MEAN]);
+        }
+    }
+
+    /**
+     * Method for running a single round, all producers add their actions while the consumer takes them out
+     * @param producers Number of producer threads
+     * @return Result array of this round
+     * @throws InterruptedException If the benchmark was interrupted while waiting for its threads
+     * @author Philipp Schulz
+     */
+    private double[] runRound(int producers) throws InterruptedException
+    {
+        this.consumerError = null;
+        CountDownLatch startSignal = new CountDownLatch(1);
+        // start the consumer and all producers, the producers wait for the start signal
+        Thread consumer = new Thread(() -> consume(producers));
+        consumer.start();
+        Thread[] producerThreads = new Thread[producers];
+        for(int producer = 0; producer < producers; producer++)
+        {
+            int producerIndex = producer;
+            producerThreads[producer] = new Thread(() -> produce(producerIndex, startSignal));
+            producerThreads[producer].start();
+        }
+        long start = System.nanoTime();
+        startSignal.countDown();
+        for(Thread producerThread : producerThreads)
+        {
+            producerThread.join();
+        }
+        long end = System.nanoTime();
+        consumer.join();
+        if(this.consumerError != null)
+        {
+            throw new IllegalStateException(this.consumerError);
+        }
+        // calculate the cost of a single enqueue, the throughput and the rejected offers of all producers
+        long totalProducerTime = 0;
+        long totalRejectedOffers = 0;
+        for(int producer = 0; producer < producers; producer++)
+        {
+            totalProducerTime += this.producerTimes[producer];
+            totalRejectedOffers += this.rejectedOffers[producer];
+        }
+        long totalOperations = (long) producers*this.operationsPerProducer;
+        double[] result = new double[RESULT_LENGTH];
+        result[RESULT_MEAN] = (double) totalProducerTime/totalOperations;
+        result[RESULT_THROUGHPUT] = totalOperations*NANOSECONDS_PER_SECOND/((end - start)*OPERATIONS_PER_MEGA_OPERATION);
+        result[RESULT_REJECTED] = totalRejectedOffers;
+        return result;
+    }
+
+    /**
+     * Method for adding all actions of one producer, retries if the lane of the actions is full
+     * @param producer Index of the producer, used as origin of the actions
+     * @param startSignal Latch that is released when all threads are started
+     * @author Philipp Schulz
+     */
+    private void produce(int producer, CountDownLatch startSignal)
+    {
+        long rejected = 0;
+        try
+        {
+            startSignal.await();
+        }
+        catch(InterruptedException e)
+        {
+            return;
+        }
+        long start = System.nanoTime();
+        for(int i = 0; i < this.operationsPerProducer; i++)
+        {
+            Action action = this.actionQueuePublic.obtainAction(TARGET_INDEX, producer, WAIT_FOR_EXECUTION, OPCODE, TEXT);
+            action.setValue(i);
+            while(!this.actionQueuePublic.addNewActionToActionQueue(action))
+            {
+                rejected++;
+                Thread.yield();
+            }
+        }
+        this.producerTimes[producer] = System.nanoTime() - start;
+        this.rejectedOffers[producer] = rejected;
+    }
+
+    /**
+     * Method for taking all actions out of the queue in bursts, checks the order of the actions of every producer
+     * @param producers Number of producer threads
+     * @author Philipp Schulz
+     */
+    private void consume(int producers)
+    {
+        int[] expectedValues = new int[producers];
+        ArrayList<Action> burst = new ArrayList<>(BURST_SIZE);
+        long remainingActions = (long) producers*this.operationsPerProducer;
+        try
+        {
+            while(remainingActions > 0)
+            {
+                // wait for the next action and take all other available actions as one burst
+                Action action = this.actionQueue.waitForNextActionFromQueue(CONSUMER_WAIT_TIME);
+                if(action == null)
+                {
+                    continue;
+                }
+                burst.add(action);
+                this.actionQueue.drainActionsFromQueue(burst, BURST_SIZE);
+                // every producer adds its actions with increasing values, the actions go back to the ActionPool
+                for(Action burstAction : burst)
+                {
+                    int producer = burstAction.getOriginIndex();
+                    if(burstAction.getValue() != expectedValues[producer])
+                    {
+                        this.consumerError = String.format(ERROR_ORDER, producer, expectedValues[producer], burstAction.getValue());
+                        return;
+                    }
+                    expectedValues[producer]++;
+                    this.actionQueue.recycleAction(burstAction);
+                }
+                remainingActions -= burst.size();
+                burst.clear();
+            }
+        }
+        catch(InterruptedException e)
+        {
+            this.consumerError = ERROR_INTERRUPTED;
+        }
+    }
+}
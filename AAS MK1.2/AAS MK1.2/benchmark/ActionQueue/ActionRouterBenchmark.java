@@ -0,0 +1,345 @@
+package benchmark.ActionQueue;
+
+import benchmark.Constants.ActionQueue.ActionRouterBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import control.AUTO.Components.IdManager;
+import control.AUTO.Files.FileManager;
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
+import model.ActionQueue.ActionQueue;
+import model.ActionQueue.ActionQueuePublic;
+import model.ActionQueue.ActionRouter;
+import model.Constants.ActionHandlingConstants;
+import model.StateBus.StateBus;
+
+/**
+ * Benchmark that compares the routing table of the ActionRouter with the previous routing via String slicing
+ * of the component IDs (ActionQueueManager -> Glados/Auto -> DeviceManager -> ComPortManager)
+ * @author Philipp Schulz
+ */
+public class ActionRouterBenchmark implements ActionRouterBenchmarkConstants
+{
+    // local fields
+    private final Action[] actions;
+    private final ActionRouter rootRouter;
+    private final ActionRouter gladosRouter;
+    private final ActionRouter autoRouter;
+    private final ActionRouter deviceRouter;
+    private final ActionRouter comPortRouter;
+    private int routedComponent;
+    private int actionQueueManagerID;
+    private int voiceRecognitionManagerID;
+    private int soundManagerID;
+    private int gladosID;
+    private int autoID;
+    private int terminalManagerID;
+    private int networkManagerID;
+    private int deviceManagerID;
+    private int gpioManagerID;
+    private int simonManagerID;
+    private int bodyManagerID;
+    private int comPortManagerID;
+    private int radioManagerID;
+    private int fileManagerID;
+
+    /**
+     * Constructor of the ActionRouterBenchmark class
+     * @param idManager Instance of the IdManager with the current component list
+     * @author Philipp Schulz
+     */
+    public ActionRouterBenchmark(IdManager idManager)
+    {
+        // initialize local fields
+        this.actions = new Action[TARGET_COUNT];
+        this.rootRouter = new ActionRouter();
+        this.gladosRouter = new ActionRouter();
+        this.autoRouter = new ActionRouter();
+        this.deviceRouter = new ActionRouter();
+        this.comPortRouter = new ActionRouter();
+        // determine all component IDs and compile the routing tables
+        loadComponentIDs(idManager);
+        compileRoutingTables();
+        // prepare actions for all known components and a few unknown IDs
+        int[] targets = new int[COMPONENT_NAMES.length + UNKNOWN_TARGETS.length];
+        for(int i = 0; i < COMPONENT_NAMES.length; i++)
+        {
+            targets[i] = idManager.getComponentIDByName(COMPONENT_NAMES[i]);
+        }
+        System.arraycopy(UNKNOWN_TARGETS, 0, targets, COMPONENT_NAMES.length, UNKNOWN_TARGETS.length);
+        for(int i = 0; i < TARGET_COUNT; i++)
+        {
+            this.actions[i] = new Action(targets[i % targets.length], this.actionQueueManagerID,
+                    ActionHandlingConstants.WAIT_FOR_EXECUTION_FALSE, ActionHandlingConstants.ACTION_TERMINAL_MANAGER_PRINT,
+                    ActionHandlingConstants.EMPTY_STRING, ActionHandlingConstants.ERROR_COUNT_NEW);
+        }
+    }
+
+    /**
+     * Main method, runs the benchmark from the program directory (requires resources/componentList.txt)
+     * @param args Arguments given during call of the program, not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        // read the component list the same way as Auto does during startup
+        ActionQueuePublic actionQueue = new ActionQueuePublic(new ActionQueue(), new StateBus());
+        IdManager idManager = new IdManager(actionQueue);
+        FileManager fileManager = new FileManager(actionQueue, idManager);
+        fileManager.readComponentList();
+        if(fileManager.getComponentList().isEmpty())
+        {
+            System.out.println(ERROR_COMPONENT_LIST);
+            return;
+        }
+        idManager.setComponentList(fileManager.getComponentList());
+        // run the benchmark
+        new ActionRouterBenchmark(idManager).run(new MicroBenchmark());
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark)
+    {
+        // make sure that both ways of routing deliver the same component
+        verifyRoutes();
+        // measure both ways of routing
+        microBenchmark.printHeader();
+        double legacyScore = microBenchmark.measure(BENCHMARK_LEGACY,
+                invocation -> routeLegacy(this.actions[invocation & TARGET_MASK]));
+        double tableScore = microBenchmark.measure(BENCHMARK_TABLE,
+                invocation -> routeTable(this.actions[invocation & TARGET_MASK]));
+        System.out.printf(RESULT_SPEEDUP, legacyScore/tableScore);
+    }
+
+    /**
+     * Method for checking that the routing table delivers the same components as the previous routing
+     * @author Philipp Schulz
+     */
+    private void verifyRoutes()
+    {
+        for(Action action : this.actions)
+        {
+            if(routeLegacy(action) != routeTable(action))
+            {
+                throw new IllegalStateException(ERROR_MISMATCH + action.getTargetIndex());
+            }
+        }
+    }
+
+    /**
+     * Method for routing an action with the routing tables of the ActionRouter
+     * @param action Action that should be routed
+     * @return ID of the component that would handle the action
+     * @author Philipp Schulz
+     */
+    private int routeTable(Action action)
+    {
+        this.routedComponent = NO_ROUTE;
+        ActionHandler targetComponent = this.rootRouter.getHandler(action.getTargetIndex());
+        if(targetComponent != null)
+        {
+            targetComponent.handleAction(action);
+        }
+        return this.routedComponent;
+    }
+
+    /**
+     * Method for compiling the routing tables in the same way as the components do it
+     * @author Philipp Schulz
+     */
+    private void compileRoutingTables()
+    {
+        // ActionQueueManager
+        this.rootRouter.addRoute(this.soundManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.soundManagerID);
+        this.rootRouter.addRoute(this.voiceRecognitionManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.voiceRecognitionManagerID);
+        this.rootRouter.addRoute(this.gladosID, ActionRouter.HIERARCHY_DEPTH_ROOT, action -> routeSubComponent(this.gladosRouter, this.gladosID, action, BOUNCED));
+        this.rootRouter.addRoute(this.autoID, ActionRouter.HIERARCHY_DEPTH_ROOT, action -> routeSubComponent(this.autoRouter, this.autoID, action, BOUNCED));
+        this.rootRouter.addRoute(this.actionQueueManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.actionQueueManagerID);
+        // Glados
+        this.gladosRouter.addRoute(this.terminalManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.terminalManagerID);
+        this.gladosRouter.addRoute(this.networkManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.networkManagerID);
+        this.gladosRouter.addRoute(this.deviceManagerID, ActionRouter.HIERARCHY_DEPTH_1, action -> routeSubComponent(this.deviceRouter, this.deviceManagerID, action, NO_ROUTE));
+        // Auto
+        this.autoRouter.addRoute(this.fileManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.fileManagerID);
+        // DeviceManager
+        this.deviceRouter.addRoute(this.gpioManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.gpioManagerID);
+        this.deviceRouter.addRoute(this.simonManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.simonManagerID);
+        this.deviceRouter.addRoute(this.bodyManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.bodyManagerID);
+        this.deviceRouter.addRoute(this.comPortManagerID, ActionRouter.HIERARCHY_DEPTH_2, action -> routeSubComponent(this.comPortRouter, this.comPortManagerID, action, NO_ROUTE));
+        // ComPortManager
+        this.comPortRouter.addRoute(this.radioManagerID, ActionRouter.HIERARCHY_DEPTH_EXACT, action -> this.routedComponent = this.radioManagerID);
+    }
+
+    /**
+     * Method for routing an action inside a component with sub-components
+     * @param router Routing table of the component
+     * @param componentID ID of the component
+     * @param action Action that should be routed
+     * @param fallback Result if neither a sub-component nor the component itself is the target
+     * @author Philipp Schulz
+     */
+    private void routeSubComponent(ActionRouter router, int componentID, Action action, int fallback)
+    {
+        ActionHandler targetComponent = router.getHandler(action.getTargetIndex());
+        if(targetComponent != null)
+        {
+            targetComponent.handleAction(action);
+        }
+        else if(action.getTargetIndex() == componentID)
+        {
+            this.routedComponent = componentID;
+        }
+        else
+        {
+            this.routedComponent = fallback;
+        }
+    }
+
+    /**
+     * Method for routing an action like the ActionQueueManager did before the routing table
+     * @param action Action that should be routed
+     * @return ID of the component that would handle the action
+     * @author Philipp Schulz
+     */
+    private int routeLegacy(Action action)
+    {
+        if(action.getTargetIndex() >= 0)
+        {
+            int targetIndex = Integer.parseInt(Integer.toString(action.getTargetIndex()).substring(LEGACY_ROOT_START, LEGACY_ROOT_END));
+            if(action.getTargetIndex() == this.soundManagerID)
+            {
+                return this.soundManagerID;
+            }
+            else if(action.getTargetIndex() == this.voiceRecognitionManagerID)
+            {
+                return this.voiceRecognitionManagerID;
+            }
+            else if(targetIndex == Integer.parseInt(Integer.toString(this.gladosID).substring(LEGACY_ROOT_START, LEGACY_ROOT_END)))
+            {
+                return routeLegacyGlados(action);
+            }
+            else if(targetIndex == Integer.parseInt(Integer.toString(this.autoID).substring(LEGACY_ROOT_START, LEGACY_ROOT_END)))
+            {
+                return routeLegacyAuto(action);
+            }
+            else if(action.getTargetIndex() == this.actionQueueManagerID)
+            {
+                return this.actionQueueManagerID;
+            }
+        }
+        return NO_ROUTE;
+    }
+
+    /**
+     * Method for routing an action like Glados did before the routing table
+     * @param action Action that should be routed
+     * @return ID of the component that would handle the action
+     * @author Philipp Schulz
+     */
+    private int routeLegacyGlados(Action action)
+    {
+        int targetIndex = Integer.parseInt(Integer.toString(action.getTargetIndex()).substring(LEGACY_DEPTH_1_START, LEGACY_DEPTH_1_END));
+        if(action.getTargetIndex() == this.terminalManagerID)
+        {
+            return this.terminalManagerID;
+        }
+        else if(action.getTargetIndex() == this.networkManagerID)
+        {
+            return this.networkManagerID;
+        }
+        else if(targetIndex == Integer.parseInt(Integer.toString(this.deviceManagerID).substring(LEGACY_DEPTH_1_START, LEGACY_DEPTH_1_END)))
+        {
+            return routeLegacyDeviceManager(action);
+        }
+        else if(action.getTargetIndex() == this.gladosID)
+        {
+            return this.gladosID;
+        }
+        return BOUNCED;
+    }
+
+    /**
+     * Method for routing an action like the DeviceManager did before the routing table
+     * @param action Action that should be routed
+     * @return ID of the component that would handle the action
+     * @author Philipp Schulz
+     */
+    private int routeLegacyDeviceManager(Action action)
+    {
+        int targetIndex = Integer.parseInt(Integer.toString(action.getTargetIndex()).substring(LEGACY_DEPTH_2_START, LEGACY_DEPTH_2_END));
+        if(action.getTargetIndex() == this.gpioManagerID)
+        {
+            return this.gpioManagerID;
+        }
+        else if(action.getTargetIndex() == this.simonManagerID)
+        {
+            return this.simonManagerID;
+        }
+        else if(action.getTargetIndex() == this.bodyManagerID)
+        {
+            return this.bodyManagerID;
+        }
+        else if(targetIndex == Integer.parseInt(Integer.toString(this.comPortManagerID).substring(LEGACY_DEPTH_2_START, LEGACY_DEPTH_2_END)))
+        {
+            if(action.getTargetIndex() == this.radioManagerID)
+            {
+                return this.radioManagerID;
+            }
+            else if(action.getTargetIndex() == this.comPortManagerID)
+            {
+                return this.comPortManagerID;
+            }
+            return NO_ROUTE;
+        }
+        else if(action.getTargetIndex() == this.deviceManagerID)
+        {
+            return this.deviceManagerID;
+        }
+        return NO_ROUTE;
+    }
+
+    /**
+     * Method for routing an action like Auto did before the routing table
+     * @param action Action that should be routed
+     * @return ID of the component that would handle the action
+     * @author Philipp Schulz
+     */
+    private int routeLegacyAuto(Action action)
+    {
+        if(action.getTargetIndex() == this.fileManagerID)
+        {
+            return this.fileManagerID;
+        }
+        else if(action.getTargetIndex() == this.autoID)
+        {
+            return this.autoID;
+        }
+        return BOUNCED;
+    }
+
+    /**
+     * Method for getting the IDs of all components from the IdManager
+     * @param idManager Instance of the IdManager with the current component list
+     * @author Philipp Schulz
+     */
+    private void loadComponentIDs(IdManager idManager)
+    {
+        this.actionQueueManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[0]);
+        this.voiceRecognitionManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[1]);
+        this.soundManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[2]);
+        this.gladosID = idManager.getComponentIDByName(COMPONENT_NAMES[3]);
+        this.autoID = idManager.getComponentIDByName(COMPONENT_NAMES[4]);
+        this.terminalManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[5]);
+        this.networkManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[6]);
+        this.deviceManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[7]);
+        this.gpioManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[8]);
+        this.simonManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[9]);
+        this.bodyManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[10]);
+        this.comPortManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[11]);
+        this.radioManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[12]);
+        this.fileManagerID = idManager.getComponentIDByName(COMPONENT_NAMES[13]);
+    }
+}
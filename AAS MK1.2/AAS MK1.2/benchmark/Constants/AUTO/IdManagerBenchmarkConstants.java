@@ -0,0 +1,23 @@
+package benchmark.Constants.AUTO;
+
+/**
+ * Interface containing all constants used in the IdManagerBenchmark class
+ * @author Philipp Schulz
+ */
+public interface IdManagerBenchmarkConstants
+{
+    int LOOKUP_COUNT = 1024;                                        // number of prepared lookups, must be a power of two
+    int LOOKUP_MASK = LOOKUP_COUNT - 1;                             // mask to select one of the prepared lookups
+    int UNKNOWN_ID = -1;                                            // result of a lookup of an unknown component name
+    int[] UNKNOWN_IDS = {1030999, 2990000, 300};                    // IDs without a component
+    String[] UNKNOWN_NAMES = {"UnknownManager", ""};                // names without a component
+    String EMPTY_STRING = "";                                       // result of a lookup of an unknown component ID
+    String BENCHMARK_LEGACY_ID_BY_NAME = "IdManager.legacyGetComponentIDByName";  // name of the benchmark of the previous lookup of IDs
+    String BENCHMARK_ID_BY_NAME = "IdManager.getComponentIDByName"; // name of the benchmark of the lookup of IDs
+    String BENCHMARK_LEGACY_NAME_BY_ID = "IdManager.legacyGetComponentNameByID";  // name of the benchmark of the previous lookup of names
+    String BENCHMARK_NAME_BY_ID = "IdManager.getComponentNameByID"; // name of the benchmark of the lookup of names
+    String BENCHMARK_NAME_BY_OLD_ID = "IdManager.getComponentNameByOldID";    // name of the benchmark of the lookup of old names
+    String ERROR_COMPONENT_LIST = "component list could not be read, run the benchmark from the program directory.";  // error if the component list is missing
+    String ERROR_MISMATCH = "lookup mismatch for ";                 // error if both lookups deliver different results
+    String RESULT_SPEEDUP = "speedup of lookup tables: IDs %.2fx, names %.2fx%n";  // format of the final comparison
+}
@@ -0,0 +1,39 @@
+package benchmark.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionLaneFloodBenchmark class
+ * @author Philipp Schulz
+ */
+public interface ActionLaneFloodBenchmarkConstants
+{
+    int FLOOD_PRODUCERS = 3;                                        // number of threads that flood the queue with prints and sounds
+    int FIFO_CAPACITY = 16384;                                      // capacity of the single FIFO, same as the previous ActionQueue
+    int BURST_SIZE = 64;                                            // number of actions the consumer takes at once, same as the ActionQueueManager
+    int MAXIMUM_CONTROL_ACTIONS = 1000000;                          // maximum number of control actions per run
+    int FLOOD_SOUND_TEXTS = 16;                                     // number of different sentences of the flooded sound actions
+    long DEFAULT_RUN_TIME = 2000L;                                  // duration of a run in [ms]
+    long CONTROL_INTERVAL = 1000000L;                               // time in [ns] between two control actions
+    long DISPATCH_WORK = 500L;                                      // simulated handling time in [ns] of every action
+    long CONSUMER_WAIT_TIME = 10L;                                  // waiting time of the consumer in [ms]
+    long NANOSECONDS_PER_MILLISECOND = 1000000L;                    // factor to convert [ms] into [ns]
+    double NANOSECONDS_PER_MICROSECOND = 1000.0;                    // factor to convert [ns] into [us]
+    double PERCENTILE_50 = 0.5;                                     // median of the control latency
+    double PERCENTILE_99 = 0.99;                                    // 99th percentile of the control latency
+    double PERCENTILE_MAXIMUM = 1.0;                                // maximum of the control latency
+    int TARGET_INDEX = 0;                                           // target ID of the benchmark actions
+    int ORIGIN_INDEX = 0;                                           // origin ID of the benchmark actions
+    int ERROR_COUNT = 0;                                            // error count of the benchmark actions
+    boolean WAIT_FOR_EXECUTION = false;                             // waitForExecution of the benchmark actions
+    String FLOOD_PRINT_TEXT = "flood";                              // text of the flooded print actions
+    String FLOOD_SOUND_TEXT = "flood sentence ";                    // text of the flooded sound actions, followed by a number
+    String CONTROL_TEXT = "";                                       // text of the control actions
+    String PROPERTY_RUN_TIME = "benchmark.runTime";                 // system property to override the duration of a run in [ms]
+    String QUEUE_FIFO = "single FIFO";                              // name of the previous queue with one FIFO for all actions
+    String QUEUE_LANES = "ActionQueue lanes";                       // name of the ActionQueue with lanes
+    String HEADER_FORMAT = "%-20s %12s %12s %12s %12s %14s%n";      // format of the header line
+    String RESULT_FORMAT = "%-20s %12d %12.1f %12.1f %12.1f %14d%n";    // format of a single result line
+    String[] HEADER_COLUMNS = {"Queue", "control", "p50 us", "p99 us", "max us", "flood handled"};     // names of all columns
+    String LANE_FORMAT = "  lane %-12s capacity %5d, weight %2d, %-11s blocked %d, dropped %d, coalesced %d, rejected %d%n";  // format of the lane counters
+    String RESULT_SPEEDUP = "p99 control latency improved by %.1fx%n";     // format of the final comparison
+    String ERROR_INTERRUPTED = "benchmark was interrupted";         // error if a thread of the benchmark was interrupted
+}
@@ -0,0 +1,49 @@
+package benchmark.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionQueueContentionBenchmark class
+ * @author Philipp Schulz
+ */
+public interface ActionQueueContentionBenchmarkConstants
+{
+    int[] PRODUCER_COUNTS = {1, 2, 4, 8};                           // numbers of producer threads that are measured
+    int DEFAULT_OPERATIONS_PER_PRODUCER = 100000;                   // number of actions that every producer adds in one round
+    int DEFAULT_WARMUP_ROUNDS = 3;                                  // number of rounds that are run before measuring
+    int DEFAULT_MEASUREMENT_ROUNDS = 5;                             // number of rounds that are measured
+    int QUEUE_CAPACITY = 16384;                                     // capacity of both queues, same as the ActionQueue
+    int UNCONTENDED_MASK = 1023;                                    // mask to select one of the prepared actions in the uncontended benchmark
+    int BURST_SIZE = 64;                                            // number of actions the consumer takes at once, same as the ActionQueueManager
+    long CONSUMER_WAIT_TIME = 10L;                                  // waiting time of the consumer in [ms]
+    long NANOSECONDS_PER_SECOND = 1000000000L;                      // factor to convert [s] into [ns]
+    double OPERATIONS_PER_MEGA_OPERATION = 1000000.0;               // factor to convert operations into million operations
+    double PERCENTILE_50 = 0.5;                                     // median of the enqueue latency
+    double PERCENTILE_99 = 0.99;                                    // 99th percentile of the enqueue latency
+    double PERCENTILE_999 = 0.999;                                  // 99.9th percentile of the enqueue latency
+    int RESULT_MEAN = 0;                                            // index of the mean enqueue cost in a result array
+    int RESULT_THROUGHPUT = 1;                                      // index of the throughput in a result array
+    int RESULT_P50 = 2;                                             // index of the median latency in a result array
+    int RESULT_P99 = 3;                                             // index of the 99th percentile in a result array
+    int RESULT_P999 = 4;                                            // index of the 99.9th percentile in a result array
+    int RESULT_MAX = 5;                                             // index of the maximum latency in a result array
+    int RESULT_LENGTH = 6;                                          // length of a result array
+    int TARGET_INDEX = 0;                                           // target ID of the benchmark actions
+    int OPCODE = 0;                                                 // opcode of the benchmark actions
+    int ERROR_COUNT = 0;                                            // error count of the benchmark actions
+    boolean WAIT_FOR_EXECUTION = false;                             // waitForExecution of the benchmark actions
+    String TEXT = "";                                               // text payload of the benchmark actions
+    String PROPERTY_OPERATIONS_PER_PRODUCER = "benchmark.operationsPerProducer";    // system property to override the actions per producer
+    String PROPERTY_WARMUP_ROUNDS = "benchmark.warmupRounds";       // system property to override the warmup rounds
+    String PROPERTY_MEASUREMENT_ROUNDS = "benchmark.measurementRounds";     // system property to override the measured rounds
+    String BENCHMARK_UNCONTENDED_LEGACY = "ArrayBlockingQueue.offerPoll";   // name of the uncontended benchmark of the previous queue
+    String BENCHMARK_UNCONTENDED_RING_BUFFER = "ActionRingBuffer.offerPoll";  // name of the uncontended benchmark of the ring buffer
+    String RESULT_UNCONTENDED_SPEEDUP = "uncontended speedup of the ActionRingBuffer: %.2fx%n";  // format of the uncontended comparison
+    String QUEUE_LEGACY = "ArrayBlockingQueue";                     // name of the previous queue with a single lock
+    String QUEUE_RING_BUFFER = "ActionRingBuffer";                  // name of the lock-free ring buffer
+    String HEADER_FORMAT = "%-20s %9s %12s %10s %9s %9s %9s %10s%n";    // format of the header line
+    String RESULT_FORMAT = "%-20s %9d %12.1f %10.2f %9d %9d %9d %10d%n"; // format of a single result line
+    String[] HEADER_COLUMNS = {"Queue", "Producers", "ns/enqueue", "Mops/s", "p50 ns", "p99 ns", "p999 ns", "max ns"};   // names of all columns
+    String RESULT_SPEEDUP = "%d producers: enqueue cost %.2fx, p99 %.2fx, p999 %.2fx%n";   // format of the final comparison
+    String SPEEDUP_HEADER = "improvement of the ActionRingBuffer over the ArrayBlockingQueue:";    // header of the final comparison
+    String ERROR_ORDER = "actions of producer %d arrived out of order: expected %d, got %d";  // error if the order of a producer is broken
+    String ERROR_INTERRUPTED = "benchmark was interrupted";         // error if a thread of the benchmark was interrupted
+}
@@ -0,0 +1,37 @@
+package benchmark.Constants.ActionQueue;
+
+import model.Constants.ActionHandlingConstants;
+
+/**
+ * Interface containing all constants used in the ActionQueuePublicContentionBenchmark class
+ * @author Philipp Schulz
+ */
+public interface ActionQueuePublicContentionBenchmarkConstants
+{
+    int[] PRODUCER_COUNTS = {1, 2, 4, 8};                           // numbers of producer threads that are measured
+    int DEFAULT_OPERATIONS_PER_PRODUCER = 100000;                   // number of actions that every producer adds in one round
+    int DEFAULT_WARMUP_ROUNDS = 3;                                  // number of rounds that are run before measuring
+    int DEFAULT_MEASUREMENT_ROUNDS = 5;                             // number of rounds that are measured
+    int BURST_SIZE = 64;                                            // number of actions the consumer takes at once, same as the ActionQueueManager
+    long CONSUMER_WAIT_TIME = 10L;                                  // waiting time of the consumer in [ms]
+    long NANOSECONDS_PER_SECOND = 1000000000L;                      // factor to convert [s] into [ns]
+    double OPERATIONS_PER_MEGA_OPERATION = 1000000.0;               // factor to convert operations into million operations
+    int RESULT_MEAN = 0;                                            // index of the mean enqueue cost in a result array
+    int RESULT_THROUGHPUT = 1;                                      // index of the throughput in a result array
+    int RESULT_REJECTED = 2;                                        // index of the rejected offers per round in a result array
+    int RESULT_LENGTH = 3;                                          // length of a result array
+    int TARGET_INDEX = 0;                                           // target ID of the benchmark actions
+    int OPCODE = ActionHandlingConstants.ACTION_GET_PATH_TO;        // opcode of the benchmark actions, lane with reject policy
+    boolean WAIT_FOR_EXECUTION = false;                             // waitForExecution of the benchmark actions
+    String TEXT = "";                                               // text payload of the benchmark actions
+    String PROPERTY_OPERATIONS_PER_PRODUCER = "benchmark.operationsPerProducer";    // system property to override the actions per producer
+    String PROPERTY_WARMUP_ROUNDS = "benchmark.warmupRounds";       // system property to override the warmup rounds
+    String PROPERTY_MEASUREMENT_ROUNDS = "benchmark.measurementRounds";     // system property to override the measured rounds
+    String BENCHMARK_NAME = "ActionQueuePublic.obtainAndEnqueue.%dProducers"; // name of the benchmark for a number of producers
+    String HEADER_FORMAT = "%-20s %9s %14s %10s %12s%n";            // format of the header line
+    String RESULT_FORMAT = "%-20s %9d %14.1f %10.2f %12.1f%n";      // format of a single result line
+    String[] HEADER_COLUMNS = {"Queue", "Producers", "ns/enqueue", "Mops/s", "rejected"};  // names of all columns
+    String QUEUE_NAME = "ActionQueuePublic";                        // name of the measured queue
+    String ERROR_ORDER = "actions of producer %d arrived out of order: expected %d, got %d";  // error if the order of a producer is broken
+    String ERROR_INTERRUPTED = "benchmark was interrupted";         // error if a thread of the benchmark was interrupted
+}
@@ -0,0 +1,28 @@
+package benchmark.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionRouterBenchmark class
+ * @author Philipp Schulz
+ */
+public interface ActionRouterBenchmarkConstants
+{
+    int NO_ROUTE = -1;                                              // result if no component is responsible for a target ID
+    int BOUNCED = -2;                                               // result if the action would be sent back due to a wrong component ID
+    int TARGET_COUNT = 1024;                                        // number of prepared actions, must be a power of two
+    int TARGET_MASK = TARGET_COUNT - 1;                             // mask to select one of the prepared actions
+    int[] UNKNOWN_TARGETS = {1030999, 1019999, 2030000, 300};       // IDs without a component, routed to the closest component or bounced
+    int LEGACY_ROOT_START = 0;                                      // start index of the first digit of an ID String
+    int LEGACY_ROOT_END = 1;                                        // end index of the first digit of an ID String
+    int LEGACY_DEPTH_1_START = 1;                                   // start index of the digits of depth 1 in an ID String
+    int LEGACY_DEPTH_1_END = 3;                                     // end index of the digits of depth 1 in an ID String
+    int LEGACY_DEPTH_2_START = 3;                                   // start index of the digits of depth 2 in an ID String
+    int LEGACY_DEPTH_2_END = 5;                                     // end index of the digits of depth 2 in an ID String
+    String[] COMPONENT_NAMES = {"ActionQueueManager", "VoiceRecognitionManager", "SoundManager", "Glados", "Auto",
+            "TerminalManager", "NetworkManager", "DeviceManager", "GpioManager", "SimonManager", "BodyManager",
+            "ComPortManager", "RadioManager", "FileManager"};       // names of all components that receive actions
+    String BENCHMARK_LEGACY = "ActionRouter.legacyStringSlicing";   // name of the benchmark of the previous routing
+    String BENCHMARK_TABLE = "ActionRouter.routingTable";           // name of the benchmark of the routing table
+    String ERROR_COMPONENT_LIST = "component list could not be read, run the benchmark from the program directory.";  // error if the component list is missing
+    String ERROR_MISMATCH = "routing mismatch for target ";         // error if both routers deliver different results
+    String RESULT_SPEEDUP = "speedup of routing table: %.2fx%n";    // format of the final comparison
+}
@@ -0,0 +1,26 @@
+package benchmark.Constants.Dialogue;
+
+/**
+ * Interface containing all constants used in the DialogueBenchmark class
+ * @author Philipp Schulz
+ */
+public interface DialogueBenchmarkConstants
+{
+    long RANDOM_SEED = 20221202L;                                   // seed of the generated conversations, the check is reproducible
+    int GENERATED_CONVERSATIONS = 20000;                            // number of generated conversations for the differential check
+    int CONVERSATION_LENGTH = 20;                                   // number of inputs of a generated conversation
+    int MAXIMUM_PHRASES = 3;                                        // maximum number of phrases of a generated input
+    int ABORT_PROBABILITY = 10;                                     // one in x generated inputs is exactly the abort phrase
+    int CONVERSATION_MASK = 15;                                     // mask to select one of the inputs of the conversation, CONVERSATION.length - 1
+    String[] PHRASES = {"auto", "hey", "okay", "hi", "hello", "turn off", "shut down", "reboot", "yes", "no",
+            "abort dialogue", "this", "know", "nothing", "please", "the system", "lettuce", "what is"};  // phrases of generated inputs
+    String[] CONVERSATION = {"good morning", "auto", "hey auto", "what is the time", "auto please reboot", "no",
+            "auto shut down", "not now", "abort dialogue", "auto hello", "okay auto", "turn off the lights",
+            "yes", "nothing", "auto reboot", "no thanks"};          // realistic inputs for the measurements
+    String SPACE = " ";                                             // separator between the phrases of an input
+    String BENCHMARK_LEGACY = "Auto.legacyHandleDialogueInput";     // name of the benchmark of the previous state machines
+    String BENCHMARK_ENGINE = "Dialogue.handleInput";               // name of the benchmark of the dialogue engine
+    String RESULT_CHECK = "differential check: %d conversations with %d inputs identical%n";   // format of the check result
+    String RESULT_SPEEDUP = "speedup of dialogue engine: %.2fx%n"; // format of the final comparison
+    String ERROR_MISMATCH = "output differs for input \"%s\" of conversation %s: legacy %s, engine %s"; // error if both deliver different outputs
+}
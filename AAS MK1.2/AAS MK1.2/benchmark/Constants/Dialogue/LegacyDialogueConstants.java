@@ -0,0 +1,30 @@
+package benchmark.Constants.Dialogue;
+
+/**
+ * Interface containing all constants used in the LegacyDialogue class
+ * @author Philipp Schulz
+ */
+public interface LegacyDialogueConstants
+{
+    boolean DIALOGUE_INACTIVE = false;                              // flag for finding out if a dialogue is currently active
+    boolean DIALOGUE_ACTIVE = true;                                 // flag that indicates that a dialogue is currently active
+
+    int DIALOGUE_NUMBER_DEFAULT = -1;                               // Integer that shows which dialogue is active
+    int[] STATE_MACHINES_DEFAULT = {0,0,0,0,0,0,0,0,0,0};           // Array that shows in which state the state machines are
+
+    int DIALOGUE_STATE_MACHINE_0 = 0;                               // value for the field dialogueNumber for state machine 0
+    int DIALOGUE_STATE_MACHINE_1 = 1;                               // value for the field dialogueNumber for state machine 1
+    int DIALOGUE_STATE_MACHINE_2 = 2;                               // value for the field dialogueNumber for state machine 2
+
+    int STATE_MACHINE_STATE_0 = 0;                                  // state 0 of any state machine
+    int STATE_MACHINE_STATE_1 = 1;                                  // state 1 of any state machine
+    int STATE_MACHINE_STATE_2 = 2;                                  // state 2 of any state machine
+    int STATE_MACHINE_STATE_3 = 3;                                  // state 3 of any state machine
+    int STATE_MACHINE_STATE_4 = 4;                                  // state 4 of any state machine
+    int STATE_MACHINE_STATE_5 = 5;                                  // state 5 of any state machine
+    int STATE_MACHINE_STATE_6 = 6;                                  // state 6 of any state machine
+    int STATE_MACHINE_STATE_7 = 7;                                  // state 7 of any state machine
+
+    int MINIMUM_ANSWER_LENGTH = 1;                                  // minimum String length of answer string to trigger action
+    String COMMAND_SEPARATOR = ":";                                 // separator between target name and opcode of a recorded command
+}
@@ -0,0 +1,12 @@
+package benchmark.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the MeasuringAudioSink class
+ * @author Philipp Schulz
+ */
+public interface MeasuringAudioSinkConstants
+{
+    long NO_TIME = 0L;                                              // time of the first sample before anything was written
+    long NO_BYTES = 0L;                                             // number of written bytes after a reset
+    long NANOSECONDS_PER_SECOND = 1000000000L;                      // factor to convert [s] into [ns]
+}
@@ -0,0 +1,52 @@
+package benchmark.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the SoundOutputBenchmark class
+ * @author Philipp Schulz
+ */
+public interface SoundOutputBenchmarkConstants
+{
+    int WORD_COUNT = 64;                                            // number of generated words, must be a power of two
+    int WORD_MASK = WORD_COUNT - 1;                                 // mask to select one of the generated words
+    int SHORT_WORD_MASK = 7;                                        // mask to select one of the eight shortest words (0.2 s to 0.25 s)
+    float SAMPLE_RATE = WordLoadingBenchmarkConstants.SAMPLE_RATE;  // sample rate of the generated words in [Hz]
+    int SAMPLE_SIZE = WordLoadingBenchmarkConstants.SAMPLE_SIZE;    // sample size of the generated words in [bit]
+    int CHANNELS = WordLoadingBenchmarkConstants.CHANNELS;          // number of channels of the generated words
+    boolean SIGNED = WordLoadingBenchmarkConstants.SIGNED;          // PCM data of the generated words is signed
+    boolean BIG_ENDIAN = WordLoadingBenchmarkConstants.BIG_ENDIAN;  // byte order of the generated words
+    int WORDS_PER_SENTENCE = 8;                                     // number of words of every sentence
+    int BATCH_SENTENCES = 32;                                       // number of sentences that are queued at once for the throughput
+    int REALTIME_SENTENCES = 3;                                     // number of sentences that are queued at once for the gaps in real time
+    int REALTIME_WORDS_PER_SENTENCE = 6;                            // number of words of every sentence played in real time
+    int WAV_SENTENCES = 4;                                          // number of sentences that are rendered into WAV files
+    int DEFAULT_WARMUP_ROUNDS = 5;                                  // number of rounds that are run before measuring
+    int DEFAULT_MEASUREMENT_ROUNDS = 10;                            // number of rounds that are measured
+    int DEFAULT_FIRST_SAMPLE_REPETITIONS = 200;                     // number of single sentences for the time to the first sample
+    long PLAYBACK_TIMEOUT = 30000L;                                 // maximum waiting time in [ms] for the end of the playback
+    long NANOSECONDS_PER_SECOND = 1000000000L;                      // factor to convert [s] into [ns]
+    double NANOSECONDS_PER_MILLISECOND = 1000000.0;                 // factor to convert [ms] into [ns]
+    double PERCENTILE_MEDIAN = 50.0;                                // percentile of the median
+    double PERCENTILE_TAIL = 99.0;                                  // percentile of the tail
+    String PROPERTY_WARMUP_ROUNDS = "benchmark.warmupRounds";       // system property to override the warmup rounds
+    String PROPERTY_MEASUREMENT_ROUNDS = "benchmark.measurementRounds";     // system property to override the measured rounds
+    String PROPERTY_FIRST_SAMPLE_REPETITIONS = "benchmark.firstSampleRepetitions";  // system property to override the single sentences
+    String TEMPORARY_DIRECTORY_PREFIX = "aasSoundOutput";           // prefix of the temporary directory with the generated voice
+    String VOICE = "auto";                                          // name of the directory of the generated voice
+    String WAV_DIRECTORY = "rendered";                              // name of the directory the WAV files are rendered into
+    String SOURCE = "AUTO";                                         // source of all sentences, selects the voice of AUTO
+    String WORD_PREFIX = "word";                                    // prefix of the names of the generated words
+    String FILE_FORMAT = ".wav";                                    // format of the generated sound files
+    String SEPARATOR = "/";                                         // separator at the end of the path of a voice
+    String SPACE = " ";                                             // separator between the words of a sentence
+    String BENCHMARK_THROUGHPUT = "Sound.nullOutput.perWord";       // name of the benchmark for the rendering time of a single word
+    String BENCHMARK_FIRST_SAMPLE = "Sound.nullOutput.timeToFirstSample.p50";   // name of the benchmark for the time to the first sample
+    String BENCHMARK_REALTIME_OVERHEAD = "Sound.realtimeOutput.overheadPerSentence";    // name of the benchmark for the delay in real time
+    String RESULT_THROUGHPUT = "%-45s %12.1f ns/word  (%.0f words/s, %.0fx real time)%n";    // format of the throughput result
+    String RESULT_FIRST_SAMPLE = "%-45s %12.1f ns  (p99 %.3f ms, max %.3f ms, %d sentences)%n";   // format of the time to the first sample
+    String RESULT_REALTIME = "%-45s %12.1f ns  (first sample %.3f ms, %d gaps, mean %.3f ms, max %.3f ms)%n"; // format of the real time result
+    String RESULT_WAV = "rendered %d WAV files with %.2f s of audio%n";     // format of the WAV rendering check
+    String ERROR_TIMEOUT = "sound output did not finish within [ms] ";      // error if the playback does not finish
+    String ERROR_WAV = "expected %d WAV files, found %d";            // error if a sentence was not rendered into its own file
+    String ERROR_SETUP = "generated voice could not be written: ";  // error if the temporary sound files could not be created
+    String ERROR_INTERRUPTED = "benchmark was interrupted";         // error if a thread of the benchmark was interrupted
+}
@@ -0,0 +1,37 @@
+package benchmark.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the WordLoadingBenchmark class
+ * @author Philipp Schulz
+ */
+public interface WordLoadingBenchmarkConstants
+{
+    int WORD_COUNT = 64;                                            // number of generated words, must be a power of two
+    int WORD_MASK = WORD_COUNT - 1;                                 // mask to select one of the generated words
+    float SAMPLE_RATE = 22050.0f;                                   // sample rate of the generated words in [Hz], same as the voices
+    int SAMPLE_SIZE = 16;                                           // sample size of the generated words in [bit]
+    int CHANNELS = 1;                                               // number of channels of the generated words
+    boolean SIGNED = true;                                          // PCM data of the generated words is signed
+    boolean BIG_ENDIAN = false;                                     // byte order of the generated words
+    int BYTES_PER_SAMPLE = 2;                                       // number of bytes of a single sample
+    int BYTE_MASK = 0xFF;                                           // mask to get the lowest byte of a sample
+    int BITS_PER_BYTE = 8;                                          // number of bits per byte
+    int MINIMUM_FRAMES = 4410;                                      // length of the shortest generated word (0.2 s)
+    int FRAMES_PER_WORD_INDEX = 147;                                // additional length of every following word, the longest is about 0.62 s
+    double BASE_FREQUENCY = 220.0;                                  // frequency of the tone of the first word in [Hz]
+    double FREQUENCY_STEP = 5.0;                                    // additional frequency of every following word in [Hz]
+    double AMPLITUDE = 8000.0;                                      // amplitude of the tone of all words
+    long UNCACHED = 0L;                                             // maximum cache size that keeps no word, every access reads the word
+    String TEMPORARY_DIRECTORY_PREFIX = "aasWordLoading";           // prefix of the temporary directory with the generated voices
+    String FILE_VOICE = "files";                                    // name of the voice that only has single sound files
+    String BANK_VOICE = "bank";                                     // name of the voice that has a voice bank next to its sound files
+    String WORD_PREFIX = "word";                                    // prefix of the names of the generated words
+    String FILE_FORMAT = ".wav";                                    // format of the generated sound files
+    String SEPARATOR = "/";                                         // separator at the end of the path of a voice
+    String BENCHMARK_DISK = "WordSampleCache.readSoundFile";        // name of the benchmark that reads single sound files
+    String BENCHMARK_BANK = "WordSampleCache.readVoiceBank";        // name of the benchmark that reads from the voice bank
+    String BENCHMARK_CACHE = "WordSampleCache.cachedWord";          // name of the benchmark that takes the words from the cache
+    String RESULT_SPEEDUP = "speedup of the cache: %.2fx over sound files, %.2fx over the voice bank%n";   // format of the final comparison
+    String ERROR_MISMATCH = "different PCM data for word ";         // error if the sources deliver different data for a word
+    String ERROR_SETUP = "generated voices could not be written: "; // error if the temporary sound files could not be created
+}
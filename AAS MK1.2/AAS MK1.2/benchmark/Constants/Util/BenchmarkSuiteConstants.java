@@ -0,0 +1,64 @@
+package benchmark.Constants.Util;
+
+import benchmark.AUTO.IdManagerBenchmark;
+import benchmark.ActionQueue.ActionQueuePublicContentionBenchmark;
+import benchmark.ActionQueue.ActionRouterBenchmark;
+import benchmark.Dialogue.DialogueBenchmark;
+import benchmark.Sound.SoundOutputBenchmark;
+import benchmark.Sound.WordLoadingBenchmark;
+import benchmark.Util.TextToWordsBenchmark;
+import benchmark.VoiceRecognition.RecognitionBenchmark;
+
+import java.io.File;
+
+/**
+ * Interface containing all constants used in the BenchmarkSuite class
+ * @author Philipp Schulz
+ */
+public interface BenchmarkSuiteConstants
+{
+    Class<?>[] SUITES = {ActionRouterBenchmark.class, IdManagerBenchmark.class, ActionQueuePublicContentionBenchmark.class,
+            TextToWordsBenchmark.class, DialogueBenchmark.class, WordLoadingBenchmark.class,
+            SoundOutputBenchmark.class, RecognitionBenchmark.class};  // all suites of the hot paths of AAS
+    double DEFAULT_REGRESSION_THRESHOLD = 0.1;                      // relative change of a score that counts as regression or improvement
+    int EXIT_SUCCESS = 0;                                           // exit code if all suites ran and nothing got slower
+    int EXIT_FAILURE = 1;                                           // exit code if a suite failed or a score got slower
+    int NAME_COLUMN = 0;                                            // column of the name in a line of the result file
+    int SCORE_COLUMN = 1;                                           // column of the score in a line of the result file
+    int RESULT_COLUMNS = 2;                                         // number of columns of a line of the result file
+    double PERCENT = 100.0;                                         // factor to convert a ratio into percent
+    String PROPERTY_PREFIX = "benchmark.";                          // prefix of all system properties that are passed on to the suites
+    String PROPERTY_RESULTS = "benchmark.results";                  // system property with the file the results are written to
+    String PROPERTY_BASELINE = "benchmark.baseline";                // system property with the result file of the baseline
+    String PROPERTY_THRESHOLD = "benchmark.regressionThreshold";    // system property to override the regression threshold
+    String PROPERTY_RESULT_FILE = "benchmark.resultFile";           // system property of the MicroBenchmark for the result file
+    String PROPERTY_JAVA_HOME = "java.home";                        // system property with the directory of the running JVM
+    String PROPERTY_CLASS_PATH = "java.class.path";                 // system property with the class path of the running JVM
+    String DEFAULT_RESULTS = "benchmarkResults.txt";                // default result file in the program directory
+    String JAVA_EXECUTABLE = "bin" + File.separator + "java";   // path of the java executable inside java.home
+    String CLASS_PATH_OPTION = "-cp";                               // option of the class path of the forked JVM
+    String HEADLESS_OPTION = "-Djava.awt.headless=true";            // the suites need neither a display nor audio hardware
+    String PROPERTY_OPTION = "-D%s=%s";                             // format of a system property of the forked JVM
+    String COLUMN_SEPARATOR = "\t";                                 // separator of the columns of the result file
+    String SUITE_HEADER = "%n# Suite: %s%n";                        // format of the header of a suite
+    String COMPARISON_HEADER = "%n# Comparison with baseline %s (threshold %.0f%%)%n";  // format of the header of the comparison
+    String COMPARISON_HEADER_FORMAT = "%-55s %14s %14s %9s  %s%n";  // format of the header line of the comparison
+    String[] COMPARISON_COLUMNS = {"Benchmark", "Baseline ns/op", "Current ns/op", "Change", "Status"};   // names of all columns
+    String COMPARISON_FORMAT = "%-55s %14.1f %14.1f %+8.1f%%  %s%n";    // format of a single line of the comparison
+    String NEW_FORMAT = "%-55s %14s %14.1f %9s  %s%n";              // format of a benchmark that is not in the baseline
+    String MISSING_FORMAT = "%-55s %14.1f %14s %9s  %s%n";          // format of a benchmark of the baseline that did not run
+    String NO_VALUE = "-";                                          // placeholder of a missing value
+    String STATUS_REGRESSION = "REGRESSION";                        // status of a score that got slower than the threshold
+    String STATUS_IMPROVED = "improved";                            // status of a score that got faster than the threshold
+    String STATUS_UNCHANGED = "";                                   // status of a score within the threshold
+    String STATUS_NEW = "new";                                      // status of a benchmark that is not in the baseline
+    String STATUS_MISSING = "not run";                              // status of a benchmark of the baseline that did not run
+    String RESULT_SUMMARY = "%n%d suites run, %d failed, %d scores saved to %s, %d regressions%n";  // format of the summary
+    String RESULT_NO_BASELINE = "no baseline given, save the result file and pass it with -Dbenchmark.baseline=<file> to compare";  // hint without baseline
+    String ERROR_UNKNOWN_SUITE = "unknown suite %s, available suites: %s%n";  // error if a suite name is not known
+    String ERROR_SUITE_FAILED = "suite %s failed with exit code %d%n";    // error if a forked suite did not finish successfully
+    String ERROR_FORK = "suite %s could not be started: %s%n";      // error if the JVM of a suite could not be started
+    String ERROR_DELETE = "previous result file could not be deleted: ";  // error if the result file of the last run is still there
+    String ERROR_READ = "result file %s could not be read: %s%n";   // error if a result file could not be read
+    String ERROR_INVALID_LINE = "invalid line in %s: %s%n";         // error if a line of a result file is not valid
+}
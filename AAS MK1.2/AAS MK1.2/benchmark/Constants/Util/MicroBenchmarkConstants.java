@@ -0,0 +1,25 @@
+package benchmark.Constants.Util;
+
+/**
+ * Interface containing all constants used in the MicroBenchmark class
+ * @author Philipp Schulz
+ */
+public interface MicroBenchmarkConstants
+{
+    int DEFAULT_WARMUP_ITERATIONS = 5;                              // number of iterations that are run before measuring
+    int DEFAULT_MEASUREMENT_ITERATIONS = 10;                        // number of iterations that are measured
+    long DEFAULT_ITERATION_TIME = 200;                              // duration of a single iteration in [ms]
+    int OPERATIONS_PER_BATCH = 1000;                                // number of operations between two checks of the iteration time
+    long NANOSECONDS_PER_MILLISECOND = 1000000L;                    // factor to convert [ms] into [ns]
+    String PROPERTY_WARMUP_ITERATIONS = "benchmark.warmupIterations";       // system property to override the warmup iterations
+    String PROPERTY_MEASUREMENT_ITERATIONS = "benchmark.measurementIterations"; // system property to override the measured iterations
+    String PROPERTY_ITERATION_TIME = "benchmark.iterationTime";     // system property to override the iteration time in [ms]
+    String PROPERTY_RESULT_FILE = "benchmark.resultFile";          // system property with the file all scores are appended to
+    boolean APPEND_RESULTS = true;                                  // results of several suites are collected in one file
+    String RESULT_FILE_FORMAT = "%s\t%.3f%n";                       // format of a single line of the result file (name, score)
+    String ERROR_RESULT_FILE = "could not write result file ";      // error if the result file could not be written
+    String RESULT_FORMAT = "%-55s %12.1f ns/op  +- %8.1f  (min %10.1f, %d ops)%n";  // format of a single result line
+    String HEADER_FORMAT = "%-55s %12s%n";                          // format of the header line
+    String HEADER_NAME = "Benchmark";                               // name of the first column
+    String HEADER_SCORE = "Score";                                  // name of the second column
+}
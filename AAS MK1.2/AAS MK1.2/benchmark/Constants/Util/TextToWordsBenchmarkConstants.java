@@ -0,0 +1,55 @@
+package benchmark.Constants.Util;
+
+/**
+ * Interface containing all constants used in the TextToWordsBenchmark class
+ * @author Philipp Schulz
+ */
+public interface TextToWordsBenchmarkConstants
+{
+    long RANDOM_SEED = 20221125L;                                   // seed of the generated sentences, the check is reproducible
+    int GENERATED_SENTENCES = 200000;                               // number of generated sentences for the differential check
+    int MAXIMUM_TOKENS = 12;                                        // maximum number of tokens of a generated sentence
+    int TOKEN_KINDS = 10;                                           // number of different kinds of generated tokens
+    int SENTENCE_MASK = 15;                                         // mask to select one of the sentences, SENTENCES.length - 1
+    int NUMBER_MASK = 15;                                           // mask to select one of the numbers, NUMBERS.length - 1
+    long DOUBLE_PRECISION_LIMIT = 1L << 53;                         // numbers above this limit are not exact as Double
+    int DECIMAL_BASE = 10;                                          // base of the decimal system
+    int HUNDRED_BASE = 100;                                         // number 100 to find the hundreds of a triplet
+    int TRIPLET_BASE = 1000;                                        // number 1000 to split a number into triplets
+    String[] SENTENCES = {"hello", "command", "are you sure to shut down all systems",
+            "Initialization of AAS M K 1.2 complete.", "the temperature outside is -3.5 degrees",
+            "radio frequency set to 104.6 megahertz", "reboot confirmed", "2048 sectors written, 17 failed!",
+            "termination of program aborted", "battery at 87 percent?", "the answer is 42",
+            "distance to target 12345678 millimeters", "current is +0.25 ampere", "T-minus 10 seconds",
+            "version 3.14159 of the well-known system", "rebooting all systems"};    // realistic sentences of both voices
+    long[] NUMBERS = {0L, 7L, 12L, 42L, 87L, 100L, 104L, 256L, 999L, 1000L, 2048L, 65535L, 1000000L, 12345678L,
+            -273L, 3000000000L};                                    // integers of all magnitudes that are spoken
+    double[] DECIMALS = {0.5, 1.25, 3.14159, 104.6, -3.5, 0.25, 12.75, 99.9, 2.5, 37.2, 0.001, 42.42, 1013.25,
+            -0.75, 6.5, 230.4};                                     // decimals that are spoken, e.g. temperatures or frequencies
+    String[] WORDS = {"hello", "the", "temperature", "is", "degrees", "e.g.", "well-known", "a+b", "c++", "ok?",
+            "wow!", "...", "-", "+", "?!", "AAS", "M", "K", "1,000", "v2.0.1"};    // tokens that are no plain numbers
+    String[] SEPARATORS = {" ", " ", " ", "  ", "? ", "! "};          // separators between generated tokens
+    String SPACE = " ";                                             // separator of the tokens in the previous conversion
+    String EMPTY_STRING = "";                                       // empty String
+    String POINT = ".";                                             // String that contains one point character
+    String EXPONENT = "E";                                          // exponent of a Double in scientific notation
+    String REMOVED_CHARACTERS = "[?!]";                             // characters that are removed from every token
+    String PLAIN_DECIMAL = "[+-]?([0-9]+\\.?[0-9]*|\\.[0-9]+)";      // pattern of a token that is read as number
+    String SIGN = "^[+-]";                                          // pattern of the sign of a number
+    String ONLY_ZEROS = "0*";                                       // pattern of a fraction without value
+    String DIVERGENCE_TEENS = "teens after hundreds";               // legacy dropped the teens of a triplet with hundreds (115 -> one hundred five)
+    String DIVERGENCE_INTEGRAL_DECIMAL = "integral decimal";        // legacy concatenated the digits of integral decimals (1.0 -> ten)
+    String DIVERGENCE_SCIENTIFIC = "scientific notation";           // legacy could not speak decimals that Double prints with exponent
+    String DIVERGENCE_PRECISION = "double precision";               // legacy decided integers via Double and lost precision
+    String BENCHMARK_LEGACY = "UtilityFunctions.legacyExtractSingleWords";  // name of the benchmark of the previous conversion
+    String BENCHMARK_TOKENIZER = "UtilityFunctions.extractSingleWords";     // name of the benchmark of the tokenizer
+    String BENCHMARK_REUSED = "UtilityFunctions.extractSingleWordsReusedList";   // name of the benchmark with a reused list
+    String BENCHMARK_LEGACY_NUMBER = "UtilityFunctions.legacyNumberToStringLong";   // name of the benchmark of the previous integer conversion
+    String BENCHMARK_NUMBER = "UtilityFunctions.numberToStringLong";                // name of the benchmark of the integer conversion
+    String BENCHMARK_LEGACY_DECIMAL = "UtilityFunctions.legacyNumberToStringDouble"; // name of the benchmark of the previous decimal conversion
+    String BENCHMARK_DECIMAL = "UtilityFunctions.numberToStringDouble";             // name of the benchmark of the decimal conversion
+    String RESULT_CHECK = "differential check: %d sentences identical, %d differ only by intentional fixes (tokens %s)%n"; // format of the check result
+    String RESULT_SPEEDUP = "speedup of tokenizer: %.2fx%n";       // format of the final comparison
+    String RESULT_NUMBER_SPEEDUP = "speedup of numberToString: integers %.2fx, decimals %.2fx%n";   // format of the comparison of single numbers
+    String ERROR_MISMATCH = "output differs for \"%s\": legacy %s, tokenizer %s"; // error if both conversions deliver different words
+}
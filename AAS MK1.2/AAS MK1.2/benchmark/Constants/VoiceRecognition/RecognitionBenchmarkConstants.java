@@ -0,0 +1,57 @@
+package benchmark.Constants.VoiceRecognition;
+
+import model.Constants.VoiceRecognition.SpeechCaptureConstants;
+import model.Constants.VoiceRecognition.VoiceRecognitionCMUConstants;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Interface containing all constants used in the RecognitionBenchmark class
+ * @author Philipp Schulz
+ */
+public interface RecognitionBenchmarkConstants
+{
+    AudioFormat RECOGNITION_AUDIO_FORMAT = SpeechCaptureConstants.CAPTURE_FORMAT;  // format the recordings are converted to, same as the microphone
+    double BYTES_PER_SECOND = SpeechCaptureConstants.SAMPLE_RATE*SpeechCaptureConstants.SAMPLE_SIZE/Byte.SIZE;  // bytes of one second of audio
+    int CHUNK_BYTES = SpeechCaptureConstants.FRAME_BYTES*SpeechCaptureConstants.FRAMES_PER_READ;  // bytes that are passed at once, like a read of the microphone
+    int READ_BUFFER_SIZE = 8192;                                    // size of the buffer for reading a recording in [byte]
+    int DEFAULT_WARMUP_ROUNDS = 1;                                  // number of rounds over all recordings that are run before measuring
+    int DEFAULT_MEASUREMENT_ROUNDS = 1;                             // number of rounds over all recordings that are measured
+    String DEFAULT_VOICE_ACTIVITY_DETECTION = "true";               // the recordings are cut into segments like the microphone by default
+    String PROPERTY_RECORDINGS = "benchmark.recordings";            // system property with the directory of the recordings
+    String PROPERTY_GRAMMAR_PATH = "benchmark.grammarPath";         // system property to override the directory of the grammar files
+    String PROPERTY_GRAMMAR_NAME = "benchmark.grammarName";         // system property to override the grammar
+    String PROPERTY_VOICE_ACTIVITY_DETECTION = "benchmark.voiceActivityDetection";  // system property to decode whole recordings without segments
+    String PROPERTY_WARMUP_ROUNDS = "benchmark.recognitionWarmupRounds";    // system property to override the warmup rounds
+    String PROPERTY_MEASUREMENT_ROUNDS = "benchmark.recognitionRounds";     // system property to override the measured rounds
+    String PROPERTY_USER_DIR = VoiceRecognitionCMUConstants.SPHINX4_USER_DIR;  // system property with the program directory
+    String DEFAULT_RECORDINGS = "recordings";                       // default directory of the recordings in the program directory
+    String DEFAULT_GRAMMAR_PATH = VoiceRecognitionCMUConstants.FILE;    // prefix of the default grammar path, followed by the program directory
+    String DEFAULT_GRAMMAR_DIRECTORY = VoiceRecognitionCMUConstants.SPHINX4_GRAMMAR_PATH_WINDOWS;  // default directory of the grammar files in the program directory
+    String DEFAULT_GRAMMAR_NAME = VoiceRecognitionCMUConstants.SPHINX4_GRAMMAR_NAME;  // default grammar, same as the recognizer at start
+    String RECORDING_FORMAT = ".wav";                               // format of the recordings
+    String TRANSCRIPT_FORMAT = ".txt";                              // format of the file with the expected transcript next to a recording
+    String FILE_NAME_WORD_SEPARATOR = "_";                          // separator of the words in the name of a recording without transcript file
+    String WORD_SEPARATOR = " ";                                    // separator of the words of a transcript
+    String WHITESPACE = "\\s+";                                     // pattern of the separators of the words of a transcript
+    String NO_WORDS = "";                                           // transcript without words
+    double NANOSECONDS_PER_MILLISECOND = 1000000.0;                 // factor to convert [ms] into [ns]
+    double NANOSECONDS_PER_SECOND = 1000000000.0;                   // factor to convert [s] into [ns]
+    double BYTES_PER_MEGABYTE = 1024.0*1024.0;                      // factor to convert [MB] into [byte]
+    double PERCENTILE_MEDIAN = 50.0;                                // percentile of the median
+    double PERCENTILE_TAIL = 99.0;                                  // percentile of the tail
+    double PERCENT = 100.0;                                         // factor to convert a ratio into percent
+    String BENCHMARK_DECODE = "Recognition.decode.perAudioSecond";  // name of the benchmark for the processing time per second of audio
+    String BENCHMARK_LATENCY = "Recognition.latencyAfterSpeech.p50";    // name of the benchmark for the time from the end of the audio to the result
+    String RESULT_SETTINGS = "grammar %s from %s, voice activity detection %b, %d recordings, %.1f MB heap after loading the model%n";  // format of the settings
+    String RESULT_RECORDING = "%-40s %8.1f ms  %6.3f RTF  %s%n";    // format of the result of a single recording
+    String RESULT_MISMATCH = "expected \"%s\", recognized \"%s\"";  // status of a recording that was not recognized correctly
+    String RESULT_MATCH = "ok";                                     // status of a recording that was recognized correctly
+    String RESULT_REALTIME = "%-45s %12.1f ns  (real-time factor %.3f, %.1f s of audio in %.1f s)%n";  // format of the real-time factor
+    String RESULT_LATENCY = "%-45s %12.1f ns  (p99 %.1f ms, max %.1f ms, %d utterances)%n";  // format of the latency
+    String RESULT_MEMORY = "heap high-water mark %.1f MB (sum of the peaks of all heap pools)%n";  // format of the memory
+    String RESULT_ACCURACY = "sentence accuracy %.1f%% (%d of %d), word accuracy %.1f%% (%d errors in %d words)%n";  // format of the accuracy
+    String SKIPPED_NO_RECORDINGS = "no recordings (*.wav) found in %s, recognition benchmark skipped%n";  // hint if there are no recordings
+    String SKIPPED_NO_MODEL = "recognizer could not be created (%s), recognition benchmark skipped%n";  // hint if the acoustic model is missing
+    String ERROR_RECORDING = "recording %s skipped: %s%n";          // error if a recording could not be read or converted
+}
@@ -0,0 +1,165 @@
+package benchmark.Dialogue;
+
+import benchmark.Constants.Dialogue.DialogueBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import model.Constants.AUTO.AutoConstants;
+import model.Dialogue.Dialogue;
+import model.Dialogue.DialogueCommand;
+import model.Dialogue.DialogueTransition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark that compares the table-driven dialogue engine with the previous hand-written state machines of Auto
+ * Runs a differential check against the previous state machines first, the order of responses and commands of a
+ * single input is compared separately, the previous state machines sent some commands before their responses
+ * @author Philipp Schulz
+ */
+public class DialogueBenchmark implements DialogueBenchmarkConstants
+{
+    // local fields
+    private final ArrayList<String> sounds;
+    private final ArrayList<String> texts;
+    private final ArrayList<String> commands;
+    private final ArrayList<DialogueTransition> takenTransitions;
+
+    /**
+     * Constructor of the DialogueBenchmark class
+     * @author Philipp Schulz
+     */
+    public DialogueBenchmark()
+    {
+        // initialize local fields
+        this.sounds = new ArrayList<>();
+        this.texts = new ArrayList<>();
+        this.commands = new ArrayList<>();
+        this.takenTransitions = new ArrayList<>();
+    }
+
+    /**
+     * Main method, runs the differential check and the benchmark
+     * @param args Arguments given during call of the program, not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        new DialogueBenchmark().run(new MicroBenchmark());
+    }
+
+    /**
+     * Method for running the differential check and all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark)
+    {
+        // make sure that both implementations deliver the same responses and commands
+        verifyOutputs();
+        // measure both implementations over a realistic conversation, the dialogues keep their state between inputs
+        LegacyDialogue legacyDialogue = new LegacyDialogue();
+        Dialogue dialogue = new Dialogue(AutoConstants.DIALOGUE_DEFINITION);
+        microBenchmark.printHeader();
+        double legacyScore = microBenchmark.measure(BENCHMARK_LEGACY, invocation -> {
+            clearOutputs();
+            legacyDialogue.handleDialogueInput(CONVERSATION[invocation & CONVERSATION_MASK], this.sounds, this.texts, this.commands);
+            return this.sounds.size()+this.commands.size();
+        });
+        double engineScore = microBenchmark.measure(BENCHMARK_ENGINE, invocation -> {
+            this.takenTransitions.clear();
+            dialogue.handleInput(CONVERSATION[invocation & CONVERSATION_MASK], this.takenTransitions);
+            return this.takenTransitions.size();
+        });
+        System.out.printf(RESULT_SPEEDUP, legacyScore/engineScore);
+    }
+
+    /**
+     * Method for checking the dialogue engine against the previous state machines with generated conversations
+     * @author Philipp Schulz
+     */
+    private void verifyOutputs()
+    {
+        Random random = new Random(RANDOM_SEED);
+        int inputs = 0;
+        for(int conversation = 0; conversation < GENERATED_CONVERSATIONS; conversation++)
+        {
+            LegacyDialogue legacyDialogue = new LegacyDialogue();
+            Dialogue dialogue = new Dialogue(AutoConstants.DIALOGUE_DEFINITION);
+            List<String> history = new ArrayList<>();
+            for(int i = 0; i < CONVERSATION_LENGTH; i++)
+            {
+                String input = generateInput(random);
+                history.add(input);
+                // outputs of the previous state machines
+                clearOutputs();
+                legacyDialogue.handleDialogueInput(input, this.sounds, this.texts, this.commands);
+                List<String> legacyOutputs = Arrays.asList(this.sounds.toString(), this.texts.toString(), this.commands.toString());
+                // outputs of the dialogue engine
+                clearOutputs();
+                this.takenTransitions.clear();
+                dialogue.handleInput(input, this.takenTransitions);
+                for(DialogueTransition transition : this.takenTransitions)
+                {
+                    if(!transition.getSoundResponse().isEmpty())
+                    {
+                        this.sounds.add(transition.getSoundResponse());
+                    }
+                    if(!transition.getTextResponse().isEmpty())
+                    {
+                        this.texts.add(transition.getTextResponse());
+                    }
+                    for(int command = 0; command < transition.getNumberOfCommands(); command++)
+                    {
+                        DialogueCommand dialogueCommand = transition.getCommand(command);
+                        this.commands.add(dialogueCommand.getTargetName()+LegacyDialogue.COMMAND_SEPARATOR+dialogueCommand.getOpcode());
+                    }
+                }
+                List<String> engineOutputs = Arrays.asList(this.sounds.toString(), this.texts.toString(), this.commands.toString());
+                if(!legacyOutputs.equals(engineOutputs))
+                {
+                    throw new IllegalStateException(String.format(ERROR_MISMATCH, input, history, legacyOutputs, engineOutputs));
+                }
+                inputs++;
+            }
+        }
+        System.out.printf(RESULT_CHECK, GENERATED_CONVERSATIONS, inputs);
+    }
+
+    /**
+     * Method for generating a random input out of the phrases of all dialogues and other words
+     * @param random Random number generator
+     * @return Generated input in lowercase
+     * @author Philipp Schulz
+     */
+    private String generateInput(Random random)
+    {
+        if(random.nextInt(ABORT_PROBABILITY) == 0)
+        {
+            return AutoConstants.RECOGNITION_ABORT;
+        }
+        StringBuilder input = new StringBuilder();
+        int phrases = 1 + random.nextInt(MAXIMUM_PHRASES);
+        for(int i = 0; i < phrases; i++)
+        {
+            if(i > 0)
+            {
+                input.append(SPACE);
+            }
+            input.append(PHRASES[random.nextInt(PHRASES.length)]);
+        }
+        return input.toString();
+    }
+
+    /**
+     * Method for removing all recorded outputs
+     * @author Philipp Schulz
+     */
+    private void clearOutputs()
+    {
+        this.sounds.clear();
+        this.texts.clear();
+        this.commands.clear();
+    }
+}
@@ -0,0 +1,260 @@
+package benchmark.Dialogue;
+
+import benchmark.Constants.Dialogue.LegacyDialogueConstants;
+import model.Constants.AUTO.AutoConstants;
+import model.Constants.ActionHandlingConstants;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Copy of the hand-written state machines of Auto before the table-driven dialogue engine
+ * Instead of sending actions, all responses and commands are recorded in lists
+ * The state machines are copied on every reset, the original shared the default array between all resets
+ * Only used as reference for the differential check and as baseline of the DialogueBenchmark
+ * @author Philipp Schulz
+ */
+public class LegacyDialogue implements LegacyDialogueConstants
+{
+    // local fields
+    private boolean dialogueActive;
+    private int dialogueNumber;
+    private int[] stateMachines;
+    private List<String> sounds;
+    private List<String> texts;
+    private List<String> commands;
+
+    /**
+     * Constructor of the LegacyDialogue class
+     * @author Philipp Schulz
+     */
+    public LegacyDialogue()
+    {
+        // initialize local fields
+        this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
+        this.stateMachines = STATE_MACHINES_DEFAULT.clone();
+        this.dialogueActive = DIALOGUE_INACTIVE;
+    }
+
+    /**
+     * Method for handling any input that was received via voice recognition or terminal
+     * @param input String that contains the input from the user
+     * @param sounds List to which all sentences for the sound output are added
+     * @param texts List to which all texts for the terminal are added
+     * @param commands List to which all commands are added (target name and opcode)
+     * @author Philipp Schulz
+     */
+    public void handleDialogueInput(String input, List<String> sounds, List<String> texts, List<String> commands)
+    {
+        this.sounds = sounds;
+        this.texts = texts;
+        this.commands = commands;
+        // check if new dialogue is active
+        if(!this.dialogueActive && input.contains(AutoConstants.RECOGNITION_AUTO))
+        {
+            this.dialogueActive = DIALOGUE_ACTIVE;
+            this.dialogueNumber = DIALOGUE_STATE_MACHINE_0;
+        }
+        // state machine 0: dialogue activation / abortion + dialogue decision
+        if(this.dialogueActive)
+        {
+            if(input.equals(AutoConstants.RECOGNITION_ABORT))
+            {
+                reset();
+                this.sounds.add(AutoConstants.RECOGNITION_ABORTED);
+                this.texts.add(AutoConstants.RECOGNITION_ABORTED);
+            }
+            switch(dialogueNumber)
+            {
+                case DIALOGUE_STATE_MACHINE_0:
+                    if(input.contains(AutoConstants.GREETING_1) || input.contains(AutoConstants.GREETING_2))
+                    {
+                        this.dialogueNumber = DIALOGUE_STATE_MACHINE_1;
+                        stateMachine1(stateMachines[DIALOGUE_STATE_MACHINE_1], input);
+                    }
+                    else if(input.contains(AutoConstants.RECOGNITION_START_1) || input.contains(AutoConstants.RECOGNITION_START_2))
+                    {
+                        this.sounds.add(AutoConstants.RECOGNITION_START);
+                        this.texts.add(AutoConstants.RECOGNITION_START);
+                    }
+                    else if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.INPUT_TURN_OFF) ||
+                            input.toLowerCase(Locale.ROOT).contains(AutoConstants.INPUT_SHUTDOWN) ||
+                            input.toLowerCase(Locale.ROOT).contains(AutoConstants.INPUT_REBOOT))
+                    {
+                        this.dialogueNumber = DIALOGUE_STATE_MACHINE_2;
+                        stateMachines[DIALOGUE_STATE_MACHINE_2] = stateMachine2(stateMachines[DIALOGUE_STATE_MACHINE_2], input);
+                    }
+                    break;
+
+                case DIALOGUE_STATE_MACHINE_1:
+                    stateMachine1(stateMachines[DIALOGUE_STATE_MACHINE_1], input);
+                    break;
+
+                case DIALOGUE_STATE_MACHINE_2:
+                    stateMachines[DIALOGUE_STATE_MACHINE_2] = stateMachine2(stateMachines[DIALOGUE_STATE_MACHINE_2], input);
+                    if(STATE_MACHINE_STATE_3<stateMachines[DIALOGUE_STATE_MACHINE_2] && stateMachines[DIALOGUE_STATE_MACHINE_2]<STATE_MACHINE_STATE_7)
+                    {
+                        stateMachines[DIALOGUE_STATE_MACHINE_2] = stateMachine2(stateMachines[DIALOGUE_STATE_MACHINE_2], input);
+                    }
+                    break;
+
+                default:
+                    // none other state machines are active
+            }
+        }
+    }
+
+    /**
+     * Method for implementing state machine 1 (greeting)
+     * @param state current state of the state machine
+     * @param input String that contains the input that was given by the user
+     * @author Philipp Schulz
+     */
+    private void stateMachine1(int state, String input)
+    {
+        if(state == STATE_MACHINE_STATE_0 && (input.contains(AutoConstants.GREETING_1) || input.contains(AutoConstants.GREETING_2)))
+        {
+            this.sounds.add(AutoConstants.GREETING_RESPONSE);
+            this.texts.add(AutoConstants.GREETING_RESPONSE+AutoConstants.DOT);
+            addCommand(AutoConstants.VOICE_RECOGNITION_MANAGER_NAME, ActionHandlingConstants.ACTION_VOICE_RECOGNITION_ABORT);
+            reset();
+        }
+    }
+
+    /**
+     * Method for implementing state machine 2 (turn off, shutdown and reboot)
+     * @param state current state of the state machine
+     * @param input String that contains the input that was given by the user
+     * @return Updated state of the state machine
+     * @author Philipp Schulz
+     */
+    private int stateMachine2(int state, String input)
+    {
+        int newState = state;
+        String answerStringSound = ActionHandlingConstants.EMPTY_STRING;
+        String answerStringText = ActionHandlingConstants.EMPTY_STRING;
+        switch(state)
+        {
+            case STATE_MACHINE_STATE_0:
+                if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.INPUT_TURN_OFF))
+                {
+                    newState = STATE_MACHINE_STATE_1;
+                    answerStringSound = AutoConstants.TURN_OFF_RESPONSE;
+                    answerStringText = AutoConstants.TURN_OFF_RESPONSE+AutoConstants.Q_MARK;
+                }
+                else if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.INPUT_SHUTDOWN))
+                {
+                    newState = STATE_MACHINE_STATE_2;
+                    answerStringSound = AutoConstants.SHUTDOWN_RESPONSE;
+                    answerStringText = AutoConstants.SHUTDOWN_RESPONSE+AutoConstants.Q_MARK;
+                }
+                else if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.INPUT_REBOOT))
+                {
+                    newState = STATE_MACHINE_STATE_3;
+                    answerStringSound = AutoConstants.REBOOT_RESPONSE;
+                    answerStringText = AutoConstants.REBOOT_RESPONSE+AutoConstants.Q_MARK;
+                }
+                break;
+
+            case STATE_MACHINE_STATE_1:
+                if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.CONFIRMATION_YES))
+                {
+                    newState = STATE_MACHINE_STATE_4;
+                    answerStringSound = AutoConstants.TURN_OFF_CONFIRM;
+                    answerStringText = AutoConstants.TURN_OFF_CONFIRM+AutoConstants.DOT;
+                }
+                else if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.CONFIRMATION_NO))
+                {
+                    newState = STATE_MACHINE_STATE_0;
+                    answerStringSound = AutoConstants.TURN_OFF_ABORT;
+                    answerStringText = AutoConstants.TURN_OFF_ABORT+AutoConstants.DOT;
+                    reset();
+                    addCommand(AutoConstants.VOICE_RECOGNITION_MANAGER_NAME, ActionHandlingConstants.ACTION_VOICE_RECOGNITION_ABORT);
+                }
+                break;
+
+            case STATE_MACHINE_STATE_2:
+                if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.CONFIRMATION_YES))
+                {
+                    newState = STATE_MACHINE_STATE_5;
+                    answerStringSound = AutoConstants.SHUTDOWN_CONFIRM;
+                    answerStringText = AutoConstants.SHUTDOWN_CONFIRM+AutoConstants.DOT;
+                }
+                else if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.CONFIRMATION_NO))
+                {
+                    newState = STATE_MACHINE_STATE_0;
+                    answerStringSound = AutoConstants.SHUTDOWN_ABORT;
+                    answerStringText = AutoConstants.SHUTDOWN_ABORT+AutoConstants.DOT;
+                    reset();
+                    addCommand(AutoConstants.VOICE_RECOGNITION_MANAGER_NAME, ActionHandlingConstants.ACTION_VOICE_RECOGNITION_ABORT);
+                }
+                break;
+
+            case STATE_MACHINE_STATE_3:
+                if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.CONFIRMATION_YES))
+                {
+                    newState = STATE_MACHINE_STATE_6;
+                    answerStringSound = AutoConstants.REBOOT_CONFIRM;
+                    answerStringText = AutoConstants.REBOOT_CONFIRM+AutoConstants.DOT;
+                }
+                else if(input.toLowerCase(Locale.ROOT).contains(AutoConstants.CONFIRMATION_NO))
+                {
+                    newState = STATE_MACHINE_STATE_0;
+                    answerStringSound = AutoConstants.REBOOT_ABORT;
+                    answerStringText = AutoConstants.REBOOT_ABORT+AutoConstants.DOT;
+                    reset();
+                    addCommand(AutoConstants.VOICE_RECOGNITION_MANAGER_NAME, ActionHandlingConstants.ACTION_VOICE_RECOGNITION_ABORT);
+                }
+                break;
+
+            case STATE_MACHINE_STATE_4:
+                newState = STATE_MACHINE_STATE_0;
+                answerStringSound = AutoConstants.TURN_OFF_CONFIRMATION;
+                answerStringText = AutoConstants.TURN_OFF_CONFIRMATION+AutoConstants.DOT;
+                addCommand(AutoConstants.ACTION_QUEUE_MANAGER_NAME, ActionHandlingConstants.TURN_OFF_ACTION);
+                break;
+
+            case STATE_MACHINE_STATE_5:
+                newState = STATE_MACHINE_STATE_0;
+                answerStringSound = AutoConstants.SHUTDOWN_CONFIRMATION_TEXT;
+                answerStringText = AutoConstants.SHUTDOWN_CONFIRMATION_TEXT+AutoConstants.DOT;
+                addCommand(AutoConstants.ACTION_QUEUE_MANAGER_NAME, ActionHandlingConstants.SHUTDOWN_ACTION);
+                break;
+
+            case STATE_MACHINE_STATE_6:
+                newState = STATE_MACHINE_STATE_0;
+                answerStringSound = AutoConstants.REBOOT_CONFIRMATION;
+                answerStringText = AutoConstants.REBOOT_CONFIRMATION+AutoConstants.DOT;
+                addCommand(AutoConstants.ACTION_QUEUE_MANAGER_NAME, ActionHandlingConstants.REBOOT_ACTION);
+                break;
+        }
+        if(answerStringSound.length() > MINIMUM_ANSWER_LENGTH)
+        {
+            this.sounds.add(answerStringSound);
+            this.texts.add(answerStringText);
+        }
+        return newState;
+    }
+
+    /**
+     * Method for resetting the dialogue, the state machines get a new copy of the default states
+     * @author Philipp Schulz
+     */
+    private void reset()
+    {
+        this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
+        this.dialogueActive = DIALOGUE_INACTIVE;
+        this.stateMachines = STATE_MACHINES_DEFAULT.clone();
+    }
+
+    /**
+     * Method for recording a command that would be sent to another component
+     * @param targetName Name of the target component
+     * @param opcode Opcode of the action
+     * @author Philipp Schulz
+     */
+    private void addCommand(String targetName, int opcode)
+    {
+        this.commands.add(targetName+COMMAND_SEPARATOR+opcode);
+    }
+}
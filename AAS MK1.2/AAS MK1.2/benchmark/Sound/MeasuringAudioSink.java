@@ -0,0 +1,187 @@
+package benchmark.Sound;
+
+import benchmark.Constants.Sound.MeasuringAudioSinkConstants;
+import model.Metrics.LatencyHistogram;
+import model.Sound.AudioSink;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Sink for the SoundOutputBenchmark that passes the PCM stream on to another sink and measures it on the way
+ * Measures the time of the first sample, the number of written bytes and every gap in the stream, a gap is the time
+ * the speaker would have been silent because the next data arrived after everything before it was played
+ * The measurements are written by the thread of the sound output and read by the benchmark thread
+ * @author Philipp Schulz
+ */
+public class MeasuringAudioSink implements MeasuringAudioSinkConstants, AudioSink
+{
+    // objects of all required components of MeasuringAudioSink
+    private final AudioSink audioSink;
+    private volatile LatencyHistogram gaps;
+    // local fields
+    private volatile boolean restarted;
+    private volatile long firstSampleTime;
+    private volatile long writtenBytes;
+    private long byteRate;
+    private long playbackEndTime;
+
+    /**
+     * Constructor of the MeasuringAudioSink class
+     * @param audioSink Sink that receives the PCM stream
+     * @author Philipp Schulz
+     */
+    public MeasuringAudioSink(AudioSink audioSink)
+    {
+        // initialize local fields
+        this.audioSink = audioSink;
+        this.byteRate = NO_BYTES;
+        this.playbackEndTime = NO_TIME;
+        reset();
+    }
+
+    /**
+     * Method for starting a new measurement, must only be called while the sound output is idle
+     * @author Philipp Schulz
+     */
+    public void reset()
+    {
+        this.gaps = new LatencyHistogram();
+        this.firstSampleTime = NO_TIME;
+        this.writtenBytes = NO_BYTES;
+        this.restarted = true;
+    }
+
+    /**
+     * Method for getting the time the first sample of the current measurement was written
+     * @return Time of the first sample in [ns] of System.nanoTime, 0 if nothing was written yet
+     * @author Philipp Schulz
+     */
+    public long getFirstSampleTime()
+    {
+        return this.firstSampleTime;
+    }
+
+    /**
+     * Method for getting the number of bytes that were written during the current measurement
+     * @return Number of written bytes
+     * @author Philipp Schulz
+     */
+    public long getWrittenBytes()
+    {
+        return this.writtenBytes;
+    }
+
+    /**
+     * Method for getting all gaps in the stream during the current measurement
+     * @return Histogram of the gaps in [ns]
+     * @author Philipp Schulz
+     */
+    public LatencyHistogram getGaps()
+    {
+        return this.gaps;
+    }
+
+    /**
+     * Method for passing the choice of the output device on
+     * @param description Description of the output device
+     * @author Philipp Schulz
+     */
+    public void selectDevice(String description)
+    {
+        this.audioSink.selectDevice(description);
+    }
+
+    /**
+     * Method for opening the sink, the stream starts again afterwards
+     * @param format Format of the PCM data
+     * @return True if the sink was opened
+     * @author Philipp Schulz
+     */
+    public boolean open(AudioFormat format)
+    {
+        this.byteRate = (long) (format.getFrameRate()*format.getFrameSize());
+        this.restarted = true;
+        return this.audioSink.open(format);
+    }
+
+    /**
+     * Method for getting the format the sink was opened with
+     * @return Format of the open sink, null if the sink is closed
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return this.audioSink.getFormat();
+    }
+
+    /**
+     * Method for measuring PCM data and passing it on
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @author Philipp Schulz
+     */
+    public void write(byte[] data, int offset, int length)
+    {
+        long now = System.nanoTime();
+        if(this.restarted)
+        {
+            // the first data of a measurement or of a new format can not arrive too late
+            this.restarted = false;
+            this.playbackEndTime = now;
+            if(this.firstSampleTime == NO_TIME)
+            {
+                this.firstSampleTime = now;
+            }
+        }
+        else if(now > this.playbackEndTime)
+        {
+            // everything before was already played, the speaker was silent until now
+            this.gaps.record(now - this.playbackEndTime);
+            this.playbackEndTime = now;
+        }
+        // the new data is played after everything that was written before
+        this.playbackEndTime += length*NANOSECONDS_PER_SECOND/this.byteRate;
+        this.writtenBytes += length;
+        this.audioSink.write(data, offset, length);
+    }
+
+    /**
+     * Method for passing the end of a sentence on
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @author Philipp Schulz
+     */
+    public void endUtterance(String voice, String sentence)
+    {
+        this.audioSink.endUtterance(voice, sentence);
+    }
+
+    /**
+     * Method for getting the number of bytes that were played by the sink
+     * @return Number of played bytes since the sink was opened
+     * @author Philipp Schulz
+     */
+    public long getPlayedBytes()
+    {
+        return this.audioSink.getPlayedBytes();
+    }
+
+    /**
+     * Method for waiting until the sink played everything
+     * @author Philipp Schulz
+     */
+    public void drain()
+    {
+        this.audioSink.drain();
+    }
+
+    /**
+     * Method for closing the sink
+     * @author Philipp Schulz
+     */
+    public void close()
+    {
+        this.audioSink.close();
+    }
+}
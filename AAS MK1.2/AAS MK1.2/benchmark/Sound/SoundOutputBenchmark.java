@@ -0,0 +1,348 @@
+package benchmark.Sound;
+
+import benchmark.Constants.Sound.SoundOutputBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import model.Metrics.LatencyHistogram;
+import model.Sound.AudioSink;
+import model.Sound.NullAudioSink;
+import model.Sound.Sound;
+import model.Sound.SoundOutputListener;
+import model.Sound.WavFileSink;
+import model.StateBus.StateBus;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the complete sound output without sound card, sentences are queued like the SoundManager does and
+ * played on the sinks of the offline backends
+ * Measures the rendering time per word and the time to the first sample with the null sink, the delay and the gaps
+ * in the stream with the real-time null sink and checks that the WAV renderer writes one file per sentence
+ * The words are generated as tones into a temporary directory, so no sound files of the voices are required
+ * @author Philipp Schulz
+ */
+public class SoundOutputBenchmark implements SoundOutputBenchmarkConstants, SoundOutputListener
+{
+    // local fields
+    private final File directory;
+    private final String voicePath;
+    private final String[] words;
+    private final Semaphore finishedPlaybacks;
+    private final int warmupRounds;
+    private final int measurementRounds;
+    private final int firstSampleRepetitions;
+    private final double byteRate;
+
+    /**
+     * Constructor of the SoundOutputBenchmark class, settings can be overridden via system properties
+     * @param directory Empty directory the generated voice is written to
+     * @author Philipp Schulz
+     */
+    public SoundOutputBenchmark(File directory)
+    {
+        // initialize local fields
+        this.directory = directory;
+        this.voicePath = new File(directory, VOICE).getPath() + SEPARATOR;
+        this.words = new String[WORD_COUNT];
+        for(int i = 0; i < WORD_COUNT; i++)
+        {
+            this.words[i] = WORD_PREFIX + i;
+        }
+        this.finishedPlaybacks = new Semaphore(0);
+        this.warmupRounds = Integer.getInteger(PROPERTY_WARMUP_ROUNDS, DEFAULT_WARMUP_ROUNDS);
+        this.measurementRounds = Integer.getInteger(PROPERTY_MEASUREMENT_ROUNDS, DEFAULT_MEASUREMENT_ROUNDS);
+        this.firstSampleRepetitions = Integer.getInteger(PROPERTY_FIRST_SAMPLE_REPETITIONS, DEFAULT_FIRST_SAMPLE_REPETITIONS);
+        this.byteRate = SAMPLE_RATE*CHANNELS*SAMPLE_SIZE/Byte.SIZE;
+    }
+
+    /**
+     * Main method, generates the voice in a temporary directory and runs the benchmark
+     * @param args Arguments given during call of the program, not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        File directory = null;
+        try
+        {
+            directory = Files.createTempDirectory(TEMPORARY_DIRECTORY_PREFIX).toFile();
+            SoundOutputBenchmark benchmark = new SoundOutputBenchmark(directory);
+            benchmark.generateVoice();
+            benchmark.run(new MicroBenchmark());
+        }
+        catch(IOException e)
+        {
+            System.out.println(ERROR_SETUP + e.getMessage());
+        }
+        catch(InterruptedException e)
+        {
+            System.out.println(ERROR_INTERRUPTED);
+        }
+        finally
+        {
+            // remove the generated voice and the rendered files again
+            if(directory != null)
+            {
+                WordLoadingBenchmark.deleteDirectory(directory);
+            }
+        }
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness, used to save the results
+     * @throws InterruptedException If the benchmark was interrupted while waiting for the sound output
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark) throws InterruptedException
+    {
+        microBenchmark.printHeader();
+        // the null sink consumes everything at once, the sound output runs as fast as it can render
+        MeasuringAudioSink nullSink = new MeasuringAudioSink(new NullAudioSink());
+        Sound nullSound = startSound(nullSink);
+        measureThroughput(microBenchmark, nullSound, nullSink);
+        measureFirstSample(microBenchmark, nullSound, nullSink);
+        nullSound.setAlive(false);
+        // the real-time null sink consumes like a sound card, late data leaves gaps in the stream
+        MeasuringAudioSink realtimeSink = new MeasuringAudioSink(new NullAudioSink(true));
+        Sound realtimeSound = startSound(realtimeSink);
+        measureRealtime(microBenchmark, realtimeSound, realtimeSink);
+        realtimeSound.setAlive(false);
+        // every sentence must end up in its own WAV file
+        verifyWavRendering();
+    }
+
+    /**
+     * Method for writing all words as sound files of the voice
+     * @throws IOException If a sound file could not be written
+     * @author Philipp Schulz
+     */
+    public void generateVoice() throws IOException
+    {
+        File voice = new File(this.directory, VOICE);
+        if(!voice.mkdir())
+        {
+            throw new IOException(voice.getPath());
+        }
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, SAMPLE_SIZE, CHANNELS, SIGNED, BIG_ENDIAN);
+        for(int i = 0; i < WORD_COUNT; i++)
+        {
+            WordLoadingBenchmark.writeSoundFile(format, WordLoadingBenchmark.generateTone(i), new File(voice, this.words[i] + FILE_FORMAT));
+        }
+    }
+
+    /**
+     * Method for counting a sentence that was played, not used by the benchmark
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @author Philipp Schulz
+     */
+    public void handleSentenceFinished(String voice, String sentence)
+    {
+        // only the end of the playback is waited for
+    }
+
+    /**
+     * Method for waking up the benchmark thread after all queued sentences were played
+     * @author Philipp Schulz
+     */
+    public void handlePlaybackFinished()
+    {
+        this.finishedPlaybacks.release();
+    }
+
+    /**
+     * Method for measuring the rendering time per word while the sink does not limit the speed
+     * @param microBenchmark Instance of the benchmark harness, used to save the results
+     * @param sound Sound output with the null sink
+     * @param sink Measuring sink of the sound output
+     * @throws InterruptedException If the benchmark was interrupted while waiting for the sound output
+     * @author Philipp Schulz
+     */
+    private void measureThroughput(MicroBenchmark microBenchmark, Sound sound, MeasuringAudioSink sink) throws InterruptedException
+    {
+        long totalTime = 0;
+        long totalBytes = 0;
+        for(int round = 0; round < this.warmupRounds + this.measurementRounds; round++)
+        {
+            sink.reset();
+            long start = System.nanoTime();
+            for(int sentence = 0; sentence < BATCH_SENTENCES; sentence++)
+            {
+                sound.addTextToOutputQueue(SOURCE, createSentence(round*BATCH_SENTENCES + sentence, WORDS_PER_SENTENCE, WORD_MASK));
+            }
+            awaitPlayback(sound);
+            // results of the warmup rounds are discarded
+            if(round >= this.warmupRounds)
+            {
+                totalTime += System.nanoTime() - start;
+                totalBytes += sink.getWrittenBytes();
+            }
+        }
+        double nanosPerWord = (double) totalTime/((long) this.measurementRounds*BATCH_SENTENCES*WORDS_PER_SENTENCE);
+        double realtimeFactor = totalBytes/this.byteRate*NANOSECONDS_PER_SECOND/totalTime;
+        System.out.printf(RESULT_THROUGHPUT, BENCHMARK_THROUGHPUT, nanosPerWord, NANOSECONDS_PER_SECOND/nanosPerWord, realtimeFactor);
+        microBenchmark.recordResult(BENCHMARK_THROUGHPUT, nanosPerWord);
+    }
+
+    /**
+     * Method for measuring the time between queueing a single sentence and writing its first sample into the sink
+     * @param microBenchmark Instance of the benchmark harness, used to save the results
+     * @param sound Sound output with the null sink
+     * @param sink Measuring sink of the sound output
+     * @throws InterruptedException If the benchmark was interrupted while waiting for the sound output
+     * @author Philipp Schulz
+     */
+    private void measureFirstSample(MicroBenchmark microBenchmark, Sound sound, MeasuringAudioSink sink) throws InterruptedException
+    {
+        LatencyHistogram firstSampleTimes = new LatencyHistogram();
+        for(int repetition = 0; repetition < this.firstSampleRepetitions; repetition++)
+        {
+            sink.reset();
+            long start = System.nanoTime();
+            sound.addTextToOutputQueue(SOURCE, createSentence(repetition, WORDS_PER_SENTENCE, WORD_MASK));
+            awaitPlayback(sound);
+            firstSampleTimes.record(sink.getFirstSampleTime() - start);
+        }
+        double median = firstSampleTimes.getValueAtPercentile(PERCENTILE_MEDIAN);
+        System.out.printf(RESULT_FIRST_SAMPLE, BENCHMARK_FIRST_SAMPLE, median,
+                firstSampleTimes.getValueAtPercentile(PERCENTILE_TAIL)/NANOSECONDS_PER_MILLISECOND,
+                firstSampleTimes.getMaximum()/NANOSECONDS_PER_MILLISECOND, firstSampleTimes.getCount());
+        microBenchmark.recordResult(BENCHMARK_FIRST_SAMPLE, median);
+    }
+
+    /**
+     * Method for measuring how much later than the audio itself the sentences finish when played in real time, caused
+     * by the time to the first sample and the gaps between the words
+     * @param microBenchmark Instance of the benchmark harness, used to save the results
+     * @param sound Sound output with the real-time null sink
+     * @param sink Measuring sink of the sound output
+     * @throws InterruptedException If the benchmark was interrupted while waiting for the sound output
+     * @author Philipp Schulz
+     */
+    private void measureRealtime(MicroBenchmark microBenchmark, Sound sound, MeasuringAudioSink sink) throws InterruptedException
+    {
+        // load all words once, reading them from disk for the first time is not measured
+        sound.addTextToOutputQueue(SOURCE, createSentence(0, SHORT_WORD_MASK + 1, SHORT_WORD_MASK));
+        awaitPlayback(sound);
+        // queue the sentences at once, the speaker must never wait for the next word
+        sink.reset();
+        long start = System.nanoTime();
+        for(int sentence = 0; sentence < REALTIME_SENTENCES; sentence++)
+        {
+            sound.addTextToOutputQueue(SOURCE, createSentence(sentence, REALTIME_WORDS_PER_SENTENCE, SHORT_WORD_MASK));
+        }
+        awaitPlayback(sound);
+        long elapsedTime = System.nanoTime() - start;
+        long audioTime = (long) (sink.getWrittenBytes()/this.byteRate*NANOSECONDS_PER_SECOND);
+        double overheadPerSentence = (double) (elapsedTime - audioTime)/REALTIME_SENTENCES;
+        LatencyHistogram gaps = sink.getGaps();
+        System.out.printf(RESULT_REALTIME, BENCHMARK_REALTIME_OVERHEAD, overheadPerSentence,
+                (sink.getFirstSampleTime() - start)/NANOSECONDS_PER_MILLISECOND, gaps.getCount(),
+                gaps.getMean()/NANOSECONDS_PER_MILLISECOND, gaps.getMaximum()/NANOSECONDS_PER_MILLISECOND);
+        microBenchmark.recordResult(BENCHMARK_REALTIME_OVERHEAD, overheadPerSentence);
+    }
+
+    /**
+     * Method for checking that the WAV renderer writes every sentence into its own file
+     * @throws InterruptedException If the benchmark was interrupted while waiting for the sound output
+     * @author Philipp Schulz
+     */
+    private void verifyWavRendering() throws InterruptedException
+    {
+        File wavDirectory = new File(this.directory, WAV_DIRECTORY);
+        Sound sound = startSound(new WavFileSink(wavDirectory));
+        for(int sentence = 0; sentence < WAV_SENTENCES; sentence++)
+        {
+            sound.addTextToOutputQueue(SOURCE, createSentence(sentence, WORDS_PER_SENTENCE, WORD_MASK));
+        }
+        awaitPlayback(sound);
+        sound.setAlive(false);
+        // every file must be a readable WAV file
+        File[] files = wavDirectory.listFiles();
+        int fileCount = (files == null) ? 0 : files.length;
+        if(fileCount != WAV_SENTENCES)
+        {
+            throw new IllegalStateException(String.format(ERROR_WAV, WAV_SENTENCES, fileCount));
+        }
+        long totalFrames = 0;
+        for(File file : files)
+        {
+            try
+            {
+                AudioFileFormat fileFormat = AudioSystem.getAudioFileFormat(file);
+                totalFrames += fileFormat.getFrameLength();
+            }
+            catch(UnsupportedAudioFileException | IOException e)
+            {
+                throw new IllegalStateException(file.getPath(), e);
+            }
+        }
+        System.out.printf(RESULT_WAV, fileCount, totalFrames/SAMPLE_RATE);
+    }
+
+    /**
+     * Method for creating a sound output on a sink and starting its threads
+     * @param audioSink Sink the sound output plays on
+     * @return Started sound output, must be stopped with setAlive(false)
+     * @author Philipp Schulz
+     */
+    private Sound startSound(AudioSink audioSink)
+    {
+        Sound sound = new Sound(new StateBus(), audioSink);
+        sound.addSoundOutputListener(this);
+        // the path of GLaDOS also marks the sound output as initialized
+        sound.setAutoSoundPath(this.voicePath);
+        sound.setGladosSoundPath(this.voicePath);
+        sound.initialize();
+        return sound;
+    }
+
+    /**
+     * Method for waiting until all queued sentences were played
+     * @param sound Sound output the sentences were queued in
+     * @throws InterruptedException If the benchmark was interrupted while waiting
+     * @author Philipp Schulz
+     */
+    private void awaitPlayback(Sound sound) throws InterruptedException
+    {
+        // the playback may finish several times if the sound output is faster than the sentences are queued
+        while(!sound.getPlaybackFinished())
+        {
+            if(!this.finishedPlaybacks.tryAcquire(PLAYBACK_TIMEOUT, TimeUnit.MILLISECONDS))
+            {
+                throw new IllegalStateException(ERROR_TIMEOUT + PLAYBACK_TIMEOUT);
+            }
+        }
+        this.finishedPlaybacks.drainPermits();
+    }
+
+    /**
+     * Method for creating a sentence of generated words
+     * @param firstWord Index of the first word, the following words are taken in order
+     * @param numberOfWords Number of words of the sentence
+     * @param wordMask Mask that selects the words that are used
+     * @return Sentence with the words separated by spaces
+     * @author Philipp Schulz
+     */
+    private String createSentence(int firstWord, int numberOfWords, int wordMask)
+    {
+        StringBuilder sentence = new StringBuilder();
+        for(int i = 0; i < numberOfWords; i++)
+        {
+            if(i > 0)
+            {
+                sentence.append(SPACE);
+            }
+            sentence.append(this.words[(firstWord + i) & wordMask]);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,215 @@
+package benchmark.Sound;
+
+import benchmark.Constants.Sound.WordLoadingBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import model.Sound.VoiceBank;
+import model.Sound.VoiceBankBuilder;
+import model.Sound.WordSample;
+import model.Sound.WordSampleCache;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Benchmark that compares loading single words from sound files, from a voice bank and from the WordSampleCache
+ * The words are generated as tones into a temporary directory, so no sound files of the voices and no audio hardware
+ * are required, nothing is played
+ * @author Philipp Schulz
+ */
+public class WordLoadingBenchmark implements WordLoadingBenchmarkConstants
+{
+    // local fields
+    private final File directory;
+    private final String filePath;
+    private final String bankPath;
+    private final String[] words;
+
+    /**
+     * Constructor of the WordLoadingBenchmark class
+     * @param directory Empty directory the generated voices are written to
+     * @author Philipp Schulz
+     */
+    public WordLoadingBenchmark(File directory)
+    {
+        // initialize local fields
+        this.directory = directory;
+        this.filePath = new File(directory, FILE_VOICE).getPath() + SEPARATOR;
+        this.bankPath = new File(directory, BANK_VOICE).getPath() + SEPARATOR;
+        this.words = new String[WORD_COUNT];
+        for(int i = 0; i < WORD_COUNT; i++)
+        {
+            this.words[i] = WORD_PREFIX + i;
+        }
+    }
+
+    /**
+     * Main method, generates the voices in a temporary directory and runs the benchmark
+     * @param args Arguments given during call of the program, not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        File directory = null;
+        try
+        {
+            directory = Files.createTempDirectory(TEMPORARY_DIRECTORY_PREFIX).toFile();
+            WordLoadingBenchmark benchmark = new WordLoadingBenchmark(directory);
+            benchmark.generateVoices();
+            benchmark.run(new MicroBenchmark());
+        }
+        catch(IOException e)
+        {
+            System.out.println(ERROR_SETUP + e.getMessage());
+        }
+        finally
+        {
+            // remove the generated voices again
+            if(directory != null)
+            {
+                deleteDirectory(directory);
+            }
+        }
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark)
+    {
+        // a cache without space reads every word again, the voice bank is only used for the voice that has one
+        WordSampleCache diskCache = new WordSampleCache(UNCACHED);
+        WordSampleCache bankCache = new WordSampleCache(UNCACHED);
+        WordSampleCache wordSampleCache = new WordSampleCache();
+        // make sure that all sources deliver the same words, this also fills the cache
+        verifyWords(diskCache, bankCache, wordSampleCache);
+        // measure all sources
+        microBenchmark.printHeader();
+        double diskScore = microBenchmark.measure(BENCHMARK_DISK,
+                invocation -> diskCache.getWordSample(this.filePath, this.words[invocation & WORD_MASK]).getSize());
+        double bankScore = microBenchmark.measure(BENCHMARK_BANK,
+                invocation -> bankCache.getWordSample(this.bankPath, this.words[invocation & WORD_MASK]).getSize());
+        double cacheScore = microBenchmark.measure(BENCHMARK_CACHE,
+                invocation -> wordSampleCache.getWordSample(this.filePath, this.words[invocation & WORD_MASK]).getSize());
+        System.out.printf(RESULT_SPEEDUP, diskScore/cacheScore, bankScore/cacheScore);
+    }
+
+    /**
+     * Method for writing all words as sound files of both voices and packing the second voice into a voice bank
+     * @throws IOException If a sound file or the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    public void generateVoices() throws IOException
+    {
+        File fileVoice = new File(this.directory, FILE_VOICE);
+        File bankVoice = new File(this.directory, BANK_VOICE);
+        if(!fileVoice.mkdir() || !bankVoice.mkdir())
+        {
+            throw new IOException(this.directory.getPath());
+        }
+        AudioFormat format = new AudioFormat(SAMPLE_RATE, SAMPLE_SIZE, CHANNELS, SIGNED, BIG_ENDIAN);
+        for(int i = 0; i < WORD_COUNT; i++)
+        {
+            byte[] data = generateTone(i);
+            writeSoundFile(format, data, new File(fileVoice, this.words[i] + FILE_FORMAT));
+            writeSoundFile(format, data, new File(bankVoice, this.words[i] + FILE_FORMAT));
+        }
+        new VoiceBankBuilder().buildVoiceBank(bankVoice, new File(VoiceBank.getBankPath(this.bankPath)));
+    }
+
+    /**
+     * Method for checking that the sound files, the voice bank and the cache deliver the same PCM data for all words
+     * @param diskCache Cache that reads the sound files
+     * @param bankCache Cache that reads the voice bank
+     * @param wordSampleCache Cache that keeps the words
+     * @author Philipp Schulz
+     */
+    private void verifyWords(WordSampleCache diskCache, WordSampleCache bankCache, WordSampleCache wordSampleCache)
+    {
+        for(String word : this.words)
+        {
+            WordSample diskSample = diskCache.getWordSample(this.filePath, word);
+            WordSample bankSample = bankCache.getWordSample(this.bankPath, word);
+            WordSample cachedSample = wordSampleCache.getWordSample(this.filePath, word);
+            if(diskSample == null || bankSample == null || cachedSample == null ||
+                    !Arrays.equals(diskSample.getData(), bankSample.getData()) || !Arrays.equals(diskSample.getData(), cachedSample.getData()))
+            {
+                throw new IllegalStateException(ERROR_MISMATCH + word);
+            }
+        }
+    }
+
+    /**
+     * Method for generating the PCM data of a word, every word has its own length and frequency
+     * Also used by the SoundOutputBenchmark
+     * @param wordIndex Index of the word
+     * @return PCM data of the word
+     * @author Philipp Schulz
+     */
+    static byte[] generateTone(int wordIndex)
+    {
+        int frames = MINIMUM_FRAMES + wordIndex*FRAMES_PER_WORD_INDEX;
+        double frequency = BASE_FREQUENCY + wordIndex*FREQUENCY_STEP;
+        byte[] data = new byte[frames*BYTES_PER_SAMPLE];
+        for(int frame = 0; frame < frames; frame++)
+        {
+            short sample = (short) (AMPLITUDE*Math.sin(2*Math.PI*frequency*frame/SAMPLE_RATE));
+            // little endian, lowest byte first
+            data[frame*BYTES_PER_SAMPLE] = (byte) (sample & BYTE_MASK);
+            data[frame*BYTES_PER_SAMPLE + 1] = (byte) ((sample >> BITS_PER_BYTE) & BYTE_MASK);
+        }
+        return data;
+    }
+
+    /**
+     * Method for writing PCM data as WAV file
+     * @param format Format of the PCM data
+     * @param data PCM data
+     * @param file File that should be written
+     * @throws IOException If the file could not be written
+     * @author Philipp Schulz
+     */
+    static void writeSoundFile(AudioFormat format, byte[] data, File file) throws IOException
+    {
+        try(AudioInputStream stream = new AudioInputStream(new ByteArrayInputStream(data), format, data.length/format.getFrameSize()))
+        {
+            AudioSystem.write(stream, AudioFileFormat.Type.WAVE, file);
+        }
+    }
+
+    /**
+     * Method for deleting a directory with all its contents
+     * @param directory Directory that should be deleted
+     * @author Philipp Schulz
+     */
+    static void deleteDirectory(File directory)
+    {
+        File[] files = directory.listFiles();
+        if(files != null)
+        {
+            for(File file : files)
+            {
+                if(file.isDirectory())
+                {
+                    deleteDirectory(file);
+                }
+                else if(!file.delete())
+                {
+                    file.deleteOnExit();
+                }
+            }
+        }
+        if(!directory.delete())
+        {
+            directory.deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package benchmark.Util;
+
+/**
+ * Interface for a single operation that is measured by the MicroBenchmark class
+ * @author Philipp Schulz
+ */
+public interface BenchmarkOperation
+{
+    /**
+     * Method that executes the measured operation once
+     * @param invocation Number of the current invocation, can be used to select the input of the operation
+     * @return Any result of the operation, consumed by the MicroBenchmark so that it can not be optimized away
+     * @author Philipp Schulz
+     */
+    long execute(int invocation);
+}
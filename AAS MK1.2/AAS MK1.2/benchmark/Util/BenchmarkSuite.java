@@ -0,0 +1,265 @@
+package benchmark.Util;
+
+import benchmark.Constants.Util.BenchmarkSuiteConstants;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runner for all benchmark suites of the hot paths of AAS, runs headless without audio hardware and without GPIO
+ * Every suite runs in its own JVM (like a fork of JMH), so the JIT compiler of one suite does not influence the next
+ * All scores are collected in a result file, which can be kept as baseline and compared with later runs
+ * Usage from the program directory: java -cp [classpath] [-Dbenchmark.baseline=file] benchmark.Util.BenchmarkSuite [suites]
+ * @author Philipp Schulz
+ */
+public class BenchmarkSuite implements BenchmarkSuiteConstants
+{
+    // local fields
+    private final File resultFile;
+    private final String baselineFile;
+    private final double regressionThreshold;
+
+    /**
+     * Constructor of the BenchmarkSuite class, settings can be overridden via system properties
+     * @author Philipp Schulz
+     */
+    public BenchmarkSuite()
+    {
+        // initialize local fields
+        this.resultFile = new File(System.getProperty(PROPERTY_RESULTS, DEFAULT_RESULTS)).getAbsoluteFile();
+        this.baselineFile = System.getProperty(PROPERTY_BASELINE);
+        this.regressionThreshold = Double.parseDouble(System.getProperty(PROPERTY_THRESHOLD, Double.toString(DEFAULT_REGRESSION_THRESHOLD)));
+    }
+
+    /**
+     * Main method, runs the given suites or all suites if none are given
+     * @param args Simple class names of the suites that should be run, e.g. IdManagerBenchmark
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        System.exit(new BenchmarkSuite().run(args) ? EXIT_SUCCESS : EXIT_FAILURE);
+    }
+
+    /**
+     * Method for running the suites and comparing the results with the baseline
+     * @param suiteNames Simple class names of the suites that should be run, all suites if empty
+     * @return True if all suites ran successfully and no score got slower than the baseline
+     * @author Philipp Schulz
+     */
+    public boolean run(String[] suiteNames)
+    {
+        List<Class<?>> suites = selectSuites(suiteNames);
+        if(suites == null)
+        {
+            return false;
+        }
+        // start with an empty result file, every suite appends its scores
+        if(this.resultFile.exists() && !this.resultFile.delete())
+        {
+            System.out.println(ERROR_DELETE + this.resultFile);
+            return false;
+        }
+        int failedSuites = 0;
+        for(Class<?> suite : suites)
+        {
+            System.out.printf(SUITE_HEADER, suite.getSimpleName());
+            if(!runSuite(suite))
+            {
+                failedSuites++;
+            }
+        }
+        // compare the scores with the baseline
+        Map<String, Double> results = readResults(this.resultFile);
+        int regressions = 0;
+        if(this.baselineFile != null)
+        {
+            regressions = compareWithBaseline(results, readResults(new File(this.baselineFile)));
+        }
+        else
+        {
+            System.out.println(RESULT_NO_BASELINE);
+        }
+        System.out.printf(RESULT_SUMMARY, suites.size(), failedSuites, results.size(), this.resultFile, regressions);
+        return failedSuites == 0 && regressions == 0;
+    }
+
+    /**
+     * Method for finding the suites with the given names
+     * @param suiteNames Simple class names of the suites, all suites if empty
+     * @return List of the suites, null if a name is not known
+     * @author Philipp Schulz
+     */
+    private List<Class<?>> selectSuites(String[] suiteNames)
+    {
+        if(suiteNames.length == 0)
+        {
+            return Arrays.asList(SUITES);
+        }
+        List<Class<?>> suites = new ArrayList<>();
+        List<String> availableSuites = new ArrayList<>();
+        for(Class<?> suite : SUITES)
+        {
+            availableSuites.add(suite.getSimpleName());
+        }
+        for(String suiteName : suiteNames)
+        {
+            int index = availableSuites.indexOf(suiteName);
+            if(index < 0)
+            {
+                System.out.printf(ERROR_UNKNOWN_SUITE, suiteName, availableSuites);
+                return null;
+            }
+            suites.add(SUITES[index]);
+        }
+        return suites;
+    }
+
+    /**
+     * Method for running a suite in its own JVM with the same class path and all benchmark settings of this JVM
+     * @param suite Class of the suite, must have a main method
+     * @return True if the suite finished successfully
+     * @author Philipp Schulz
+     */
+    private boolean runSuite(Class<?> suite)
+    {
+        List<String> command = new ArrayList<>();
+        command.add(new File(System.getProperty(PROPERTY_JAVA_HOME), JAVA_EXECUTABLE).getPath());
+        command.add(CLASS_PATH_OPTION);
+        command.add(System.getProperty(PROPERTY_CLASS_PATH));
+        command.add(HEADLESS_OPTION);
+        // pass on the settings of the harness and the suites, the settings of this runner are not needed
+        for(String property : System.getProperties().stringPropertyNames())
+        {
+            if(property.startsWith(PROPERTY_PREFIX) && !property.equals(PROPERTY_RESULTS) && !property.equals(PROPERTY_BASELINE) &&
+                    !property.equals(PROPERTY_THRESHOLD) && !property.equals(PROPERTY_RESULT_FILE))
+            {
+                command.add(String.format(PROPERTY_OPTION, property, System.getProperty(property)));
+            }
+        }
+        command.add(String.format(PROPERTY_OPTION, PROPERTY_RESULT_FILE, this.resultFile.getPath()));
+        command.add(suite.getName());
+        try
+        {
+            // the output of the suite is shown directly
+            int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+            if(exitCode != EXIT_SUCCESS)
+            {
+                System.out.printf(ERROR_SUITE_FAILED, suite.getSimpleName(), exitCode);
+                return false;
+            }
+            return true;
+        }
+        catch(IOException e)
+        {
+            System.out.printf(ERROR_FORK, suite.getSimpleName(), e.getMessage());
+            return false;
+        }
+        catch(InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            System.out.printf(ERROR_FORK, suite.getSimpleName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Method for printing the comparison of all scores with the baseline
+     * @param results Scores of this run
+     * @param baseline Scores of the baseline
+     * @return Number of scores that got slower than the regression threshold
+     * @author Philipp Schulz
+     */
+    private int compareWithBaseline(Map<String, Double> results, Map<String, Double> baseline)
+    {
+        int regressions = 0;
+        System.out.printf(COMPARISON_HEADER, this.baselineFile, this.regressionThreshold*PERCENT);
+        System.out.printf(COMPARISON_HEADER_FORMAT, (Object[]) COMPARISON_COLUMNS);
+        for(Map.Entry<String, Double> result : results.entrySet())
+        {
+            Double baselineScore = baseline.get(result.getKey());
+            if(baselineScore == null)
+            {
+                System.out.printf(NEW_FORMAT, result.getKey(), NO_VALUE, result.getValue(), NO_VALUE, STATUS_NEW);
+                continue;
+            }
+            // all scores are times, a higher score is slower
+            double change = result.getValue()/baselineScore - 1;
+            String status = STATUS_UNCHANGED;
+            if(change > this.regressionThreshold)
+            {
+                status = STATUS_REGRESSION;
+                regressions++;
+            }
+            else if(change < -this.regressionThreshold)
+            {
+                status = STATUS_IMPROVED;
+            }
+            System.out.printf(COMPARISON_FORMAT, result.getKey(), baselineScore, result.getValue(), change*PERCENT, status);
+        }
+        for(Map.Entry<String, Double> baselineScore : baseline.entrySet())
+        {
+            if(!results.containsKey(baselineScore.getKey()))
+            {
+                System.out.printf(MISSING_FORMAT, baselineScore.getKey(), baselineScore.getValue(), NO_VALUE, NO_VALUE, STATUS_MISSING);
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Method for reading the scores of a result file
+     * @param file Result file with one score per line
+     * @return Map of all scores in the order of the file, empty if the file could not be read
+     * @author Philipp Schulz
+     */
+    private Map<String, Double> readResults(File file)
+    {
+        Map<String, Double> results = new LinkedHashMap<>();
+        try(BufferedReader reader = new BufferedReader(new FileReader(file)))
+        {
+            String line;
+            while((line = reader.readLine()) != null)
+            {
+                String[] columns = line.split(COLUMN_SEPARATOR);
+                Double score = columns.length == RESULT_COLUMNS ? parseScore(columns[SCORE_COLUMN]) : null;
+                if(score == null)
+                {
+                    System.out.printf(ERROR_INVALID_LINE, file, line);
+                    continue;
+                }
+                results.put(columns[NAME_COLUMN], score);
+            }
+        }
+        catch(IOException e)
+        {
+            System.out.printf(ERROR_READ, file, e.getMessage());
+        }
+        return results;
+    }
+
+    /**
+     * Method for parsing the score of a line of a result file
+     * @param score String that contains the score
+     * @return Score in [ns], null if the String is no number
+     * @author Philipp Schulz
+     */
+    private Double parseScore(String score)
+    {
+        try
+        {
+            return Double.parseDouble(score);
+        }
+        catch(NumberFormatException e)
+        {
+            return null;
+        }
+    }
+}
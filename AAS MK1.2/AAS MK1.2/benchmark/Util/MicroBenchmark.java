@@ -0,0 +1,165 @@
+package benchmark.Util;
+
+import benchmark.Constants.Util.MicroBenchmarkConstants;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Minimal benchmark harness for the hot paths of AAS, runs headless and without any libraries
+ * Follows the structure of JMH: warmup iterations, measured iterations of fixed duration and a consumed result
+ * If a result file is given, every score is appended to it so the BenchmarkSuite can compare it with a baseline
+ * @author Philipp Schulz
+ */
+public class MicroBenchmark implements MicroBenchmarkConstants
+{
+    // local fields
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationTime;
+    private final String resultFile;
+    private long sink;
+
+    /**
+     * Constructor of the MicroBenchmark class, settings can be overridden via system properties
+     * @author Philipp Schulz
+     */
+    public MicroBenchmark()
+    {
+        // initialize local fields
+        this.warmupIterations = Integer.getInteger(PROPERTY_WARMUP_ITERATIONS, DEFAULT_WARMUP_ITERATIONS);
+        this.measurementIterations = Integer.getInteger(PROPERTY_MEASUREMENT_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS);
+        this.iterationTime = Long.getLong(PROPERTY_ITERATION_TIME, DEFAULT_ITERATION_TIME);
+        this.resultFile = System.getProperty(PROPERTY_RESULT_FILE);
+        this.sink = 0;
+    }
+
+    /**
+     * Method for printing the header of the result table
+     * @author Philipp Schulz
+     */
+    public void printHeader()
+    {
+        System.out.printf(HEADER_FORMAT, HEADER_NAME, HEADER_SCORE);
+    }
+
+    /**
+     * Method for measuring the average time of a single operation
+     * @param name Name of the benchmark that is printed with the result
+     * @param operation Operation that should be measured
+     * @return Average time of a single operation in [ns]
+     * @author Philipp Schulz
+     */
+    public double measure(String name, BenchmarkOperation operation)
+    {
+        // run the warmup iterations, results are discarded
+        for(int i = 0; i < this.warmupIterations; i++)
+        {
+            runIteration(operation);
+        }
+        // run the measured iterations
+        double[] scores = new double[this.measurementIterations];
+        long totalOperations = 0;
+        for(int i = 0; i < this.measurementIterations; i++)
+        {
+            long[] iterationResult = runIteration(operation);
+            scores[i] = (double) iterationResult[0] / iterationResult[1];
+            totalOperations += iterationResult[1];
+        }
+        // calculate mean, standard deviation and minimum
+        double mean = 0;
+        double minimum = Double.MAX_VALUE;
+        for(double score : scores)
+        {
+            mean += score;
+            minimum = Math.min(minimum, score);
+        }
+        mean /= scores.length;
+        double deviation = 0;
+        for(double score : scores)
+        {
+            deviation += (score - mean)*(score - mean);
+        }
+        deviation = Math.sqrt(deviation/scores.length);
+        // print the result
+        System.out.printf(RESULT_FORMAT, name, mean, deviation, minimum, totalOperations);
+        recordResult(name, mean);
+        return mean;
+    }
+
+    /**
+     * Method for saving a score in the result file, used for results that are not measured with this harness
+     * Nothing is saved if no result file was given
+     * @param name Name of the benchmark, must be unique within all suites
+     * @param score Score of the benchmark in [ns], lower is better
+     * @author Philipp Schulz
+     */
+    public void recordResult(String name, double score)
+    {
+        if(this.resultFile == null)
+        {
+            return;
+        }
+        // append the score, every suite runs in its own JVM and adds its results to the same file
+        try(PrintWriter writer = new PrintWriter(new FileWriter(this.resultFile, APPEND_RESULTS)))
+        {
+            // the decimal point must not depend on the language of the system, the file is parsed again
+            writer.printf(Locale.ROOT, RESULT_FILE_FORMAT, name, score);
+        }
+        catch(IOException e)
+        {
+            System.out.println(ERROR_RESULT_FILE + this.resultFile);
+        }
+    }
+
+    /**
+     * Method for consuming a result outside of a measured operation, prevents dead code elimination
+     * @param value Value that should be consumed
+     * @author Philipp Schulz
+     */
+    public void consume(long value)
+    {
+        this.sink += value;
+    }
+
+    /**
+     * Method for getting the consumed results, should be printed or checked once at the end of a benchmark
+     * @return Sum of all consumed results
+     * @author Philipp Schulz
+     */
+    public long getSink()
+    {
+        return this.sink;
+    }
+
+    /**
+     * Method for running a single iteration of the given operation
+     * @param operation Operation that should be measured
+     * @return Array with the elapsed time in [ns] and the number of executed operations
+     * @author Philipp Schulz
+     */
+    private long[] runIteration(BenchmarkOperation operation)
+    {
+        long result = 0;
+        long operations = 0;
+        long start = System.nanoTime();
+        long end = start + this.iterationTime*NANOSECONDS_PER_MILLISECOND;
+        long now;
+        // run batches of operations until the iteration time is over
+        do
+        {
+            for(int i = 0; i < OPERATIONS_PER_BATCH; i++)
+            {
+                result += operation.execute((int) (operations + i));
+            }
+            operations += OPERATIONS_PER_BATCH;
+            now = System.nanoTime();
+        }
+        while(now < end);
+        // consume the result of all operations
+        this.sink += result;
+        return new long[]{now - start, operations};
+    }
+}
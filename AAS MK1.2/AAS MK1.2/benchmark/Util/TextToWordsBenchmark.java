@@ -0,0 +1,229 @@
+package benchmark.Util;
+
+import benchmark.Constants.Util.TextToWordsBenchmarkConstants;
+import model.Util.UtilityFunctions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Benchmark that compares the single-pass tokenizer of UtilityFunctions with the previous conversion of text to words
+ * Runs a differential check against the previous conversion first, intentional fixes are counted separately
+ * The conversion of single numbers (numberToString) is measured on its own, it is used for every spoken number
+ * @author Philipp Schulz
+ */
+public class TextToWordsBenchmark implements TextToWordsBenchmarkConstants
+{
+    // local fields
+    private final ArrayList<String> reusedWords;
+
+    /**
+     * Constructor of the TextToWordsBenchmark class
+     * @author Philipp Schulz
+     */
+    public TextToWordsBenchmark()
+    {
+        // initialize local fields
+        this.reusedWords = new ArrayList<>();
+    }
+
+    /**
+     * Main method, runs the differential check and the benchmark
+     * @param args Arguments given during call of the program, not used
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        new TextToWordsBenchmark().run(new MicroBenchmark());
+    }
+
+    /**
+     * Method for running the differential check and all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark)
+    {
+        // make sure that both conversions deliver the same words
+        verifyOutputs();
+        // measure both conversions over the realistic sentences
+        microBenchmark.printHeader();
+        double legacyScore = microBenchmark.measure(BENCHMARK_LEGACY,
+                invocation -> LegacyTextToWords.extractSingleWordsFromText(SENTENCES[invocation & SENTENCE_MASK]).size());
+        double tokenizerScore = microBenchmark.measure(BENCHMARK_TOKENIZER,
+                invocation -> UtilityFunctions.extractSingleWordsFromText(SENTENCES[invocation & SENTENCE_MASK]).size());
+        microBenchmark.measure(BENCHMARK_REUSED, invocation -> {
+            this.reusedWords.clear();
+            UtilityFunctions.extractSingleWordsFromText(SENTENCES[invocation & SENTENCE_MASK], this.reusedWords);
+            return this.reusedWords.size();
+        });
+        System.out.printf(RESULT_SPEEDUP, legacyScore/tokenizerScore);
+        // measure the conversion of single integers and decimals
+        double legacyNumberScore = microBenchmark.measure(BENCHMARK_LEGACY_NUMBER,
+                invocation -> LegacyTextToWords.numberToString(NUMBERS[invocation & NUMBER_MASK]).length());
+        double numberScore = microBenchmark.measure(BENCHMARK_NUMBER,
+                invocation -> UtilityFunctions.numberToString(NUMBERS[invocation & NUMBER_MASK]).length());
+        double legacyDecimalScore = microBenchmark.measure(BENCHMARK_LEGACY_DECIMAL,
+                invocation -> LegacyTextToWords.numberToString(DECIMALS[invocation & NUMBER_MASK]).length());
+        double decimalScore = microBenchmark.measure(BENCHMARK_DECIMAL,
+                invocation -> UtilityFunctions.numberToString(DECIMALS[invocation & NUMBER_MASK]).length());
+        System.out.printf(RESULT_NUMBER_SPEEDUP, legacyNumberScore/numberScore, legacyDecimalScore/decimalScore);
+    }
+
+    /**
+     * Method for checking the tokenizer against the previous conversion with the realistic and generated sentences
+     * Empty words of the previous conversion (e.g. from double spaces) are ignored, the tokenizer does not create them
+     * @author Philipp Schulz
+     */
+    private void verifyOutputs()
+    {
+        List<String> sentences = new ArrayList<>();
+        for(String sentence : SENTENCES)
+        {
+            sentences.add(sentence);
+            sentences.add(sentence.toLowerCase(Locale.ROOT));
+        }
+        Random random = new Random(RANDOM_SEED);
+        for(int i = 0; i < GENERATED_SENTENCES; i++)
+        {
+            sentences.add(generateSentence(random));
+        }
+        int identical = 0;
+        TreeMap<String, Integer> divergences = new TreeMap<>();
+        for(String sentence : sentences)
+        {
+            if(getLegacyWords(sentence).equals(UtilityFunctions.extractSingleWordsFromText(sentence)))
+            {
+                identical++;
+                continue;
+            }
+            // the previous conversion handled every token on its own, only the intentional fixes may change a token
+            for(String token : sentence.split(SPACE))
+            {
+                List<String> legacyWords = getLegacyWords(token);
+                List<String> words = UtilityFunctions.extractSingleWordsFromText(token);
+                if(!legacyWords.equals(words))
+                {
+                    String divergence = getKnownDivergence(token);
+                    if(divergence == null)
+                    {
+                        throw new IllegalStateException(String.format(ERROR_MISMATCH, token, legacyWords, words));
+                    }
+                    divergences.merge(divergence, 1, Integer::sum);
+                }
+            }
+        }
+        System.out.printf(RESULT_CHECK, identical, sentences.size()-identical, divergences);
+    }
+
+    /**
+     * Method for getting the words of the previous conversion without the empty words it created for double spaces
+     * @param text Text that should be converted
+     * @return List of all words that are not empty
+     * @author Philipp Schulz
+     */
+    private List<String> getLegacyWords(String text)
+    {
+        List<String> words = new ArrayList<>();
+        for(String word : LegacyTextToWords.extractSingleWordsFromText(text))
+        {
+            if(!word.isEmpty())
+            {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Method for generating a random sentence out of words, integers and decimals
+     * @param random Random number generator
+     * @return Generated sentence
+     * @author Philipp Schulz
+     */
+    private String generateSentence(Random random)
+    {
+        StringBuilder sentence = new StringBuilder();
+        int tokens = 1 + random.nextInt(MAXIMUM_TOKENS);
+        for(int i = 0; i < tokens; i++)
+        {
+            if(i > 0)
+            {
+                sentence.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+            }
+            switch(random.nextInt(TOKEN_KINDS))
+            {
+                case 0:     // small integer
+                    sentence.append(random.nextInt(100));
+                    break;
+                case 1:     // integer of any size up to a quadrillion
+                    sentence.append((long) (Math.pow(DECIMAL_BASE, random.nextInt(16))*random.nextDouble()));
+                    break;
+                case 2:     // signed integer
+                    sentence.append(random.nextBoolean() ? '-' : '+').append(random.nextInt(100000));
+                    break;
+                case 3:     // decimal with up to four digits after the point
+                    sentence.append(random.nextInt(10000)).append('.').append(random.nextInt(10000));
+                    break;
+                case 4:     // negative decimal
+                    sentence.append('-').append(random.nextInt(100)).append('.').append(1 + random.nextInt(99));
+                    break;
+                case 5:     // integer at the end of a sentence
+                    sentence.append(random.nextInt(1000)).append('.');
+                    break;
+                case 6:     // decimal without integer part
+                    sentence.append('.').append(random.nextInt(1000));
+                    break;
+                default:    // word
+                    sentence.append(WORDS[random.nextInt(WORDS.length)]);
+                    break;
+            }
+        }
+        return sentence.toString();
+    }
+
+    /**
+     * Method for finding the intentional fix of the tokenizer that explains a different output of a token
+     * @param token Token with different output
+     * @return Name of the fix, null if the difference is not explained by a fix
+     * @author Philipp Schulz
+     */
+    private String getKnownDivergence(String token)
+    {
+        String number = token.replaceAll(REMOVED_CHARACTERS, EMPTY_STRING);
+        if(!number.matches(PLAIN_DECIMAL))
+        {
+            return null;
+        }
+        String unsigned = number.replaceFirst(SIGN, EMPTY_STRING);
+        int pointIndex = unsigned.indexOf(POINT);
+        String integerPart = pointIndex < 0 ? unsigned : unsigned.substring(0, pointIndex);
+        String fraction = pointIndex < 0 ? EMPTY_STRING : unsigned.substring(pointIndex + 1);
+        double value = Double.parseDouble(number);
+        boolean legacyIntegral = (value*DECIMAL_BASE)%DECIMAL_BASE == 0;
+        if(Math.abs(value) >= DOUBLE_PRECISION_LIMIT || legacyIntegral != fraction.matches(ONLY_ZEROS))
+        {
+            return DIVERGENCE_PRECISION;
+        }
+        if(!legacyIntegral && Double.toString(value).contains(EXPONENT))
+        {
+            return DIVERGENCE_SCIENTIFIC;
+        }
+        if(legacyIntegral && !fraction.isEmpty())
+        {
+            return DIVERGENCE_INTEGRAL_DECIMAL;
+        }
+        // a triplet with hundreds and a tens digit of 1
+        for(long rest = integerPart.isEmpty() ? 0 : Long.parseLong(integerPart); rest > 0; rest /= TRIPLET_BASE)
+        {
+            if(rest%TRIPLET_BASE >= HUNDRED_BASE && (rest%HUNDRED_BASE)/DECIMAL_BASE == 1)
+            {
+                return DIVERGENCE_TEENS;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,408 @@
+package benchmark.VoiceRecognition;
+
+import benchmark.Constants.VoiceRecognition.RecognitionBenchmarkConstants;
+import benchmark.Util.MicroBenchmark;
+import model.Metrics.LatencyHistogram;
+import model.VoiceRecognition.GrammarSpeechRecognizer;
+import model.VoiceRecognition.SpeechCapture;
+import model.VoiceRecognition.SpeechSegment;
+import model.VoiceRecognition.VoiceRecognitionCMU;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Benchmark of the voice recognition with recorded utterances instead of the microphone, runs headless
+ * Every recording of the directory (WAV, converted to 16 kHz 16 bit mono) is cut into segments by the SpeechCapture and decoded by a
+ * stream recognizer with the same configuration as VoiceRecognitionCMU, the expected transcript is read from a text
+ * file with the same name or taken from the file name (turn_lights_on.wav)
+ * Measures the real-time factor, the latency from the end of the audio to the result, the heap high-water mark and the
+ * sentence and word accuracy, so changes of the grammar or the configuration can be compared
+ * Usage: java -cp [classpath] [-Dbenchmark.grammarPath=file:///...] benchmark.VoiceRecognition.RecognitionBenchmark [directory]
+ * @author Philipp Schulz
+ */
+public class RecognitionBenchmark implements RecognitionBenchmarkConstants
+{
+    // objects of all required components of RecognitionBenchmark
+    private final SpeechCapture speechCapture;
+    private GrammarSpeechRecognizer recognizer;
+    // local fields
+    private final File directory;
+    private final String grammarPath;
+    private final String grammarName;
+    private final boolean voiceActivityDetection;
+    private final int warmupRounds;
+    private final int measurementRounds;
+    private final List<String> names;
+    private final List<String> transcripts;
+    private final List<byte[]> recordings;
+    private final byte[] chunk;
+    private long lastLatency;
+
+    /**
+     * Constructor of the RecognitionBenchmark class, settings can be overridden via system properties
+     * @param directory Directory with the recordings and their transcripts
+     * @author Philipp Schulz
+     */
+    public RecognitionBenchmark(File directory)
+    {
+        // initialize rest of components
+        this.speechCapture = new SpeechCapture();
+        this.recognizer = null;
+        // initialize local fields
+        this.directory = directory;
+        this.grammarPath = System.getProperty(PROPERTY_GRAMMAR_PATH,
+                DEFAULT_GRAMMAR_PATH + System.getProperty(PROPERTY_USER_DIR) + DEFAULT_GRAMMAR_DIRECTORY);
+        this.grammarName = System.getProperty(PROPERTY_GRAMMAR_NAME, DEFAULT_GRAMMAR_NAME);
+        this.voiceActivityDetection = Boolean.parseBoolean(System.getProperty(PROPERTY_VOICE_ACTIVITY_DETECTION, DEFAULT_VOICE_ACTIVITY_DETECTION));
+        this.warmupRounds = Integer.getInteger(PROPERTY_WARMUP_ROUNDS, DEFAULT_WARMUP_ROUNDS);
+        this.measurementRounds = Integer.getInteger(PROPERTY_MEASUREMENT_ROUNDS, DEFAULT_MEASUREMENT_ROUNDS);
+        this.names = new ArrayList<>();
+        this.transcripts = new ArrayList<>();
+        this.recordings = new ArrayList<>();
+        this.chunk = new byte[CHUNK_BYTES];
+        this.lastLatency = 0;
+    }
+
+    /**
+     * Main method, the benchmark is skipped if there are no recordings or no acoustic model, so the suite still passes
+     * @param args Directory of the recordings, the system property or the default directory is used if not given
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        File directory = new File(args.length > 0 ? args[0] : System.getProperty(PROPERTY_RECORDINGS, DEFAULT_RECORDINGS));
+        RecognitionBenchmark benchmark = new RecognitionBenchmark(directory);
+        if(!benchmark.loadRecordings())
+        {
+            System.out.printf(SKIPPED_NO_RECORDINGS, directory.getAbsolutePath());
+            return;
+        }
+        try
+        {
+            benchmark.createRecognizer();
+        }
+        catch(Exception e)
+        {
+            // without the acoustic model there is nothing to measure
+            System.out.printf(SKIPPED_NO_MODEL, e);
+            return;
+        }
+        benchmark.run(new MicroBenchmark());
+    }
+
+    /**
+     * Method for reading all recordings of the directory and converting them into the format of the microphone
+     * @return True if at least one recording was read
+     * @author Philipp Schulz
+     */
+    public boolean loadRecordings()
+    {
+        File[] files = this.directory.listFiles();
+        if(files == null)
+        {
+            return false;
+        }
+        // always the same order, so the results of two runs can be compared line by line
+        Arrays.sort(files);
+        for(File file : files)
+        {
+            String fileName = file.getName();
+            if(!file.isFile() || !fileName.toLowerCase(Locale.ROOT).endsWith(RECORDING_FORMAT))
+            {
+                continue;
+            }
+            String name = fileName.substring(0, fileName.length() - RECORDING_FORMAT.length());
+            try
+            {
+                this.recordings.add(readRecording(file));
+                this.names.add(name);
+                this.transcripts.add(readTranscript(name));
+            }
+            catch(UnsupportedAudioFileException | IOException | IllegalArgumentException e)
+            {
+                System.out.printf(ERROR_RECORDING, fileName, e.getMessage());
+            }
+        }
+        return !this.recordings.isEmpty();
+    }
+
+    /**
+     * Method for creating the recognizer with the configuration of VoiceRecognitionCMU
+     * @throws Exception If the acoustic model, the dictionary or the grammar could not be loaded
+     * @author Philipp Schulz
+     */
+    public void createRecognizer() throws Exception
+    {
+        this.recognizer = new GrammarSpeechRecognizer(VoiceRecognitionCMU.createConfiguration(this.grammarPath, this.grammarName));
+        // the grammar is only loaded with the first recognition, an empty recognition shows errors before measuring
+        this.recognizer.decode(new byte[0]);
+    }
+
+    /**
+     * Method for running all measurements of this benchmark
+     * @param microBenchmark Instance of the benchmark harness, used to save the results
+     * @author Philipp Schulz
+     */
+    public void run(MicroBenchmark microBenchmark)
+    {
+        microBenchmark.printHeader();
+        System.out.printf(RESULT_SETTINGS, this.grammarName, this.grammarPath, this.voiceActivityDetection, this.recordings.size(),
+                getUsedHeap()/BYTES_PER_MEGABYTE);
+        // the first rounds let the JIT compiler translate the decoder, their results are discarded
+        for(int round = 0; round < this.warmupRounds; round++)
+        {
+            for(byte[] recording : this.recordings)
+            {
+                recognize(recording);
+            }
+        }
+        List<MemoryPoolMXBean> heapPools = getHeapPools();
+        for(MemoryPoolMXBean pool : heapPools)
+        {
+            pool.resetPeakUsage();
+        }
+        LatencyHistogram latencies = new LatencyHistogram();
+        long processingTime = 0;
+        long audioBytes = 0;
+        int correctSentences = 0;
+        int wordErrors = 0;
+        int expectedWords = 0;
+        for(int round = 0; round < this.measurementRounds; round++)
+        {
+            for(int i = 0; i < this.recordings.size(); i++)
+            {
+                byte[] recording = this.recordings.get(i);
+                long start = System.nanoTime();
+                String hypothesis = recognize(recording);
+                long end = System.nanoTime();
+                // the latency after the end of the audio was saved by recognize()
+                latencies.record(this.lastLatency);
+                processingTime += end - start;
+                audioBytes += recording.length;
+                // compare the result with the expected transcript
+                String[] expected = splitWords(this.transcripts.get(i));
+                String[] recognized = splitWords(hypothesis);
+                int errors = countWordErrors(expected, recognized);
+                wordErrors += errors;
+                expectedWords += expected.length;
+                if(errors == 0)
+                {
+                    correctSentences++;
+                }
+                double audioTime = recording.length/BYTES_PER_SECOND;
+                System.out.printf(RESULT_RECORDING, this.names.get(i), (end - start)/NANOSECONDS_PER_MILLISECOND,
+                        (end - start)/NANOSECONDS_PER_SECOND/audioTime,
+                        errors == 0 ? RESULT_MATCH : String.format(RESULT_MISMATCH, this.transcripts.get(i), hypothesis));
+            }
+        }
+        long peakHeap = 0;
+        for(MemoryPoolMXBean pool : heapPools)
+        {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+        // print and save the results
+        double audioSeconds = audioBytes/BYTES_PER_SECOND;
+        double nanosPerAudioSecond = processingTime/audioSeconds;
+        int utterances = this.recordings.size()*this.measurementRounds;
+        System.out.printf(RESULT_REALTIME, BENCHMARK_DECODE, nanosPerAudioSecond, nanosPerAudioSecond/NANOSECONDS_PER_SECOND,
+                audioSeconds, processingTime/NANOSECONDS_PER_SECOND);
+        double medianLatency = latencies.getValueAtPercentile(PERCENTILE_MEDIAN);
+        System.out.printf(RESULT_LATENCY, BENCHMARK_LATENCY, medianLatency,
+                latencies.getValueAtPercentile(PERCENTILE_TAIL)/NANOSECONDS_PER_MILLISECOND,
+                latencies.getMaximum()/NANOSECONDS_PER_MILLISECOND, latencies.getCount());
+        System.out.printf(RESULT_MEMORY, peakHeap/BYTES_PER_MEGABYTE);
+        System.out.printf(RESULT_ACCURACY, PERCENT*correctSentences/utterances, correctSentences, utterances,
+                expectedWords == 0 ? PERCENT : PERCENT*(expectedWords - wordErrors)/expectedWords, wordErrors, expectedWords);
+        microBenchmark.recordResult(BENCHMARK_DECODE, nanosPerAudioSecond);
+        microBenchmark.recordResult(BENCHMARK_LATENCY, medianLatency);
+    }
+
+    /**
+     * Method for recognizing a recording like the microphone, the segments are decoded as soon as they are cut out
+     * The time from passing the last audio to the result is saved as latency, in the running program the hangover of
+     * the voice activity detection is added to it
+     * @param recording Byte array that contains the audio in the format of the microphone
+     * @return Results of all segments of the recording, separated by spaces
+     * @author Philipp Schulz
+     */
+    private String recognize(byte[] recording)
+    {
+        StringBuilder hypothesis = new StringBuilder();
+        if(!this.voiceActivityDetection)
+        {
+            // the whole recording is decoded after its end
+            long end = System.nanoTime();
+            hypothesis.append(this.recognizer.decode(recording));
+            this.lastLatency = System.nanoTime() - end;
+            return hypothesis.toString();
+        }
+        this.speechCapture.reset();
+        // pass the audio in reads of the microphone, finished segments are decoded in between like in the program
+        for(int offset = 0; offset < recording.length; offset += CHUNK_BYTES)
+        {
+            int length = Math.min(CHUNK_BYTES, recording.length - offset);
+            System.arraycopy(recording, offset, this.chunk, 0, length);
+            this.speechCapture.processAudio(this.chunk, 0, length);
+            decodeSegments(hypothesis);
+        }
+        long end = System.nanoTime();
+        this.speechCapture.flush();
+        decodeSegments(hypothesis);
+        this.lastLatency = System.nanoTime() - end;
+        return hypothesis.toString();
+    }
+
+    /**
+     * Method for decoding all segments that were cut out so far
+     * @param hypothesis StringBuilder the results are appended to
+     * @author Philipp Schulz
+     */
+    private void decodeSegments(StringBuilder hypothesis)
+    {
+        SpeechSegment segment;
+        while((segment = this.speechCapture.pollSegment()) != null)
+        {
+            String words = this.recognizer.decode(segment.getAudio());
+            if(!words.isEmpty())
+            {
+                if(hypothesis.length() > 0)
+                {
+                    hypothesis.append(WORD_SEPARATOR);
+                }
+                hypothesis.append(words);
+            }
+        }
+    }
+
+    /**
+     * Method for reading a recording and converting it into the format of the microphone
+     * @param file WAV file of the recording
+     * @return Byte array that contains 16 bit little endian mono samples with 16 kHz
+     * @throws UnsupportedAudioFileException If the file is no supported audio file
+     * @throws IOException If the file could not be read
+     * @throws IllegalArgumentException If there is no converter from the format of the recording
+     * @author Philipp Schulz
+     */
+    private byte[] readRecording(File file) throws UnsupportedAudioFileException, IOException
+    {
+        try(AudioInputStream fileStream = AudioSystem.getAudioInputStream(file);
+            AudioInputStream stream = fileStream.getFormat().matches(RECOGNITION_AUDIO_FORMAT) ? fileStream :
+                    AudioSystem.getAudioInputStream(RECOGNITION_AUDIO_FORMAT, fileStream))
+        {
+            ByteArrayOutputStream audio = new ByteArrayOutputStream();
+            byte[] buffer = new byte[READ_BUFFER_SIZE];
+            int read;
+            while((read = stream.read(buffer)) > 0)
+            {
+                audio.write(buffer, 0, read);
+            }
+            return audio.toByteArray();
+        }
+    }
+
+    /**
+     * Method for getting the expected transcript of a recording
+     * @param name Name of the recording without extension
+     * @return First line of the transcript file, the name with spaces instead of underscores if there is none
+     * @throws IOException If the transcript file could not be read
+     * @author Philipp Schulz
+     */
+    private String readTranscript(String name) throws IOException
+    {
+        File transcriptFile = new File(this.directory, name + TRANSCRIPT_FORMAT);
+        if(!transcriptFile.isFile())
+        {
+            return name.replace(FILE_NAME_WORD_SEPARATOR, WORD_SEPARATOR);
+        }
+        try(BufferedReader reader = new BufferedReader(new FileReader(transcriptFile)))
+        {
+            String transcript = reader.readLine();
+            return transcript == null ? NO_WORDS : transcript.trim();
+        }
+    }
+
+    /**
+     * Method for splitting a transcript into its words, the recognizer only returns lower case words
+     * @param transcript Transcript or result of the recognizer
+     * @return Array of all words, empty if there are none
+     * @author Philipp Schulz
+     */
+    private String[] splitWords(String transcript)
+    {
+        String words = transcript.trim().toLowerCase(Locale.ROOT);
+        return words.isEmpty() ? new String[0] : words.split(WHITESPACE);
+    }
+
+    /**
+     * Method for counting the word errors (substitutions, deletions and insertions) with the edit distance of the words
+     * @param expected Words of the expected transcript
+     * @param recognized Words of the result of the recognizer
+     * @return Minimum number of word errors
+     * @author Philipp Schulz
+     */
+    private int countWordErrors(String[] expected, String[] recognized)
+    {
+        // only the last row of the table is kept
+        int[] previous = new int[recognized.length + 1];
+        int[] current = new int[recognized.length + 1];
+        for(int j = 0; j <= recognized.length; j++)
+        {
+            previous[j] = j;
+        }
+        for(int i = 1; i <= expected.length; i++)
+        {
+            current[0] = i;
+            for(int j = 1; j <= recognized.length; j++)
+            {
+                int substitution = previous[j - 1] + (expected[i - 1].equals(recognized[j - 1]) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[recognized.length];
+    }
+
+    /**
+     * Method for getting all memory pools of the heap
+     * @return List of the memory pools of the heap
+     * @author Philipp Schulz
+     */
+    private List<MemoryPoolMXBean> getHeapPools()
+    {
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+        {
+            if(pool.getType() == MemoryType.HEAP)
+            {
+                heapPools.add(pool);
+            }
+        }
+        return heapPools;
+    }
+
+    /**
+     * Method for getting the currently used heap
+     * @return Used heap in [byte]
+     * @author Philipp Schulz
+     */
+    private long getUsedHeap()
+    {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
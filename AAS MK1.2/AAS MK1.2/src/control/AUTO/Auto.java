@@ -3,30 +3,36 @@ package control.AUTO;
 import control.AUTO.Components.IdManager;
 import control.AUTO.Files.FileManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
+import model.ActionQueue.ActionRouter;
 import model.Constants.AUTO.AutoConstants;
 import model.Constants.ActionHandlingConstants;
+import model.Dialogue.Dialogue;
+import model.Dialogue.DialogueCommand;
+import model.Dialogue.DialogueTransition;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
 
-import java.util.Locale;
+import java.util.ArrayList;
 
 /**
  * Class for handling anything of the section "data management"
  * Only called once by AAS!
  * @author Philipp Schulz
  */
-public class Auto implements AutoConstants, ActionHandlingConstants
+public class Auto implements AutoConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of Auto
     private final ActionQueuePublic actionQueue;
     private final FileManager fileManager;
+    private final ActionRouter actionRouter;
+    private final StateTopic<Boolean> soundPlaybackFinished;
     private final IdManager idManager;
     // local fields
-    private boolean dialogueActive;
-    private boolean receivedInput;
+    private final Dialogue dialogue;
+    private final ArrayList<DialogueTransition> takenTransitions;
     private int ownID;
-    private int dialogueNumber;
-    private int[] stateMachines;
-    private String lastMessage;
 
     /**
      * Constructor of the AUTO class
@@ -39,14 +45,13 @@ public class Auto implements AutoConstants, ActionHandlingConstants
         this.actionQueue = actionQueue;
         // initialize rest of components
         this.idManager = new IdManager(actionQueue);
-        this.fileManager = new FileManager(actionQueue);
+        this.fileManager = new FileManager(actionQueue, this.idManager);
+        this.actionRouter = new ActionRouter();
+        this.soundPlaybackFinished = actionQueue.getStateBus().getTopic(StateBus.SOUND_PLAYBACK_FINISHED);
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
-        this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
-        this.stateMachines = STATE_MACHINES_DEFAULT;
-        this.dialogueActive = DIALOGUE_INACTIVE;
-        this.receivedInput = RECEIVED_INPUT_START;
-        this.lastMessage = EMPTY_STRING;
+        this.dialogue = new Dialogue(DIALOGUE_DEFINITION);
+        this.takenTransitions = new ArrayList<>();
 
         // save component list with FileManager and save it in IdManager
         this.fileManager.readComponentList();
@@ -84,6 +89,9 @@ public class Auto implements AutoConstants, ActionHandlingConstants
         // set IDs of components
         this.fileManager.setOwnID(this.idManager.getComponentIDByName(this.fileManager.getClass().getSimpleName()));
         this.idManager.setOwnID(this.idManager.getComponentIDByName(this.idManager.getClass().getSimpleName()));
+        // compile the routing table for all components of AUTO
+        this.actionRouter.clearRoutes();
+        this.actionRouter.addRoute(this.fileManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.fileManager);
     }
 
     /**
@@ -95,46 +103,43 @@ public class Auto implements AutoConstants, ActionHandlingConstants
     public void handleAction(Action action)
     {
         // determine first digit of targetIndex for components with sub-components
-        //int targetIndex = Integer.parseInt(Integer.toString(action.getTargetIndex()).substring(INDEX_ONE, INDEX_THREE));
-        // go over all components of this class (if-statements because switches only work with constant expressions)
-        if(action.getTargetIndex() == this.fileManager.getOwnID())
+        // look up the component of AUTO that is responsible for the target ID (FileManager)
+        ActionHandler targetComponent = this.actionRouter.getHandler(action.getTargetIndex());
+        // go over all components of this class
+        if(targetComponent != null)
         {
-            // handle the action in the FileManager
-            this.fileManager.handleAction(action);
+            // handle the action in the component
+            targetComponent.handleAction(action);
         }
         else if(action.getTargetIndex() == this.ownID)  // if the action is for this class
         {
             // handle the content of the received action
-            if(action.getAction().contains(UPDATE_OWN_ID))      // if the component ID should be updated
+            if(action.getOpcode() == UPDATE_OWN_ID)             // if the component ID should be updated
             {
                 // update the internal component ID
-                this.ownID = Integer.parseInt(action.getAction().substring(action.getAction().indexOf(UPDATE_OWN_ID)));
+                this.ownID = action.getValue();
             }
-            else if(action.getAction().equals(SHUTDOWN_ACTION))    // if the action is for shutting down
+            else if(action.getOpcode() == SHUTDOWN_ACTION)      // if the action is for shutting down
             {
                 // adjust action for sending back
-                action.setAction(SHUTDOWN_CONFIRMATION);
+                action.setOpcode(SHUTDOWN_CONFIRMATION);
                 action.setTargetIndex(action.getOriginIndex());
                 action.setOriginIndex(this.getOwnID());
                 // put action back into action queue
                 this.actionQueue.addNewActionToActionQueue(action);
             }
             // if the action is for an input from the voice recognition or terminal
-            else if(action.getAction().contains(ACTION_VOICE_RECOGNITION_INPUT) || action.getAction().contains(ACTION_TERMINAL_INPUT))
+            else if(action.getOpcode() == ACTION_VOICE_RECOGNITION_INPUT || action.getOpcode() == ACTION_TERMINAL_INPUT)
             {
                 // pass action on to sound output handler method
-                handleInputDuringSoundOutput(action.getAction());
-            }
-            else if(action.getAction().contains(ACTION_SOUND_OUTPUT_BUSY))  // if the action is for giving the sound output state
-            {
-                // pass action on to sound output handler method
-                handleInputDuringSoundOutput(action.getAction());
+                handleInputDuringSoundOutput(action);
             }
         }
         else
         {
             // handle undefined action
-            action.setAction(action.getAction() + WRONG_COMPONENT_ID + action.getTargetIndex());
+            action.setOpcode(WRONG_COMPONENT_ID);
+            action.setValue(action.getTargetIndex());
             action.setTargetIndex(action.getOriginIndex());
             action.setOriginIndex(this.ownID);
             action.setErrorCount(action.getErrorCount()+ERROR_COUNT_INCREMENT);
@@ -145,56 +150,25 @@ public class Auto implements AutoConstants, ActionHandlingConstants
 
     /**
      * Method to handle voice recognition during sound output
-     * @param completeAction String that was contained in the last action
+     * Inputs from the voice recognition are only handled if the sound output is not busy, the state is read from the
+     * StateBus
+     * @param action Action with an input from the voice recognition or the terminal
      * @author Philipp Schulz
      */
-    private void handleInputDuringSoundOutput(String completeAction)
+    private void handleInputDuringSoundOutput(Action action)
     {
-        // check if an input was already received from the voice recognition
-        if(this.receivedInput)
+        // extract content of action
+        String actionContent = action.getText().trim();
+        // check if the current action is an input from the voice recognition
+        if(action.getOpcode() == ACTION_VOICE_RECOGNITION_INPUT)
         {
-            // check if the action contains the state of the sound output
-            if(completeAction.contains(ACTION_SOUND_OUTPUT_BUSY))
-            {
-                // if the sound output is not currently busy
-                if(completeAction.contains(VALID_SOUND_OUTPUT))
-                {
-                    // print input from voice recognition to terminal, create a new action for that
-                    Action terminalPrintAction = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
-                            this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME),
-                            WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+this.lastMessage,ERROR_COUNT_NEW);
-                    // put actions into action queue
-                    this.actionQueue.addNewActionToActionQueue(terminalPrintAction);
-                    // handle the previous voice recognition input
-                    handleDialogueInput(this.lastMessage);
-                }
-            }
-            // reset fields for next input
-            this.receivedInput = false;
-            this.lastMessage = EMPTY_STRING;
+            // the SoundManager publishes the state of the sound output, no request is needed
+            handleVoiceRecognitionInput(actionContent, this.soundPlaybackFinished.getValue());
         }
-        else    // if the input from the voice recognition is given first
+        else    // if the input came from the terminal
         {
-            // extract content of action
-            String actionContent = completeAction.trim().substring(completeAction.indexOf(SPACE) + SUBSTRING_OFFSET_1);
-            // check if the current action is an input from the voice recognition
-            if(completeAction.contains(ACTION_VOICE_RECOGNITION_INPUT))
-            {
-                // set fields to save current action for next cycle
-                this.receivedInput = !RECEIVED_INPUT_START;
-                this.lastMessage = actionContent;
-                // create new action to request current sound output state
-                Action soundOutputStateAction = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),
-                        this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_SOUND_OUTPUT_BUSY,ERROR_COUNT_NEW);
-                // put actions into action queue
-                this.actionQueue.addNewActionToActionQueue(soundOutputStateAction);
-
-            }
-            if(completeAction.contains(ACTION_TERMINAL_INPUT))  // if the input came from the terminal
-            {
-                // pass the input to the state machines, terminal input does not depend on sound output
-                handleDialogueInput(actionContent);
-            }
+            // pass the input to the state machines, terminal input does not depend on sound output
+            handleDialogueInput(actionContent);
         }
     }
 
@@ -209,322 +183,77 @@ public class Auto implements AutoConstants, ActionHandlingConstants
     }
 
     /**
-     * Method for handling any input that was received via voice recognition or terminal
-     * @param input String that contains the input from the user
+     * Method for getting access to the FileManager for the paths at startup
+     * @return Instance of the FileManager class
      * @author Philipp Schulz
      */
-    public void handleDialogueInput(String input)
+    public FileManager getFileManager()
     {
-        // check if new dialogue is active
-        if(!this.dialogueActive && input.contains(RECOGNITION_AUTO))
-        {
-            // set flag for active dialogue
-            this.dialogueActive = DIALOGUE_ACTIVE;
-            // set dialogue number
-            this.dialogueNumber = DIALOGUE_STATE_MACHINE_0;
-        }
-
-        // state machine 0 is implemented here: dialogue activation / abortion + dialogue decision
-        // if a dialogue is currently active
-        if(this.dialogueActive)
-        {
-            // check if the dialogue should be aborted
-            if(input.equals(RECOGNITION_ABORT))
-            {
-                // reset the dialogue number
-                this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
-                // reset the dialogue flag
-                this.dialogueActive = DIALOGUE_INACTIVE;
-                // reset the state machines
-                this.stateMachines = STATE_MACHINES_DEFAULT;
-
-                // create new action for playing the corresponding sound of Auto
-                Action abortAnswerAutoAudio = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),
-                        this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+ RECOGNITION_ABORTED,ERROR_COUNT_NEW);
-                // create new action for terminal output of Auto
-                Action abortAnswerAutoText = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
-                        this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+RECOGNITION_ABORTED,
-                        ERROR_COUNT_NEW);
-                // add actions to ActionQueue
-                this.actionQueue.addNewActionToActionQueue(abortAnswerAutoAudio);
-                this.actionQueue.addNewActionToActionQueue(abortAnswerAutoText);
-            }
-            // match input to state machine
-            switch(dialogueNumber)
-            {
-                case DIALOGUE_STATE_MACHINE_0:  // state machine 0
-                    // match input to state machine
-                    if(input.contains(GREETING_1) || input.contains(GREETING_2)) // state machine 1
-                    {
-                        // set dialogue number
-                        this.dialogueNumber = DIALOGUE_STATE_MACHINE_1;
-                        // go through the state machine
-                        stateMachine1(stateMachines[DIALOGUE_STATE_MACHINE_1], input);
-                    }
-                    else if(input.contains(RECOGNITION_START_1) || input.contains(RECOGNITION_START_2)) // first response for dialogues
-                    {
-                        // create new action for playing the corresponding sound of Auto
-                        Action initialAnswerAutoAudio = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),
-                                this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+ RECOGNITION_START,ERROR_COUNT_NEW);
-                        // create new action for terminal output of Auto
-                        Action initialAnswerAutoText = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
-                                this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+ RECOGNITION_START,
-                                ERROR_COUNT_NEW);
-                        // add actions to ActionQueue
-                        this.actionQueue.addNewActionToActionQueue(initialAnswerAutoAudio);
-                        this.actionQueue.addNewActionToActionQueue(initialAnswerAutoText);
-                    }
-                    else if(input.toLowerCase(Locale.ROOT).contains(INPUT_TURN_OFF) ||
-                            input.toLowerCase(Locale.ROOT).contains(INPUT_SHUTDOWN) ||
-                            input.toLowerCase(Locale.ROOT).contains(INPUT_REBOOT))       // state machine 2
-                    {
-                        // set dialogue number
-                        this.dialogueNumber = DIALOGUE_STATE_MACHINE_2;
-                        // go through the state machine
-                        stateMachines[DIALOGUE_STATE_MACHINE_2] = stateMachine2(stateMachines[DIALOGUE_STATE_MACHINE_2], input);
-                    }
-                    //####################################################################################################
-                    //------------------------ADD START CONDITIONS OF NEW STATE MACHINES HERE-----------------------------
-                    //####################################################################################################
-                    break;
-
-                case DIALOGUE_STATE_MACHINE_1:     // state machine 1
-                    // call state machine
-                    stateMachine1(stateMachines[DIALOGUE_STATE_MACHINE_1], input);
-                    // state machine 1 does not return a state, not saved in stateMachines Array
-                    break;
-
-                case DIALOGUE_STATE_MACHINE_2:     // state machine 2
-                    // call state machine
-                    stateMachines[DIALOGUE_STATE_MACHINE_2] = stateMachine2(stateMachines[DIALOGUE_STATE_MACHINE_2], input);
-                    // if a shutdown, reboot or turning off was achieved
-                    if(STATE_MACHINE_STATE_3<stateMachines[DIALOGUE_STATE_MACHINE_2] && stateMachines[DIALOGUE_STATE_MACHINE_2]<STATE_MACHINE_STATE_7)
-                    {
-                        stateMachines[DIALOGUE_STATE_MACHINE_2] = stateMachine2(stateMachines[DIALOGUE_STATE_MACHINE_2], input);
-                    }
-                    break;
-
-                default:
-                    // none other state machines are active
-            }
-        }
+        return this.fileManager;
     }
 
     /**
-     * Method for implementing state machine 1
-     * @param state current state of the state machine
-     * @param input String that contains the input that was given by the user
+     * Method for handling any input that was received via voice recognition or terminal
+     * The input is matched against the dialogue once, afterwards the responses and commands of all taken transitions
+     * are sent
+     * @param input String that contains the input from the user
      * @author Philipp Schulz
      */
-    private void stateMachine1(int state, String input)
+    public void handleDialogueInput(String input)
     {
-        // state machine for greeting
-
-        // go over all possible states
-        // default state
-        if (state == STATE_MACHINE_STATE_0)             // check if correct greetings were used
+        // go through the dialogue, the list of taken transitions is reused for every input
+        this.takenTransitions.clear();
+        this.dialogue.handleInput(input, this.takenTransitions);
+        for(DialogueTransition transition : this.takenTransitions)
         {
-            if (input.contains(GREETING_1) || input.contains(GREETING_2))
+            // check if the transition answers via sound output and terminal
+            if(!transition.getSoundResponse().isEmpty())
             {
                 // create new action for playing the corresponding sound of Auto
-                Action answerAutoAudio = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_PLAY_SOUND_AUTO + GREETING_RESPONSE,
-                        ERROR_COUNT_NEW);
-                // create new action for terminal output of Auto
-                Action answerAutoText = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_TERMINAL_MANAGER_PRINT+GREETING_RESPONSE+DOT,
-                        ERROR_COUNT_NEW);
-                // create new action to avoid deadlock of VoiceRecognitionManager
-                Action notifyVoiceRecognitionManager = new Action(this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_ABORT,
-                        ERROR_COUNT_NEW);
-                // add actions to ActionQueue
+                Action answerAutoAudio = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_PLAY_SOUND_AUTO, transition.getSoundResponse());
+                // add action to ActionQueue
                 this.actionQueue.addNewActionToActionQueue(answerAutoAudio);
+            }
+            if(!transition.getTextResponse().isEmpty())
+            {
+                // create new action for terminal output of Auto
+                Action answerAutoText = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_TERMINAL_MANAGER_PRINT, transition.getTextResponse());
+                // add action to ActionQueue
                 this.actionQueue.addNewActionToActionQueue(answerAutoText);
-                this.actionQueue.addNewActionToActionQueue(notifyVoiceRecognitionManager);
-
-                // reset dialogue flags to avoid being stuck in a dialogue
-
-                // reset the dialogue number
-                this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
-                // reset the dialogue flag
-                this.dialogueActive = DIALOGUE_INACTIVE;
-                // reset the state machines
-                this.stateMachines = STATE_MACHINES_DEFAULT;
+            }
+            // send all commands of the transition to the other components (e.g. turn off, release voice recognition)
+            for(int i = INDEX_ZERO; i < transition.getNumberOfCommands(); i++)
+            {
+                DialogueCommand command = transition.getCommand(i);
+                Action commandAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(command.getTargetName()),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, command.getOpcode(), EMPTY_STRING);
+                // add action to ActionQueue
+                this.actionQueue.addNewActionToActionQueue(commandAction);
             }
         }
-        // no return statement due to insufficient complexity of state machine
     }
 
     /**
-     * Method for implementing state machine 2
-     * @param state current state of the state machine
-     * @param input String that contains the input that was given by the user
-     * @return Updated state of the state machine
+     * Method to handle an input from the voice recognition after the state of the sound output was received
+     * @param input String that contains the input from the voice recognition
+     * @param playbackFinished True if the sound output is currently not busy
      * @author Philipp Schulz
      */
-    private int stateMachine2(int state, String input)
+    private void handleVoiceRecognitionInput(String input, boolean playbackFinished)
     {
-        // state machine for processing turn off, shutdown and reboot
-        int newState = state;
-        // Strings for answers to avoid duplicate code in cases
-        String answerStringSound = EMPTY_STRING;
-        String answerStringText = EMPTY_STRING;
-        // go over all possible states
-        switch(state)
-        {
-            case STATE_MACHINE_STATE_0: // initial state
-                if(input.toLowerCase(Locale.ROOT).contains(INPUT_TURN_OFF))   // if the program should be turned off
-                {
-                    newState = STATE_MACHINE_STATE_1;               // save the new state for next cycle
-                    answerStringSound = TURN_OFF_RESPONSE;          // save answer String
-                    answerStringText = TURN_OFF_RESPONSE+Q_MARK;    // save answer String
-                }
-                else if(input.toLowerCase(Locale.ROOT).contains(INPUT_SHUTDOWN)) // if the device should be shut down
-                {
-                    newState = STATE_MACHINE_STATE_2;               // save the new state for next cycle
-                    answerStringSound = SHUTDOWN_RESPONSE;          // save answer String
-                    answerStringText = SHUTDOWN_RESPONSE+Q_MARK;    // save answer String
-                }
-                else if(input.toLowerCase(Locale.ROOT).contains(INPUT_REBOOT)) // if the device should be rebooted
-                {
-                    newState = STATE_MACHINE_STATE_3;               // save the new state for next cycle
-                    answerStringSound = REBOOT_RESPONSE;            // save answer String
-                    answerStringText = REBOOT_RESPONSE+Q_MARK;      // save answer String
-                }
-                break;
-
-            case STATE_MACHINE_STATE_1: // state for awaiting confirmation of turn off
-                if(input.toLowerCase(Locale.ROOT).contains(CONFIRMATION_YES))       // if the confirmation was successful
-                {
-                    newState = STATE_MACHINE_STATE_4;               // save the new state for next cycle
-                    answerStringSound = TURN_OFF_CONFIRM;           // save answer String
-                    answerStringText = TURN_OFF_CONFIRM+DOT;        // save answer String
-                }
-                else if(input.toLowerCase(Locale.ROOT).contains(CONFIRMATION_NO))   // if the confirmation was aborted
-                {
-                    newState = STATE_MACHINE_STATE_0;               // save the new state for next cycle
-                    answerStringSound = TURN_OFF_ABORT;             // save answer String
-                    answerStringText = TURN_OFF_ABORT+DOT;          // save answer String
-                    // reset the dialogue number
-                    this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
-                    // reset the dialogue flag
-                    this.dialogueActive = DIALOGUE_INACTIVE;
-                    // reset the state machines
-                    this.stateMachines = STATE_MACHINES_DEFAULT;
-                    // create new action to avoid deadlock of VoiceRecognitionManager
-                    Action notifyVoiceRecognitionManager = new Action(this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME),
-                            this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_ABORT,
-                            ERROR_COUNT_NEW);
-                    // add action into queue
-                    this.actionQueue.addNewActionToActionQueue(notifyVoiceRecognitionManager);
-                }
-                break;
-
-            case STATE_MACHINE_STATE_2: // state for awaiting confirmation of shutdown
-                if(input.toLowerCase(Locale.ROOT).contains(CONFIRMATION_YES))       // if the confirmation was successful
-                {
-                    newState = STATE_MACHINE_STATE_5;               // save the new state for next cycle
-                    answerStringSound = SHUTDOWN_CONFIRM;           // save answer String
-                    answerStringText = SHUTDOWN_CONFIRM+DOT;        // save answer String
-                }
-                else if(input.toLowerCase(Locale.ROOT).contains(CONFIRMATION_NO))   // if the confirmation was aborted
-                {
-                    newState = STATE_MACHINE_STATE_0;               // save the new state for next cycle
-                    answerStringSound = SHUTDOWN_ABORT;             // save answer String
-                    answerStringText = SHUTDOWN_ABORT+DOT;          // save answer String
-                    // reset the dialogue number
-                    this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
-                    // reset the dialogue flag
-                    this.dialogueActive = DIALOGUE_INACTIVE;
-                    // reset the state machines
-                    this.stateMachines = STATE_MACHINES_DEFAULT;
-                    // create new action to avoid deadlock of VoiceRecognitionManager
-                    Action notifyVoiceRecognitionManager = new Action(this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME),
-                            this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_ABORT,
-                            ERROR_COUNT_NEW);
-                    // add action into queue
-                    this.actionQueue.addNewActionToActionQueue(notifyVoiceRecognitionManager);
-                }
-                break;
-
-            case STATE_MACHINE_STATE_3: // state for awaiting confirmation of reboot
-                if(input.toLowerCase(Locale.ROOT).contains(CONFIRMATION_YES))       // if the confirmation was successful
-                {
-                    newState = STATE_MACHINE_STATE_6;               // save the new state for next cycle
-                    answerStringSound = REBOOT_CONFIRM;             // save answer String
-                    answerStringText = REBOOT_CONFIRM+DOT;          // save answer String
-                }
-                else if(input.toLowerCase(Locale.ROOT).contains(CONFIRMATION_NO))   // if the confirmation was aborted
-                {
-                    newState = STATE_MACHINE_STATE_0;               // save the new state for next cycle
-                    answerStringSound = REBOOT_ABORT;               // save answer String
-                    answerStringText = REBOOT_ABORT+DOT;            // save answer String
-                    // reset the dialogue number
-                    this.dialogueNumber = DIALOGUE_NUMBER_DEFAULT;
-                    // reset the dialogue flag
-                    this.dialogueActive = DIALOGUE_INACTIVE;
-                    // reset the state machines
-                    this.stateMachines = STATE_MACHINES_DEFAULT;
-                    // create new action to avoid deadlock of VoiceRecognitionManager
-                    Action notifyVoiceRecognitionManager = new Action(this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME),
-                            this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_ABORT,
-                            ERROR_COUNT_NEW);
-                    // add action into queue
-                    this.actionQueue.addNewActionToActionQueue(notifyVoiceRecognitionManager);
-                }
-                break;
-
-            case STATE_MACHINE_STATE_4: // state for confirmation of turn off
-                newState = STATE_MACHINE_STATE_0;                   // save the new state for next cycle
-                answerStringSound = TURN_OFF_CONFIRMATION;          // save answer String
-                answerStringText = TURN_OFF_CONFIRMATION+DOT;       // save answer String
-                // create a new action for initiating turning off
-                Action turnOffAction = new Action(this.idManager.getComponentIDByName(ACTION_QUEUE_MANAGER_NAME),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, TURN_OFF_ACTION, ERROR_COUNT_NEW);
-                // add action to the ActionQueue
-                actionQueue.addNewActionToActionQueue(turnOffAction);
-                break;
-
-            case STATE_MACHINE_STATE_5: // state for confirmation of shutdown
-                newState = STATE_MACHINE_STATE_0;                   // save the new state for next cycle
-                answerStringSound = SHUTDOWN_CONFIRMATION_TEXT;     // save answer String
-                answerStringText = SHUTDOWN_CONFIRMATION_TEXT+DOT;  // save answer String
-                // create a new action for initiating shutdown
-                Action shutdownAction = new Action(this.idManager.getComponentIDByName(ACTION_QUEUE_MANAGER_NAME),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, SHUTDOWN_ACTION, ERROR_COUNT_NEW);
-                // add action to the ActionQueue
-                actionQueue.addNewActionToActionQueue(shutdownAction);
-                break;
-
-            case STATE_MACHINE_STATE_6: // state for confirmation of reboot
-                newState = STATE_MACHINE_STATE_0;                   // save the new state for next cycle
-                answerStringSound = REBOOT_CONFIRMATION;            // save answer String
-                answerStringText = REBOOT_CONFIRMATION+DOT;         // save answer String
-                // create a new action for initiating reboot
-                Action rebootAction = new Action(this.idManager.getComponentIDByName(ACTION_QUEUE_MANAGER_NAME),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, REBOOT_ACTION, ERROR_COUNT_NEW);
-                // add action to the ActionQueue
-                actionQueue.addNewActionToActionQueue(rebootAction);
-                break;
-        }
-        // check if any action should be put into the queue
-        if(answerStringSound.length() > MINIMUM_ANSWER_LENGTH) // only one needs to be checked as both are always assigned
+        // if the sound output is not currently busy
+        if(playbackFinished == VALID_SOUND_OUTPUT)
         {
-            // create new action for playing the corresponding sound of Auto
-            Action answerAutoAudio = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),
-                    this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_PLAY_SOUND_AUTO + answerStringSound,
-                    ERROR_COUNT_NEW);
-            // create new action for terminal output of Auto
-            Action answerAutoText = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
-                    this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_TERMINAL_MANAGER_PRINT+answerStringText,
-                    ERROR_COUNT_NEW);
-            // add actions to ActionQueue
-            this.actionQueue.addNewActionToActionQueue(answerAutoAudio);
-            this.actionQueue.addNewActionToActionQueue(answerAutoText);
+            // print input from voice recognition to terminal, create a new action for that
+            Action terminalPrintAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),
+                    this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME),
+                    WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT,input);
+            // put actions into action queue
+            this.actionQueue.addNewActionToActionQueue(terminalPrintAction);
+            // handle the voice recognition input
+            handleDialogueInput(input);
         }
-        return newState;
     }
-
-    // TODO: ADD MORE STATE MACHINES ACCORDING TO DIALOGUES
 }
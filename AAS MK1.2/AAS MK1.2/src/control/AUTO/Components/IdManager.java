@@ -1,7 +1,7 @@
 package control.AUTO.Components;
 
 import model.AUTO.Components.Component;
-import model.ActionQueue.Action;
+import model.AUTO.Components.ComponentSnapshot;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.AUTO.Components.IdManagerConstants;
 import model.Constants.ActionHandlingConstants;
@@ -20,8 +20,7 @@ public class IdManager implements IdManagerConstants, ActionHandlingConstants
     private final ActionQueuePublic actionQueue;
 
     // local fields
-    private ArrayList<Component> componentList;
-    private ArrayList<Component> componentListOld;
+    private volatile ComponentSnapshot componentSnapshot;
     private int ownID;
 
     /**
@@ -35,8 +34,7 @@ public class IdManager implements IdManagerConstants, ActionHandlingConstants
         this.actionQueue = actionQueue;
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
-        this.componentList = new ArrayList<>();
-        this.componentListOld = new ArrayList<>();
+        this.componentSnapshot = new ComponentSnapshot(new ArrayList<>(), null);
     }
 
     /**
@@ -67,20 +65,7 @@ public class IdManager implements IdManagerConstants, ActionHandlingConstants
      */
     public int getComponentIDByName(String componentName)
     {
-        // initialize return value
-        int componentID = DEFAULT_COMPONENT_ID;
-        // loop over component list
-        for (Component component : componentList) {
-            // check if the current component name matches
-            if (component.getComponentName().equals(componentName)) {
-                // save current component ID
-                componentID = component.getComponentID();
-                // break the loop to save time
-                break;
-            }
-        }
-        // return component ID
-        return componentID;
+        return this.componentSnapshot.getComponentIDByName(componentName);
     }
 
     /**
@@ -91,22 +76,7 @@ public class IdManager implements IdManagerConstants, ActionHandlingConstants
      */
     public String getComponentNameByOldID(int oldID)
     {
-        // initialize return value
-        String componentName = DEFAULT_COMPONENT_NAME;
-        // loop over old component list
-        for(Component component : componentListOld)
-        {
-            // check if the current component ID matches
-            if(component.getComponentID() == oldID)
-            {
-                // save current component name
-                componentName = component.getComponentName();
-                // break the loop to save time
-                break;
-            }
-        }
-        // return component name
-        return componentName;
+        return this.componentSnapshot.getComponentNameByOldID(oldID);
     }
 
     /**
@@ -117,22 +87,18 @@ public class IdManager implements IdManagerConstants, ActionHandlingConstants
      */
     public String getComponentNameByID(int ID)
     {
-        // initialize return value
-        String componentName = DEFAULT_COMPONENT_NAME;
-        // loop over old component list
-        for(Component component : componentList)
-        {
-            // check if the current component ID matches
-            if(component.getComponentID() == ID)
-            {
-                // save current component name
-                componentName = component.getComponentName();
-                // break the loop to save time
-                break;
-            }
-        }
-        // return component name
-        return componentName;
+        return this.componentSnapshot.getComponentNameByID(ID);
+    }
+
+    /**
+     * Method for getting the current snapshot of the component list
+     * Components that need several lookups which must fit together should use one snapshot for all of them
+     * @return Immutable snapshot of the current component list
+     * @author Philipp Schulz
+     */
+    public ComponentSnapshot getComponentSnapshot()
+    {
+        return this.componentSnapshot;
     }
 
     /**
@@ -142,9 +108,9 @@ public class IdManager implements IdManagerConstants, ActionHandlingConstants
      */
     public void setComponentList(ArrayList<Component> componentList)
     {
-        // save current component list as old list
-        this.componentListOld = this.componentList;
-        // save new component list as current list
-        this.componentList = componentList;
+        // build the lookup tables of the new component list, the current list becomes the old list
+        ComponentSnapshot newSnapshot = new ComponentSnapshot(componentList, this.componentSnapshot);
+        // swap the snapshots at once, readers either see the old or the new component list completely
+        this.componentSnapshot = newSnapshot;
     }
 }
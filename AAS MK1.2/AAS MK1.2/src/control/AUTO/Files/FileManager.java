@@ -1,7 +1,9 @@
 package control.AUTO.Files;
 
+import control.AUTO.Components.IdManager;
 import model.AUTO.Components.Component;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.AUTO.Files.FileManagerConstants;
 import model.Constants.ActionHandlingConstants;
@@ -16,30 +18,32 @@ import java.util.Scanner;
  * Only called once by AUTO!
  * @author Philipp Schulz
  */
-public class FileManager implements FileManagerConstants, ActionHandlingConstants
+public class FileManager implements FileManagerConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of GLaDOS
     private final ActionQueuePublic actionQueue;
+    private final IdManager idManager;
 
     // local fields
     private ArrayList<Component> componentList;
     private File componentListFile;
     private int ownID;
-    private int soundManagerID;
     private String homePath;
 
     /**
      * Constructor of the FileManager class
      * @param actionQueue Instance of the public action queue
+     * @param idManager Instance of the IdManager from Auto, receives the component list after each reading
      * @author Philipp Schulz
      */
-    public FileManager(ActionQueuePublic actionQueue)
+    public FileManager(ActionQueuePublic actionQueue, IdManager idManager)
     {
         // save reference to instance of the ActionQueue
         this.actionQueue = actionQueue;
+        // initialize rest of components
+        this.idManager = idManager;
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
-        this.soundManagerID = INITIAL_STATE_OWN_ID;
         this.componentListFile = new File(COMPONENT_LIST_PATH);
         this.componentList = new ArrayList<>();
     }
@@ -73,59 +77,70 @@ public class FileManager implements FileManagerConstants, ActionHandlingConstant
     public void handleAction(Action action)
     {
         // go over all possible actions
-        if(action.getAction().equals(ACTION_READ_COMPONENT_LIST))       // if the component list should be read
+        switch(action.getOpcode())
         {
-            // read component list file
-            readComponentList();
-            // create new action for confirmation
-            Action answerAction = new Action(action.getOriginIndex(),this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                    ACTION_TERMINAL_MANAGER_PRINT+COMPONENT_LIST_READ_CONFIRMATION, ERROR_COUNT_NEW);
-            // put action into ActionQueue
-            this.actionQueue.addNewActionToActionQueue(answerAction);
+            case ACTION_READ_COMPONENT_LIST:        // if the component list should be read
+                // read component list file
+                readComponentList();
+                // only replace the IDs if the file could be read
+                if(!this.componentList.isEmpty())
+                {
+                    // give the new component list to the IdManager
+                    this.idManager.setComponentList(this.componentList);
+                    // create new action to update the IDs of all components
+                    Action updateAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(ACTION_QUEUE_MANAGER_NAME),
+                            this.ownID, WAIT_FOR_EXECUTION_FALSE, UPDATE_ID_ACTION, EMPTY_STRING);
+                    // put action into ActionQueue
+                    this.actionQueue.addNewActionToActionQueue(updateAction);
+                }
+                // create new action for confirmation
+                Action answerAction = this.actionQueue.obtainAction(action.getOriginIndex(),this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        ACTION_TERMINAL_MANAGER_PRINT,COMPONENT_LIST_READ_CONFIRMATION);
+                // put action into ActionQueue
+                this.actionQueue.addNewActionToActionQueue(answerAction);
+                break;
         }
-        else if(action.getAction().split(SPACE)[INDEX_ZERO].equals(ACTION_DEVICE_MANAGER_OS))      // if the os of the system is returned
+        //TODO: IMPLEMENT METHOD
+
+    }
+
+    /**
+     * Method for setting the home path for all files depending on the OS
+     * @param operatingSystem String that contains the name of the OS
+     * @author Philipp Schulz
+     */
+    public void updateHomePath(String operatingSystem)
+    {
+        // check if the program runs on Windows
+        if(operatingSystem.toLowerCase(Locale.ROOT).trim().contains(OS_WINDOWS))
         {
-            // get from action if the program runs on Windows or not
-            String os = action.getAction().substring(action.getAction().indexOf(ACTION_DEVICE_MANAGER_OS)
-                    +ACTION_DEVICE_MANAGER_OS.length()).toLowerCase(Locale.ROOT).trim();
-            // check if the program runs on Windows
-            if(os.contains(OS_WINDOWS))
-            {
-                // get absolute home path to program directory on Windows
-                this.homePath = new File(System.getProperty(USER_DIR)).getAbsolutePath() + SLASH;
-            }
-            else    // if the program runs on Linux (aka on a Raspberry Pi)
-            {
-                // get absolute home path to program directory on Raspberry Pi
-                this.homePath = PI_DIR;
-            }
-            // create new action to notify SoundManager
-            Action notifyAction = new Action(soundManagerID,this.ownID,WAIT_FOR_EXECUTION_FALSE,NOTIFY_COMPONENT,ERROR_COUNT_NEW);
-            // put actions into action queue
-            this.actionQueue.addNewActionToActionQueue(notifyAction);
+            // get absolute home path to program directory on Windows
+            this.homePath = new File(System.getProperty(USER_DIR)).getAbsolutePath() + SLASH;
         }
-        else if(action.getAction().contains(ACTION_GET_PATH_TO))        // if the path to a folder or file is requested
+        else    // if the program runs on Linux (aka on a Raspberry Pi)
         {
-            // check what file or folder is requested
-            if(action.getAction().contains(AUTO_COMPONENT_NAME))        // if the folder for the sound files of AUTO is requested
-            {
-                // create new actions to deliver the path to sound files for AUTO
-                Action autoPathAction = new Action(soundManagerID,this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_GET_PATH_TO+SPACE+
-                        SOUND_FILE_PATH_AUTO,ERROR_COUNT_NEW);
-                // put action into action queue
-                this.actionQueue.addNewActionToActionQueue(autoPathAction);
-            }
-            else if(action.getAction().contains(GLADOS_COMPONENT_NAME)) // if the folder for the sound files of GLaDOS is requested
-            {
-                // create new actions to deliver the path to sound files for AUTO
-                Action gladosPathAction = new Action(soundManagerID,this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_GET_PATH_TO+SPACE+
-                        SOUND_FILE_PATH_GLADOS,ERROR_COUNT_NEW);
-                // put action into action queue
-                this.actionQueue.addNewActionToActionQueue(gladosPathAction);
-            }
+            // get absolute home path to program directory on Raspberry Pi
+            this.homePath = PI_DIR;
         }
-        //TODO: IMPLEMENT METHOD
+    }
 
+    /**
+     * Method for getting the path to a folder or file
+     * @param pathID ID of the requested path (e.g. PATH_SOUND_FILES_AUTO)
+     * @return String that contains the path, null if the path is unknown
+     * @author Philipp Schulz
+     */
+    public String getPathTo(int pathID)
+    {
+        if(pathID == PATH_SOUND_FILES_AUTO)             // if the folder for the sound files of AUTO is requested
+        {
+            return SOUND_FILE_PATH_AUTO;
+        }
+        else if(pathID == PATH_SOUND_FILES_GLADOS)      // if the folder for the sound files of GLaDOS is requested
+        {
+            return SOUND_FILE_PATH_GLADOS;
+        }
+        return null;
     }
 
     /**
@@ -137,8 +152,9 @@ public class FileManager implements FileManagerConstants, ActionHandlingConstant
         // catch errors that could occur during reading
         try
         {
-            // initialize component list file
+            // initialize component list file and start with an empty list, a previous list might still be in use
             componentListFile = new File(COMPONENT_LIST_PATH);
+            ArrayList<Component> newComponentList = new ArrayList<>();
             // create scanner to read content of file
             Scanner componentListFileScanner = new Scanner(componentListFile);
             // loop over all lines of the file
@@ -157,15 +173,12 @@ public class FileManager implements FileManagerConstants, ActionHandlingConstant
                         // extract the current component ID
                         int componentID = Integer.parseInt(currentLine.substring(COMPONENT_LIST_STRING_START,currentLine.indexOf(SPACE_STRING)));
                         // add the extracted name and ID to the list as a new component
-                        this.componentList.add(new Component(componentID, componentName));
-                        // save ID of SoundManager
-                        if(componentName.equals(SOUND_MANAGER_COMPONENT_NAME))
-                        {
-                            this.soundManagerID = componentID;
-                        }
+                        newComponentList.add(new Component(componentID, componentName));
                     }
                 }
             }
+            // replace the previous component list
+            this.componentList = newComponentList;
         }
         catch(Exception e)
         {
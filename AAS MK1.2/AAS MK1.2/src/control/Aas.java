@@ -2,11 +2,21 @@ package control;
 
 import control.AUTO.Auto;
 import control.ActionQueue.ActionQueueManager;
+import control.GLaDOS.Devices.DeviceManager;
 import control.GLaDOS.Glados;
+import control.LoadTest.LoadGenerator;
 import control.Sound.SoundManager;
 import control.VoiceRecognition.VoiceRecognitionManager;
+import model.Boot.BootOrchestrator;
 import model.Constants.AASConstants;
 import model.Constants.ActionHandlingConstants;
+import model.Sound.AudioSink;
+import model.Sound.AudioSinkFactory;
+import model.VoiceRecognition.SilentVoiceRecognizer;
+import model.VoiceRecognition.VoiceRecognitionCMU;
+import model.VoiceRecognition.VoiceRecognizer;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Overall control point of all software components of AAS. Only called once by Main!
@@ -20,6 +30,8 @@ public class Aas implements AASConstants, ActionHandlingConstants
     private Glados glados;
     private SoundManager soundManager;
     private VoiceRecognitionManager voiceRecognitionManager;
+    // local fields
+    private String operatingSystem;
 
     /**
      * Method to start the overall program. Only called once by Main!
@@ -27,19 +39,137 @@ public class Aas implements AASConstants, ActionHandlingConstants
      */
     public void startAAS()
     {
-        // initialize components
+        // initialize components with the chosen sound output (sound card by default) and the real voice recognition
+        this.actionQueueManager = new ActionQueueManager();
+        createComponents(createAudioSink(DEFAULT_AUDIO_OUTPUT), new VoiceRecognitionCMU(this.actionQueueManager.getPublicActionQueue().getStateBus(),
+                Boolean.parseBoolean(System.getProperty(PROPERTY_WAKE_WORD_GATING, DEFAULT_WAKE_WORD_GATING))));
+        // start ActionQueueSystem
+        this.actionQueueManager.handleActions();
+    }
+
+    /**
+     * Method to start the overall program under synthetic load, the program turns itself off after the load test
+     * The voice recognition and the sound output are replaced by stand-ins, so no microphone or sound card is required
+     * A different sound output can be chosen with the system property aas.audioOutput (e.g. realtime)
+     * Only called once by Main!
+     * @param rate Number of inputs per second of all virtual users together
+     * @param concurrency Number of virtual users
+     * @param duration Duration of the load in [s]
+     * @author Philipp Schulz
+     */
+    public void startLoadTest(double rate, int concurrency, long duration)
+    {
+        // initialize components with the stand-ins for the sound output (unless chosen otherwise) and voice recognition
         this.actionQueueManager = new ActionQueueManager();
-        this.auto = new Auto(this.actionQueueManager.getPublicActionQueue());
-        this.glados = new Glados(this.actionQueueManager.getPublicActionQueue(), this.auto.getIdManager());
-        this.soundManager = new SoundManager(this.actionQueueManager.getPublicActionQueue(),
-                this.auto.getIdManager().getComponentIDByName(COM_PORT_MANAGER_NAME),
-                this.auto.getIdManager().getComponentIDByName(FILE_MANAGER_NAME));
-        this.voiceRecognitionManager = new VoiceRecognitionManager(this.actionQueueManager.getPublicActionQueue(), this.auto.getIdManager());
-        // save references to all above components in ActionQueueManager
-        this.actionQueueManager.setObjectReferences(this.auto, this.glados, this.soundManager, this.voiceRecognitionManager);
-        // give all components an ID
-        this.actionQueueManager.setComponentIDs();
+        createComponents(createAudioSink(LOAD_TEST_AUDIO_OUTPUT), new SilentVoiceRecognizer(this.actionQueueManager.getPublicActionQueue().getStateBus()));
+        // start the virtual users, they wait until the program is ready
+        LoadGenerator loadGenerator = new LoadGenerator(this.actionQueueManager.getPublicActionQueue(), this.auto.getIdManager(),
+                rate, concurrency, duration);
+        loadGenerator.start();
         // start ActionQueueSystem
         this.actionQueueManager.handleActions();
     }
+
+    /**
+     * Method for creating all components and giving them their IDs, returns as soon as actions can be dispatched
+     * The boot sequence is a graph of phases, independent phases (e.g. loading the acoustic model, creating the devices
+     * and loading the voice banks) run in parallel, the remaining phases keep running while actions are dispatched
+     * The timeline of all phases is printed if the system property aas.bootTimeline is set to true
+     * @param audioSink Sink that plays the sound output
+     * @param voiceRecognizer Voice recognition that delivers the recognized inputs
+     * @throws IllegalStateException If the components could not be created
+     * @author Philipp Schulz
+     */
+    private void createComponents(AudioSink audioSink, VoiceRecognizer voiceRecognizer)
+    {
+        BootOrchestrator bootSequence = new BootOrchestrator(BOOT_THREADS);
+        // phases without dependencies, the component list is read while Auto is created
+        bootSequence.addPhase(PHASE_OPERATING_SYSTEM, () -> this.operatingSystem = DeviceManager.detectOS());
+        bootSequence.addPhase(PHASE_COMPONENT_LIST, () -> this.auto = new Auto(this.actionQueueManager.getPublicActionQueue()));
+        // components that only need the component IDs of Auto, Glados also initializes the GPIO pins
+        bootSequence.addPhase(PHASE_GLADOS, () -> this.glados = new Glados(this.actionQueueManager.getPublicActionQueue(),
+                this.auto.getIdManager()), PHASE_COMPONENT_LIST);
+        bootSequence.addPhase(PHASE_SOUND_MANAGER, () -> {
+            this.soundManager = new SoundManager(this.actionQueueManager.getPublicActionQueue(),
+                    this.auto.getIdManager().getComponentIDByName(COM_PORT_MANAGER_NAME), audioSink);
+            // the ID is needed for the completion of the initialization of the sound output
+            this.soundManager.setOwnID(this.auto.getIdManager().getComponentIDByName(this.soundManager.getClass().getSimpleName()));
+        }, PHASE_COMPONENT_LIST);
+        bootSequence.addPhase(PHASE_VOICE_RECOGNITION_MANAGER, () -> {
+            this.voiceRecognitionManager = new VoiceRecognitionManager(this.actionQueueManager.getPublicActionQueue(),
+                    this.auto.getIdManager(), voiceRecognizer);
+            // the ID is needed for the messages while the acoustic model is loaded
+            this.voiceRecognitionManager.setOwnID(this.auto.getIdManager().getComponentIDByName(
+                    this.voiceRecognitionManager.getClass().getSimpleName()));
+        }, PHASE_COMPONENT_LIST);
+        // save references to all components in ActionQueueManager and give them an ID, actions can be dispatched afterwards
+        bootSequence.addPhase(PHASE_COMPONENT_IDS, () -> {
+            this.actionQueueManager.setObjectReferences(this.auto, this.glados, this.soundManager, this.voiceRecognitionManager);
+            this.actionQueueManager.setComponentIDs();
+        }, PHASE_GLADOS, PHASE_SOUND_MANAGER, PHASE_VOICE_RECOGNITION_MANAGER);
+        // the acoustic model only needs the OS and the VoiceRecognitionManager, it is loaded while the other components are created
+        // a failed creation fails the phase, so the recognition is not started and the boot is not announced as complete
+        bootSequence.addPhase(PHASE_SPEECH_MODEL, () -> awaitInitialization(PHASE_SPEECH_MODEL,
+                this.voiceRecognitionManager.createRecognizer(this.operatingSystem)), PHASE_OPERATING_SYSTEM, PHASE_VOICE_RECOGNITION_MANAGER);
+        // the paths to the sound files are taken directly from the FileManager
+        bootSequence.addPhase(PHASE_HOME_PATH, () -> this.auto.getFileManager().updateHomePath(this.operatingSystem),
+                PHASE_OPERATING_SYSTEM, PHASE_COMPONENT_LIST);
+        bootSequence.addPhase(PHASE_SOUND_OUTPUT, () -> awaitInitialization(PHASE_SOUND_OUTPUT, this.soundManager.initializeSound(
+                this.auto.getFileManager().getPathTo(PATH_SOUND_FILES_AUTO), this.auto.getFileManager().getPathTo(PATH_SOUND_FILES_GLADOS))),
+                PHASE_HOME_PATH, PHASE_SOUND_MANAGER);
+        // warm-up of the sound output, BOOT_COMPLETE does not wait for it
+        bootSequence.addPhase(PHASE_WORD_WARM_UP, () -> this.soundManager.warmUpWords(), PHASE_SOUND_OUTPUT);
+        bootSequence.addPhase(PHASE_FIXED_PHRASES, () -> this.soundManager.renderFixedPhrases(), PHASE_SOUND_OUTPUT);
+        // start the recognition and tell the user that the program is ready
+        bootSequence.addPhase(PHASE_VOICE_RECOGNITION, () -> this.voiceRecognitionManager.runRecognitionCMU(),
+                PHASE_SPEECH_MODEL, PHASE_COMPONENT_IDS);
+        bootSequence.addPhase(PHASE_BOOT_COMPLETE, () -> this.actionQueueManager.announceBootComplete(),
+                PHASE_COMPONENT_IDS, PHASE_SOUND_OUTPUT, PHASE_VOICE_RECOGNITION);
+        // run the boot sequence and print its timeline at the end if requested
+        bootSequence.start().whenComplete((result, error) -> {
+            if(Boolean.getBoolean(PROPERTY_BOOT_TIMELINE))
+            {
+                bootSequence.printTimeline(PHASE_BOOT_COMPLETE);
+            }
+        });
+        // the dispatcher can only start once all components have their IDs
+        if(!bootSequence.awaitPhase(PHASE_COMPONENT_IDS))
+        {
+            throw new IllegalStateException(ERROR_BOOT + PHASE_COMPONENT_IDS);
+        }
+    }
+
+    /**
+     * Method for creating the sink of the sound output, the backend can be chosen with the system property
+     * aas.audioOutput (line, null, realtime or wav) and the directory of the WAV files with aas.audioOutputDirectory
+     * @param defaultBackend Backend that is used if no backend was chosen
+     * @return Sink of the chosen backend, the sink of the default backend if the chosen backend is unknown
+     * @author Philipp Schulz
+     */
+    private AudioSink createAudioSink(String defaultBackend)
+    {
+        String backend = System.getProperty(PROPERTY_AUDIO_OUTPUT, defaultBackend);
+        AudioSink audioSink = AudioSinkFactory.createAudioSink(backend, System.getProperty(PROPERTY_AUDIO_OUTPUT_DIRECTORY));
+        if(audioSink == null)
+        {
+            System.out.printf(ERROR_AUDIO_OUTPUT, backend, defaultBackend);
+            audioSink = AudioSinkFactory.createAudioSink(defaultBackend, null);
+        }
+        return audioSink;
+    }
+
+    /**
+     * Method for waiting until an initialization task of a component that was started by a boot phase finished
+     * @param phase Name of the boot phase that started the task
+     * @param initialization Future of the initialization task
+     * @throws IllegalStateException If the initialization was not successful, the phases that depend on it are skipped
+     * @author Philipp Schulz
+     */
+    private void awaitInitialization(String phase, CompletableFuture<Boolean> initialization)
+    {
+        if(!initialization.join())
+        {
+            throw new IllegalStateException(ERROR_BOOT + phase);
+        }
+    }
 }
@@ -5,29 +5,44 @@ import control.GLaDOS.Glados;
 import control.Sound.SoundManager;
 import control.VoiceRecognition.VoiceRecognitionManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueue;
 import model.ActionQueue.ActionQueuePublic;
+import model.ActionQueue.ActionRouter;
+import model.ActionQueue.ComponentMailbox;
 import model.Constants.ActionHandlingConstants;
 import model.Constants.ActionQueue.ActionQueueManagerConstants;
+import model.Metrics.TargetMetrics;
+import model.StateBus.StateBus;
 
-import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class for central management of all actions in the AAS program
+ * The ActionQueueManager only routes actions, every component handles its actions in its own ComponentMailbox on a
+ * small shared thread pool, so a slow component (e.g. loading the acoustic model) does not stop the routing
  * Only called once by AAS!
  * @author Philipp Schulz
  */
-public class ActionQueueManager implements ActionQueueManagerConstants, ActionHandlingConstants
+public class ActionQueueManager implements ActionQueueManagerConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of GLaDOS
     private final ActionQueue actionQueue;
     private final ActionQueuePublic actionQueuePublic;
+    private final ActionRouter actionRouter;
+    private final ExecutorService mailboxExecutor;
+    private final TargetMetrics metrics;
+    private ComponentMailbox[] mailboxes;
     private Auto auto;
     private Glados glados;
     private SoundManager soundManager;
     private VoiceRecognitionManager voiceRecognitionManager;
 
     // local fields
+    private final ArrayList<Action> actionBurst;
     private int ownID;
     private boolean manageActions;
     private boolean autoStopped;
@@ -43,7 +58,17 @@ public class ActionQueueManager implements ActionQueueManagerConstants, ActionHa
     {
         // initialize rest of components
         this.actionQueue = new ActionQueue();
-        this.actionQueuePublic = new ActionQueuePublic(this.actionQueue);
+        this.actionQueuePublic = new ActionQueuePublic(this.actionQueue, new StateBus());
+        this.actionRouter = new ActionRouter();
+        this.metrics = this.actionQueue.getMetrics().registerTarget(this.getClass().getSimpleName(), null);
+        // the threads of the mailboxes must not keep the program alive after the shutdown
+        AtomicInteger mailboxThreadCount = new AtomicInteger();
+        this.mailboxExecutor = Executors.newFixedThreadPool(MAILBOX_THREADS, runnable ->
+        {
+            Thread mailboxThread = new Thread(runnable, MAILBOX_THREAD_NAME + mailboxThreadCount.incrementAndGet());
+            mailboxThread.setDaemon(true);
+            return mailboxThread;
+        });
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
         this.manageActions = INITIAL_STATE_MANAGE_ACTIONS;
@@ -51,6 +76,7 @@ public class ActionQueueManager implements ActionQueueManagerConstants, ActionHa
         this.gladosStopped = INITIAL_STATE_GLADOS_STOPPED;
         this.soundStopped = INITIAL_STATE_SOUND_STOPPED;
         this.voiceRecognitionStopped = INITIAL_STATE_VOICE_RECOGNITION_STOPPED;
+        this.actionBurst = new ArrayList<>(ACTION_MANAGEMENT_BURST_SIZE);
     }
 
     /**
@@ -86,135 +112,160 @@ public class ActionQueueManager implements ActionQueueManagerConstants, ActionHa
         this.auto.setComponentIDs();    // doesn't need the IdManager since it already has it
         this.soundManager.setOwnID(this.auto.getIdManager().getComponentIDByName(this.soundManager.getClass().getSimpleName()));
         this.voiceRecognitionManager.setOwnID(this.auto.getIdManager().getComponentIDByName(this.voiceRecognitionManager.getClass().getSimpleName()));
-        // start the VoiceRecognitionManager with the CMU Sphinx4 recognition
-        this.voiceRecognitionManager.runRecognitionCMU();
+        // compile the routing table based on the new component IDs
+        compileRoutingTable();
     }
 
     /**
-     * Central method for continually managing actions from the ActionQueue, until the exit condition is met
-     * author Philipp Schulz
+     * Method for telling the user that the program is ready, called once at the end of the boot sequence
+     * @author Philipp Schulz
      */
-    public void handleActions()
+    public void announceBootComplete()
     {
-        // create action to provide the FileManager with the home path for all files
-        Action homePathAction = new Action(this.auto.getIdManager().getComponentIDByName(DEVICE_MANAGER_NAME),
-                this.auto.getIdManager().getComponentIDByName(FILE_MANAGER_NAME),WAIT_FOR_EXECUTION_FALSE,
-                ACTION_DEVICE_MANAGER_OS,ERROR_COUNT_NEW);
-        // add action to queue
-        this.getPublicActionQueue().addNewActionToActionQueue(homePathAction);
         // give signal to terminal that the program is ready
-        Action bootAction = new Action(this.auto.getIdManager().getComponentIDByName(CLASS_NAME_TERMINAL_MANAGER),
-                this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_TERMINAL_MANAGER_PRINT+BOOT_COMPLETE, ERROR_COUNT_NEW);
+        Action bootAction = this.actionQueue.obtainAction(this.auto.getIdManager().getComponentIDByName(CLASS_NAME_TERMINAL_MANAGER),
+                this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_TERMINAL_MANAGER_PRINT, BOOT_COMPLETE);
         // create new action for playing the corresponding sound of AUTO
-        Action bootAutoAction = new Action(this.auto.getIdManager().getComponentIDByName(CLASS_NAME_SOUND_MANAGER),
-                this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+ BOOT_COMPLETE,ERROR_COUNT_NEW);
+        Action bootAutoAction = this.actionQueue.obtainAction(this.auto.getIdManager().getComponentIDByName(CLASS_NAME_SOUND_MANAGER),
+                this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO,BOOT_COMPLETE);
         // put actions into ActionQueue
         this.actionQueue.addNewActionToActionQueue(bootAction);
         this.actionQueue.addNewActionToActionQueue(bootAutoAction);
+    }
 
+    /**
+     * Central method for continually managing actions from the ActionQueue, until the exit condition is met
+     * author Philipp Schulz
+     */
+    public void handleActions()
+    {
+        // the boot sequence keeps running on its own threads, its actions are dispatched as soon as they arrive
         // loop until the flag manageActions is no longer set
         while(this.manageActions)
         {
-            // check if the ActionQueue contains actions
-            if(!this.actionQueue.getActionQueue().isEmpty())
+            // catch any errors that might occur
+            try
             {
-                // get new action from the ActionQueue
-                Action action = this.actionQueue.getActionQueue().poll();
-                // check if the action is not null
+                // wait until a new action is available, the thread sleeps without any CPU usage meanwhile
+                Action action = this.actionQueue.waitForNextActionFromQueue(ACTION_MANAGEMENT_WAIT_TIME);
+                // check if the action is not null (null if no action arrived during the waiting time)
                 if(action != null)
                 {
-                    // for debugging
-                    //System.out.println(this.auto.getIdManager().getComponentNameByID(action.getOriginIndex())+"->"+this.auto.getIdManager().getComponentNameByID(action.getTargetIndex())+": "+action.getAction());
-                    // check if action is valid (via target component ID)
-                    if(action.getTargetIndex()>=ACTION_MANAGEMENT_MINIMUM_ID)
-                    {// determine first digit of targetIndex
-                        int targetIndex = Integer.parseInt(Integer.toString(action.getTargetIndex()).substring(INDEX_ZERO,
-                                INDEX_ONE));
-                        // find out where the action needs to go to
-                        if(action.getTargetIndex() == this.soundManager.getOwnID())
-                        {
-                            // if the SoundManager is still alive
-                            if(!this.soundStopped)
-                            {
-                                // give the action to the SoundManager
-                                this.soundManager.handleAction(action);
-                            }
-                        }
-                        else if(action.getTargetIndex() == this.voiceRecognitionManager.getOwnID())
-                        {
-                            // if the VoiceRecognitionManager is still alive
-                            if(!this.voiceRecognitionStopped)
-                            {
-                                // give the action to the VoiceRecognitionManager
-                                this.voiceRecognitionManager.handleAction(action);
-                            }
-                        }
-                        else if(targetIndex == Integer.parseInt(Integer.toString(this.glados.getOwnID()).substring(INDEX_ZERO,INDEX_ONE)))
-                        {
-                            // give the action to Glados
-                            this.glados.handleAction(action);
-                        }
-                        else if(targetIndex == Integer.parseInt(Integer.toString(this.auto.getOwnID()).substring(INDEX_ZERO,
-                                INDEX_ONE)))
-                        {
-                            // if Auto is still alive
-                            if(!this.autoStopped)
-                            {
-                                // give the action to Auto
-                                this.auto.handleAction(action);
-                            }
-                        }
-                        else if(action.getTargetIndex() == this.ownID)
-                        {
-                            // give the action to this class
-                            handleAction(action);
-                        }
-                    }
-                    else
+                    // sample the depth of the lanes while the burst is still waiting
+                    this.actionQueue.getMetrics().sampleQueueDepths();
+                    // take the first action and all other actions that arrived in the meantime as one burst
+                    this.actionBurst.add(action);
+                    this.actionQueue.drainActionsFromQueue(this.actionBurst, ACTION_MANAGEMENT_BURST_SIZE);
+                    // handle all actions of the burst in the order of the ActionQueue
+                    for(Action burstAction : this.actionBurst)
                     {
-                        // adjust action contents
-                        action.setAction(action.getAction() + WRONG_COMPONENT_ID + action.getTargetIndex());
-                        action.setTargetIndex(action.getOriginIndex());
-                        action.setOriginIndex(this.ownID);
-                        action.setErrorCount(action.getErrorCount()+ACTION_MANAGEMENT_ERROR_COUNT_INCREMENT);
-                        // send the action back to the origin
-                        this.actionQueue.addNewActionToActionQueue(action);
+                        dispatchAction(burstAction);
                     }
-                }
-                // check if all components are shut down
-                if(this.autoStopped && this.gladosStopped && this.voiceRecognitionStopped && this.soundStopped &&
-                        this.actionQueue.getActionQueue().size() == 0)
-                {
-                    // only print allowed outside TerminalManager, since TerminalManager is shut down at this point
-                    System.out.println(SHUTDOWN_COMPLETE);
-                    // create action for sound manager to play the sound of the last message
-                    Action soundOutputStateAction = new Action(this.ownID,
-                            this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+
-                            SHUTDOWN_COMPLETE.substring(SHUTDOWN_COMPLETE.indexOf(SHUTDOWN_COMPLETE.split(SPACE)[INDEX_ONE])),
-                            ERROR_COUNT_NEW);
-                    // add the last message to sound output, handle outside ActionQueue
-                    this.soundManager.handleAction(soundOutputStateAction);
-                    // create action to shut down sound playback
-                    Action soundOutputShutDownAction = new Action(this.ownID,
-                            this.ownID,WAIT_FOR_EXECUTION_FALSE,SHUTDOWN_SOUND_PLAYBACK,ERROR_COUNT_NEW);
-                    // add the final action to SoundManager, handle outside ActionQueue
-                    this.soundManager.handleAction(soundOutputShutDownAction);
-
-                    // shut down the ActionQueueSystem loop, ending the entire program
-                    this.manageActions = false;
+                    // clear the burst for the next cycle, keeps the allocated capacity
+                    this.actionBurst.clear();
                 }
             }
-            // catch any errors that might occur
-            try
+            catch(InterruptedException ignored)
             {
-                // sleep for the specified time
-                TimeUnit.MILLISECONDS.sleep(ACTION_MANAGEMENT_WAIT_TIME);
+
             }
-            catch(Exception ignored)
+            // check if all components are shut down
+            if(this.autoStopped && this.gladosStopped && this.voiceRecognitionStopped && this.soundStopped &&
+                    this.actionQueue.getQueueSize() == 0 && areMailboxesIdle())
             {
+                // only print allowed outside TerminalManager, since TerminalManager is shut down at this point
+                System.out.println(SHUTDOWN_COMPLETE);
+                // create action for sound manager to play the sound of the last message
+                Action soundOutputStateAction = new Action(this.ownID,
+                        this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO,
+                        SHUTDOWN_COMPLETE.substring(SHUTDOWN_COMPLETE.indexOf(SHUTDOWN_COMPLETE.split(SPACE)[INDEX_ONE])),
+                        ERROR_COUNT_NEW);
+                // add the last message to sound output, handle outside ActionQueue
+                this.soundManager.handleAction(soundOutputStateAction);
+                // create action to shut down sound playback
+                Action soundOutputShutDownAction = new Action(this.ownID,
+                        this.ownID,WAIT_FOR_EXECUTION_FALSE,SHUTDOWN_SOUND_PLAYBACK,EMPTY_STRING,ERROR_COUNT_NEW);
+                // add the final action to SoundManager, handle outside ActionQueue
+                this.soundManager.handleAction(soundOutputShutDownAction);
 
+                // shut down the ActionQueueSystem loop and the threads of the mailboxes, ending the entire program
+                this.manageActions = false;
+                this.mailboxExecutor.shutdown();
+                this.actionQueuePublic.getInitializationService().shutdown();
+            }
+        }
+    }
+
+    /**
+     * Method for passing a single action from the ActionQueue on to its target component
+     * only called by this class itself (inside handleActions())!
+     * @param action Action that should be passed on to its target component
+     * @author Philipp Schulz
+     */
+    private void dispatchAction(Action action)
+    {
+        // for debugging
+        //System.out.println(this.auto.getIdManager().getComponentNameByID(action.getOriginIndex())+"->"+this.auto.getIdManager().getComponentNameByID(action.getTargetIndex())+": "+action.getOpcode()+SPACE+action.getText());
+        // check if action is valid (via target component ID)
+        if(action.getTargetIndex()>=ACTION_MANAGEMENT_MINIMUM_ID)
+        {
+            // find out where the action needs to go to
+            ActionHandler targetComponent = this.actionRouter.getHandler(action.getTargetIndex());
+            // check if any component is responsible for the action
+            if(targetComponent == this)
+            {
+                // actions for the ActionQueueManager are handled directly
+                long startTime = System.nanoTime();
+                handleAction(action);
+                this.metrics.recordAction(startTime - action.getDispatchTime(), System.nanoTime() - startTime);
+            }
+            else if(targetComponent != null)
+            {
+                // put the action into the mailbox of the component, the mailbox gives it back to the ActionPool
+                targetComponent.handleAction(action);
+                return;
+            }
+            else
+            {
+                // no component is responsible, a request is answered with an error
+                this.actionQueue.discardAction(action);
+                return;
             }
         }
+        else
+        {
+            // adjust action contents
+            action.setOpcode(WRONG_COMPONENT_ID);
+            action.setValue(action.getTargetIndex());
+            action.setTargetIndex(action.getOriginIndex());
+            action.setOriginIndex(this.ownID);
+            action.setErrorCount(action.getErrorCount()+ACTION_MANAGEMENT_ERROR_COUNT_INCREMENT);
+            // send the action back to the origin
+            this.actionQueue.addNewActionToActionQueue(action);
+        }
+        // reuse the action if no component put it back into the ActionQueue
+        this.actionQueue.recycleAction(action);
+    }
+
+    /**
+     * Method for compiling the routing table of the ActionQueueManager from the current component IDs
+     * @author Philipp Schulz
+     */
+    private void compileRoutingTable()
+    {
+        // remove all routes of the previous component IDs
+        this.actionRouter.clearRoutes();
+        // every component receives its actions via its mailbox, components that are shut down close their mailbox
+        this.actionRouter.addRoute(this.soundManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.mailboxes[MAILBOX_SOUND_MANAGER]);
+        this.actionRouter.addRoute(this.voiceRecognitionManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.mailboxes[MAILBOX_VOICE_RECOGNITION_MANAGER]);
+        // Glados and Auto receive all actions of their ID range (first digit of the ID), except for the components
+        // of Glados with their own mailbox
+        this.actionRouter.addRoute(this.glados.getOwnID(), ActionRouter.HIERARCHY_DEPTH_ROOT, this.mailboxes[MAILBOX_GLADOS]);
+        this.actionRouter.addRoute(this.glados.getTerminalManager().getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.mailboxes[MAILBOX_TERMINAL_MANAGER]);
+        this.actionRouter.addRoute(this.glados.getDeviceManager().getOwnID(), ActionRouter.HIERARCHY_DEPTH_1, this.mailboxes[MAILBOX_DEVICE_MANAGER]);
+        this.actionRouter.addRoute(this.auto.getOwnID(), ActionRouter.HIERARCHY_DEPTH_ROOT, this.mailboxes[MAILBOX_AUTO]);
+        // actions for this class
+        this.actionRouter.addRoute(this.ownID, ActionRouter.HIERARCHY_DEPTH_EXACT, this);
     }
 
     /**
@@ -226,52 +277,65 @@ public class ActionQueueManager implements ActionQueueManagerConstants, ActionHa
     public void handleAction(Action action)
     {
         // handle the content of the received action
-        switch (action.getAction()) {
+        switch (action.getOpcode()) {
             case SHUTDOWN_CONFIRMATION:             // if the action is from components shutting down
                 // determine sender of action
                 if (action.getOriginIndex() == this.auto.getOwnID())
                 {
                     // save completed shutdown for Auto
                     this.autoStopped = true;
+                    this.mailboxes[MAILBOX_AUTO].close();
                 } else if (action.getOriginIndex() == this.glados.getOwnID())
                 {
                     // save completed shutdown for Glados
                     this.gladosStopped = true;
+                    // close Glados and its subtree, Glados sends the shutdown to the TerminalManager into the same lane
+                    // before its confirmation, so it is already in the mailbox (closing only stops new actions) and the
+                    // TerminalManager does not reply to it
+                    this.mailboxes[MAILBOX_GLADOS].close();
+                    this.mailboxes[MAILBOX_TERMINAL_MANAGER].close();
+                    this.mailboxes[MAILBOX_DEVICE_MANAGER].close();
                 } else if (action.getOriginIndex() == this.voiceRecognitionManager.getOwnID())
                 {
                     // save completed shutdown for VoiceRecognitionManager
                     this.voiceRecognitionStopped = true;
+                    this.mailboxes[MAILBOX_VOICE_RECOGNITION_MANAGER].close();
                 } else if (action.getOriginIndex() == this.soundManager.getOwnID())
                 {
                     // save completed shutdown for SoundManager
                     this.soundStopped = true;
+                    this.mailboxes[MAILBOX_SOUND_MANAGER].close();
                 }
                 break;
 
             case UPDATE_ID_ACTION:                  // if the component IDs need to be updated
+                // wait until no component handles an action anymore, the dispatcher does not fill the mailboxes meanwhile
+                awaitMailboxesIdle();
                 // update component IDs of all components
                 this.auto.setComponentIDs();
                 this.glados.setComponentIDs();
                 this.soundManager.setOwnID(this.auto.getIdManager().getComponentIDByName(this.soundManager.getClass().getSimpleName()));
                 this.voiceRecognitionManager.setOwnID(this.auto.getIdManager().getComponentIDByName(this.voiceRecognitionManager.getClass().getSimpleName()));
+                // compile the routing table based on the new component IDs
+                compileRoutingTable();
                 break;
 
             case TURN_OFF_ACTION:                   // if the program should be turned off
                 // create and send action to Auto
-                Action shutdownAction = new Action(this.auto.getOwnID(), this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                        SHUTDOWN_ACTION, ERROR_COUNT_NEW);
+                Action shutdownAction = this.actionQueue.obtainAction(this.auto.getOwnID(), this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        SHUTDOWN_ACTION, EMPTY_STRING);
                 this.actionQueue.addNewActionToActionQueue(shutdownAction);
                 // create and send action to Glados
-                shutdownAction = new Action(this.glados.getOwnID(), this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                        SHUTDOWN_ACTION, ERROR_COUNT_NEW);
+                shutdownAction = this.actionQueue.obtainAction(this.glados.getOwnID(), this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        SHUTDOWN_ACTION, EMPTY_STRING);
                 this.actionQueue.addNewActionToActionQueue(shutdownAction);
                 // create and send action to voice recognition
-                shutdownAction = new Action(this.voiceRecognitionManager.getOwnID(), this.ownID,
-                        WAIT_FOR_EXECUTION_FALSE, SHUTDOWN_ACTION, ERROR_COUNT_NEW);
+                shutdownAction = this.actionQueue.obtainAction(this.voiceRecognitionManager.getOwnID(), this.ownID,
+                        WAIT_FOR_EXECUTION_FALSE, SHUTDOWN_ACTION, EMPTY_STRING);
                 this.actionQueue.addNewActionToActionQueue(shutdownAction);
                 // create and send action to sound output
-                shutdownAction = new Action(this.soundManager.getOwnID(), this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                        SHUTDOWN_ACTION, ERROR_COUNT_NEW);
+                shutdownAction = this.actionQueue.obtainAction(this.soundManager.getOwnID(), this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        SHUTDOWN_ACTION, EMPTY_STRING);
                 this.actionQueue.addNewActionToActionQueue(shutdownAction);
                 break;
         }
@@ -302,5 +366,45 @@ public class ActionQueueManager implements ActionQueueManagerConstants, ActionHa
         this.glados = glados;
         this.soundManager = soundManager;
         this.voiceRecognitionManager = voiceRecognitionManager;
+        // create the mailboxes of all components, the subtrees of TerminalManager and DeviceManager get their own mailbox
+        this.mailboxes = new ComponentMailbox[MAILBOX_COUNT];
+        this.mailboxes[MAILBOX_AUTO] = new ComponentMailbox(auto.getClass().getSimpleName(), auto, this.actionQueue, this.mailboxExecutor);
+        this.mailboxes[MAILBOX_GLADOS] = new ComponentMailbox(glados.getClass().getSimpleName(), glados, this.actionQueue, this.mailboxExecutor);
+        this.mailboxes[MAILBOX_TERMINAL_MANAGER] = new ComponentMailbox(CLASS_NAME_TERMINAL_MANAGER, glados.getTerminalManager(),
+                this.actionQueue, this.mailboxExecutor);
+        this.mailboxes[MAILBOX_DEVICE_MANAGER] = new ComponentMailbox(DEVICE_MANAGER_NAME, glados.getDeviceManager(),
+                this.actionQueue, this.mailboxExecutor);
+        this.mailboxes[MAILBOX_SOUND_MANAGER] = new ComponentMailbox(CLASS_NAME_SOUND_MANAGER, soundManager, this.actionQueue, this.mailboxExecutor);
+        this.mailboxes[MAILBOX_VOICE_RECOGNITION_MANAGER] = new ComponentMailbox(voiceRecognitionManager.getClass().getSimpleName(),
+                voiceRecognitionManager, this.actionQueue, this.mailboxExecutor);
+    }
+
+    /**
+     * Method for checking if all mailboxes are idle
+     * @return True if no component has waiting or running actions
+     * @author Philipp Schulz
+     */
+    private boolean areMailboxesIdle()
+    {
+        for(ComponentMailbox mailbox : this.mailboxes)
+        {
+            if(!mailbox.isIdle())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method for waiting until all mailboxes are idle, a component that is still busy after the timeout is ignored
+     * @author Philipp Schulz
+     */
+    private void awaitMailboxesIdle()
+    {
+        for(ComponentMailbox mailbox : this.mailboxes)
+        {
+            mailbox.awaitIdle(MAILBOX_IDLE_TIMEOUT);
+        }
     }
 }
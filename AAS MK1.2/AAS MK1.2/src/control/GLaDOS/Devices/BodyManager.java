@@ -1,6 +1,7 @@
 package control.GLaDOS.Devices;
 
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.GLaDOS.Devices.BodyManagerConstants;
 import model.GLaDOS.Devices.Body;
@@ -10,7 +11,7 @@ import model.GLaDOS.Devices.Body;
  * Only called once by DeviceManager!
  * @author Philipp Schulz
  */
-public class BodyManager implements BodyManagerConstants
+public class BodyManager implements BodyManagerConstants, ActionHandler
 {
     // objects of all required components of BodyManager
     private final ActionQueuePublic actionQueue;
@@ -30,7 +31,7 @@ public class BodyManager implements BodyManagerConstants
         this.actionQueue = actionQueue;
         this.simonManager = simonManager;
         // initialize rest of components
-        this.body = new Body();
+        this.body = new Body(actionQueue.getStateBus());
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
     }
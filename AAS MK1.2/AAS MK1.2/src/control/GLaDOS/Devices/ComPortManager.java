@@ -3,6 +3,7 @@ package control.GLaDOS.Devices;
 import com.fazecast.jSerialComm.SerialPort;
 import control.AUTO.Components.IdManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.GLaDOS.Devices.ComPortManagerConstants;
 
@@ -13,7 +14,7 @@ import java.util.ArrayList;
  * Only called once by DeviceManager!
  * @author Philipp Schulz
  */
-public class ComPortManager implements ComPortManagerConstants
+public class ComPortManager implements ComPortManagerConstants, ActionHandler
 {
     // objects of all required components of BodyManager
     private final ActionQueuePublic actionQueue;
@@ -2,7 +2,9 @@ package control.GLaDOS.Devices;
 
 import control.AUTO.Components.IdManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
+import model.ActionQueue.ActionRouter;
 import model.Constants.ActionHandlingConstants;
 import model.Constants.GLaDOS.Devices.DeviceManagerConstants;
 
@@ -11,7 +13,7 @@ import model.Constants.GLaDOS.Devices.DeviceManagerConstants;
  * Only called once by GLaDOS!
  * @author Philipp Schulz
  */
-public class DeviceManager implements DeviceManagerConstants, ActionHandlingConstants
+public class DeviceManager implements DeviceManagerConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of DeviceManager
     private final ActionQueuePublic actionQueue;
@@ -20,6 +22,7 @@ public class DeviceManager implements DeviceManagerConstants, ActionHandlingCons
     private final BodyManager bodyManager;
     private final ComPortManager comPortManager;
     private final GpioManager gpioManager;
+    private final ActionRouter actionRouter;
     // local fields
     private int ownID;
     private String operatingSystem;
@@ -42,6 +45,7 @@ public class DeviceManager implements DeviceManagerConstants, ActionHandlingCons
         this.simonManager = new SimonManager(actionQueue,gpioManager);
         this.bodyManager = new BodyManager(actionQueue,simonManager);
         this.comPortManager = new ComPortManager(actionQueue);
+        this.actionRouter = new ActionRouter();
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
         this.operatingSystem = INITIAL_STATE_OPERATING_SYSTEM;
@@ -80,6 +84,12 @@ public class DeviceManager implements DeviceManagerConstants, ActionHandlingCons
         this.simonManager.setOwnID(this.idManager.getComponentIDByName(this.simonManager.getClass().getSimpleName()));
         this.bodyManager.setOwnID(this.idManager.getComponentIDByName(this.bodyManager.getClass().getSimpleName()));
         this.comPortManager.setComponentIDs(this.idManager);
+        // compile the routing table for all components of the DeviceManager
+        this.actionRouter.clearRoutes();
+        this.actionRouter.addRoute(this.gpioManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.gpioManager);
+        this.actionRouter.addRoute(this.simonManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.simonManager);
+        this.actionRouter.addRoute(this.bodyManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_EXACT, this.bodyManager);
+        this.actionRouter.addRoute(this.comPortManager.getOwnID(), ActionRouter.HIERARCHY_DEPTH_2, this.comPortManager);
     }
 
     /**
@@ -90,39 +100,24 @@ public class DeviceManager implements DeviceManagerConstants, ActionHandlingCons
      */
     public void handleAction(Action action)
     {
-        // determine first digit of targetIndex for components with sub-components
-        int targetIndex = Integer.parseInt(Integer.toString(action.getTargetIndex()).substring(INDEX_THREE, INDEX_FIVE));
-        // go through all components of GLaDOS
-        if(action.getTargetIndex() == this.gpioManager.getOwnID())          // action is for GpioManager
+        // look up the component that is responsible for the target ID (GpioManager, SimonManager, BodyManager, ComPortManager)
+        ActionHandler targetComponent = this.actionRouter.getHandler(action.getTargetIndex());
+        // go through all components of the DeviceManager
+        if(targetComponent != null)                                         // action is for a component of the DeviceManager
         {
-            // let the GpioManager handle the action
-            this.gpioManager.handleAction(action);
-        }
-        else if(action.getTargetIndex() == this.simonManager.getOwnID())    // action is for SimonManager
-        {
-            // let the SimonManager handle the action
-            this.simonManager.handleAction(action);
-        }
-        else if(action.getTargetIndex() == this.bodyManager.getOwnID())      // action is for BodyManager
-        {
-            // let the BodyManager handle the action
-            this.bodyManager.handleAction(action);
-        }
-        else if(targetIndex == Integer.parseInt(Integer.toString(this.comPortManager.getOwnID()).substring(INDEX_THREE, INDEX_FIVE)))  // action is for ComPortManager
-        {
-            // let the ComPortManager handle the action
-            this.comPortManager.handleAction(action);
+            // let the component handle the action
+            targetComponent.handleAction(action);
         }
         else if(action.getTargetIndex() == this.ownID)                      // action is for this class
         {
             // go over all possible actions
-            if(action.getAction().contains(ACTION_DEVICE_MANAGER_OS))   // if the os should be returned
+            if(action.getOpcode() == ACTION_DEVICE_MANAGER_OS)          // if the os should be returned
             {
                 // call method for determining OS
                 this.determineOS();
                 // create action for answer
-                Action osAction = new Action(action.getOriginIndex(),this.ownID,WAIT_FOR_EXECUTION_FALSE,
-                        action.getAction()+SPACE+this.operatingSystem,ERROR_COUNT_NEW);
+                Action osAction = this.actionQueue.obtainAction(action.getOriginIndex(),this.ownID,WAIT_FOR_EXECUTION_FALSE,
+                        ACTION_DEVICE_MANAGER_OS,this.operatingSystem);
                 // add action to queue
                 this.actionQueue.addNewActionToActionQueue(osAction);
             }
@@ -134,20 +129,28 @@ public class DeviceManager implements DeviceManagerConstants, ActionHandlingCons
      * @author Philipp Schulz
      */
     public void determineOS()
+    {
+        this.operatingSystem = detectOS();
+    }
+
+    /**
+     * Method for detecting the OS on which this program is running, does not need an instance of the DeviceManager
+     * so the boot sequence can use it before any component exists
+     * @return String that includes the OS name
+     * @author Philipp Schulz
+     */
+    public static String detectOS()
     {
         String operatingSystemAnswer = System.getProperty(DETERMINE_OS_COMMAND);
         if(operatingSystemAnswer.contains(OS_NAME_WINDOWS))
         {
-            this.operatingSystem = OS_NAME_WINDOWS;
+            return OS_NAME_WINDOWS;
         }
         else if(operatingSystemAnswer.contains(OS_NAME_LINUX))  // TODO: TEST THIS PART
         {
-            this.operatingSystem = OS_NAME_LINUX;
-        }
-        else
-        {
-            this.operatingSystem = OS_NAME_DEFAULT;
+            return OS_NAME_LINUX;
         }
+        return OS_NAME_DEFAULT;
     }
 
     /**
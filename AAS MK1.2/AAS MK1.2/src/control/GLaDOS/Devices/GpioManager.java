@@ -4,6 +4,7 @@ import com.pi4j.io.gpio.GpioController;
 import com.pi4j.io.gpio.GpioFactory;
 import com.pi4j.io.gpio.GpioPinDigitalMultipurpose;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.GLaDOS.Devices.GpioManagerConstants;
 
@@ -12,7 +13,7 @@ import model.Constants.GLaDOS.Devices.GpioManagerConstants;
  * Only called once by DeviceManager!
  * @author Philipp Schulz
  */
-public class GpioManager implements GpioManagerConstants
+public class GpioManager implements GpioManagerConstants, ActionHandler
 {
     // objects of all required components of BodyManager
     private final ActionQueuePublic actionQueue;
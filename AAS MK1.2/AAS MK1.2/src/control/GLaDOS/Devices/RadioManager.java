@@ -2,6 +2,7 @@ package control.GLaDOS.Devices;
 
 import com.fazecast.jSerialComm.SerialPort;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.GLaDOS.Devices.RadioManagerConstants;
 import model.GLaDOS.Devices.Radio;
@@ -14,7 +15,7 @@ import java.io.OutputStream;
  * Only called once by ComPortManager!
  * @author Philipp Schulz
  */
-public class RadioManager implements RadioManagerConstants
+public class RadioManager implements RadioManagerConstants, ActionHandler
 {
     // objects of all required components of BodyManager
     private final ActionQueuePublic actionQueue;
@@ -34,7 +35,7 @@ public class RadioManager implements RadioManagerConstants
         // save reference to instance of the ActionQueue
         this.actionQueue = actionQueue;
         // initialize rest of components
-        this.radio = new Radio();
+        this.radio = new Radio(actionQueue.getStateBus());
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
     }
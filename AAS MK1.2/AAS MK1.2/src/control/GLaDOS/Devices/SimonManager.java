@@ -2,6 +2,7 @@ package control.GLaDOS.Devices;
 
 import com.pi4j.io.gpio.Pin;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.GLaDOS.Devices.SimonManagerConstants;
 
@@ -10,7 +11,7 @@ import model.Constants.GLaDOS.Devices.SimonManagerConstants;
  * Only called once by DeviceManager!
  * @author Philipp Schulz
  */
-public class SimonManager implements SimonManagerConstants
+public class SimonManager implements SimonManagerConstants, ActionHandler
 {
     // objects of all required components of BodyManager
     private final ActionQueuePublic actionQueue;
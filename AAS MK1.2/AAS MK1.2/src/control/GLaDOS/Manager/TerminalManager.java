@@ -2,9 +2,12 @@ package control.GLaDOS.Manager;
 
 import control.AUTO.Components.IdManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.ActionHandlingConstants;
 import model.Constants.GLaDOS.Manager.TerminalManagerConstants;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
 
 import java.io.BufferedReader;
 import java.io.InputStreamReader;
@@ -16,16 +19,15 @@ import java.util.concurrent.TimeUnit;
  * Only called once by GLaDOS!
  * @author Philipp Schulz
  */
-public class TerminalManager implements TerminalManagerConstants, ActionHandlingConstants
+public class TerminalManager implements TerminalManagerConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of TerminalManager
     private final ActionQueuePublic actionQueue;
     private final IdManager idManager;
+    private final StateTopic<Boolean> soundPlaybackFinished;
     // local fields
     private volatile boolean isActive;
-    private boolean receivedInput;
     private int ownID;
-    private String lastMessage;
     private Thread terminalInputThread;
 
     /**
@@ -40,11 +42,10 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
         this.actionQueue = actionQueue;
         // initialize rest of components
         this.idManager = idManager;
+        this.soundPlaybackFinished = actionQueue.getStateBus().getTopic(StateBus.SOUND_PLAYBACK_FINISHED);
         // initialize local fields
         this.isActive = INITIAL_STATE_IS_ACTIVE;
         this.ownID = INITIAL_STATE_OWN_ID;
-        this.receivedInput = RECEIVED_INPUT_START;
-        this.lastMessage = EMPTY_STRING;
         // start thread for receiving input from the terminal
         getInputFromTerminal();
         // print notice for help to terminal
@@ -126,12 +127,13 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
                 printToTerminal(TERMINAL_INPUT_RECOGNITION_STOP+"            "+HELP_PRINT_BINDER+HELP_VOICE_RECOGNITION_STOP);
                 printToTerminal(TERMINAL_INPUT_VOICE_RECOGNITION+"                 "+HELP_PRINT_BINDER+HELP_DESCRIPTION_DIALOGUE);
                 printToTerminal(TERMINAL_INPUT_PLAY_SOUND+"                "+HELP_PRINT_BINDER+HELP_PLAY_SOUND);
+                printToTerminal(TERMINAL_INPUT_STATISTICS+"              "+HELP_PRINT_BINDER+HELP_STATISTICS);
                 break;
 
             case TERMINAL_INPUT_SHUTDOWN:           // if the user wants to end the program
                 // create a new action for initiating shutdown
-                Action shutdownAction = new Action(this.idManager.getComponentIDByName(NAME_ACTION_QUEUE_MANAGER),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, SHUTDOWN_ACTION, ERROR_COUNT_NEW);
+                Action shutdownAction = actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_ACTION_QUEUE_MANAGER),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, SHUTDOWN_ACTION, EMPTY_STRING);
                 // add action to the ActionQueue
                 actionQueue.addNewActionToActionQueue(shutdownAction);
                 // give confirmation to terminal
@@ -140,17 +142,24 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
 
             case TERMINAL_INPUT_COMPONENT_LIST:     // if the user wants to read the component list file
                 // create a new action for reading the component list file
-                Action autoAction = new Action(this.idManager.getComponentIDByName(NAME_FILE_MANAGER),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, TERMINAL_INPUT_COMPONENT_LIST, ERROR_COUNT_NEW);
+                Action autoAction = actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_FILE_MANAGER),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_READ_COMPONENT_LIST, EMPTY_STRING);
                 // add action to the ActionQueue
                 actionQueue.addNewActionToActionQueue(autoAction);
                 // give confirmation to terminal
                 printToTerminal(TERMINAL_INPUT_CONFIRMATION);
                 break;
+            case TERMINAL_INPUT_STATISTICS:         // if the user wants to see the statistics of the action system
+                for(String line : this.actionQueue.getMetrics().createReport())
+                {
+                    printToTerminal(line);
+                }
+                break;
+
             case TERMINAL_INPUT_RECOGNITION_START:
                 // create a new action for starting the voice recognition
-                Action VRStartAction = new Action(this.idManager.getComponentIDByName(NAME_VOICE_RECOGNITION_MANAGER),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_START, ERROR_COUNT_NEW);
+                Action VRStartAction = actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_VOICE_RECOGNITION_MANAGER),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_START, EMPTY_STRING);
                 // add action to the ActionQueue
                 actionQueue.addNewActionToActionQueue(VRStartAction);
                 // give confirmation to terminal
@@ -158,8 +167,8 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
                 break;
             case TERMINAL_INPUT_RECOGNITION_STOP:
                 // create a new action for stopping the voice recognition
-                Action VRStopAction = new Action(this.idManager.getComponentIDByName(NAME_VOICE_RECOGNITION_MANAGER),
-                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_STOP, ERROR_COUNT_NEW);
+                Action VRStopAction = actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_VOICE_RECOGNITION_MANAGER),
+                        this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_VOICE_RECOGNITION_STOP, EMPTY_STRING);
                 // add action to the ActionQueue
                 actionQueue.addNewActionToActionQueue(VRStopAction);
                 // give confirmation to terminal
@@ -175,8 +184,8 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
                     // get user command
                     String command = input.substring(input.indexOf(SPACE));
                     // create a new action for reading the component list file
-                    Action dialogueAction = new Action(this.idManager.getComponentIDByName(NAME_VOICE_RECOGNITION_MANAGER),
-                            this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_HANDLE_ACTION+SPACE+command, ERROR_COUNT_NEW);
+                    Action dialogueAction = actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_VOICE_RECOGNITION_MANAGER),
+                            this.ownID, WAIT_FOR_EXECUTION_FALSE, ACTION_HANDLE_ACTION, command);
                     // add action to the ActionQueue
                     actionQueue.addNewActionToActionQueue(dialogueAction);
                     // give confirmation to terminal
@@ -192,15 +201,15 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
                     {
                         case GLADOS_COMPONENT_NAME:     // voice of GLaDOS
                             // create new action for playing the corresponding sound of Glados
-                            Action audioGladosAction = new Action(this.idManager.getComponentIDByName(NAME_SOUND_OUTPUT_MANAGER),
-                                    this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_GLADOS+sentence,ERROR_COUNT_NEW);
+                            Action audioGladosAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_SOUND_OUTPUT_MANAGER),
+                                    this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_GLADOS,sentence);
                             // add action to ActionQueue
                             this.actionQueue.addNewActionToActionQueue(audioGladosAction);
                             break;
                         case AUTO_COMPONENT_NAME:       // voice of AUTO
                             // create new action for playing the corresponding sound of Glados
-                            Action audioAutoAction = new Action(this.idManager.getComponentIDByName(NAME_SOUND_OUTPUT_MANAGER),
-                                    this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+ sentence,ERROR_COUNT_NEW);
+                            Action audioAutoAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(NAME_SOUND_OUTPUT_MANAGER),
+                                    this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO,sentence);
                             // add action to ActionQueue
                             this.actionQueue.addNewActionToActionQueue(audioAutoAction);
                             break;
@@ -208,6 +217,10 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
                             printToTerminal(PLAY_SOUND_WRONG_VOICE);
                     }
                 }
+                else if(firstCommand.equals(TERMINAL_INPUT_STATISTICS))  // if the statistics should be exported
+                {
+                    handleStatisticsExport(input.split(SPACE));
+                }
                 else         // if the user gave an invalid command
                 {
                     // give feedback to terminal
@@ -220,53 +233,30 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
 
     /**
      * Method to handle voice recognition during sound output
+     * Dialogue inputs are only handled if the sound output is not busy, the state is read from the StateBus
      * @param terminalInput String that was received from the terminal
      * @author Philipp Schulz
      */
     private void handleInputDuringSoundOutput(String terminalInput)
     {
-        // check if an input was already received from the voice recognition
-        if(this.receivedInput)
+        // check if the current action is an input for the voice recognition dialogue
+        if(terminalInput.split(SPACE)[ZERO_INDEX].toLowerCase(Locale.ROOT).equals(TERMINAL_INPUT_VOICE_RECOGNITION.toLowerCase(Locale.ROOT)))
         {
-            // check if the action contains the state of the sound output
-            if(terminalInput.contains(ACTION_SOUND_OUTPUT_BUSY))
+            // if the sound output is not currently busy
+            if(this.soundPlaybackFinished.getValue() == VALID_SOUND_OUTPUT)
             {
-                // if the sound output is not currently busy
-                if(terminalInput.contains(VALID_SOUND_OUTPUT))
-                {
-                    // handle the previous voice recognition input
-                    handleTerminalInput(this.lastMessage);
-                }
-                else    // if the sound output is currently busy
-                {
-                    printToTerminal(TERMINAL_INPUT_REJECT);
-                }
-            }
-            // reset fields for next input
-            this.receivedInput = false;
-            this.lastMessage = EMPTY_STRING;
-        }
-        else    // if the input from the voice recognition is given first
-        {
-            // check if the current action is an input for the voice recognition dialogue
-            if(terminalInput.split(SPACE)[ZERO_INDEX].toLowerCase(Locale.ROOT).equals(TERMINAL_INPUT_VOICE_RECOGNITION.toLowerCase(Locale.ROOT)))
-            {
-                // set fields to save current action for next cycle
-                this.receivedInput = !RECEIVED_INPUT_START;
-                this.lastMessage = terminalInput;
-                // create new action to request current sound output state
-                Action soundOutputStateAction = new Action(this.idManager.getComponentIDByName(NAME_SOUND_OUTPUT_MANAGER),
-                        this.ownID,WAIT_FOR_EXECUTION_FALSE,ACTION_SOUND_OUTPUT_BUSY,ERROR_COUNT_NEW);
-                // put actions into action queue
-                this.actionQueue.addNewActionToActionQueue(soundOutputStateAction);
-
+                handleTerminalInput(terminalInput);
             }
-            else    // handle commands without regard to sound output
+            else    // if the sound output is currently busy
             {
-                // pass the input to the state machines, terminal input does not depend on sound output
-                handleTerminalInput(terminalInput);
+                printToTerminal(TERMINAL_INPUT_REJECT);
             }
         }
+        else    // handle commands without regard to sound output
+        {
+            // pass the input to the state machines, terminal input does not depend on sound output
+            handleTerminalInput(terminalInput);
+        }
     }
 
     /**
@@ -298,20 +288,24 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
     public void handleAction(Action action)
     {
         // go over all possible cases
-        if(action.getAction().equals(TERMINAL_INPUT_SHUTDOWN))  // if the shutdown action was received
-        {
-            this.isActive = false;
-            this.terminalInputThread.interrupt();
-        }
-        else if(action.getAction().startsWith(ACTION_PRINT))      // if something should be printed to the terminal
-        {
-            printToTerminal(this.idManager.getComponentNameByID(action.getOriginIndex())+TERMINAL_PRINT_PREFIX
-                    +action.getAction().substring(action.getAction().indexOf(SPACE)+INCREMENT));
-        }
-        else if(action.getAction().contains(ACTION_SOUND_OUTPUT_BUSY))  // if the action is for giving the sound output state
+        switch(action.getOpcode())
         {
-            // pass action on to sound output handler method
-            handleInputDuringSoundOutput(action.getAction());
+            case SHUTDOWN_ACTION:                   // if the shutdown action was received
+                this.isActive = false;
+                this.terminalInputThread.interrupt();
+                break;
+
+            case ACTION_TERMINAL_MANAGER_PRINT:     // if something should be printed to the terminal
+                printToTerminal(this.idManager.getComponentNameByID(action.getOriginIndex())+TERMINAL_PRINT_PREFIX
+                        +action.getText());
+                break;
+
+            case ACTION_TERMINAL_INPUT:             // if a line should be handled as if it was typed into the terminal
+                if(action.getText().length()>TERMINAL_INPUT_MINIMUM_LENGTH)
+                {
+                    handleInputDuringSoundOutput(action.getText());
+                }
+                break;
         }
     }
 
@@ -328,4 +322,36 @@ public class TerminalManager implements TerminalManagerConstants, ActionHandling
         // print text to terminal
         System.out.println(newText);
     }
+
+    /**
+     * Method for handling the export option of the STATS command ('STATS EXPORT [seconds] [file]' or 'STATS EXPORT OFF')
+     * @param command Words of the command
+     * @author Philipp Schulz
+     */
+    private void handleStatisticsExport(String[] command)
+    {
+        if(command.length <= STATISTICS_PERIOD_INDEX || !command[STATISTICS_OPTION_INDEX].equalsIgnoreCase(STATISTICS_EXPORT))
+        {
+            printToTerminal(TERMINAL_INPUT_ERROR);
+        }
+        else if(command[STATISTICS_PERIOD_INDEX].equalsIgnoreCase(STATISTICS_EXPORT_OFF))
+        {
+            this.actionQueue.getMetrics().stopExport();
+            printToTerminal(STATISTICS_EXPORT_STOPPED);
+        }
+        else
+        {
+            try
+            {
+                long period = Math.max(STATISTICS_MINIMUM_PERIOD, Long.parseLong(command[STATISTICS_PERIOD_INDEX]));
+                String file = command.length > STATISTICS_FILE_INDEX ? command[STATISTICS_FILE_INDEX] : STATISTICS_EXPORT_FILE;
+                this.actionQueue.getMetrics().startExport(file, period);
+                printToTerminal(String.format(STATISTICS_EXPORT_STARTED, period, file));
+            }
+            catch(RuntimeException e)   // invalid period or file
+            {
+                printToTerminal(TERMINAL_INPUT_ERROR);
+            }
+        }
+    }
 }
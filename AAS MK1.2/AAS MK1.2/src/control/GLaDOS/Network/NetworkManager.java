@@ -2,6 +2,7 @@ package control.GLaDOS.Network;
 
 import control.AUTO.Components.IdManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.GLaDOS.Network.NetworkManagerConstants;
 import model.GLaDOS.Network.Message;
@@ -14,7 +15,7 @@ import java.util.ArrayList;
  * Only called once by GLaDOS!
  * @author Philipp Schulz
  */
-public class NetworkManager implements NetworkManagerConstants
+public class NetworkManager implements NetworkManagerConstants, ActionHandler
 {
     // objects of all required components of NetworkManager
     private final ActionQueuePublic actionQueue;
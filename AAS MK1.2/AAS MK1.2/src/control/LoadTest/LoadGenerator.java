@@ -0,0 +1,294 @@
+package control.LoadTest;
+
+import control.AUTO.Components.IdManager;
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionObserver;
+import model.ActionQueue.ActionQueuePublic;
+import model.Constants.ActionHandlingConstants;
+import model.Constants.LoadTest.LoadGeneratorConstants;
+import model.LoadTest.LoadStep;
+import model.Metrics.LatencyHistogram;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Class for putting the complete program under synthetic load without microphone and sound card
+ * A number of virtual users inject the scripted inputs of LOAD_SCRIPT at a fixed rate (open loop, the rate does not
+ * depend on the answers) into the ActionQueue, every input gets its own trace ID
+ * The latency of an input is the time from its injection until the first PRINT or PLAY_SOUND action of the same trace
+ * is dispatched, echoes of the recognized input itself (sent on behalf of the VoiceRecognitionManager) do not count
+ * After the load a report with throughput and percentiles is printed and the program is turned off
+ * @author Philipp Schulz
+ */
+public class LoadGenerator implements LoadGeneratorConstants, ActionHandlingConstants, ActionObserver
+{
+    // objects of all required components of LoadGenerator
+    private final ActionQueuePublic actionQueue;
+    private final IdManager idManager;
+    private final StateTopic<Boolean> voiceRecognitionRunning;
+    private final LatencyHistogram latencies;
+    private final LatencyHistogram[] kindLatencies;
+    // local fields
+    private final double rate;
+    private final int concurrency;
+    private final long duration;
+    private final int capacity;
+    private final AtomicLongArray injectTimes;
+    private final int[] stepOfTrace;
+    private final AtomicInteger injectedInputs;
+    private final AtomicLong rejectedInputs;
+    private final int[] targetIDs;
+    private final int[] originIDs;
+    private int voiceRecognitionManagerID;
+
+    /**
+     * Constructor of the LoadGenerator class
+     * @param actionQueue Instance of the public action queue
+     * @param idManager Instance of the IdManager from Auto
+     * @param rate Number of inputs per second of all virtual users together
+     * @param concurrency Number of virtual users
+     * @param duration Duration of the load in [s]
+     * @author Philipp Schulz
+     */
+    public LoadGenerator(ActionQueuePublic actionQueue, IdManager idManager, double rate, int concurrency, long duration)
+    {
+        // save references to the ActionQueue and the IdManager
+        this.actionQueue = actionQueue;
+        this.idManager = idManager;
+        this.voiceRecognitionRunning = actionQueue.getStateBus().getTopic(StateBus.VOICE_RECOGNITION_RUNNING);
+        // initialize the histograms, one for all inputs and one for every kind
+        this.latencies = new LatencyHistogram();
+        this.kindLatencies = new LatencyHistogram[KIND_NAMES.length];
+        for(int kind = 0; kind < KIND_NAMES.length; kind++)
+        {
+            this.kindLatencies[kind] = new LatencyHistogram();
+        }
+        // initialize local fields, every input of the load has its own slot
+        this.rate = rate;
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.capacity = (int) Math.min(Integer.MAX_VALUE - concurrency, (long) Math.ceil(rate*duration)) + concurrency;
+        this.injectTimes = new AtomicLongArray(this.capacity);
+        this.stepOfTrace = new int[this.capacity];
+        this.injectedInputs = new AtomicInteger();
+        this.rejectedInputs = new AtomicLong();
+        this.targetIDs = new int[LOAD_SCRIPT.length];
+        this.originIDs = new int[LOAD_SCRIPT.length];
+    }
+
+    /**
+     * Method for starting the load test in its own thread, called after the component IDs were set
+     * @author Philipp Schulz
+     */
+    public void start()
+    {
+        Thread loadThread = new Thread(this::runLoadTest, THREAD_NAME);
+        loadThread.start();
+    }
+
+    /**
+     * Method that is called whenever a traced action is taken out of the ActionQueue, only called by the ActionQueue!
+     * The first answer of an input closes its trace and records its latency
+     * @param action Action that was taken out of the ActionQueue
+     * @param dispatchTime Time in [ns] (System.nanoTime()) when the action was taken out
+     * @author Philipp Schulz
+     */
+    public void handleDispatchedAction(Action action, long dispatchTime)
+    {
+        int opcode = action.getOpcode();
+        // only prints and sound outputs answer an input, the echo of a recognized input is no answer
+        if((opcode != ACTION_TERMINAL_MANAGER_PRINT && opcode != ACTION_PLAY_SOUND_GLADOS && opcode != ACTION_PLAY_SOUND_AUTO)
+                || action.getOriginIndex() == this.voiceRecognitionManagerID)
+        {
+            return;
+        }
+        long trace = action.getTraceID() - FIRST_TRACE_ID;
+        if(trace < FIRST_INDEX || trace >= this.capacity)
+        {
+            return;
+        }
+        int index = (int) trace;
+        long injectTime = this.injectTimes.get(index);
+        // only the first answer counts, later answers of the same input find the trace closed
+        if(injectTime != TRACE_CLOSED && this.injectTimes.compareAndSet(index, injectTime, TRACE_CLOSED))
+        {
+            long latency = dispatchTime - injectTime;
+            this.latencies.record(latency);
+            this.kindLatencies[LOAD_SCRIPT[this.stepOfTrace[index]].getKind()].record(latency);
+        }
+    }
+
+    /**
+     * Method for running the complete load test, only called by the thread of the load test
+     * @author Philipp Schulz
+     */
+    private void runLoadTest()
+    {
+        // the dialogue inputs are only answered once the program is ready
+        waitForStart();
+        resolveComponentIDs();
+        this.actionQueue.addActionObserver(this);
+        System.out.printf(START_FORMAT, this.rate, this.concurrency, this.duration);
+        // every virtual user injects at its share of the rate, the users are spread evenly over one period
+        long period = Math.max(MINIMUM_PERIOD, Math.round(NANOSECONDS_PER_SECOND*this.concurrency/this.rate));
+        AtomicInteger userThreadCount = new AtomicInteger();
+        ScheduledThreadPoolExecutor users = new ScheduledThreadPoolExecutor(this.concurrency, runnable ->
+        {
+            Thread userThread = new Thread(runnable, USER_THREAD_NAME + userThreadCount.incrementAndGet());
+            userThread.setDaemon(true);
+            return userThread;
+        });
+        long startTime = System.nanoTime();
+        for(int user = 0; user < this.concurrency; user++)
+        {
+            int firstStep = (FIRST_STEP + user) % LOAD_SCRIPT.length;
+            // the runs of one virtual user never overlap, so its next step needs no synchronization
+            int[] nextStep = {firstStep};
+            users.scheduleAtFixedRate(() -> nextStep[FIRST_INDEX] = injectStep(nextStep[FIRST_INDEX]),
+                    period*user/this.concurrency, period, TimeUnit.NANOSECONDS);
+        }
+        // keep the load up for the given duration, afterwards wait for late answers
+        sleep(TimeUnit.SECONDS.toMillis(this.duration));
+        users.shutdownNow();
+        try
+        {
+            users.awaitTermination(SCHEDULER_TIMEOUT, TimeUnit.MILLISECONDS);
+        }
+        catch(InterruptedException ignored)
+        {
+
+        }
+        long loadTime = System.nanoTime() - startTime;
+        sleep(DRAIN_TIME);
+        this.actionQueue.removeActionObserver(this);
+        printReport(loadTime);
+        // turn off the program the same way the dialogue does
+        System.out.println(REPORT_SHUTDOWN);
+        Action turnOffAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(ACTION_QUEUE_MANAGER_NAME),
+                this.idManager.getComponentIDByName(AUTO_NAME), WAIT_FOR_EXECUTION_FALSE, TURN_OFF_ACTION, EMPTY_STRING);
+        this.actionQueue.addNewActionToActionQueue(turnOffAction);
+    }
+
+    /**
+     * Method for injecting a single step of the script as a new trace
+     * @param step Index of the step in LOAD_SCRIPT
+     * @return Index of the next step of the virtual user
+     * @author Philipp Schulz
+     */
+    private int injectStep(int step)
+    {
+        int index = this.injectedInputs.getAndIncrement();
+        if(index >= this.capacity)
+        {
+            // more inputs than planned, e.g. after a long pause of the virtual users
+            this.injectedInputs.decrementAndGet();
+            return step;
+        }
+        LoadStep loadStep = LOAD_SCRIPT[step];
+        Action action = this.actionQueue.obtainAction(this.targetIDs[step], this.originIDs[step], WAIT_FOR_EXECUTION_FALSE,
+                loadStep.getOpcode(), loadStep.getText());
+        action.setTraceID(index + FIRST_TRACE_ID);
+        // open the trace before the action can be answered
+        this.stepOfTrace[index] = step;
+        this.injectTimes.set(index, System.nanoTime());
+        if(!this.actionQueue.addNewActionToActionQueue(action))
+        {
+            this.injectTimes.set(index, TRACE_CLOSED);
+            this.rejectedInputs.incrementAndGet();
+        }
+        return (step + NEXT_STEP) % LOAD_SCRIPT.length;
+    }
+
+    /**
+     * Method for waiting until the voice recognition runs, the dialogues do not answer before
+     * @author Philipp Schulz
+     */
+    private void waitForStart()
+    {
+        System.out.println(START_WAITING);
+        long deadline = System.currentTimeMillis() + START_TIMEOUT;
+        while(!Boolean.TRUE.equals(this.voiceRecognitionRunning.getValue()))
+        {
+            if(System.currentTimeMillis() >= deadline)
+            {
+                System.out.println(START_TIMEOUT_REACHED);
+                return;
+            }
+            sleep(START_WAIT_TIME);
+        }
+    }
+
+    /**
+     * Method for looking up the IDs of all components of the script once, the IDs are fixed after startup
+     * @author Philipp Schulz
+     */
+    private void resolveComponentIDs()
+    {
+        for(int step = 0; step < LOAD_SCRIPT.length; step++)
+        {
+            this.targetIDs[step] = this.idManager.getComponentIDByName(LOAD_SCRIPT[step].getTargetName());
+            this.originIDs[step] = this.idManager.getComponentIDByName(LOAD_SCRIPT[step].getOriginName());
+        }
+        this.voiceRecognitionManagerID = this.idManager.getComponentIDByName(VOICE_RECOGNITION_MANAGER_NAME);
+    }
+
+    /**
+     * Method for printing the counters, the throughput and the latency percentiles of the load test
+     * @param loadTime Time in [ns] during which the load was injected
+     * @author Philipp Schulz
+     */
+    private void printReport(long loadTime)
+    {
+        long injected = this.injectedInputs.get();
+        long rejected = this.rejectedInputs.get();
+        long answered = this.latencies.getCount();
+        double seconds = (double) loadTime/NANOSECONDS_PER_SECOND;
+        System.out.println(REPORT_HEADER);
+        System.out.printf(REPORT_COUNTS_FORMAT, injected, rejected, answered, injected - rejected - answered);
+        System.out.printf(REPORT_THROUGHPUT_FORMAT, injected/seconds, answered/seconds);
+        System.out.printf(REPORT_TABLE_FORMAT, (Object[]) REPORT_TABLE_COLUMNS);
+        printLatencies(REPORT_TOTAL, this.latencies);
+        for(int kind = 0; kind < KIND_NAMES.length; kind++)
+        {
+            printLatencies(KIND_NAMES[kind], this.kindLatencies[kind]);
+        }
+    }
+
+    /**
+     * Method for printing a single line of the latency table
+     * @param name Name of the line
+     * @param histogram Histogram with the latencies of the line
+     * @author Philipp Schulz
+     */
+    private void printLatencies(String name, LatencyHistogram histogram)
+    {
+        System.out.printf(REPORT_LINE_FORMAT, name, histogram.getCount(),
+                histogram.getValueAtPercentile(PERCENTILE_50)/NANOSECONDS_PER_MILLISECOND,
+                histogram.getValueAtPercentile(PERCENTILE_99)/NANOSECONDS_PER_MILLISECOND,
+                histogram.getValueAtPercentile(PERCENTILE_999)/NANOSECONDS_PER_MILLISECOND,
+                histogram.getMaximum()/NANOSECONDS_PER_MILLISECOND);
+    }
+
+    /**
+     * Method for waiting a defined time interval
+     * @param millis Waiting time in [ms]
+     * @author Philipp Schulz
+     */
+    private void sleep(long millis)
+    {
+        try
+        {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        }
+        catch(InterruptedException ignored)
+        {
+
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package control;
 
+import model.Constants.LoadTest.LoadGeneratorConstants;
 import model.Constants.MainConstants;
 
 /**
@@ -10,6 +11,7 @@ public class Main implements MainConstants
 {
     /**
      * Main method, entry point of the program
+     * 'LOAD [rate] [concurrency] [duration]' starts a load test with stand-ins for microphone and sound card
      * @param args Arguments given during call of the program
      * @author Philipp Schulz
      */
@@ -17,6 +19,31 @@ public class Main implements MainConstants
     {
         // create new object of the AAS class
         Aas aas = new Aas();
+        // check if the load test should be started instead of the normal program
+        if(args.length > ARGUMENT_MODE_INDEX && args[ARGUMENT_MODE_INDEX].equalsIgnoreCase(MODE_LOAD_TEST))
+        {
+            try
+            {
+                double rate = args.length > ARGUMENT_RATE_INDEX ? Double.parseDouble(args[ARGUMENT_RATE_INDEX])
+                        : LoadGeneratorConstants.DEFAULT_RATE;
+                int concurrency = args.length > ARGUMENT_CONCURRENCY_INDEX ? Integer.parseInt(args[ARGUMENT_CONCURRENCY_INDEX])
+                        : LoadGeneratorConstants.DEFAULT_CONCURRENCY;
+                long duration = args.length > ARGUMENT_DURATION_INDEX ? Long.parseLong(args[ARGUMENT_DURATION_INDEX])
+                        : LoadGeneratorConstants.DEFAULT_DURATION;
+                if(rate > MINIMUM_RATE && !Double.isInfinite(rate) && concurrency >= MINIMUM_CONCURRENCY && duration >= MINIMUM_DURATION)
+                {
+                    // start the AAS program under load
+                    aas.startLoadTest(rate, concurrency, duration);
+                    return;
+                }
+            }
+            catch(NumberFormatException ignored)
+            {
+                // handled below like any other invalid argument
+            }
+            System.out.println(ERROR_LOAD_TEST_ARGUMENTS);
+            return;
+        }
         // start the AAS program
         aas.startAAS();
     }
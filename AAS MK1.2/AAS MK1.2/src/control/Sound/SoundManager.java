@@ -1,19 +1,26 @@
 package control.Sound;
 
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.ActionHandlingConstants;
 import model.Constants.Sound.SoundManagerConstants;
+import model.Constants.Util.UtilityFunctionsConstants;
+import model.Sound.AudioSink;
+import model.Sound.JavaSoundSink;
 import model.Sound.Sound;
 
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class for realization of sound output for all other components
  * Only called once by AAS!
  * @author Philipp Schulz
  */
-public class SoundManager implements SoundManagerConstants, ActionHandlingConstants
+public class SoundManager implements SoundManagerConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of VoiceRecognitionManager
     private final ActionQueuePublic actionQueue;
@@ -21,22 +28,32 @@ public class SoundManager implements SoundManagerConstants, ActionHandlingConsta
     // local fields
     private int ownID;
     private final int comPortManagerID;
-    private final int fileManagerID;
 
     /**
      * Constructor of the SoundManager class
      * @author Philipp Schulz
      */
-    public SoundManager(ActionQueuePublic actionQueue, int comPortManagerID, int fileManagerID)
+    public SoundManager(ActionQueuePublic actionQueue, int comPortManagerID)
+    {
+        this(actionQueue, comPortManagerID, new JavaSoundSink());
+    }
+
+    /**
+     * Constructor of the SoundManager class with a specific sink for the sound output, e.g. a stand-in for load tests
+     * @param actionQueue Instance of the public action queue
+     * @param comPortManagerID Component ID of the ComPortManager
+     * @param audioSink Sink that plays the sound output
+     * @author Philipp Schulz
+     */
+    public SoundManager(ActionQueuePublic actionQueue, int comPortManagerID, AudioSink audioSink)
     {
         // save reference to instance of the ActionQueue
         this.actionQueue = actionQueue;
         // initialize rest of components
-        this.sound = new Sound();
+        this.sound = new Sound(actionQueue.getStateBus(), audioSink);
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
         this.comPortManagerID = comPortManagerID;
-        this.fileManagerID = fileManagerID;
     }
 
     /**
@@ -48,74 +65,86 @@ public class SoundManager implements SoundManagerConstants, ActionHandlingConsta
     public void handleAction(Action action)
     {
         // handle the content of the received action
-        if(action.getAction().equals(SHUTDOWN_ACTION))    // if the action is for shutting down
+        switch(action.getOpcode())
         {
-            // adjust action for sending back
-            action.setAction(SHUTDOWN_CONFIRMATION);
-            action.setTargetIndex(action.getOriginIndex());
-            action.setOriginIndex(this.getOwnID());
-            // put action back into action queue
-            this.actionQueue.addNewActionToActionQueue(action);
-        }
-        else if(action.getAction().equals(SHUTDOWN_SOUND_PLAYBACK)) // if specifically the sound output should be shut down
-        {
-            // reset field in Sound class
-            this.sound.setAlive(KILL_SOUND_OUTPUT);
-        }
-        else if(action.getAction().contains(ACTION_PLAY_SOUND_GLADOS))  // if the action is for playing a sound from glados
-        {
-            // pass string to sound object and indicate sound from glados
-            sound.addTextToOutputQueue(ACTION_PLAY_SOUND_GLADOS,
-                    action.getAction().substring(action.getAction().indexOf(ACTION_PLAY_SOUND_GLADOS)+
-                            ACTION_PLAY_SOUND_GLADOS.length()).replace(COMMA,EMPTY_STRING)); // replace comma with empty String
-        }
-        else if(action.getAction().contains(ACTION_PLAY_SOUND_AUTO))    // if the action is for playing a sound from auto
-        {
-            // pass string to sound object and indicate sound from auto
-            sound.addTextToOutputQueue(ACTION_PLAY_SOUND_AUTO,
-                    action.getAction().substring(action.getAction().indexOf(ACTION_PLAY_SOUND_AUTO)+
-                            ACTION_PLAY_SOUND_AUTO.length()).replace(COMMA,EMPTY_STRING)); // replace comma with empty String
+            case SHUTDOWN_ACTION:                   // if the action is for shutting down
+                // adjust action for sending back
+                action.setOpcode(SHUTDOWN_CONFIRMATION);
+                action.setTargetIndex(action.getOriginIndex());
+                action.setOriginIndex(this.getOwnID());
+                // put action back into action queue
+                this.actionQueue.addNewActionToActionQueue(action);
+                break;
+
+            case SHUTDOWN_SOUND_PLAYBACK:           // if specifically the sound output should be shut down
+                // reset field in Sound class
+                this.sound.setAlive(KILL_SOUND_OUTPUT);
+                break;
+
+            case ACTION_PLAY_SOUND_GLADOS:          // if the action is for playing a sound from glados
+                // pass string to sound object and indicate sound from glados
+                sound.addTextToOutputQueue(GLADOS_COMPONENT_NAME, action.getText().replace(COMMA,EMPTY_STRING)); // replace comma with empty String
+                break;
+
+            case ACTION_PLAY_SOUND_AUTO:            // if the action is for playing a sound from auto
+                // pass string to sound object and indicate sound from auto
+                sound.addTextToOutputQueue(AUTO_COMPONENT_NAME, action.getText().replace(COMMA,EMPTY_STRING)); // replace comma with empty String
+                break;
         }
-        else if(action.getAction().contains(ACTION_GET_PATH_TO))        // if the action is for requesting a path
+    }
+
+    /**
+     * Method for initializing the sound output with the paths to the sound files of both voices, called once by the boot sequence
+     * Selecting the device enumerates all mixers, so the initialization runs as initialization task of this class
+     * @param autoSoundPath String that contains the path to the sound files of AUTO
+     * @param gladosSoundPath String that contains the path to the sound files of GLaDOS
+     * @return Future that is completed with true as soon as the sound output is initialized
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<Boolean> initializeSound(String autoSoundPath, String gladosSoundPath)
+    {
+        return this.actionQueue.getInitializationService().submit(INITIALIZATION_SOUND_OUTPUT, this.ownID, () ->
         {
-            // check which path was returned, last path will call initialization of this class
-            if(action.getAction().toUpperCase(Locale.ROOT).contains(AUTO_COMPONENT_NAME))
-            {
-                // set path for AUTO in Sound class
-                this.sound.setAutoSoundPath(action.getAction().substring(ACTION_GET_PATH_TO.length()+INDEX_ONE));
-            }
-            else if(action.getAction().toUpperCase(Locale.ROOT).contains(GLADOS_COMPONENT_NAME))
+            // set paths for AUTO and GLaDOS in Sound class
+            this.sound.setAutoSoundPath(autoSoundPath);
+            this.sound.setGladosSoundPath(gladosSoundPath);
+            // check if current os is Windows based on home path
+            if(!gladosSoundPath.contains(LINUX_HOME_PATH))
             {
-                // set path for GLaDOS in Sound class
-                this.sound.setGladosSoundPath(action.getAction().substring(ACTION_GET_PATH_TO.length()+INDEX_ONE));
-                // check if current os is Windows based on home path
-                if(!action.getAction().substring(ACTION_GET_PATH_TO.length()).contains(LINUX_HOME_PATH))
-                {
-                    // set flag in Sound class
-                    this.sound.setIsWindows(WINDOWS_OS_PRESENT);
-                }
-                // start proper initialization of Sound class
-                this.sound.initialize();
+                // set flag in Sound class
+                this.sound.setIsWindows(WINDOWS_OS_PRESENT);
             }
-        }
-        else if(action.getAction().contains(NOTIFY_COMPONENT))          // if the action notifies this class
+            // start proper initialization of Sound class
+            this.sound.initialize();
+            return INITIALIZATION_SUCCESSFUL;
+        });
+    }
+
+    /**
+     * Method for loading the most frequent words of both voices into memory (voice banks or sound files)
+     * Blocks until all words are loaded, the sound output must be initialized before
+     * @author Philipp Schulz
+     */
+    public void warmUpWords()
+    {
+        if(WARM_UP_ENABLED)
         {
-            // create new actions to request sound file paths for different voices
-            Action autoPathAction = new Action(fileManagerID,this.ownID,WAIT_FOR_EXECUTION_FALSE,
-                    ACTION_GET_PATH_TO+SPACE+AUTO_COMPONENT_NAME,ERROR_COUNT_NEW);
-            Action gladosPathAction = new Action(fileManagerID,this.ownID,WAIT_FOR_EXECUTION_FALSE,
-                    ACTION_GET_PATH_TO+SPACE+GLADOS_COMPONENT_NAME,ERROR_COUNT_NEW);
-            // put actions into action queue
-            this.actionQueue.addNewActionToActionQueue(autoPathAction);
-            this.actionQueue.addNewActionToActionQueue(gladosPathAction);
+            this.sound.warmUp(GLADOS_COMPONENT_NAME, createWarmUpPhrases(WARM_UP_PHRASES_GLADOS));
+            this.sound.warmUp(AUTO_COMPONENT_NAME, createWarmUpPhrases(WARM_UP_PHRASES_AUTO));
         }
-        else if(action.getAction().contains(ACTION_SOUND_OUTPUT_BUSY))  // if the action is for requesting the sound output state
+    }
+
+    /**
+     * Method for rendering the fixed phrases of both voices once, so responses start playing immediately
+     * Blocks until all phrases are rendered, the sound output must be initialized before
+     * @author Philipp Schulz
+     */
+    public void renderFixedPhrases()
+    {
+        if(PHRASE_CACHE_ENABLED)
         {
-            // create new action to give back the current state of the sound output
-            Action soundOutputStateAction = new Action(action.getOriginIndex(),this.ownID,WAIT_FOR_EXECUTION_FALSE,
-                    ACTION_SOUND_OUTPUT_BUSY+SPACE+this.sound.getPlaybackFinished(),ERROR_COUNT_NEW);
-            // put actions into action queue
-            this.actionQueue.addNewActionToActionQueue(soundOutputStateAction);
+            this.sound.addFixedPhrases(GLADOS_COMPONENT_NAME, createFixedPhrases(FIXED_PHRASES_GLADOS));
+            this.sound.addFixedPhrases(AUTO_COMPONENT_NAME, createFixedPhrases(FIXED_PHRASES_AUTO));
         }
     }
 
@@ -138,4 +167,39 @@ public class SoundManager implements SoundManagerConstants, ActionHandlingConsta
     {
         this.ownID = id;
     }
+
+    /**
+     * Method for creating the list of phrases whose words are loaded into memory after initialization
+     * @param dialoguePhrases String array that contains the dialogue phrases of a voice
+     * @return List of all dialogue phrases and number words of a voice
+     * @author Philipp Schulz
+     */
+    private List<String> createWarmUpPhrases(String[] dialoguePhrases)
+    {
+        // add the phrases of the dialogue
+        List<String> phrases = new ArrayList<>(Arrays.asList(dialoguePhrases));
+        // add all words that can be created while converting numbers
+        phrases.addAll(Arrays.asList(WARM_UP_PHRASES_NUMBERS));
+        phrases.addAll(Arrays.asList(UtilityFunctionsConstants.UNDER_TWENTY));
+        phrases.addAll(Arrays.asList(UtilityFunctionsConstants.TEENS_DIGITS));
+        phrases.addAll(Arrays.asList(UtilityFunctionsConstants.TEN_STEPS));
+        return phrases;
+    }
+
+    /**
+     * Method for creating the list of fixed phrases that are rendered once and played from memory afterwards
+     * @param fixedPhrases String array that contains the fixed phrases of a voice
+     * @return List of all fixed phrases of a voice, prepared exactly like a sentence that should be played
+     * @author Philipp Schulz
+     */
+    private List<String> createFixedPhrases(String[] fixedPhrases)
+    {
+        List<String> phrases = new ArrayList<>();
+        for(String fixedPhrase : fixedPhrases)
+        {
+            // replace comma with empty String like during playback
+            phrases.add(fixedPhrase.replace(COMMA,EMPTY_STRING));
+        }
+        return phrases;
+    }
 }
@@ -2,30 +2,38 @@ package control.VoiceRecognition;
 
 import control.AUTO.Components.IdManager;
 import model.ActionQueue.Action;
+import model.ActionQueue.ActionHandler;
 import model.ActionQueue.ActionQueuePublic;
 import model.Constants.ActionHandlingConstants;
 import model.Constants.VoiceRecognition.VoiceRecognitionManagerConstants;
 import model.VoiceRecognition.VoiceRecognitionCMU;
+import model.VoiceRecognition.VoiceRecognizer;
 
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Class for realization of voice recognition for overall program
  * Only called once by AAS!
  * @author Philipp Schulz
  */
-public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants, ActionHandlingConstants
+public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants, ActionHandlingConstants, ActionHandler
 {
     // objects of all required components of VoiceRecognitionManager
     private final ActionQueuePublic actionQueue;
-    private final VoiceRecognitionCMU voiceRecognitionCMU;
+    private final VoiceRecognizer voiceRecognitionCMU;
     private final IdManager idManager;
     // local fields
-    private boolean voiceRecognitionSetUp;
-    private boolean isAlive;
+    private final CompletableFuture<Void> recognizerReady;
+    private final AtomicBoolean recognitionThreadRunning;
+    private volatile CompletableFuture<Void> recognitionStopped;
+    private volatile boolean recognitionActive;
+    private volatile boolean isAlive;
     private boolean dialogueGlados;
     private boolean dialogueAuto;
+    private long lastDialogueInputTime;
     private int ownID;
     private int receiverID;
 
@@ -36,6 +44,18 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
      * @author Philipp Schulz
      */
     public VoiceRecognitionManager(ActionQueuePublic actionQueue, IdManager idManager)
+    {
+        this(actionQueue, idManager, new VoiceRecognitionCMU(actionQueue.getStateBus()));
+    }
+
+    /**
+     * Constructor of the VoiceRecognitionManager class with a specific voice recognition, e.g. a stand-in for load tests
+     * @param actionQueue Instance of the public action queue
+     * @param idManager Instance of the IdManager from Auto
+     * @param voiceRecognizer Voice recognition that delivers the recognized inputs
+     * @author Philipp Schulz
+     */
+    public VoiceRecognitionManager(ActionQueuePublic actionQueue, IdManager idManager, VoiceRecognizer voiceRecognizer)
     {
         // save reference to instance of the ActionQueue
         this.actionQueue = actionQueue;
@@ -43,13 +63,17 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
         this.idManager = idManager;
         // initialize local fields
         this.ownID = INITIAL_STATE_OWN_ID;
-        this.voiceRecognitionSetUp = INITIAL_STATE_VOICE_RECOGNITION_SET_UP;
+        this.recognizerReady = new CompletableFuture<>();
+        this.recognitionThreadRunning = new AtomicBoolean(INITIAL_STATE_RECOGNITION_THREAD_RUNNING);
+        this.recognitionStopped = new CompletableFuture<>();
+        this.recognitionActive = INITIAL_STATE_RECOGNITION_ACTIVE;
         this.isAlive = INITIAL_STATE_IS_ALIVE;
         this.dialogueGlados = INITIAL_STATE_DIALOGUE_GLADOS;
         this.dialogueAuto = INITIAL_STATE_DIALOGUE_AUTO;
         this.receiverID = INITIAL_STATE_RECEIVER_ID;
-        // start thread to instantiate the VoiceRecognitionCMU object
-        this.voiceRecognitionCMU = new VoiceRecognitionCMU();
+        this.lastDialogueInputTime = System.nanoTime();
+        // save reference to the voice recognition, the recognizer itself is created by the boot sequence as soon as the OS is known
+        this.voiceRecognitionCMU = voiceRecognizer;
     }
 
     /**
@@ -61,172 +85,120 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
     public void handleAction(Action action)
     {
         // handle the content of the received action
-        if(action.getAction().equals(SHUTDOWN_ACTION))    // if the action is for shutting down
-        {
-            // set flag for thread
-            this.isAlive = KILL_VOICE_RECOGNITION;
-            // adjust action for sending back
-            action.setAction(SHUTDOWN_CONFIRMATION);
-            action.setTargetIndex(action.getOriginIndex());
-            action.setOriginIndex(this.getOwnID());
-            // put action back into action queue
-            this.actionQueue.addNewActionToActionQueue(action);
-        }
-        else if(action.getAction().equals(ACTION_VOICE_RECOGNITION_START))   // if the voice recognition should be started
-        {
-            // start up the recognition thread
-            runRecognitionCMU();
-            // create action for print to terminal
-            Action terminalAction = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
-                    WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+RECOGNITION_START,ERROR_COUNT_NEW);
-            // put action into ActionQueue
-            this.actionQueue.addNewActionToActionQueue(terminalAction);
-        }
-        else if(action.getAction().equals(ACTION_VOICE_RECOGNITION_STOP))    // if the voice recognition should be stopped
+        switch(action.getOpcode())
         {
-            // set new state for the voice recognition module, stopping it shortly after by itself
-            this.isAlive = KILL_VOICE_RECOGNITION;
-        }
-        else if(action.getAction().contains(ACTION_DEVICE_MANAGER_OS))       // if the current OS was determined
-        {
-            try
-            {
-                // try to create the recognizer
-                boolean answer = this.voiceRecognitionCMU.createRecognizer(action.getAction().substring(action.getAction().indexOf(SPACE)+SPACE.length()));
-                // set the flag, only when successful
-                if(answer)
+            case SHUTDOWN_ACTION:                   // if the action is for shutting down
+                // set flag for thread and stop the recognition, it does not wait for the next utterance
+                this.isAlive = KILL_VOICE_RECOGNITION;
+                stopRecognition();
+                // adjust action for sending back
+                action.setOpcode(SHUTDOWN_CONFIRMATION);
+                action.setTargetIndex(action.getOriginIndex());
+                action.setOriginIndex(this.getOwnID());
+                // put action back into action queue
+                this.actionQueue.addNewActionToActionQueue(action);
+                break;
+
+            case ACTION_VOICE_RECOGNITION_START:    // if the voice recognition should be started
+                // start up the recognition thread
+                runRecognitionCMU();
+                // create action for print to terminal
+                Action terminalAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
+                        WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT,RECOGNITION_START);
+                // put action into ActionQueue
+                this.actionQueue.addNewActionToActionQueue(terminalAction);
+                break;
+
+            case ACTION_VOICE_RECOGNITION_STOP:     // if the voice recognition should be stopped
+                // stop the recognition, the recognition thread ends as soon as the current result returned
+                stopRecognition();
+                break;
+
+            case ACTION_INITIALIZATION_COMPLETE:    // if an initialization task of this class finished
+                if(action.getText().equals(INITIALIZATION_RECOGNIZER))
                 {
-                    // set flag
-                    this.voiceRecognitionSetUp = true;
-                    // create action for sound output
-                    Action soundStartAction = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),this.ownID,
-                            WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+RECOGNIZER_CREATION_SUCCESS.toLowerCase(Locale.ROOT),
-                            ERROR_COUNT_NEW);
-                    // put action into ActionQueue
-                    this.actionQueue.addNewActionToActionQueue(soundStartAction);
-                    // create action for print to terminal
-                    Action terminalAction = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
-                            WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+RECOGNIZER_CREATION_SUCCESS,ERROR_COUNT_NEW);
-                    // put action into ActionQueue
-                    this.actionQueue.addNewActionToActionQueue(terminalAction);
+                    // report the result, the recognition thread starts as soon as the recognizer is ready
+                    handleRecognizerCreated(action.getFlag());
                 }
-            }
-            catch(Exception e)
-            {
-                // create new action to report the failed creation of the recognizer
-                Action recognizerFailedAction = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
-                        WAIT_FOR_EXECUTION_FALSE, ACTION_TERMINAL_MANAGER_PRINT+ERROR_RECOGNIZER_CREATION,ERROR_COUNT_NEW);
-                // put action into queue
-                this.actionQueue.addNewActionToActionQueue(recognizerFailedAction);
-            }
-        }
-        else if(action.getAction().contains(ACTION_VOICE_RECOGNITION_ABORT))    // if the current dialogue should be aborted
-        {
-            // reset flags to indicate dialogue and receiverID
-            this.receiverID = INITIAL_STATE_RECEIVER_ID;
-            this.dialogueGlados = DIALOGUE_INACTIVE;
-            this.dialogueAuto = DIALOGUE_INACTIVE;
-        }
-        else if(action.getAction().contains(ACTION_HANDLE_ACTION) &&
-                (action.getOriginIndex() == this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME))) // if a dialogue input was given via terminal
-        {
-            // handle the input as if it came from the voice recognition
-            handleVoiceRecognitionResultSphinx4(action.getAction().substring(action.getAction().indexOf(SPACE)));
+                break;
+
+            case ACTION_VOICE_RECOGNITION_ABORT:    // if the current dialogue should be aborted
+                // reset flags to indicate dialogue and receiverID, the recognition listens for the wake words again
+                endDialogue();
+                break;
+
+            case ACTION_HANDLE_ACTION:              // if a dialogue input was given via terminal
+                if(action.getOriginIndex() == this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME))
+                {
+                    // handle the input as if it came from the voice recognition
+                    handleVoiceRecognitionResultSphinx4(action.getText());
+                }
+                break;
         }
     }
 
+    /**
+     * Method for creating the recognizer for the OS, loads the acoustic model and the grammar
+     * Called by the boot sequence, loading the model takes seconds, so it runs as initialization task of this class
+     * The result is reported as soon as this class receives the completion of the task
+     * @param operatingSystem String that contains the name of the OS
+     * @return Future that is completed with true as soon as the recognizer was created, the recognition must not be
+     * started otherwise
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<Boolean> createRecognizer(String operatingSystem)
+    {
+        return this.actionQueue.getInitializationService().submit(INITIALIZATION_RECOGNIZER, this.ownID,
+                () -> this.voiceRecognitionCMU.createRecognizer(operatingSystem));
+    }
+
     /**
      * Method for starting and maintaining the voice recognition
+     * A single recognition thread runs at a time, a start while it runs only keeps it running
      * @author Philipp Schulz
      */
     public void runRecognitionCMU()
     {
+        // a stopped program does not start the recognition again
+        if(!this.isAlive)
+        {
+            return;
+        }
+        // request the recognition before checking the thread, an ending thread sees the request and continues
+        this.recognitionStopped = new CompletableFuture<>();
+        this.recognitionActive = VOICE_RECOGNITION_START;
+        if(!this.recognitionThreadRunning.compareAndSet(!RECOGNITION_THREAD_RUNNING, RECOGNITION_THREAD_RUNNING))
+        {
+            return;
+        }
         // create new Thread for independent voice recognition & action handling
         Thread voiceRecognitionManagerThread = new Thread(() ->
         {
-            boolean osRequested = false;
-            // if this thread is called the first time
-            if(!voiceRecognitionSetUp && isAlive)
+            do
             {
-                // loop until voice recognition is set up (depends on os type)
-                while(!voiceRecognitionSetUp && isAlive)
-                {
-                    // check if the OS was already requested
-                    if(!osRequested)
-                    {
-                        // create a new action for the DeviceManager
-                        Action getOSAction = new Action(idManager.getComponentIDByName(DEVICE_MANAGER_NAME),ownID,WAIT_FOR_EXECUTION_FALSE,
-                                ACTION_DEVICE_MANAGER_OS, ERROR_COUNT_NEW);
-                        // put action into ActionQueue
-                        actionQueue.addNewActionToActionQueue(getOSAction);
-                        // set flag to avoid spamming actions into queue
-                        osRequested = true;
-                    }
-                    else
-                    {
-                        // catch any errors that might occur
-                        try
-                        {
-                            // sleep for the specified time
-                            TimeUnit.MILLISECONDS.sleep(WAIT_TIME);
-                        }
-                        catch(Exception ignored)
-                        {
-
-                        }
-                    }
-                }
+                recognizeUntilStopped();
+                this.recognitionThreadRunning.set(!RECOGNITION_THREAD_RUNNING);
             }
-            // start up the voice recognition
-            this.voiceRecognitionCMU.setIsRunning(VOICE_RECOGNITION_START);
-            // create action for sound output
-            Action soundStartAction = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),this.ownID,
-                    WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+RECOGNITION_START.toLowerCase(Locale.ROOT),ERROR_COUNT_NEW);
-            // put action into ActionQueue
-            this.actionQueue.addNewActionToActionQueue(soundStartAction);
-            // create action for print to terminal
-            Action terminalStartAction = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
-                    WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+RECOGNITION_START,ERROR_COUNT_NEW);
-            // put action into ActionQueue
-            this.actionQueue.addNewActionToActionQueue(terminalStartAction);
-            // loop until either the voice recognition is turned off or the program is shutting down
-            while(voiceRecognitionCMU.getIsRunning() && isAlive)
-            {
-                // get the current result from voice recognition
-                String recognitionResult = voiceRecognitionCMU.recognize();
-                // check if recognized input is valid
-                if(!recognitionResult.equals(EMPTY_STRING) && !recognitionResult.equals(RECOGNITION_UNKNOWN))
-                {
-                    // determine target component and handle content of result
-                    handleVoiceRecognitionResultSphinx4(recognitionResult);
-                }
-                // wait for a short time
-                try
-                {
-                    TimeUnit.MILLISECONDS.sleep(WAIT_TIME);
-                }
-                catch(Exception ignored)
-                {
-
-                }
-            }
-            // stop the voice recognition, waits until newest result is gathered
-            this.voiceRecognitionCMU.setIsRunning(VOICE_RECOGNITION_STOP);
-            // create action for sound output
-            Action soundStopAction = new Action(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),this.ownID,
-                    WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO+RECOGNITION_STOP.toLowerCase(Locale.ROOT),ERROR_COUNT_NEW);
-            // put action into ActionQueue
-            this.actionQueue.addNewActionToActionQueue(soundStopAction);
-            // create action for print to terminal
-            Action terminalStopAction = new Action(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
-                    WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT+RECOGNITION_STOP,ERROR_COUNT_NEW);
-            // put action into ActionQueue
-            this.actionQueue.addNewActionToActionQueue(terminalStopAction);
+            // continue if the recognition was started again while this thread was ending
+            while(this.recognitionActive && this.isAlive
+                    && this.recognitionThreadRunning.compareAndSet(!RECOGNITION_THREAD_RUNNING, RECOGNITION_THREAD_RUNNING));
         });
         // start the Thread
         voiceRecognitionManagerThread.start();
     }
 
+    /**
+     * Method for stopping the voice recognition, also releases a recognition thread that still waits for the recognizer
+     * @author Philipp Schulz
+     */
+    public void stopRecognition()
+    {
+        this.recognitionActive = VOICE_RECOGNITION_STOP;
+        this.recognitionStopped.complete(null);
+        // stop the recognizer, a result that is currently recognized returns right away
+        this.voiceRecognitionCMU.setIsRunning(VOICE_RECOGNITION_STOP);
+    }
+
     /**
      * Method for handling the content of a single voice recognition result from the Sphinx4 library
      * @author Philipp Schulz
@@ -238,6 +210,13 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
         // check if the result actually contains something
         if(!result.equals(EMPTY_STRING) && !result.equals(RECOGNITION_UNKNOWN))
         {
+            // a dialogue without input for a long time is over, the result must start a new dialogue
+            if((this.dialogueAuto || this.dialogueGlados)
+                    && TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - this.lastDialogueInputTime) > DIALOGUE_TIMEOUT)
+            {
+                endDialogue();
+            }
+            this.lastDialogueInputTime = System.nanoTime();
             // check if the results are for Glados or Auto, starting the dialogue
             if(result.contains(RECOGNITION_GLADOS) && !this.dialogueGlados && !this.dialogueAuto) // if the dialogue is for Glados
             {
@@ -245,13 +224,14 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
                 this.receiverID = this.idManager.getComponentIDByName(GLADOS_NAME);
 
                 // create new action for handling the input in Glados
-                Action inputGlados = new Action(this.receiverID, this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                        ACTION_VOICE_RECOGNITION_INPUT+SPACE+result,ERROR_COUNT_NEW);
+                Action inputGlados = this.actionQueue.obtainAction(this.receiverID, this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        ACTION_VOICE_RECOGNITION_INPUT,result);
                 // add action to ActionQueue
                 this.actionQueue.addNewActionToActionQueue(inputGlados);
 
-                // set flag to indicate dialogue with Glados
+                // set flag to indicate dialogue with Glados, the recognition switches to the full grammar
                 this.dialogueGlados = DIALOGUE_ACTIVE;
+                this.voiceRecognitionCMU.setDialogueActive(DIALOGUE_ACTIVE);
             }
             else if(result.contains(RECOGNITION_AUTO) && !this.dialogueAuto && !this.dialogueGlados) // if the dialogue is for Auto
             {
@@ -259,28 +239,29 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
                 this.receiverID = this.idManager.getComponentIDByName(AUTO_NAME);
 
                 // create new action for handling the input in Auto
-                Action inputAuto = new Action(this.receiverID, this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                        ACTION_VOICE_RECOGNITION_INPUT+SPACE+result,ERROR_COUNT_NEW);
+                Action inputAuto = this.actionQueue.obtainAction(this.receiverID, this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        ACTION_VOICE_RECOGNITION_INPUT,result);
                 // add action to ActionQueue
                 this.actionQueue.addNewActionToActionQueue(inputAuto);
 
-                // set flag to indicate dialogue with Auto
+                // set flag to indicate dialogue with Auto, the recognition switches to the full grammar
                 this.dialogueAuto = DIALOGUE_ACTIVE;
+                this.voiceRecognitionCMU.setDialogueActive(DIALOGUE_ACTIVE);
             }
             else if(this.dialogueAuto || this.dialogueGlados) // check if any dialogue is active
             {
                 // create new action to send recognized input to dialogue partner
-                Action inputAll = new Action(this.receiverID, this.ownID, WAIT_FOR_EXECUTION_FALSE,
-                        ACTION_VOICE_RECOGNITION_INPUT+SPACE+result,ERROR_COUNT_NEW);
+                Action inputAll = this.actionQueue.obtainAction(this.receiverID, this.ownID, WAIT_FOR_EXECUTION_FALSE,
+                        ACTION_VOICE_RECOGNITION_INPUT,result);
                 // put action into ActionQueue
                 this.actionQueue.addNewActionToActionQueue(inputAll);
+                // the input keeps the dialogue and the full grammar alive
+                this.voiceRecognitionCMU.setDialogueActive(DIALOGUE_ACTIVE);
                 // handle case of aborting dialogue
                 if(result.contains(RECOGNITION_ABORT))
                 {
                     // reset flags to indicate dialogue and receiverID
-                    this.receiverID = INITIAL_STATE_RECEIVER_ID;
-                    this.dialogueGlados = DIALOGUE_INACTIVE;
-                    this.dialogueAuto = DIALOGUE_INACTIVE;
+                    endDialogue();
                 }
             }
         }
@@ -305,4 +286,104 @@ public class VoiceRecognitionManager implements VoiceRecognitionManagerConstants
     {
         this.ownID = id;
     }
+
+    /**
+     * Method for reporting the result of creating the recognizer, via sound output and terminal
+     * @param success True if the recognizer was created
+     * @author Philipp Schulz
+     */
+    private void handleRecognizerCreated(boolean success)
+    {
+        // set the flag, only when successful
+        if(success)
+        {
+            // release the recognition thread that waits for the recognizer
+            this.recognizerReady.complete(null);
+            // create action for sound output
+            Action soundStartAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),this.ownID,
+                    WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO,RECOGNIZER_CREATION_SUCCESS.toLowerCase(Locale.ROOT));
+            // put action into ActionQueue
+            this.actionQueue.addNewActionToActionQueue(soundStartAction);
+            // create action for print to terminal
+            Action successAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
+                    WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT,RECOGNIZER_CREATION_SUCCESS);
+            // put action into ActionQueue
+            this.actionQueue.addNewActionToActionQueue(successAction);
+        }
+        else
+        {
+            // create new action to report the failed creation of the recognizer
+            Action recognizerFailedAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
+                    WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT,ERROR_RECOGNIZER_CREATION);
+            // put action into queue
+            this.actionQueue.addNewActionToActionQueue(recognizerFailedAction);
+        }
+    }
+
+    /**
+     * Method for a single run of the recognition thread, waits for the recognizer and recognizes until it is stopped
+     * Every result is followed by the next recognition right away, there is no waiting time between two utterances
+     * @author Philipp Schulz
+     */
+    private void recognizeUntilStopped()
+    {
+        // wait until the recognizer is ready or the recognition is stopped
+        while(!this.recognizerReady.isDone() && this.recognitionActive && this.isAlive)
+        {
+            CompletableFuture.anyOf(this.recognizerReady, this.recognitionStopped).join();
+        }
+        // the recognition can not start without recognizer
+        if(!this.recognizerReady.isDone() || !this.recognitionActive || !this.isAlive)
+        {
+            return;
+        }
+        // start up the voice recognition
+        this.voiceRecognitionCMU.setIsRunning(VOICE_RECOGNITION_START);
+        // create action for sound output
+        Action soundStartAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),this.ownID,
+                WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO,RECOGNITION_START.toLowerCase(Locale.ROOT));
+        // put action into ActionQueue
+        this.actionQueue.addNewActionToActionQueue(soundStartAction);
+        // create action for print to terminal
+        Action terminalStartAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
+                WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT,RECOGNITION_START);
+        // put action into ActionQueue
+        this.actionQueue.addNewActionToActionQueue(terminalStartAction);
+        // loop until either the voice recognition is turned off or the program is shutting down
+        while(this.voiceRecognitionCMU.getIsRunning() && this.recognitionActive && this.isAlive)
+        {
+            // get the next result from voice recognition, the recognizer is armed again right after it returned
+            String recognitionResult = this.voiceRecognitionCMU.recognize();
+            // check if recognized input is valid
+            if(!recognitionResult.equals(EMPTY_STRING) && !recognitionResult.equals(RECOGNITION_UNKNOWN))
+            {
+                // determine target component and handle content of result
+                handleVoiceRecognitionResultSphinx4(recognitionResult);
+            }
+        }
+        // stop the voice recognition, nothing happens if it was already stopped
+        this.voiceRecognitionCMU.setIsRunning(VOICE_RECOGNITION_STOP);
+        // create action for sound output
+        Action soundStopAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(SOUND_OUTPUT_NAME),this.ownID,
+                WAIT_FOR_EXECUTION_FALSE,ACTION_PLAY_SOUND_AUTO,RECOGNITION_STOP.toLowerCase(Locale.ROOT));
+        // put action into ActionQueue
+        this.actionQueue.addNewActionToActionQueue(soundStopAction);
+        // create action for print to terminal
+        Action terminalStopAction = this.actionQueue.obtainAction(this.idManager.getComponentIDByName(TERMINAL_MANAGER_NAME),this.ownID,
+                WAIT_FOR_EXECUTION_FALSE,ACTION_TERMINAL_MANAGER_PRINT,RECOGNITION_STOP);
+        // put action into ActionQueue
+        this.actionQueue.addNewActionToActionQueue(terminalStopAction);
+    }
+
+    /**
+     * Method for ending the current dialogue, the recognition only listens for the wake words afterwards
+     * @author Philipp Schulz
+     */
+    private void endDialogue()
+    {
+        this.receiverID = INITIAL_STATE_RECEIVER_ID;
+        this.dialogueGlados = DIALOGUE_INACTIVE;
+        this.dialogueAuto = DIALOGUE_INACTIVE;
+        this.voiceRecognitionCMU.setDialogueActive(DIALOGUE_INACTIVE);
+    }
 }
@@ -0,0 +1,132 @@
+package model.AUTO.Components;
+
+import model.Constants.AUTO.Components.ComponentSnapshotConstants;
+import model.Util.IntHashMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Immutable container class used by the IdManager for lookups between component names and IDs
+ * A snapshot is never changed after it was created, so it can be read by any thread without locking
+ * @author Philipp Schulz
+ */
+public class ComponentSnapshot implements ComponentSnapshotConstants
+{
+    // local fields
+    private final List<Component> componentList;
+    private final HashMap<String, Integer> componentIDsByName;
+    private final IntHashMap<String> componentNamesByID;
+    private final IntHashMap<String> componentNamesByOldID;
+
+    /**
+     * Constructor of the ComponentSnapshot class
+     * @param componentList List of type Component containing the contents of the component list file
+     * @param previousSnapshot Snapshot of the previous component list, used for lookups of old IDs, null if none exists
+     * @author Philipp Schulz
+     */
+    public ComponentSnapshot(List<Component> componentList, ComponentSnapshot previousSnapshot)
+    {
+        // copy the components, the given list and its components might be changed later on
+        ArrayList<Component> components = new ArrayList<>(componentList.size());
+        this.componentIDsByName = new HashMap<>(componentList.size()*2);
+        this.componentNamesByID = new IntHashMap<>(componentList.size());
+        // loop over all components of the list
+        for(Component component : componentList)
+        {
+            // ignore invalid IDs
+            if(component.getComponentID() >= MINIMUM_COMPONENT_ID)
+            {
+                components.add(new Component(component.getComponentID(), component.getComponentName()));
+                // the first entry wins for duplicate names or IDs, same as a search over the list
+                this.componentIDsByName.putIfAbsent(component.getComponentName(), component.getComponentID());
+                if(!this.componentNamesByID.containsKey(component.getComponentID()))
+                {
+                    this.componentNamesByID.put(component.getComponentID(), component.getComponentName());
+                }
+            }
+        }
+        this.componentList = Collections.unmodifiableList(components);
+        // keep the IDs of the previous component list
+        if(previousSnapshot != null)
+        {
+            this.componentNamesByOldID = previousSnapshot.componentNamesByID;
+        }
+        else
+        {
+            this.componentNamesByOldID = new IntHashMap<>();
+        }
+    }
+
+    /**
+     * Method for getting the component ID for a given component name
+     * @param componentName String that contains the (class) name of the component
+     * @return ID of the component, -1 if not contained in the snapshot
+     * @author Philipp Schulz
+     */
+    public int getComponentIDByName(String componentName)
+    {
+        Integer componentID = this.componentIDsByName.get(componentName);
+        if(componentID == null)
+        {
+            return DEFAULT_COMPONENT_ID;
+        }
+        return componentID;
+    }
+
+    /**
+     * Method for getting the component name for a given component ID
+     * @param componentID Component ID of a specific component
+     * @return Component name, "" if not contained in the snapshot
+     * @author Philipp Schulz
+     */
+    public String getComponentNameByID(int componentID)
+    {
+        return getName(this.componentNamesByID, componentID);
+    }
+
+    /**
+     * Method for getting the component name for a given component ID of the previous component list
+     * @param oldID Old component ID of a specific component
+     * @return Component name, "" if not contained in the previous component list
+     * @author Philipp Schulz
+     */
+    public String getComponentNameByOldID(int oldID)
+    {
+        return getName(this.componentNamesByOldID, oldID);
+    }
+
+    /**
+     * Method for getting all components of the snapshot
+     * @return Unmodifiable list of type Component
+     * @author Philipp Schulz
+     */
+    public List<Component> getComponentList()
+    {
+        return this.componentList;
+    }
+
+    /**
+     * Method for looking up a name in one of the ID maps
+     * @param componentNames Map that should be searched
+     * @param componentID ID of the component
+     * @return Component name, "" if not contained in the map
+     * @author Philipp Schulz
+     */
+    private static String getName(IntHashMap<String> componentNames, int componentID)
+    {
+        // IDs below the minimum are never contained (and could collide with the free key of the map)
+        if(componentID < MINIMUM_COMPONENT_ID)
+        {
+            return DEFAULT_COMPONENT_NAME;
+        }
+        String componentName = componentNames.get(componentID);
+        if(componentName == null)
+        {
+            return DEFAULT_COMPONENT_NAME;
+        }
+        return componentName;
+    }
+}
@@ -4,6 +4,7 @@ import model.Constants.ActionQueue.ActionConstants;
 
 /**
  * Container class used by the ActionQueueManager for performing new actions
+ * The command of an action is given by its opcode (see ActionHandlingConstants), the payload by the fields text, value and flag
  * @author Philipp Schulz
  */
 public class Action implements ActionConstants
@@ -13,25 +14,57 @@ public class Action implements ActionConstants
     private int originIndex;
     private int errorCount;
     private boolean waitForExecution;
-    private String action;
+    private boolean queued;
+    private int enqueueCount;
+    private long correlationID;
+    private long traceID;
+    private long enqueueTime;
+    private long dispatchTime;
+    private int opcode;
+    private String text;
+    private int value;
+    private boolean flag;
 
     /**
      * Constructor of the action class
      * @param targetIndex ID of the target component
      * @param originIndex ID of the origin component
      * @param waitForExecution Boolean to decide if the component should wait for the execution
-     * @param action String that contains the action that should be performed
+     * @param opcode Opcode of the action that should be performed
+     * @param text String that contains the text payload of the action, empty if not required
      * @param errorCount Number of failed cycles of this event
      * @author Philipp Schulz
      */
-    public Action(int targetIndex, int originIndex, boolean waitForExecution, String action, int errorCount)
+    public Action(int targetIndex, int originIndex, boolean waitForExecution, int opcode, String text, int errorCount)
     {
         // initialize local fields
+        initialize(targetIndex, originIndex, waitForExecution, opcode, text, errorCount);
+    }
+
+    /**
+     * Method for (re-)initializing all fields of the action, used by the constructor and by the ActionPool
+     * @param targetIndex ID of the target component
+     * @param originIndex ID of the origin component
+     * @param waitForExecution Boolean to decide if the component should wait for the execution
+     * @param opcode Opcode of the action that should be performed
+     * @param text String that contains the text payload of the action, empty if not required
+     * @param errorCount Number of failed cycles of this event
+     * @author Philipp Schulz
+     */
+    void initialize(int targetIndex, int originIndex, boolean waitForExecution, int opcode, String text, int errorCount)
+    {
         this.targetIndex = targetIndex;
         this.originIndex = originIndex;
         this.waitForExecution = waitForExecution;
-        this.action = action;
+        this.opcode = opcode;
+        this.text = text;
         this.errorCount = errorCount;
+        this.value = DEFAULT_VALUE;
+        this.flag = DEFAULT_FLAG;
+        this.queued = DEFAULT_QUEUED;
+        this.correlationID = DEFAULT_CORRELATION_ID;
+        this.traceID = NO_TRACE_ID;
+        // the enqueue count is not reset, it tells a ComponentMailbox if the action was put back into the ActionQueue
     }
 
     /**
@@ -63,12 +96,43 @@ public class Action implements ActionConstants
     }
 
     /**
-     * Method for getting the action that should be executed
-     * @return String that contains the action that should be executed
+     * Method for getting the opcode of the action that should be executed
+     * @return Opcode of the action
+     * @author Philipp Schulz
+     */
+    public int getOpcode()
+    {
+        return this.opcode;
+    }
+
+    /**
+     * Method for getting the text payload of the action
+     * @return String that contains the text payload
+     * @author Philipp Schulz
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Method for getting the integer payload of the action
+     * @return Integer payload of the action
+     * @author Philipp Schulz
+     */
+    public int getValue()
+    {
+        return this.value;
+    }
+
+    /**
+     * Method for getting the boolean payload of the action
+     * @return Boolean payload of the action
      * @author Philipp Schulz
      */
-    public String getAction() {
-        return this.action;
+    public boolean getFlag()
+    {
+        return this.flag;
     }
 
     /**
@@ -81,6 +145,56 @@ public class Action implements ActionConstants
         return this.errorCount;
     }
 
+    /**
+     * Method for getting the information if the action is currently inside the ActionQueue
+     * @return True if the action was put into the ActionQueue and was not taken out yet
+     * @author Philipp Schulz
+     */
+    public boolean isQueued()
+    {
+        return this.queued;
+    }
+
+    /**
+     * Method for getting the correlation ID of the request that this action belongs to
+     * @return Correlation ID of the request, DEFAULT_CORRELATION_ID if the action is not a request
+     * @author Philipp Schulz
+     */
+    public long getCorrelationID()
+    {
+        return this.correlationID;
+    }
+
+    /**
+     * Method for getting the trace ID of the action, actions that are caused by a traced action share its trace ID
+     * @return Trace ID of the action, NO_TRACE_ID if the action is not traced
+     * @author Philipp Schulz
+     */
+    public long getTraceID()
+    {
+        return this.traceID;
+    }
+
+    /**
+     * Method for getting the time when the action was put into the ActionQueue the last time
+     * @return Time in [ns] (System.nanoTime())
+     * @author Philipp Schulz
+     */
+    public long getEnqueueTime()
+    {
+        return this.enqueueTime;
+    }
+
+    /**
+     * Method for getting the time when the action was taken out of the ActionQueue the last time
+     * @return Time in [ns] (System.nanoTime())
+     * @author Philipp Schulz
+     */
+    public long getDispatchTime()
+    {
+        return this.dispatchTime;
+    }
+
     /**
      * Method for setting a new target component ID
      * @param targetIndex New ID of the target component
@@ -112,13 +226,43 @@ public class Action implements ActionConstants
     }
 
     /**
-     * Method for setting a new action
-     * @param action String that contains the new action
+     * Method for setting a new opcode
+     * @param opcode New opcode of the action
+     * @author Philipp Schulz
+     */
+    public void setOpcode(int opcode)
+    {
+        this.opcode = opcode;
+    }
+
+    /**
+     * Method for setting a new text payload
+     * @param text String that contains the new text payload
+     * @author Philipp Schulz
+     */
+    public void setText(String text)
+    {
+        this.text = text;
+    }
+
+    /**
+     * Method for setting a new integer payload
+     * @param value New integer payload
+     * @author Philipp Schulz
+     */
+    public void setValue(int value)
+    {
+        this.value = value;
+    }
+
+    /**
+     * Method for setting a new boolean payload
+     * @param flag New boolean payload
      * @author Philipp Schulz
      */
-    public void setAction(String action)
+    public void setFlag(boolean flag)
     {
-        this.action = action;
+        this.flag = flag;
     }
 
     /**
@@ -131,4 +275,64 @@ public class Action implements ActionConstants
         this.errorCount = newCount;
     }
 
+    /**
+     * Method for setting the correlation ID, only called by PendingRequests when the action is sent as request
+     * @param correlationID New correlation ID of the action
+     * @author Philipp Schulz
+     */
+    void setCorrelationID(long correlationID)
+    {
+        this.correlationID = correlationID;
+    }
+
+    /**
+     * Method for setting the trace ID, e.g. for following an injected action through the whole program
+     * @param traceID New trace ID of the action, NO_TRACE_ID to stop tracing it
+     * @author Philipp Schulz
+     */
+    public void setTraceID(long traceID)
+    {
+        this.traceID = traceID;
+    }
+
+    /**
+     * Method for setting the time when the action was taken out of the ActionQueue, only called by the ActionQueue
+     * @param dispatchTime Time in [ns] (System.nanoTime())
+     * @author Philipp Schulz
+     */
+    void setDispatchTime(long dispatchTime)
+    {
+        this.dispatchTime = dispatchTime;
+    }
+
+    /**
+     * Method for marking if the action is currently inside the ActionQueue
+     * @param queued True if the action was put into the ActionQueue
+     * @author Philipp Schulz
+     */
+    void setQueued(boolean queued)
+    {
+        this.queued = queued;
+    }
+
+    /**
+     * Method for marking the action as put into the ActionQueue, counts every time the action is put into the ActionQueue
+     * @author Philipp Schulz
+     */
+    void markQueued()
+    {
+        this.queued = true;
+        this.enqueueCount++;
+        this.enqueueTime = System.nanoTime();
+    }
+
+    /**
+     * Method for getting the number of times the action was put into the ActionQueue
+     * @return Number of times the action was put into the ActionQueue
+     * @author Philipp Schulz
+     */
+    int getEnqueueCount()
+    {
+        return this.enqueueCount;
+    }
 }
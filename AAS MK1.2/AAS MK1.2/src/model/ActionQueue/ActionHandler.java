@@ -0,0 +1,15 @@
+package model.ActionQueue;
+
+/**
+ * Interface for all components that can receive actions from the ActionQueueSystem
+ * @author Philipp Schulz
+ */
+public interface ActionHandler
+{
+    /**
+     * Central method for handling any action that is targeted towards a component
+     * @param action Action that should be performed by a component
+     * @author Philipp Schulz
+     */
+    void handleAction(Action action);
+}
@@ -0,0 +1,269 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ActionLaneConstants;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class for a single lane of the ActionQueue (control, device, speech, diagnostics)
+ * Every lane has its own bounded ActionRingBuffer, a weight for draining and an overflow policy that decides what
+ * happens to a new action if the lane is full, every overflow is counted
+ * A request that is dropped from the lane is completed exceptionally, so its sender does not wait for the timeout
+ * @author Philipp Schulz
+ */
+public class ActionLane implements ActionLaneConstants
+{
+    // local fields
+    private final String name;
+    private final ActionRingBuffer ringBuffer;
+    private final int weight;
+    private final int overflowPolicy;
+    private final PendingRequests pendingRequests;
+    // counters of all overflows of this lane
+    private final AtomicLong blockedActions;
+    private final AtomicLong droppedActions;
+    private final AtomicLong coalescedActions;
+    private final AtomicLong rejectedActions;
+
+    /**
+     * Constructor of the ActionLane class
+     * @param name Name of the lane
+     * @param capacity Maximum number of actions in the lane, must be a power of two
+     * @param weight Number of actions that are taken out of the lane per round of draining
+     * @param overflowPolicy Policy if the lane is full (OVERFLOW_*)
+     * @param consumerSignal Signal of the consumer that is shared by all lanes of the ActionQueue
+     * @param pendingRequests Table of the waiting requests of the ActionQueue, used to fail dropped requests
+     * @author Philipp Schulz
+     */
+    public ActionLane(String name, int capacity, int weight, int overflowPolicy, ConsumerSignal consumerSignal,
+                      PendingRequests pendingRequests)
+    {
+        // initialize local fields, producers only take actions out of the lane if the oldest action is dropped
+        this.name = name;
+        this.ringBuffer = new ActionRingBuffer(capacity, consumerSignal, overflowPolicy == OVERFLOW_DROP_OLDEST);
+        this.weight = weight;
+        this.overflowPolicy = overflowPolicy;
+        this.pendingRequests = pendingRequests;
+        this.blockedActions = new AtomicLong();
+        this.droppedActions = new AtomicLong();
+        this.coalescedActions = new AtomicLong();
+        this.rejectedActions = new AtomicLong();
+    }
+
+    /**
+     * Method for adding an action to the lane, applies the overflow policy if the lane is full
+     * @param action Action that should be added
+     * @param mayBlock False if the calling thread must not wait for space (the consumer itself)
+     * @return Result of the offer (OFFER_*)
+     * @author Philipp Schulz
+     */
+    public int offer(Action action, boolean mayBlock)
+    {
+        // fast path, the lane has space
+        if(this.ringBuffer.offer(action))
+        {
+            return OFFER_ENQUEUED;
+        }
+        // the lane is full, handle the action according to the overflow policy
+        switch(this.overflowPolicy)
+        {
+            case OVERFLOW_BLOCK:                    // wait for space, the consumer can not wait for itself
+                if(mayBlock && offerBlocking(action))
+                {
+                    this.blockedActions.incrementAndGet();
+                    return OFFER_ENQUEUED;
+                }
+                break;
+
+            case OVERFLOW_DROP_OLDEST:              // make space by dropping the oldest actions
+                if(offerDroppingOldest(action))
+                {
+                    return OFFER_ENQUEUED;
+                }
+                break;
+
+            case OVERFLOW_COALESCE:                 // an equivalent action that is still waiting is handled instead
+                if(this.ringBuffer.containsEquivalent(action, COALESCE_SCAN_DEPTH))
+                {
+                    this.coalescedActions.incrementAndGet();
+                    return OFFER_COALESCED;
+                }
+                break;
+        }
+        // the action could not be added
+        this.rejectedActions.incrementAndGet();
+        return OFFER_REJECTED;
+    }
+
+    /**
+     * Method for taking the next action out of the lane, must only be called by the consumer thread
+     * @return Next action of the lane, null if the lane is empty
+     * @author Philipp Schulz
+     */
+    public Action poll()
+    {
+        return this.ringBuffer.poll();
+    }
+
+    /**
+     * Method for moving the available actions of the lane into the given collection, must only be called by the consumer thread
+     * @param actions List that should receive the actions, keeps the order of the lane
+     * @param maximumActions Maximum number of actions to move at once
+     * @return Number of actions that were moved
+     * @author Philipp Schulz
+     */
+    public int drainTo(List<? super Action> actions, int maximumActions)
+    {
+        return this.ringBuffer.drainTo(actions, maximumActions);
+    }
+
+    /**
+     * Method for getting the number of actions in the lane
+     * @return Number of actions in the lane
+     * @author Philipp Schulz
+     */
+    public int size()
+    {
+        return this.ringBuffer.size();
+    }
+
+    /**
+     * Method for getting the name of the lane
+     * @return Name of the lane
+     * @author Philipp Schulz
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Method for getting the capacity of the lane
+     * @return Maximum number of actions in the lane
+     * @author Philipp Schulz
+     */
+    public int getCapacity()
+    {
+        return this.ringBuffer.getCapacity();
+    }
+
+    /**
+     * Method for getting the weight of the lane
+     * @return Number of actions that are taken out of the lane per round of draining
+     * @author Philipp Schulz
+     */
+    public int getWeight()
+    {
+        return this.weight;
+    }
+
+    /**
+     * Method for getting the overflow policy of the lane
+     * @return Overflow policy of the lane (OVERFLOW_*)
+     * @author Philipp Schulz
+     */
+    public int getOverflowPolicy()
+    {
+        return this.overflowPolicy;
+    }
+
+    /**
+     * Method for getting the number of actions whose producer had to wait for space
+     * @return Number of blocked actions
+     * @author Philipp Schulz
+     */
+    public long getBlockedActions()
+    {
+        return this.blockedActions.get();
+    }
+
+    /**
+     * Method for getting the number of old actions that were dropped for new actions
+     * @return Number of dropped actions
+     * @author Philipp Schulz
+     */
+    public long getDroppedActions()
+    {
+        return this.droppedActions.get();
+    }
+
+    /**
+     * Method for getting the number of actions that were merged into an equivalent waiting action
+     * @return Number of coalesced actions
+     * @author Philipp Schulz
+     */
+    public long getCoalescedActions()
+    {
+        return this.coalescedActions.get();
+    }
+
+    /**
+     * Method for getting the number of actions that were rejected
+     * @return Number of rejected actions
+     * @author Philipp Schulz
+     */
+    public long getRejectedActions()
+    {
+        return this.rejectedActions.get();
+    }
+
+    /**
+     * Method for waiting until the action fits into the lane
+     * @param action Action that should be added
+     * @return True if the action was added, false if the waiting time passed or the thread was interrupted
+     * @author Philipp Schulz
+     */
+    private boolean offerBlocking(Action action)
+    {
+        long deadline = ConsumerSignal.getDeadline(BLOCK_TIMEOUT);
+        // the consumer does not signal free space, check again in short intervals
+        while(System.nanoTime() - deadline < 0 && !Thread.currentThread().isInterrupted())
+        {
+            LockSupport.parkNanos(this, BLOCK_PARK_TIME);
+            if(this.ringBuffer.offer(action))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method for adding the action after dropping the oldest actions of the lane
+     * @param action Action that should be added
+     * @return True if the action was added, false if other producers kept filling the lane in the meantime
+     * @author Philipp Schulz
+     */
+    private boolean offerDroppingOldest(Action action)
+    {
+        for(int attempt = 0; attempt < DROP_OLDEST_ATTEMPTS; attempt++)
+        {
+            // drop the oldest action, it is no longer referenced by the lane
+            Action droppedAction = this.ringBuffer.poll();
+            if(droppedAction != null)
+            {
+                droppedAction.setQueued(false);
+                this.droppedActions.incrementAndGet();
+                // a dropped request will never be handled, its sender must not wait for the timeout
+                long correlationID = droppedAction.getCorrelationID();
+                if(correlationID != PendingRequests.NO_CORRELATION_ID)
+                {
+                    this.pendingRequests.fail(correlationID, new CancellationException(String.format(PendingRequests.ERROR_DROPPED, correlationID)));
+                }
+            }
+            else
+            {
+                // the oldest slot was claimed by another producer but not filled yet
+                Thread.yield();
+            }
+            if(this.ringBuffer.offer(action))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package model.ActionQueue;
+
+/**
+ * Interface for all components that want to follow traced actions through the ActionQueueSystem, e.g. for measuring
+ * the time between an input and its answer
+ * @author Philipp Schulz
+ */
+public interface ActionObserver
+{
+    /**
+     * Method that is called whenever a traced action is taken out of the ActionQueue
+     * Called on the thread of the ActionQueueManager, must return quickly and must not keep the action
+     * @param action Action that was taken out of the ActionQueue
+     * @param dispatchTime Time in [ns] (System.nanoTime()) when the action was taken out
+     * @author Philipp Schulz
+     */
+    void handleDispatchedAction(Action action, long dispatchTime);
+}
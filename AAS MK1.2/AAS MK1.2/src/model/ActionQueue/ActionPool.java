@@ -0,0 +1,78 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ActionPoolConstants;
+
+/**
+ * Class for reusing instances of the Action class, avoids creating a new object for every action
+ * Actions are given back by the ActionQueueManager after they were handled and not put back into the ActionQueue
+ * @author Philipp Schulz
+ */
+public class ActionPool implements ActionPoolConstants
+{
+    // local fields
+    private final Action[] unusedActions;
+    private int unusedActionCount;
+
+    /**
+     * Constructor of the ActionPool class
+     * @author Philipp Schulz
+     */
+    public ActionPool()
+    {
+        // initialize local fields
+        this.unusedActions = new Action[POOL_CAPACITY];
+        this.unusedActionCount = POOL_EMPTY;
+    }
+
+    /**
+     * Method for getting an initialized action, reuses an unused action if available
+     * @param targetIndex ID of the target component
+     * @param originIndex ID of the origin component
+     * @param waitForExecution Boolean to decide if the component should wait for the execution
+     * @param opcode Opcode of the action that should be performed
+     * @param text String that contains the text payload of the action, empty if not required
+     * @return Instance of the Action class with the given contents
+     * @author Philipp Schulz
+     */
+    public Action obtain(int targetIndex, int originIndex, boolean waitForExecution, int opcode, String text)
+    {
+        Action action = null;
+        // take an unused action, the pool is shared by all threads that create actions
+        synchronized(this.unusedActions)
+        {
+            if(this.unusedActionCount > POOL_EMPTY)
+            {
+                this.unusedActionCount--;
+                action = this.unusedActions[this.unusedActionCount];
+                this.unusedActions[this.unusedActionCount] = null;
+            }
+        }
+        // create a new action if the pool was empty
+        if(action == null)
+        {
+            return new Action(targetIndex, originIndex, waitForExecution, opcode, text, DEFAULT_ERROR_COUNT);
+        }
+        action.initialize(targetIndex, originIndex, waitForExecution, opcode, text, DEFAULT_ERROR_COUNT);
+        return action;
+    }
+
+    /**
+     * Method for giving back an action that is no longer used by any component
+     * @param action Action that should be reused, must not be referenced anywhere else
+     * @author Philipp Schulz
+     */
+    public void release(Action action)
+    {
+        // remove the references of the payload
+        action.initialize(DEFAULT_TARGET_INDEX, DEFAULT_TARGET_INDEX, DEFAULT_WAIT_FOR_EXECUTION, DEFAULT_OPCODE, null, DEFAULT_ERROR_COUNT);
+        // keep the action if the pool is not full, otherwise leave it to the garbage collector
+        synchronized(this.unusedActions)
+        {
+            if(this.unusedActionCount < POOL_CAPACITY)
+            {
+                this.unusedActions[this.unusedActionCount] = action;
+                this.unusedActionCount++;
+            }
+        }
+    }
+}
@@ -1,17 +1,37 @@
 package model.ActionQueue;
 
+import model.Constants.ActionHandlingConstants;
 import model.Constants.ActionQueue.ActionQueueConstants;
+import model.Metrics.ActionMetrics;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Container class used by the ActionQueueManager for executing actions
+ * Actions are sorted into lanes by their opcode (control, device, speech, diagnostics), every lane is bounded and has
+ * its own overflow policy, the ActionQueueManager drains the lanes weighted with the control lane first
+ * Actions can be sent as requests with a correlation ID, their reply completes a future instead of going through the lanes
+ * Actions with a trace ID pass it on to all actions their component obtains while handling them, ActionObservers are
+ * informed whenever a traced action is dispatched
  * @author Philipp Schulz
  */
-public class ActionQueue implements ActionQueueConstants
+public class ActionQueue implements ActionQueueConstants, ActionHandlingConstants
 {
     // local fields
-    private final ArrayBlockingQueue<Action> actionQueue;
+    private final ActionLane[] lanes;
+    private final int[] laneOfOpcode;
+    private final ConsumerSignal consumerSignal;
+    private final ActionPool actionPool;
+    private final PendingRequests pendingRequests;
+    private final ActionMetrics metrics;
+    private final CopyOnWriteArrayList<ActionObserver> actionObservers;
+    private volatile Thread consumerThread;
 
     /**
      * Constructor of the ActionQueue class
@@ -19,35 +39,450 @@ public class ActionQueue implements ActionQueueConstants
      */
     public ActionQueue()
     {
-        this.actionQueue = new ArrayBlockingQueue<>(MAXIMUM_QUEUE_SIZE);
+        this.consumerSignal = new ConsumerSignal();
+        this.actionPool = new ActionPool();
+        this.pendingRequests = new PendingRequests();
+        this.actionObservers = new CopyOnWriteArrayList<>();
+        this.consumerThread = null;
+        // create all lanes, they share the signal of the consumer
+        this.lanes = new ActionLane[LANE_COUNT];
+        for(int lane = 0; lane < LANE_COUNT; lane++)
+        {
+            this.lanes[lane] = new ActionLane(LANE_NAMES[lane], LANE_CAPACITIES[lane], LANE_WEIGHTS[lane],
+                    LANE_OVERFLOW_POLICIES[lane], this.consumerSignal, this.pendingRequests);
+        }
+        this.metrics = new ActionMetrics(this);
+        // assign every opcode to its lane
+        this.laneOfOpcode = new int[ACTION_OPCODE_COUNT];
+        Arrays.fill(this.laneOfOpcode, DEFAULT_LANE);
+        for(int lane = 0; lane < LANE_COUNT; lane++)
+        {
+            for(int opcode : LANE_OPCODES[lane])
+            {
+                this.laneOfOpcode[opcode] = lane;
+            }
+        }
     }
 
     /**
-     * Method for adding a new action to the action queue
+     * Method for adding a new action to the action queue, can be called by any thread without locking
+     * If the lane of the action is full, the overflow policy of the lane decides what happens to the action
+     * If waitForExecution is set, the sender waits until the action was handled, unless it is the ActionQueueManager
+     * or a ComponentMailbox that would wait for itself, the action is sent asynchronously in that case
      * @param action Object of the Action class that should be performed
+     * @return True if the action will be handled (or was handled for waitForExecution), false if it was rejected or if
+     * it is a request that was coalesced into an equivalent action
+     * @author Philipp Schulz
+     */
+    public boolean addNewActionToActionQueue(Action action)
+    {
+        // actions with waitForExecution are sent as request, unless they already are a request
+        if(action.getWaitForExecution() && action.getCorrelationID() == PendingRequests.NO_CORRELATION_ID)
+        {
+            return executeAction(action);
+        }
+        // mark the action, it must not be reused while it is waiting inside the queue
+        action.markQueued();
+        // the consumer must not block on a full lane, it would wait for itself
+        int result = this.lanes[getLaneOfOpcode(action.getOpcode())].offer(action, Thread.currentThread() != this.consumerThread);
+        if(result != ActionLane.OFFER_ENQUEUED)
+        {
+            // the action is not inside the queue, it can be reused again
+            action.setQueued(false);
+        }
+        // a coalesced request is not handled itself, its reply would never arrive
+        if(result == ActionLane.OFFER_COALESCED)
+        {
+            return action.getCorrelationID() == PendingRequests.NO_CORRELATION_ID;
+        }
+        return result == ActionLane.OFFER_ENQUEUED;
+    }
+
+    /**
+     * Method for sending an action as request, the returned future is completed with the reply of the target component
+     * If the target component does not reply explicitly, the future is completed after it handled the action
+     * Called from a ComponentMailbox, all stages of the future run in that mailbox (single writer of the component),
+     * otherwise they run on the thread that completes the request
+     * @param action Action that should be answered
+     * @param timeout Maximum time in [ms] to wait for the reply, the future fails with a TimeoutException afterwards
+     * @return Future of the reply
+     * @author Philipp Schulz
      */
-    public void addNewActionToActionQueue(Action action)
+    public CompletableFuture<ActionReply> request(Action action, long timeout)
     {
-        this.actionQueue.add(action);
+        CompletableFuture<ActionReply> reply = sendRequest(action, timeout);
+        // deliver the reply in the mailbox of the requesting component
+        ComponentMailbox mailbox = ComponentMailbox.getCurrentMailbox();
+        if(mailbox == null)
+        {
+            return reply;
+        }
+        CompletableFuture<ActionReply> mailboxReply = new CompletableFuture<>();
+        reply.whenCompleteAsync((result, error) ->
+        {
+            if(error == null)
+            {
+                mailboxReply.complete(result);
+            }
+            else
+            {
+                mailboxReply.completeExceptionally(error);
+            }
+        }, mailbox);
+        return mailboxReply;
     }
 
     /**
-     * Method for getting the next action from the action queue
+     * Method for answering an action, the reply completes the request directly if the action was sent as request
+     * Actions without correlation ID are answered as before by putting the reply into the action queue
+     * @param request Action that is answered
+     * @param reply Action that contains the answer, is given back to the ActionPool if it completes a request
+     * @return True if the reply was delivered, false if it was rejected or its request timed out
+     * @author Philipp Schulz
+     */
+    public boolean replyToAction(Action request, Action reply)
+    {
+        long correlationID = request.getCorrelationID();
+        if(correlationID == PendingRequests.NO_CORRELATION_ID)
+        {
+            return addNewActionToActionQueue(reply);
+        }
+        // the payload is copied into the future, the reply action itself is not needed anymore
+        boolean delivered = this.pendingRequests.complete(correlationID, reply);
+        recycleAction(reply);
+        return delivered;
+    }
+
+    /**
+     * Method for getting the next action from the action queue, lanes with higher priority first
      * @return Instance of the Action class containing all information of the next action
      * @author Philipp Schulz
      */
     public Action getNextActionFromQueue()
     {
-        return actionQueue.poll();
+        return takeAction(pollLanes(), System.nanoTime());
+    }
+
+    /**
+     * Method for waiting for the next action from the action queue, blocks until an action is available
+     * @param timeout Maximum time in [ms] to wait for a new action
+     * @return Instance of the Action class containing all information of the next action, null if the timeout passed
+     * @throws InterruptedException If the waiting thread was interrupted
+     * @author Philipp Schulz
+     */
+    public Action waitForNextActionFromQueue(long timeout) throws InterruptedException
+    {
+        this.consumerThread = Thread.currentThread();
+        // check all lanes a few times without parking first, actions often arrive in bursts
+        for(int i = 0; i < WAIT_SPIN_TRIES; i++)
+        {
+            Action action = pollLanes();
+            if(action != null)
+            {
+                return takeAction(action, System.nanoTime());
+            }
+        }
+        long deadline = ConsumerSignal.getDeadline(timeout);
+        try
+        {
+            do
+            {
+                // register as waiting consumer before checking again, a producer that publishes afterwards signals
+                this.consumerSignal.prepareWait();
+                Action action = pollLanes();
+                if(action != null)
+                {
+                    return takeAction(action, System.nanoTime());
+                }
+            }
+            while(this.consumerSignal.await(deadline));
+            return null;
+        }
+        finally
+        {
+            this.consumerSignal.finishWait();
+        }
+    }
+
+    /**
+     * Method for moving the currently available actions from the action queue into the given collection
+     * The lanes are drained in rounds, every round takes up to the weight of each lane with the control lane first
+     * @param actions List that should receive the actions, keeps the order within every lane
+     * @param maximumActions Maximum number of actions to move at once
+     * @return Number of actions that were moved
+     * @author Philipp Schulz
+     */
+    public int drainActionsFromQueue(List<Action> actions, int maximumActions)
+    {
+        int firstIndex = actions.size();
+        int drainedActions = 0;
+        int roundActions;
+        do
+        {
+            roundActions = 0;
+            for(int lane = 0; lane < LANE_COUNT && drainedActions < maximumActions; lane++)
+            {
+                int laneActions = this.lanes[lane].drainTo(actions, Math.min(this.lanes[lane].getWeight(), maximumActions - drainedActions));
+                roundActions += laneActions;
+                drainedActions += laneActions;
+            }
+        }
+        while(roundActions > 0 && drainedActions < maximumActions);
+        // mark all moved actions as taken out of the queue, they were taken out at the same time
+        long dispatchTime = System.nanoTime();
+        for(int i = firstIndex; i < actions.size(); i++)
+        {
+            takeAction(actions.get(i), dispatchTime);
+        }
+        return drainedActions;
+    }
+
+    /**
+     * Method for getting an initialized action from the ActionPool
+     * An action that is obtained while a component handles a traced action belongs to the same trace
+     * @param targetIndex ID of the target component
+     * @param originIndex ID of the origin component
+     * @param waitForExecution Boolean to decide if the component should wait for the execution
+     * @param opcode Opcode of the action that should be performed
+     * @param text String that contains the text payload of the action, empty if not required
+     * @return Instance of the Action class with the given contents
+     * @author Philipp Schulz
+     */
+    public Action obtainAction(int targetIndex, int originIndex, boolean waitForExecution, int opcode, String text)
+    {
+        Action action = this.actionPool.obtain(targetIndex, originIndex, waitForExecution, opcode, text);
+        // the new action is caused by the action that is currently handled, e.g. the answer to a dialogue input
+        Action causingAction = ComponentMailbox.getCurrentAction();
+        if(causingAction != null)
+        {
+            action.setTraceID(causingAction.getTraceID());
+        }
+        return action;
+    }
+
+    /**
+     * Method for registering an observer that is informed whenever a traced action is taken out of the action queue
+     * @param actionObserver Observer that should be informed, called on the thread of the ActionQueueManager
+     * @author Philipp Schulz
+     */
+    public void addActionObserver(ActionObserver actionObserver)
+    {
+        this.actionObservers.add(actionObserver);
+    }
+
+    /**
+     * Method for removing an observer of traced actions
+     * @param actionObserver Observer that should not be informed anymore
+     * @author Philipp Schulz
+     */
+    public void removeActionObserver(ActionObserver actionObserver)
+    {
+        this.actionObservers.remove(actionObserver);
+    }
+
+    /**
+     * Method for giving an action that was handled back to the ActionPool
+     * Actions that were put back into the ActionQueue during handling are still in use and are not recycled
+     * A request that was not answered by its target component is completed at this point
+     * @param action Action that was handled
+     * @author Philipp Schulz
+     */
+    public void recycleAction(Action action)
+    {
+        if(!action.isQueued())
+        {
+            if(action.getCorrelationID() != PendingRequests.NO_CORRELATION_ID)
+            {
+                this.pendingRequests.completeExecution(action);
+            }
+            this.actionPool.release(action);
+        }
+    }
+
+    /**
+     * Method for giving an action back to the ActionPool that was dropped without handling, e.g. by a closed mailbox
+     * A request is completed exceptionally with a CancellationException
+     * @param action Action that was dropped
+     * @author Philipp Schulz
+     */
+    public void discardAction(Action action)
+    {
+        long correlationID = action.getCorrelationID();
+        if(correlationID != PendingRequests.NO_CORRELATION_ID)
+        {
+            this.pendingRequests.fail(correlationID, new CancellationException(String.format(PendingRequests.ERROR_DISCARDED, correlationID)));
+        }
+        recycleAction(action);
+    }
+
+    /**
+     * Method for giving an action that was handled by a ComponentMailbox back to the ActionPool
+     * The action is only recycled if it was not put back into the ActionQueue during handling, it might already be
+     * handled by another component otherwise
+     * @param action Action that was handled
+     * @param enqueueCount Number of times the action was put into the ActionQueue before it was handled
+     * @author Philipp Schulz
+     */
+    public void recycleAction(Action action, int enqueueCount)
+    {
+        if(action.getEnqueueCount() == enqueueCount)
+        {
+            recycleAction(action);
+        }
+    }
+
+    /**
+     * Method for getting the number of actions that are currently waiting in the action queue
+     * @return Number of actions in all lanes of the action queue
+     * @author Philipp Schulz
+     */
+    public int getQueueSize()
+    {
+        int size = EMPTY_QUEUE;
+        for(ActionLane lane : this.lanes)
+        {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    /**
+     * Method for getting the table of the requests that are waiting for their reply, e.g. for reading its counters
+     * @return Instance of the PendingRequests class
+     * @author Philipp Schulz
+     */
+    public PendingRequests getPendingRequests()
+    {
+        return this.pendingRequests;
+    }
+
+    /**
+     * Method for getting the metrics of the action system
+     * @return Instance of the ActionMetrics class
+     * @author Philipp Schulz
+     */
+    public ActionMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    /**
+     * Method for getting a lane of the action queue, e.g. for reading its overflow counters
+     * @param lane Index of the lane (LANE_*)
+     * @return Instance of the ActionLane class
+     * @author Philipp Schulz
+     */
+    public ActionLane getActionLane(int lane)
+    {
+        return this.lanes[lane];
+    }
+
+    /**
+     * Method for getting the lane that is responsible for an opcode
+     * @param opcode Opcode of an action
+     * @return Index of the lane (LANE_*)
+     * @author Philipp Schulz
+     */
+    public int getLaneOfOpcode(int opcode)
+    {
+        if(opcode < INDEX_ZERO || opcode >= ACTION_OPCODE_COUNT)
+        {
+            return DEFAULT_LANE;
+        }
+        return this.laneOfOpcode[opcode];
+    }
+
+    /**
+     * Method for taking the next action out of the lanes, lanes with higher priority first
+     * @return Next action, null if all lanes are empty
+     * @author Philipp Schulz
+     */
+    private Action pollLanes()
+    {
+        for(ActionLane lane : this.lanes)
+        {
+            Action action = lane.poll();
+            if(action != null)
+            {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method for marking an action as taken out of the action queue and recording its waiting time
+     * @param action Action that was taken out of the action queue, may be null
+     * @param dispatchTime Time in [ns] (System.nanoTime()) when the action was taken out
+     * @return The given action
+     * @author Philipp Schulz
+     */
+    private Action takeAction(Action action, long dispatchTime)
+    {
+        if(action != null)
+        {
+            action.setQueued(false);
+            action.setDispatchTime(dispatchTime);
+            this.metrics.recordDispatch(action, getLaneOfOpcode(action.getOpcode()), dispatchTime);
+            // only traced actions are observed, untraced actions do not pay for the observers
+            if(action.getTraceID() != Action.NO_TRACE_ID)
+            {
+                for(ActionObserver actionObserver : this.actionObservers)
+                {
+                    actionObserver.handleDispatchedAction(action, dispatchTime);
+                }
+            }
+        }
+        return action;
+    }
+
+    /**
+     * Method for sending an action with waitForExecution, the sender waits until the action was handled
+     * @param action Action that should be handled before the sender continues
+     * @return True if the action was handled (or sent asynchronously), false if it was rejected, dropped or timed out
+     * @author Philipp Schulz
+     */
+    private boolean executeAction(Action action)
+    {
+        CompletableFuture<ActionReply> execution = sendRequest(action, WAIT_FOR_EXECUTION_TIMEOUT);
+        // the ActionQueueManager and the mailboxes only send asynchronously, they would wait for themselves
+        if(Thread.currentThread() == this.consumerThread || ComponentMailbox.getCurrentMailbox() != null)
+        {
+            return !execution.isCompletedExceptionally();
+        }
+        try
+        {
+            execution.get();
+            return true;
+        }
+        catch(ExecutionException e)
+        {
+            return false;
+        }
+        catch(InterruptedException e)
+        {
+            // keep the interrupt for the caller
+            Thread.currentThread().interrupt();
+            return false;
+        }
     }
 
     /**
-     * Method for getting the instance of the action queue
-     * @return ArrayBlockingQueue of type Action
+     * Method for registering an action as request and putting it into the action queue
+     * @param action Action that should be answered
+     * @param timeout Maximum time in [ms] to wait for the reply
+     * @return Future of the reply, completed on the thread that answers the request
      * @author Philipp Schulz
      */
-    public ArrayBlockingQueue<Action> getActionQueue()
+    private CompletableFuture<ActionReply> sendRequest(Action action, long timeout)
     {
-        return this.actionQueue;
+        // register the request before it can be handled
+        CompletableFuture<ActionReply> reply = this.pendingRequests.register(action, timeout);
+        long correlationID = action.getCorrelationID();
+        if(!addNewActionToActionQueue(action))
+        {
+            this.pendingRequests.fail(correlationID, new RejectedExecutionException(String.format(PendingRequests.ERROR_REJECTED, correlationID)));
+        }
+        return reply;
     }
 }
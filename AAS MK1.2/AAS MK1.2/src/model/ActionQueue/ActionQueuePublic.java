@@ -1,8 +1,11 @@
 package model.ActionQueue;
 
+import model.Boot.InitializationService;
 import model.Constants.ActionQueue.ActionQueuePublicConstants;
+import model.Metrics.ActionMetrics;
+import model.StateBus.StateBus;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Container class used by any classes for adding new actions to the ActionQueueSystem
@@ -12,25 +15,123 @@ public class ActionQueuePublic implements ActionQueuePublicConstants
 {
 
     // local fields
-    private final ArrayBlockingQueue<Action> actionQueue;
+    private final ActionQueue actionQueue;
+    private final StateBus stateBus;
+    private final InitializationService initializationService;
 
     /**
      * Constructor of the ActionQueue class
+     * @param actionQueue Instance of the ActionQueue
+     * @param stateBus Instance of the StateBus that is used alongside the ActionQueue
      * @author Philipp Schulz
      */
-    public ActionQueuePublic(ActionQueue actionQueue)
+    public ActionQueuePublic(ActionQueue actionQueue, StateBus stateBus)
     {
-        // save reference to instance of the ActionQueue
-        this.actionQueue = actionQueue.getActionQueue();
+        // save references to the instances of the ActionQueue and the StateBus
+        this.actionQueue = actionQueue;
+        this.stateBus = stateBus;
+        // the completion actions of all initialization tasks are added through this class
+        this.initializationService = new InitializationService(this, INITIALIZATION_THREADS);
     }
 
     /**
      * Method for adding a new action to the action queue
      * @param action Object of the Action class that should be performed
+     * @return True if the action will be handled, false if it was rejected due to a full lane
      * @author Philipp Schulz
      */
-    public void addNewActionToActionQueue(Action action)
+    public boolean addNewActionToActionQueue(Action action)
     {
-        this.actionQueue.add(action);
+        return this.actionQueue.addNewActionToActionQueue(action);
+    }
+
+    /**
+     * Method for sending an action as request, the future is completed with the reply of the target component
+     * Called while a component handles an action, all stages of the future run in the mailbox of that component
+     * @param action Object of the Action class that should be answered
+     * @param timeout Maximum time in [ms] to wait for the reply
+     * @return Future of the reply, fails with a TimeoutException if there was no reply in time
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<ActionReply> request(Action action, long timeout)
+    {
+        return this.actionQueue.request(action, timeout);
+    }
+
+    /**
+     * Method for answering an action, completes the request directly if the action was sent with request()
+     * @param request Action that is answered
+     * @param reply Action that contains the answer
+     * @return True if the reply was delivered
+     * @author Philipp Schulz
+     */
+    public boolean replyToAction(Action request, Action reply)
+    {
+        return this.actionQueue.replyToAction(request, reply);
+    }
+
+    /**
+     * Method for getting the StateBus, components read the state of other components there instead of querying it
+     * @return Instance of the StateBus
+     * @author Philipp Schulz
+     */
+    public StateBus getStateBus()
+    {
+        return this.stateBus;
+    }
+
+    /**
+     * Method for getting the InitializationService, components run their I/O-heavy setup there instead of in their mailbox
+     * @return Instance of the InitializationService
+     * @author Philipp Schulz
+     */
+    public InitializationService getInitializationService()
+    {
+        return this.initializationService;
+    }
+
+    /**
+     * Method for getting the metrics of the action system, e.g. for printing statistics
+     * @return Instance of the ActionMetrics class
+     * @author Philipp Schulz
+     */
+    public ActionMetrics getMetrics()
+    {
+        return this.actionQueue.getMetrics();
+    }
+
+    /**
+     * Method for registering an observer that is informed whenever a traced action is taken out of the action queue
+     * @param actionObserver Observer that should be informed, called on the thread of the ActionQueueManager
+     * @author Philipp Schulz
+     */
+    public void addActionObserver(ActionObserver actionObserver)
+    {
+        this.actionQueue.addActionObserver(actionObserver);
+    }
+
+    /**
+     * Method for removing an observer of traced actions
+     * @param actionObserver Observer that should not be informed anymore
+     * @author Philipp Schulz
+     */
+    public void removeActionObserver(ActionObserver actionObserver)
+    {
+        this.actionQueue.removeActionObserver(actionObserver);
+    }
+
+    /**
+     * Method for getting a new action, reuses actions that were already handled
+     * @param targetIndex ID of the target component
+     * @param originIndex ID of the origin component
+     * @param waitForExecution Boolean to decide if the component should wait for the execution
+     * @param opcode Opcode of the action that should be performed
+     * @param text String that contains the text payload of the action, empty if not required
+     * @return Instance of the Action class with the given contents
+     * @author Philipp Schulz
+     */
+    public Action obtainAction(int targetIndex, int originIndex, boolean waitForExecution, int opcode, String text)
+    {
+        return this.actionQueue.obtainAction(targetIndex, originIndex, waitForExecution, opcode, text);
     }
 }
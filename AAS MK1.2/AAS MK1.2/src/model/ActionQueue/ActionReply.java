@@ -0,0 +1,95 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ActionReplyConstants;
+
+/**
+ * Immutable answer to a request that was sent with a correlation ID, see PendingRequests
+ * Actions are reused by the ActionPool, so the future of a request receives a copy of the payload instead of the action
+ * @author Philipp Schulz
+ */
+public class ActionReply implements ActionReplyConstants
+{
+    // local fields
+    private final int originIndex;
+    private final int opcode;
+    private final String text;
+    private final int value;
+    private final boolean flag;
+    private final boolean explicitReply;
+
+    /**
+     * Constructor of the ActionReply class, copies the payload of an action
+     * @param action Action that answered the request or the request itself after it was handled
+     * @param explicitReply True if the target component answered with its own action (EXPLICIT_REPLY)
+     * @author Philipp Schulz
+     */
+    public ActionReply(Action action, boolean explicitReply)
+    {
+        this.originIndex = action.getOriginIndex();
+        this.opcode = action.getOpcode();
+        this.text = action.getText();
+        this.value = action.getValue();
+        this.flag = action.getFlag();
+        this.explicitReply = explicitReply;
+    }
+
+    /**
+     * Method for getting the ID of the component that answered
+     * @return ID of the origin component of the reply
+     * @author Philipp Schulz
+     */
+    public int getOriginIndex()
+    {
+        return this.originIndex;
+    }
+
+    /**
+     * Method for getting the opcode of the reply
+     * @return Opcode of the reply
+     * @author Philipp Schulz
+     */
+    public int getOpcode()
+    {
+        return this.opcode;
+    }
+
+    /**
+     * Method for getting the text payload of the reply
+     * @return String that contains the text payload
+     * @author Philipp Schulz
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Method for getting the integer payload of the reply
+     * @return Integer payload of the reply
+     * @author Philipp Schulz
+     */
+    public int getValue()
+    {
+        return this.value;
+    }
+
+    /**
+     * Method for getting the boolean payload of the reply
+     * @return Boolean payload of the reply
+     * @author Philipp Schulz
+     */
+    public boolean getFlag()
+    {
+        return this.flag;
+    }
+
+    /**
+     * Method for checking if the target component answered the request with its own action
+     * @return True for an answer of the target component, false if the request was only handled
+     * @author Philipp Schulz
+     */
+    public boolean isExplicitReply()
+    {
+        return this.explicitReply;
+    }
+}
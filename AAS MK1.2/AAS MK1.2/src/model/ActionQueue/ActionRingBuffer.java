@@ -0,0 +1,321 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ActionRingBufferConstants;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring buffer for actions with many adding threads and exactly one taking thread (ActionQueueManager)
+ * Every slot has its own sequence that tells if it is free for the current lap of the producers or filled for the
+ * consumer, producers claim a slot with a single compare-and-set on the producer cursor and never block each other
+ * The producer and the consumer cursor are placed in separate cache lines to avoid false sharing between both sides
+ * With shared consumers enabled producers may take the oldest action as well (drop-oldest overflow of an ActionLane),
+ * the consumer cursor is then advanced with a compare-and-set instead of a plain store
+ * @author Philipp Schulz
+ */
+public class ActionRingBuffer implements ActionRingBufferConstants
+{
+    // slots of the ring buffer, all allocated once
+    private final Action[] slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray cursors;
+    private final int mask;
+    private final boolean sharedConsumers;
+    // signal to wake up the consumer, may be shared by several ring buffers
+    private final ConsumerSignal consumerSignal;
+
+    /**
+     * Constructor of the ActionRingBuffer class
+     * @param capacity Maximum number of actions in the ring buffer, must be a power of two
+     * @author Philipp Schulz
+     */
+    public ActionRingBuffer(int capacity)
+    {
+        this(capacity, new ConsumerSignal(), SHARED_CONSUMERS_DEFAULT);
+    }
+
+    /**
+     * Constructor of the ActionRingBuffer class
+     * @param capacity Maximum number of actions in the ring buffer, must be a power of two
+     * @param consumerSignal Signal that is given to the consumer whenever an action was published
+     * @param sharedConsumers True if other threads than the consumer may take actions out of the ring buffer as well
+     * @author Philipp Schulz
+     */
+    public ActionRingBuffer(int capacity, ConsumerSignal consumerSignal, boolean sharedConsumers)
+    {
+        // the position of a slot is calculated with a bit mask instead of a modulo
+        if(capacity < MINIMUM_CAPACITY || Integer.bitCount(capacity) != POWER_OF_TWO_BIT_COUNT)
+        {
+            throw new IllegalArgumentException(ERROR_CAPACITY + capacity);
+        }
+        // initialize local fields
+        this.slots = new Action[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.cursors = new AtomicLongArray(CURSOR_ARRAY_LENGTH);
+        this.mask = capacity - 1;
+        this.sharedConsumers = sharedConsumers;
+        this.consumerSignal = consumerSignal;
+        // every slot is free for the first lap of the producers
+        for(int i = 0; i < capacity; i++)
+        {
+            this.sequences.set(i, START_SEQUENCE + i);
+        }
+    }
+
+    /**
+     * Method for adding an action to the ring buffer, can be called by any number of threads at the same time
+     * @param action Action that should be added
+     * @return True if the action was added, false if the ring buffer is full
+     * @author Philipp Schulz
+     */
+    public boolean offer(Action action)
+    {
+        long position = this.cursors.get(PRODUCER_CURSOR_INDEX);
+        while(true)
+        {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - position;
+            if(difference == 0)                                             // slot is free for this lap
+            {
+                // claim the slot, only one producer can win the position
+                if(this.cursors.compareAndSet(PRODUCER_CURSOR_INDEX, position, position + NEXT_SEQUENCE))
+                {
+                    // fill the slot and publish it to the consumer
+                    this.slots[index] = action;
+                    this.sequences.set(index, position + NEXT_SEQUENCE);
+                    // wake up the consumer if it is waiting for an action
+                    this.consumerSignal.signal();
+                    return true;
+                }
+                position = this.cursors.get(PRODUCER_CURSOR_INDEX);
+            }
+            else if(difference < 0)                                         // slot still holds an action of the previous lap
+            {
+                return false;
+            }
+            else                                                            // another producer claimed the position first
+            {
+                position = this.cursors.get(PRODUCER_CURSOR_INDEX);
+            }
+        }
+    }
+
+    /**
+     * Method for adding an action to the ring buffer, behaves like the add method of a java.util.Queue
+     * @param action Action that should be added
+     * @throws IllegalStateException If the ring buffer is full
+     * @author Philipp Schulz
+     */
+    public void add(Action action)
+    {
+        if(!offer(action))
+        {
+            throw new IllegalStateException(ERROR_FULL);
+        }
+    }
+
+    /**
+     * Method for taking the next action out of the ring buffer, must only be called by the consumer thread unless
+     * shared consumers are enabled
+     * @return Next action of the ring buffer, null if the ring buffer is empty
+     * @author Philipp Schulz
+     */
+    public Action poll()
+    {
+        if(this.sharedConsumers)
+        {
+            return pollShared();
+        }
+        long position = this.cursors.get(CONSUMER_CURSOR_INDEX);
+        int index = (int) (position & this.mask);
+        // check if a producer already published the slot
+        if(this.sequences.get(index) != position + NEXT_SEQUENCE)
+        {
+            return null;
+        }
+        // take the action and free the slot for the next lap of the producers
+        Action action = this.slots[index];
+        this.slots[index] = null;
+        this.sequences.lazySet(index, position + this.slots.length);
+        this.cursors.lazySet(CONSUMER_CURSOR_INDEX, position + NEXT_SEQUENCE);
+        return action;
+    }
+
+    /**
+     * Method for waiting for the next action, must only be called by the consumer thread
+     * The consumer retries a few times before it parks, producers wake it up as soon as an action is published
+     * @param timeout Maximum time in [ms] to wait for a new action
+     * @return Next action of the ring buffer, null if the timeout passed
+     * @throws InterruptedException If the waiting thread was interrupted
+     * @author Philipp Schulz
+     */
+    public Action poll(long timeout) throws InterruptedException
+    {
+        // retry without parking first, actions often arrive in bursts
+        for(int i = 0; i < SPIN_TRIES; i++)
+        {
+            Action action = poll();
+            if(action != null)
+            {
+                return action;
+            }
+        }
+        long deadline = ConsumerSignal.getDeadline(timeout);
+        try
+        {
+            do
+            {
+                // register as waiting consumer before checking again, a producer that publishes afterwards signals
+                this.consumerSignal.prepareWait();
+                Action action = poll();
+                if(action != null)
+                {
+                    return action;
+                }
+            }
+            while(this.consumerSignal.await(deadline));
+            return null;
+        }
+        finally
+        {
+            this.consumerSignal.finishWait();
+        }
+    }
+
+    /**
+     * Method for moving all currently available actions into the given collection, must only be called by the consumer thread
+     * @param actions List that should receive the actions, keeps the order of the ring buffer
+     * @param maximumActions Maximum number of actions to move at once
+     * @return Number of actions that were moved
+     * @author Philipp Schulz
+     */
+    public int drainTo(List<? super Action> actions, int maximumActions)
+    {
+        int drainedActions = 0;
+        while(drainedActions < maximumActions)
+        {
+            Action action = poll();
+            if(action == null)
+            {
+                break;
+            }
+            actions.add(action);
+            drainedActions++;
+        }
+        return drainedActions;
+    }
+
+    /**
+     * Method for getting the number of actions in the ring buffer
+     * Actions whose slot was claimed but not yet filled by a producer are already counted
+     * @return Number of actions in the ring buffer
+     * @author Philipp Schulz
+     */
+    public int size()
+    {
+        // read the consumer cursor first, the producer cursor can only be ahead of it
+        long consumerPosition = this.cursors.get(CONSUMER_CURSOR_INDEX);
+        long producerPosition = this.cursors.get(PRODUCER_CURSOR_INDEX);
+        return (int) Math.max(EMPTY_RING_BUFFER, Math.min(producerPosition - consumerPosition, this.slots.length));
+    }
+
+    /**
+     * Method for checking if the ring buffer is empty
+     * @return True if there is no action in the ring buffer
+     * @author Philipp Schulz
+     */
+    public boolean isEmpty()
+    {
+        return size() == EMPTY_RING_BUFFER;
+    }
+
+    /**
+     * Method for getting the capacity of the ring buffer
+     * @return Maximum number of actions in the ring buffer
+     * @author Philipp Schulz
+     */
+    public int getCapacity()
+    {
+        return this.slots.length;
+    }
+
+    /**
+     * Method for checking if an equivalent action is still waiting in the ring buffer, only the newest actions are checked
+     * @param action Action that should be compared with the waiting actions
+     * @param scanDepth Maximum number of the newest actions that are checked
+     * @return True if an action with the same target, origin, opcode, value, text and correlation ID is waiting
+     * @author Philipp Schulz
+     */
+    public boolean containsEquivalent(Action action, int scanDepth)
+    {
+        long consumerPosition = this.cursors.get(CONSUMER_CURSOR_INDEX);
+        long producerPosition = this.cursors.get(PRODUCER_CURSOR_INDEX);
+        long oldestPosition = Math.max(consumerPosition, producerPosition - scanDepth);
+        // go from the newest to the oldest action, a slot only counts if it was not taken while it was compared
+        for(long position = producerPosition - NEXT_SEQUENCE; position >= oldestPosition; position--)
+        {
+            int index = (int) (position & this.mask);
+            long publishedSequence = position + NEXT_SEQUENCE;
+            if(this.sequences.get(index) == publishedSequence)
+            {
+                Action pendingAction = this.slots[index];
+                if(pendingAction != null && isEquivalent(pendingAction, action) && this.sequences.get(index) == publishedSequence)
+                {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method for taking the next action out of the ring buffer if several threads may take actions
+     * @return Next action of the ring buffer, null if the ring buffer is empty
+     * @author Philipp Schulz
+     */
+    private Action pollShared()
+    {
+        long position = this.cursors.get(CONSUMER_CURSOR_INDEX);
+        while(true)
+        {
+            int index = (int) (position & this.mask);
+            long difference = this.sequences.get(index) - (position + NEXT_SEQUENCE);
+            if(difference == 0)                                             // slot was published for this lap
+            {
+                // claim the slot, only one thread can take the action
+                if(this.cursors.compareAndSet(CONSUMER_CURSOR_INDEX, position, position + NEXT_SEQUENCE))
+                {
+                    Action action = this.slots[index];
+                    this.slots[index] = null;
+                    this.sequences.set(index, position + this.slots.length);
+                    return action;
+                }
+                position = this.cursors.get(CONSUMER_CURSOR_INDEX);
+            }
+            else if(difference < 0)                                         // slot was not published yet
+            {
+                return null;
+            }
+            else                                                            // another thread took the action first
+            {
+                position = this.cursors.get(CONSUMER_CURSOR_INDEX);
+            }
+        }
+    }
+
+    /**
+     * Method for comparing the contents of two actions
+     * @param first First action
+     * @param second Second action
+     * @return True if both actions have the same target, origin, opcode, value, text and correlation ID
+     * @author Philipp Schulz
+     */
+    private boolean isEquivalent(Action first, Action second)
+    {
+        // requests are never equivalent, every request waits for its own reply
+        return first.getCorrelationID() == second.getCorrelationID() && first.getTargetIndex() == second.getTargetIndex() && first.getOriginIndex() == second.getOriginIndex() &&
+                first.getOpcode() == second.getOpcode() && first.getValue() == second.getValue() &&
+                (first.getText() == null ? second.getText() == null : first.getText().equals(second.getText()));
+    }
+}
@@ -0,0 +1,115 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ActionRouterConstants;
+import model.Util.IntHashMap;
+
+/**
+ * Routing table used by all components with sub-components for passing actions on to the correct component
+ * The routes are compiled from the hierarchical component IDs (2 digits / hierarchy depth, see componentList.txt)
+ * whenever the component IDs are set, routing an action afterwards only needs integer divisions and table lookups
+ * @author Philipp Schulz
+ */
+public class ActionRouter implements ActionRouterConstants
+{
+    // local fields
+    private final IntHashMap<ActionHandler> routingTable;
+    private final boolean[] usedDepths;
+
+    /**
+     * Constructor of the ActionRouter class
+     * @author Philipp Schulz
+     */
+    public ActionRouter()
+    {
+        // initialize local fields
+        this.routingTable = new IntHashMap<>(EXPECTED_ROUTE_COUNT);
+        this.usedDepths = new boolean[HIERARCHY_DEPTH_COUNT];
+    }
+
+    /**
+     * Method for adding a new route to the routing table
+     * @param componentID ID of the component that should receive the actions
+     * @param depth Hierarchy depth up to which the target ID has to match the component ID,
+     *              HIERARCHY_DEPTH_EXACT for components without sub-components
+     * @param handler Component that should handle all actions of this route
+     * @author Philipp Schulz
+     */
+    public void addRoute(int componentID, int depth, ActionHandler handler)
+    {
+        // ignore components without a valid ID (e.g. missing in the component list)
+        if(componentID >= MINIMUM_COMPONENT_ID)
+        {
+            // save the route and the depth for lookups
+            this.routingTable.put(getRoutingKey(componentID, depth), handler);
+            this.usedDepths[depth] = true;
+        }
+    }
+
+    /**
+     * Method for removing all routes, e.g. before the component IDs are updated
+     * @author Philipp Schulz
+     */
+    public void clearRoutes()
+    {
+        this.routingTable.clear();
+        for(int depth = HIERARCHY_DEPTH_ROOT; depth < HIERARCHY_DEPTH_COUNT; depth++)
+        {
+            this.usedDepths[depth] = false;
+        }
+    }
+
+    /**
+     * Method for finding the component that should handle an action for a given target ID
+     * The most specific route is used if multiple routes match
+     * @param targetID ID of the target component of the action
+     * @return Component that should handle the action, null if no route matches
+     * @author Philipp Schulz
+     */
+    public ActionHandler getHandler(int targetID)
+    {
+        // only valid IDs can be routed
+        if(targetID >= MINIMUM_COMPONENT_ID)
+        {
+            // go over all depths that have routes, starting with the exact IDs
+            for(int depth = HIERARCHY_DEPTH_EXACT; depth >= HIERARCHY_DEPTH_ROOT; depth--)
+            {
+                if(this.usedDepths[depth])
+                {
+                    // check if a route exists for the prefix of the target ID
+                    ActionHandler handler = this.routingTable.get(getRoutingKey(targetID, depth));
+                    if(handler != null)
+                    {
+                        return handler;
+                    }
+                }
+            }
+        }
+        // no route found
+        return null;
+    }
+
+    /**
+     * Method for getting the prefix of a component ID up to a given hierarchy depth
+     * (e.g. 1030401 -> 1 / 103 / 10304 / 1030401 for the depths 0 / 1 / 2 / 3)
+     * @param componentID ID of the component
+     * @param depth Hierarchy depth of the prefix
+     * @return Prefix of the component ID
+     * @author Philipp Schulz
+     */
+    public static int getHierarchyPrefix(int componentID, int depth)
+    {
+        return componentID / HIERARCHY_DIVISORS[depth];
+    }
+
+    /**
+     * Method for combining the prefix of an ID and its depth into a single key for the routing table
+     * @param componentID ID of the component
+     * @param depth Hierarchy depth of the route
+     * @return Key of the route in the routing table
+     * @author Philipp Schulz
+     */
+    private static int getRoutingKey(int componentID, int depth)
+    {
+        return getHierarchyPrefix(componentID, depth)*HIERARCHY_DEPTH_COUNT + depth;
+    }
+}
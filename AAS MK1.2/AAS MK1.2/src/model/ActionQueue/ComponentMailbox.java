@@ -0,0 +1,324 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ComponentMailboxConstants;
+import model.Metrics.TargetMetrics;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded mailbox of a single component, the ActionQueueManager only routes actions into the mailboxes
+ * The actions of a mailbox are handled by a thread of a shared pool, but never by two threads at the same time,
+ * so every component sees its actions in order and from one thread at a time (single writer)
+ * The mailbox is also the executor of the replies to requests of its component, they run between its actions
+ * @author Philipp Schulz
+ */
+public class ComponentMailbox implements ComponentMailboxConstants, ActionHandler, Runnable, Executor
+{
+    // mailbox that is currently handled by a thread of the pool
+    private static final ThreadLocal<ComponentMailbox> CURRENT_MAILBOX = new ThreadLocal<>();
+    // objects of all required components of the mailbox
+    private final ActionHandler component;
+    private final ActionQueue actionQueue;
+    private final Executor executor;
+    private final TargetMetrics metrics;
+    // local fields
+    private final String name;
+    private final ActionRingBuffer mailbox;
+    private final ConcurrentLinkedQueue<Runnable> tasks;
+    private final AtomicBoolean scheduled;
+    private final AtomicLong fullMailboxWaits;
+    private final AtomicLong rejectedActions;
+    private volatile boolean open;
+    private boolean overflowing;
+    private Action currentAction;
+
+    /**
+     * Constructor of the ComponentMailbox class
+     * @param name Name of the component, e.g. for debugging
+     * @param component Component that handles the actions of the mailbox
+     * @param actionQueue Instance of the ActionQueue, handled actions are given back to its ActionPool
+     * @param executor Thread pool that is shared by all mailboxes
+     * @author Philipp Schulz
+     */
+    public ComponentMailbox(String name, ActionHandler component, ActionQueue actionQueue, Executor executor)
+    {
+        // save references to the component, the ActionQueue and the thread pool
+        this.component = component;
+        this.actionQueue = actionQueue;
+        this.executor = executor;
+        // initialize local fields
+        this.name = name;
+        this.mailbox = new ActionRingBuffer(MAILBOX_CAPACITY);
+        this.tasks = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean();
+        this.fullMailboxWaits = new AtomicLong();
+        this.rejectedActions = new AtomicLong();
+        this.open = OPEN_START;
+        this.overflowing = NOT_OVERFLOWING;
+        // register the mailbox for the waiting and handling times of its actions
+        this.metrics = actionQueue.getMetrics().registerTarget(name, this);
+    }
+
+    /**
+     * Method for putting an action into the mailbox, only called by the ActionQueueManager!
+     * The mailbox takes over the action, it is given back to the ActionPool after the component handled it
+     * If the mailbox stays full for MAILBOX_FULL_TIMEOUT, the action is rejected and discarded, so a component that is
+     * stuck can not stop the routing of all other components (a request fails right away)
+     * @param action Action that should be handled by the component
+     * @author Philipp Schulz
+     */
+    public void handleAction(Action action)
+    {
+        // a closed mailbox belongs to a component that is shut down
+        if(!this.open)
+        {
+            this.actionQueue.discardAction(action);
+            return;
+        }
+        // wait a short time if the component is far behind, the routing of other components is delayed meanwhile
+        if(!this.mailbox.offer(action) && !offerWaiting(action))
+        {
+            // the component did not catch up, the action is given up instead of blocking the dispatcher
+            this.rejectedActions.incrementAndGet();
+            this.actionQueue.discardAction(action);
+            return;
+        }
+        // the component has space again, the next full mailbox is waited for again
+        this.overflowing = NOT_OVERFLOWING;
+        schedule();
+    }
+
+    /**
+     * Method for running a task of the component in this mailbox, e.g. the reply to a request of the component
+     * The task never runs at the same time as an action of the component
+     * @param task Task that should be run
+     * @author Philipp Schulz
+     */
+    public void execute(Runnable task)
+    {
+        // a closed mailbox belongs to a component that is shut down
+        if(!this.open)
+        {
+            return;
+        }
+        this.tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * Method for handling the waiting tasks and actions on a thread of the pool, only called by the executor!
+     * At most MAILBOX_TASK_BATCH_SIZE tasks and MAILBOX_BATCH_SIZE actions are handled at once, afterwards the mailbox
+     * is scheduled again
+     * @author Philipp Schulz
+     */
+    public void run()
+    {
+        CURRENT_MAILBOX.set(this);
+        try
+        {
+            // replies first, the component waits for them to continue its previous actions
+            for(int i = 0; i < MAILBOX_TASK_BATCH_SIZE; i++)
+            {
+                Runnable task = this.tasks.poll();
+                if(task == null)
+                {
+                    break;
+                }
+                try
+                {
+                    task.run();
+                }
+                catch(RuntimeException e)
+                {
+                    // an error of one reply must not stop the mailbox
+                    e.printStackTrace();
+                }
+            }
+            for(int i = 0; i < MAILBOX_BATCH_SIZE; i++)
+            {
+                Action action = this.mailbox.poll();
+                if(action == null)
+                {
+                    break;
+                }
+                // remember the enqueue count and dispatch time, the component may put the action back into the ActionQueue
+                int enqueueCount = action.getEnqueueCount();
+                long dispatchTime = action.getDispatchTime();
+                long startTime = System.nanoTime();
+                this.currentAction = action;
+                try
+                {
+                    this.component.handleAction(action);
+                }
+                catch(RuntimeException e)
+                {
+                    // an error of one action must not stop the mailbox
+                    e.printStackTrace();
+                }
+                finally
+                {
+                    this.currentAction = null;
+                }
+                this.metrics.recordAction(startTime - dispatchTime, System.nanoTime() - startTime);
+                // reuse the action if the component did not put it back into the ActionQueue
+                this.actionQueue.recycleAction(action, enqueueCount);
+            }
+        }
+        finally
+        {
+            CURRENT_MAILBOX.remove();
+        }
+        // give the mailbox free and schedule it again if new actions arrived in the meantime
+        this.scheduled.set(false);
+        if(!this.mailbox.isEmpty() || !this.tasks.isEmpty())
+        {
+            schedule();
+        }
+    }
+
+    /**
+     * Method for closing the mailbox, all following actions are dropped
+     * @author Philipp Schulz
+     */
+    public void close()
+    {
+        this.open = false;
+    }
+
+    /**
+     * Method for checking if the mailbox has neither waiting nor running actions
+     * @return True if the mailbox is idle
+     * @author Philipp Schulz
+     */
+    public boolean isIdle()
+    {
+        return !this.scheduled.get() && this.mailbox.isEmpty() && this.tasks.isEmpty();
+    }
+
+    /**
+     * Method for waiting until the mailbox is idle, e.g. before the component IDs are updated
+     * @param timeout Maximum time in [ms] to wait
+     * @return True if the mailbox is idle, false if the timeout passed
+     * @author Philipp Schulz
+     */
+    public boolean awaitIdle(long timeout)
+    {
+        long deadline = ConsumerSignal.getDeadline(timeout);
+        while(!isIdle())
+        {
+            if(System.nanoTime() - deadline >= 0)
+            {
+                return false;
+            }
+            LockSupport.parkNanos(this, MAILBOX_IDLE_PARK_TIME);
+        }
+        return true;
+    }
+
+    /**
+     * Method for getting the mailbox that is handled by the current thread
+     * @return Mailbox of the current thread, null if the current thread does not handle a mailbox
+     * @author Philipp Schulz
+     */
+    public static ComponentMailbox getCurrentMailbox()
+    {
+        return CURRENT_MAILBOX.get();
+    }
+
+    /**
+     * Method for getting the action that is handled by the current thread, e.g. for passing on its trace ID
+     * @return Action that is currently handled by the mailbox of the current thread, null if there is none
+     * @author Philipp Schulz
+     */
+    public static Action getCurrentAction()
+    {
+        ComponentMailbox mailbox = CURRENT_MAILBOX.get();
+        return (mailbox == null) ? null : mailbox.currentAction;
+    }
+
+    /**
+     * Method for getting the name of the component of the mailbox
+     * @return Name of the component
+     * @author Philipp Schulz
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Method for getting the number of actions that are waiting in the mailbox
+     * @return Number of waiting actions
+     * @author Philipp Schulz
+     */
+    public int getSize()
+    {
+        return this.mailbox.size();
+    }
+
+    /**
+     * Method for getting the number of times the dispatcher had to wait for a full mailbox
+     * @return Number of waits for a full mailbox
+     * @author Philipp Schulz
+     */
+    public long getFullMailboxWaits()
+    {
+        return this.fullMailboxWaits.get();
+    }
+
+    /**
+     * Method for getting the number of actions that were discarded because the mailbox stayed full
+     * @return Number of rejected actions
+     * @author Philipp Schulz
+     */
+    public long getRejectedActions()
+    {
+        return this.rejectedActions.get();
+    }
+
+    /**
+     * Method for giving the mailbox to a thread of the pool, unless it is already scheduled or running
+     * @author Philipp Schulz
+     */
+    private void schedule()
+    {
+        if(this.scheduled.compareAndSet(false, true))
+        {
+            this.executor.execute(this);
+        }
+    }
+
+    /**
+     * Method for waiting until the action fits into the full mailbox, only called by the ActionQueueManager
+     * While the mailbox is still full after a timeout, new actions are rejected without waiting again, otherwise every
+     * action for a stuck component would delay the routing by the full timeout
+     * @param action Action that should be added
+     * @return True if the action was added, false if the mailbox stayed full
+     * @author Philipp Schulz
+     */
+    private boolean offerWaiting(Action action)
+    {
+        if(this.overflowing)
+        {
+            return false;
+        }
+        this.fullMailboxWaits.incrementAndGet();
+        long deadline = System.nanoTime() + MAILBOX_FULL_TIMEOUT;
+        do
+        {
+            LockSupport.parkNanos(this, MAILBOX_FULL_PARK_TIME);
+            if(this.mailbox.offer(action))
+            {
+                return true;
+            }
+        }
+        while(System.nanoTime() - deadline < 0);
+        // the component is stuck, the next actions are rejected until it made space again
+        this.overflowing = OVERFLOWING;
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.ConsumerSignalConstants;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Class for waking up the single consumer thread of one or more ActionRingBuffers without any lock
+ * The consumer registers itself before it checks the ring buffers a last time and parks, the first producer that
+ * publishes an action afterwards unparks it
+ * @author Philipp Schulz
+ */
+public class ConsumerSignal implements ConsumerSignalConstants
+{
+    // thread of the consumer while it waits for a new action, null otherwise
+    private final AtomicReference<Thread> waitingConsumer;
+
+    /**
+     * Constructor of the ConsumerSignal class
+     * @author Philipp Schulz
+     */
+    public ConsumerSignal()
+    {
+        // initialize local fields
+        this.waitingConsumer = new AtomicReference<>();
+    }
+
+    /**
+     * Method for registering the current thread as waiting consumer, must be called before the last check of the
+     * ring buffers, a producer that publishes afterwards sees the thread
+     * @author Philipp Schulz
+     */
+    public void prepareWait()
+    {
+        this.waitingConsumer.set(Thread.currentThread());
+    }
+
+    /**
+     * Method for parking the registered consumer until a producer signals or the deadline passed
+     * @param deadline Point in time in [ns] (System.nanoTime()) until the consumer waits at most
+     * @return True if the consumer should check the ring buffers again, false if the deadline passed
+     * @throws InterruptedException If the waiting thread was interrupted
+     * @author Philipp Schulz
+     */
+    public boolean await(long deadline) throws InterruptedException
+    {
+        long remainingTime = deadline - System.nanoTime();
+        if(remainingTime <= NO_TIMEOUT)
+        {
+            return false;
+        }
+        LockSupport.parkNanos(this, remainingTime);
+        if(Thread.interrupted())
+        {
+            throw new InterruptedException();
+        }
+        return true;
+    }
+
+    /**
+     * Method for removing the registration of the consumer after it stopped waiting
+     * @author Philipp Schulz
+     */
+    public void finishWait()
+    {
+        this.waitingConsumer.set(null);
+    }
+
+    /**
+     * Method for waking up the consumer if it is waiting, only the first producer after the registration unparks it
+     * @author Philipp Schulz
+     */
+    public void signal()
+    {
+        Thread consumer = this.waitingConsumer.get();
+        if(consumer != null && this.waitingConsumer.compareAndSet(consumer, null))
+        {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Method for getting the deadline of a waiting time
+     * @param timeout Waiting time in [ms]
+     * @return Point in time in [ns] (System.nanoTime()) when the waiting time is over
+     * @author Philipp Schulz
+     */
+    public static long getDeadline(long timeout)
+    {
+        return System.nanoTime() + timeout*NANOSECONDS_PER_MILLISECOND;
+    }
+}
@@ -0,0 +1,161 @@
+package model.ActionQueue;
+
+import model.Constants.ActionQueue.PendingRequestsConstants;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Table of all requests that are waiting for a reply, used by the ActionQueue
+ * Every request gets a unique correlation ID, the reply of the target component (or the end of its handling) completes
+ * the future of the request directly instead of travelling back through the ActionQueue
+ * Requests without a reply are completed exceptionally after their timeout
+ * @author Philipp Schulz
+ */
+public class PendingRequests implements PendingRequestsConstants
+{
+    // local fields
+    private final ConcurrentHashMap<Long, CompletableFuture<ActionReply>> requests;
+    private final AtomicLong lastCorrelationID;
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+    private final AtomicLong timedOutRequests;
+    private final AtomicLong lateReplies;
+
+    /**
+     * Constructor of the PendingRequests class
+     * @author Philipp Schulz
+     */
+    public PendingRequests()
+    {
+        this.requests = new ConcurrentHashMap<>();
+        this.lastCorrelationID = new AtomicLong(FIRST_CORRELATION_ID);
+        // the thread for the timeouts must not keep the program alive after the shutdown
+        this.timeoutScheduler = new ScheduledThreadPoolExecutor(TIMEOUT_THREADS, runnable ->
+        {
+            Thread timeoutThread = new Thread(runnable, TIMEOUT_THREAD_NAME);
+            timeoutThread.setDaemon(true);
+            return timeoutThread;
+        });
+        // answered requests remove their timeout right away instead of keeping it until it expires
+        this.timeoutScheduler.setRemoveOnCancelPolicy(true);
+        this.timedOutRequests = new AtomicLong();
+        this.lateReplies = new AtomicLong();
+    }
+
+    /**
+     * Method for registering an action as request, must be called before the action is put into the ActionQueue
+     * @param action Action that should be answered, receives a new correlation ID
+     * @param timeout Maximum time in [ms] to wait for the reply
+     * @return Future that is completed with the reply
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<ActionReply> register(Action action, long timeout)
+    {
+        long correlationID = this.lastCorrelationID.incrementAndGet();
+        action.setCorrelationID(correlationID);
+        CompletableFuture<ActionReply> reply = new CompletableFuture<>();
+        this.requests.put(correlationID, reply);
+        // complete the request exceptionally if nobody answers in time
+        ScheduledFuture<?> timeoutTask = this.timeoutScheduler.schedule(() ->
+        {
+            if(this.requests.remove(correlationID, reply))
+            {
+                this.timedOutRequests.incrementAndGet();
+                reply.completeExceptionally(new TimeoutException(String.format(ERROR_TIMEOUT, timeout, correlationID)));
+            }
+        }, timeout, TimeUnit.MILLISECONDS);
+        reply.whenComplete((result, error) -> timeoutTask.cancel(MAY_INTERRUPT_TIMEOUT));
+        return reply;
+    }
+
+    /**
+     * Method for completing a request with the reply of the target component
+     * @param correlationID Correlation ID of the request
+     * @param reply Action that answers the request, its payload is copied
+     * @return True if the request was still waiting, false if it was already answered or timed out
+     * @author Philipp Schulz
+     */
+    public boolean complete(long correlationID, Action reply)
+    {
+        CompletableFuture<ActionReply> request = this.requests.remove(correlationID);
+        if(request == null)
+        {
+            this.lateReplies.incrementAndGet();
+            return false;
+        }
+        return request.complete(new ActionReply(reply, ActionReply.EXPLICIT_REPLY));
+    }
+
+    /**
+     * Method for completing a request after it was handled, only if the target component did not answer it already
+     * @param request Action of the request after it was handled
+     * @author Philipp Schulz
+     */
+    public void completeExecution(Action request)
+    {
+        CompletableFuture<ActionReply> reply = this.requests.remove(request.getCorrelationID());
+        if(reply != null)
+        {
+            reply.complete(new ActionReply(request, ActionReply.EXECUTION_REPLY));
+        }
+    }
+
+    /**
+     * Method for completing a request exceptionally, e.g. if it was rejected or dropped
+     * @param correlationID Correlation ID of the request
+     * @param error Reason why the request will not be answered
+     * @return True if the request was still waiting
+     * @author Philipp Schulz
+     */
+    public boolean fail(long correlationID, Throwable error)
+    {
+        CompletableFuture<ActionReply> request = this.requests.remove(correlationID);
+        return request != null && request.completeExceptionally(error);
+    }
+
+    /**
+     * Method for checking if a request is still waiting for its reply
+     * @param correlationID Correlation ID of the request
+     * @return True if the request was neither answered nor timed out
+     * @author Philipp Schulz
+     */
+    public boolean isPending(long correlationID)
+    {
+        return this.requests.containsKey(correlationID);
+    }
+
+    /**
+     * Method for getting the number of requests that are waiting for their reply
+     * @return Number of waiting requests
+     * @author Philipp Schulz
+     */
+    public int size()
+    {
+        return this.requests.size();
+    }
+
+    /**
+     * Method for getting the number of requests that were not answered in time
+     * @return Number of timed out requests
+     * @author Philipp Schulz
+     */
+    public long getTimedOutRequests()
+    {
+        return this.timedOutRequests.get();
+    }
+
+    /**
+     * Method for getting the number of replies that arrived after their request was answered or timed out
+     * @return Number of late replies
+     * @author Philipp Schulz
+     */
+    public long getLateReplies()
+    {
+        return this.lateReplies.get();
+    }
+}
@@ -0,0 +1,228 @@
+package model.Boot;
+
+import model.Constants.Boot.BootOrchestratorConstants;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class for running the boot sequence as a graph of dependent phases
+ * Every phase starts as soon as all its dependencies are done, independent phases run in parallel on a small pool of
+ * boot threads, the phases of a failed phase are skipped
+ * Dependencies must be added before the phases that need them, so the graph can never contain a cycle
+ * Every phase records its start, end and thread, the timeline shows the time to any phase and its critical path
+ * @author Philipp Schulz
+ */
+public class BootOrchestrator implements BootOrchestratorConstants
+{
+    // objects of all required components of BootOrchestrator
+    private final ExecutorService bootExecutor;
+    // local fields
+    private final Map<String, BootPhase> phases;
+    private volatile long bootStartTime;
+    private boolean started;
+
+    /**
+     * Constructor of the BootOrchestrator class
+     * @param threads Maximum number of phases that run at the same time
+     * @author Philipp Schulz
+     */
+    public BootOrchestrator(int threads)
+    {
+        // the boot threads must not keep the program alive
+        AtomicInteger bootThreadCount = new AtomicInteger();
+        this.bootExecutor = Executors.newFixedThreadPool(threads, runnable ->
+        {
+            Thread bootThread = new Thread(runnable, BOOT_THREAD_NAME + bootThreadCount.incrementAndGet());
+            bootThread.setDaemon(true);
+            return bootThread;
+        });
+        // initialize local fields
+        this.phases = new LinkedHashMap<>();
+        this.bootStartTime = System.nanoTime();
+        this.started = false;
+    }
+
+    /**
+     * Method for adding a phase to the boot sequence
+     * @param name Unique name of the phase
+     * @param task Work of the phase, runs on a boot thread
+     * @param dependencies Names of the phases that must be done before this phase can start, must already be added
+     * @throws IllegalArgumentException If the name is used twice or a dependency is unknown
+     * @throws IllegalStateException If the boot sequence was already started
+     * @author Philipp Schulz
+     */
+    public void addPhase(String name, Runnable task, String... dependencies)
+    {
+        if(this.started)
+        {
+            throw new IllegalStateException(ERROR_STARTED);
+        }
+        if(this.phases.containsKey(name))
+        {
+            throw new IllegalArgumentException(ERROR_DUPLICATE_PHASE + name);
+        }
+        BootPhase[] dependencyPhases = new BootPhase[dependencies.length];
+        for(int i = 0; i < dependencies.length; i++)
+        {
+            dependencyPhases[i] = this.phases.get(dependencies[i]);
+            if(dependencyPhases[i] == null)
+            {
+                throw new IllegalArgumentException(String.format(ERROR_UNKNOWN_DEPENDENCY, name, dependencies[i]));
+            }
+        }
+        this.phases.put(name, new BootPhase(name, task, dependencyPhases));
+    }
+
+    /**
+     * Method for starting all phases, phases without dependencies start immediately
+     * @return Future that completes as soon as all phases ended, exceptionally if a phase failed
+     * @throws IllegalStateException If the boot sequence was already started
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<Void> start()
+    {
+        if(this.started)
+        {
+            throw new IllegalStateException(ERROR_STARTED);
+        }
+        this.started = true;
+        this.bootStartTime = System.nanoTime();
+        // the phases are in the order they were added, so the futures of all dependencies already exist
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for(BootPhase phase : this.phases.values())
+        {
+            BootPhase[] dependencies = phase.getDependencies();
+            CompletableFuture<?>[] dependencyCompletions = new CompletableFuture<?>[dependencies.length];
+            for(int i = 0; i < dependencies.length; i++)
+            {
+                dependencyCompletions[i] = dependencies[i].getCompletion();
+            }
+            // run the phase once all dependencies are done, a failed dependency completes it exceptionally without running
+            CompletableFuture<Void> completion = CompletableFuture.allOf(dependencyCompletions)
+                    .thenRunAsync(() -> phase.run(this.bootStartTime), this.bootExecutor);
+            completion.whenComplete((result, error) -> phase.skipIfPending());
+            phase.setCompletion(completion);
+            completions.add(completion);
+        }
+        // release the boot threads once every phase ended
+        CompletableFuture<Void> bootCompletion = CompletableFuture.allOf(completions.toArray(new CompletableFuture<?>[0]));
+        bootCompletion.whenComplete((result, error) -> this.bootExecutor.shutdown());
+        return bootCompletion;
+    }
+
+    /**
+     * Method for waiting until a phase ended
+     * @param name Name of the phase
+     * @return True if the phase is done, false if it failed or was skipped
+     * @throws IllegalArgumentException If the phase does not exist
+     * @throws IllegalStateException If the boot sequence was not started yet
+     * @author Philipp Schulz
+     */
+    public boolean awaitPhase(String name)
+    {
+        BootPhase phase = getPhase(name);
+        if(!this.started)
+        {
+            throw new IllegalStateException(ERROR_NOT_STARTED);
+        }
+        try
+        {
+            phase.getCompletion().join();
+            return true;
+        }
+        catch(CompletionException | CancellationException e)
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Method for printing the timeline of all phases ordered by their start, followed by the time to the target phase
+     * and its critical path (the chain of dependencies that ended last)
+     * @param targetPhase Name of the phase whose time and critical path are printed, e.g. the end of the boot sequence
+     * @author Philipp Schulz
+     */
+    public void printTimeline(String targetPhase)
+    {
+        BootPhase target = getPhase(targetPhase);
+        // phases that did not run are printed at the end
+        List<BootPhase> orderedPhases = new ArrayList<>(this.phases.values());
+        orderedPhases.sort(Comparator.comparingLong(phase -> phase.getStartTime() == BootPhase.NOT_RECORDED ? Long.MAX_VALUE : phase.getStartTime()));
+        System.out.printf(TIMELINE_HEADER_FORMAT, (Object[]) TIMELINE_COLUMNS);
+        for(BootPhase phase : orderedPhases)
+        {
+            String state = BootPhase.STATE_NAMES[phase.getState()];
+            if(phase.getEndTime() == BootPhase.NOT_RECORDED)
+            {
+                System.out.printf(TIMELINE_NOT_RUN_FORMAT, phase.getName(), NO_TIME, NO_TIME, NO_TIME, phase.getThreadName(), state);
+            }
+            else
+            {
+                System.out.printf(TIMELINE_FORMAT, phase.getName(), phase.getStartTime()/NANOSECONDS_PER_MILLISECOND,
+                        phase.getEndTime()/NANOSECONDS_PER_MILLISECOND,
+                        (phase.getEndTime() - phase.getStartTime())/NANOSECONDS_PER_MILLISECOND, phase.getThreadName(), state);
+            }
+        }
+        if(target.getState() != BootPhase.STATE_DONE)
+        {
+            System.out.printf(PHASE_NOT_REACHED_FORMAT, targetPhase);
+            return;
+        }
+        System.out.printf(TIME_TO_PHASE_FORMAT, targetPhase, target.getEndTime()/NANOSECONDS_PER_MILLISECOND,
+                getCriticalPath(target));
+    }
+
+    /**
+     * Method for getting a phase by its name
+     * @param name Name of the phase
+     * @return Phase with the given name
+     * @throws IllegalArgumentException If the phase does not exist
+     * @author Philipp Schulz
+     */
+    private BootPhase getPhase(String name)
+    {
+        BootPhase phase = this.phases.get(name);
+        if(phase == null)
+        {
+            throw new IllegalArgumentException(ERROR_UNKNOWN_PHASE + name);
+        }
+        return phase;
+    }
+
+    /**
+     * Method for finding the chain of dependencies that delayed a phase the most
+     * Starting at the phase, the dependency that ended last is followed until a phase without dependencies is reached
+     * @param phase Phase whose critical path should be found
+     * @return Names of all phases of the critical path, beginning with the first phase of the boot sequence
+     * @author Philipp Schulz
+     */
+    private String getCriticalPath(BootPhase phase)
+    {
+        List<String> path = new ArrayList<>();
+        BootPhase current = phase;
+        while(current != null)
+        {
+            path.add(0, current.getName());
+            BootPhase latestDependency = null;
+            for(BootPhase dependency : current.getDependencies())
+            {
+                if(latestDependency == null || dependency.getEndTime() > latestDependency.getEndTime())
+                {
+                    latestDependency = dependency;
+                }
+            }
+            current = latestDependency;
+        }
+        return String.join(CRITICAL_PATH_SEPARATOR, path);
+    }
+}
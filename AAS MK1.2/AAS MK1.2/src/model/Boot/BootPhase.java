@@ -0,0 +1,165 @@
+package model.Boot;
+
+import model.Constants.Boot.BootPhaseConstants;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Class for a single phase of the boot sequence, e.g. loading the acoustic model or reading the component list
+ * A phase runs its task once all its dependencies are done and records when and on which thread it ran
+ * Only created by the BootOrchestrator!
+ * @author Philipp Schulz
+ */
+public class BootPhase implements BootPhaseConstants
+{
+    // local fields
+    private final String name;
+    private final Runnable task;
+    private final BootPhase[] dependencies;
+    private CompletableFuture<Void> completion;
+    private volatile int state;
+    private volatile long startTime;
+    private volatile long endTime;
+    private volatile String threadName;
+
+    /**
+     * Constructor of the BootPhase class
+     * @param name Unique name of the phase
+     * @param task Work of the phase
+     * @param dependencies Phases that must be done before this phase can start
+     * @author Philipp Schulz
+     */
+    public BootPhase(String name, Runnable task, BootPhase[] dependencies)
+    {
+        // initialize local fields
+        this.name = name;
+        this.task = task;
+        this.dependencies = dependencies;
+        this.completion = null;
+        this.state = STATE_PENDING;
+        this.startTime = NOT_RECORDED;
+        this.endTime = NOT_RECORDED;
+        this.threadName = NO_THREAD;
+    }
+
+    /**
+     * Method for running the task of the phase on the current thread and recording its timeline
+     * @param bootStartTime Start of the boot sequence in [ns] of System.nanoTime, all times are relative to it
+     * @throws RuntimeException If the task failed, the phases that depend on this phase are skipped
+     * @author Philipp Schulz
+     */
+    public void run(long bootStartTime)
+    {
+        this.threadName = Thread.currentThread().getName();
+        this.startTime = System.nanoTime() - bootStartTime;
+        this.state = STATE_RUNNING;
+        try
+        {
+            this.task.run();
+            this.state = STATE_DONE;
+        }
+        catch(RuntimeException | Error e)
+        {
+            // print the reason, the exception completes the phase exceptionally afterwards
+            e.printStackTrace();
+            this.state = STATE_FAILED;
+            throw e;
+        }
+        finally
+        {
+            this.endTime = System.nanoTime() - bootStartTime;
+        }
+    }
+
+    /**
+     * Method for marking the phase as skipped if it never ran, e.g. because a dependency failed
+     * @author Philipp Schulz
+     */
+    public void skipIfPending()
+    {
+        if(this.state == STATE_PENDING)
+        {
+            this.state = STATE_SKIPPED;
+        }
+    }
+
+    /**
+     * Getter for the name of the phase
+     * @return Name of the phase
+     * @author Philipp Schulz
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Getter for the dependencies of the phase
+     * @return Phases that must be done before this phase can start
+     * @author Philipp Schulz
+     */
+    public BootPhase[] getDependencies()
+    {
+        return this.dependencies;
+    }
+
+    /**
+     * Getter for the completion of the phase
+     * @return Future that completes as soon as the phase is done, exceptionally if it failed or was skipped
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<Void> getCompletion()
+    {
+        return this.completion;
+    }
+
+    /**
+     * Setter for the completion of the phase, set once when the boot sequence is started
+     * @param completion Future that completes as soon as the phase is done
+     * @author Philipp Schulz
+     */
+    public void setCompletion(CompletableFuture<Void> completion)
+    {
+        this.completion = completion;
+    }
+
+    /**
+     * Getter for the state of the phase
+     * @return State of the phase, one of the STATE constants
+     * @author Philipp Schulz
+     */
+    public int getState()
+    {
+        return this.state;
+    }
+
+    /**
+     * Getter for the start of the phase
+     * @return Start in [ns] relative to the start of the boot sequence, NOT_RECORDED if the phase did not start
+     * @author Philipp Schulz
+     */
+    public long getStartTime()
+    {
+        return this.startTime;
+    }
+
+    /**
+     * Getter for the end of the phase
+     * @return End in [ns] relative to the start of the boot sequence, NOT_RECORDED if the phase did not end
+     * @author Philipp Schulz
+     */
+    public long getEndTime()
+    {
+        return this.endTime;
+    }
+
+    /**
+     * Getter for the thread the phase ran on
+     * @return Name of the thread, NO_THREAD if the phase did not run
+     * @author Philipp Schulz
+     */
+    public String getThreadName()
+    {
+        return this.threadName;
+    }
+}
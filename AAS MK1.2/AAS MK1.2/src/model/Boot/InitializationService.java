@@ -0,0 +1,134 @@
+package model.Boot;
+
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionQueuePublic;
+import model.Constants.ActionHandlingConstants;
+import model.Constants.Boot.InitializationServiceConstants;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class for running the I/O-heavy setup of components in the background, e.g. loading the acoustic model as soon as the
+ * OS is known
+ * A component registers an initialization task and returns immediately, so neither its mailbox nor the shared mailbox
+ * threads are blocked, the boot sequence waits for the returned future. As soon as the task finished, the component
+ * receives an action with the opcode ACTION_INITIALIZATION_COMPLETE and changes its state in its own mailbox
+ * @author Philipp Schulz
+ */
+public class InitializationService implements InitializationServiceConstants, ActionHandlingConstants
+{
+    // objects of all required components of InitializationService
+    private final ActionQueuePublic actionQueue;
+    private final ThreadPoolExecutor initializationExecutor;
+    // local fields
+    private final Map<String, CompletableFuture<Boolean>> runningTasks;
+
+    /**
+     * Constructor of the InitializationService class
+     * @param actionQueue Instance of the public action queue, receives the completion actions
+     * @param threads Maximum number of initialization tasks that run at the same time
+     * @author Philipp Schulz
+     */
+    public InitializationService(ActionQueuePublic actionQueue, int threads)
+    {
+        // save reference to instance of the ActionQueue
+        this.actionQueue = actionQueue;
+        // the threads are only started when a task is registered and must not keep the program alive
+        AtomicInteger initializationThreadCount = new AtomicInteger();
+        this.initializationExecutor = new ThreadPoolExecutor(threads, threads, THREAD_KEEP_ALIVE_TIME, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable ->
+        {
+            Thread initializationThread = new Thread(runnable, INITIALIZATION_THREAD_NAME + initializationThreadCount.incrementAndGet());
+            initializationThread.setDaemon(true);
+            return initializationThread;
+        });
+        // idle threads end, components only initialize themselves a few times
+        this.initializationExecutor.allowCoreThreadTimeOut(true);
+        // initialize local fields
+        this.runningTasks = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method for registering an initialization task that runs in the background
+     * A task with the same name that is still running is not started again, its future is returned instead
+     * @param name Unique name of the task, text of the completion action
+     * @param componentID Component ID that receives the completion action
+     * @param task Initialization that should be performed
+     * @return Future that is completed with the result of the task, before the completion action is queued
+     * @author Philipp Schulz
+     */
+    public CompletableFuture<Boolean> submit(String name, int componentID, InitializationTask task)
+    {
+        return this.runningTasks.compute(name, (taskName, runningTask) ->
+        {
+            // join the running task instead of performing the same initialization twice
+            if(runningTask != null && !runningTask.isDone())
+            {
+                return runningTask;
+            }
+            return CompletableFuture.supplyAsync(() -> runTask(taskName, componentID, task), this.initializationExecutor);
+        });
+    }
+
+    /**
+     * Method for checking if an initialization task is currently running
+     * @param name Name of the task
+     * @return True if the task was registered and is not finished yet
+     * @author Philipp Schulz
+     */
+    public boolean isRunning(String name)
+    {
+        CompletableFuture<Boolean> runningTask = this.runningTasks.get(name);
+        return runningTask != null && !runningTask.isDone();
+    }
+
+    /**
+     * Method for stopping the service, running tasks are finished but their completion may not be handled anymore
+     * @author Philipp Schulz
+     */
+    public void shutdown()
+    {
+        this.initializationExecutor.shutdown();
+    }
+
+    /**
+     * Method for running a single initialization task and informing its component
+     * @param name Name of the task
+     * @param componentID Component ID that receives the completion action
+     * @param task Initialization that should be performed
+     * @return True if the initialization was successful
+     * @author Philipp Schulz
+     */
+    private boolean runTask(String name, int componentID, InitializationTask task)
+    {
+        long startTime = System.nanoTime();
+        boolean success;
+        try
+        {
+            success = task.initialize();
+        }
+        catch(Exception e)
+        {
+            // a failed initialization is reported to the component like an unsuccessful one
+            System.out.println(ERROR_INITIALIZATION + name);
+            e.printStackTrace();
+            success = INITIALIZATION_FAILED;
+        }
+        // inform the component, it handles the result in its own mailbox
+        Action completionAction = this.actionQueue.obtainAction(componentID, componentID, WAIT_FOR_EXECUTION_FALSE,
+                ACTION_INITIALIZATION_COMPLETE, name);
+        completionAction.setFlag(success);
+        completionAction.setValue((int) ((System.nanoTime() - startTime) / NANOSECONDS_PER_MILLISECOND));
+        if(!this.actionQueue.addNewActionToActionQueue(completionAction))
+        {
+            System.out.println(ERROR_COMPLETION_REJECTED + name);
+        }
+        return success;
+    }
+}
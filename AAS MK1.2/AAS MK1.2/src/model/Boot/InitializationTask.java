@@ -0,0 +1,19 @@
+package model.Boot;
+
+/**
+ * Interface for the I/O-heavy setup of a component, e.g. loading the acoustic model or opening the sound output
+ * Run by the InitializationService on one of its threads, never on the thread of a mailbox
+ * @author Philipp Schulz
+ */
+public interface InitializationTask
+{
+    /**
+     * Method that performs the initialization
+     * Must not change the state of the component that is read while handling actions, the component does that as soon
+     * as it receives the completion action
+     * @return True if the initialization was successful
+     * @throws Exception If the initialization failed, treated like an unsuccessful initialization
+     * @author Philipp Schulz
+     */
+    boolean initialize() throws Exception;
+}
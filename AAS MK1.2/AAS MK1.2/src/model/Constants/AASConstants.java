@@ -7,4 +7,27 @@ package model.Constants;
 public interface AASConstants
 {
     String COM_PORT_MANAGER_NAME = "ComPortManager";            // Name of the ComPortManager class
+    String PROPERTY_AUDIO_OUTPUT = "aas.audioOutput";           // system property for the backend of the sound output
+    String PROPERTY_AUDIO_OUTPUT_DIRECTORY = "aas.audioOutputDirectory";    // system property for the directory of the wav backend
+    String DEFAULT_AUDIO_OUTPUT = "line";                       // backend of the sound output during normal operation
+    String LOAD_TEST_AUDIO_OUTPUT = "null";                     // backend of the sound output during load tests
+    String ERROR_AUDIO_OUTPUT = "AAS: unknown sound output %s, using %s%n";    // print for an unknown backend
+    int BOOT_THREADS = 4;                                       // maximum number of boot phases that run at the same time
+    String PROPERTY_BOOT_TIMELINE = "aas.bootTimeline";         // system property to print the timeline of the boot sequence
+    String PROPERTY_WAKE_WORD_GATING = "aas.wakeWordGating";    // system property to only listen for the wake words outside of a dialogue
+    String DEFAULT_WAKE_WORD_GATING = "true";                   // default value of the wake word gating
+    String PHASE_OPERATING_SYSTEM = "operatingSystem";          // boot phase that detects the OS
+    String PHASE_COMPONENT_LIST = "componentList";              // boot phase that creates Auto and reads the component list
+    String PHASE_GLADOS = "glados";                             // boot phase that creates Glados with terminal, devices and GPIO
+    String PHASE_SOUND_MANAGER = "soundManager";                // boot phase that creates the SoundManager
+    String PHASE_VOICE_RECOGNITION_MANAGER = "voiceRecognitionManager";    // boot phase that creates the VoiceRecognitionManager
+    String PHASE_COMPONENT_IDS = "componentIDs";                // boot phase that gives all components their IDs and mailboxes
+    String PHASE_HOME_PATH = "homePath";                        // boot phase that sets the home path for the OS
+    String PHASE_SPEECH_MODEL = "speechModel";                  // boot phase that loads the acoustic model of the voice recognition
+    String PHASE_SOUND_OUTPUT = "soundOutput";                  // boot phase that initializes the sound output
+    String PHASE_WORD_WARM_UP = "wordWarmUp";                   // boot phase that loads the frequent words from the voice banks
+    String PHASE_FIXED_PHRASES = "fixedPhrases";                // boot phase that renders the fixed phrases of both voices
+    String PHASE_VOICE_RECOGNITION = "voiceRecognition";        // boot phase that starts the voice recognition
+    String PHASE_BOOT_COMPLETE = "bootComplete";                // last boot phase, tells the user that the program is ready
+    String ERROR_BOOT = "boot phase did not finish: ";          // error if the components could not be created
 }
@@ -1,5 +1,10 @@
 package model.Constants.AUTO;
 
+import model.Constants.ActionHandlingConstants;
+import model.Dialogue.DialogueCommand;
+import model.Dialogue.DialogueDefinition;
+import model.Dialogue.DialogueTransition;
+
 /**
  * Interface containing all constants used in the AUTO class
  * @author Philipp Schulz
@@ -8,29 +13,6 @@ public interface AutoConstants
 {
     int INITIAL_STATE_OWN_ID = -1;                                  // default value for the field ownID
 
-    boolean DIALOGUE_INACTIVE = false;                              // flag for finding out if a dialogue is currently active
-    boolean DIALOGUE_ACTIVE = true;                                 // flag that indicates that a dialogue is currently active
-    boolean RECEIVED_INPUT_START = false;                           // default value for field receivedInput
-
-    int DIALOGUE_NUMBER_DEFAULT = -1;                               // Integer that shows which dialogue is active
-    int[] STATE_MACHINES_DEFAULT = {0,0,0,0,0,0,0,0,0,0};           // Array that shows in which state the state machines are
-
-    int DIALOGUE_STATE_MACHINE_0 = 0;                               // value for the field dialogueNumber for state machine 0
-    int DIALOGUE_STATE_MACHINE_1 = 1;                               // value for the field dialogueNumber for state machine 1
-    int DIALOGUE_STATE_MACHINE_2 = 2;                               // value for the field dialogueNumber for state machine 2
-
-    int STATE_MACHINE_STATE_0 = 0;                                  // state 0 of any state machine
-    int STATE_MACHINE_STATE_1 = 1;                                  // state 1 of any state machine
-    int STATE_MACHINE_STATE_2 = 2;                                  // state 2 of any state machine
-    int STATE_MACHINE_STATE_3 = 3;                                  // state 3 of any state machine
-    int STATE_MACHINE_STATE_4 = 4;                                  // state 4 of any state machine
-    int STATE_MACHINE_STATE_5 = 5;                                  // state 5 of any state machine
-    int STATE_MACHINE_STATE_6 = 6;                                  // state 6 of any state machine
-    int STATE_MACHINE_STATE_7 = 7;                                  // state 7 of any state machine
-    int STATE_MACHINE_STATE_8 = 8;                                  // state 8 of any state machine
-    int STATE_MACHINE_STATE_9 = 9;                                  // state 9 of any state machine
-
-    int MINIMUM_ANSWER_LENGTH = 1;                                  // minimum String length of answer string to trigger action
 
     String RECOGNITION_START = "command";                           // String for first answer in a dialogue with Auto
     String RECOGNITION_ABORTED = "understood";                      // String for answer when aborting dialogue with Auto
@@ -43,7 +25,7 @@ public interface AutoConstants
     String DOT = ".";                                               // String that contains the dot for text output format
     String Q_MARK = "?";                                            // String that contains the question mark for text output format
     String E_MARK = "!";                                            // String that contains the exclamation mark for text output format
-    String VALID_SOUND_OUTPUT = "true";                             // String that indicates that the sound output is not busy
+    boolean VALID_SOUND_OUTPUT = true;                              // state of the sound output that indicates that it is not busy
 
     String CONFIRMATION_YES = "yes";                                // String for completing a confirmation
     String CONFIRMATION_NO = "no";                                  // String for aborting a confirmation
@@ -73,4 +55,74 @@ public interface AutoConstants
     String SHUTDOWN_CONFIRMATION_TEXT = "shutting down all systems";// String for confirming shutdown
     String REBOOT_CONFIRMATION = "rebooting all systems";           // String for confirming reboot
 
+    String DIALOGUE_STATE_IDLE = "idle";                            // state of the dialogue while no dialogue is active
+    String DIALOGUE_STATE_ACTIVE = "active";                        // state of the dialogue directly after it was started
+    String DIALOGUE_STATE_POWER = "power";                          // state of the dialogue for turn off, shutdown and reboot
+    String DIALOGUE_STATE_TURN_OFF = "turnOff";                     // state of the dialogue while awaiting confirmation of turn off
+    String DIALOGUE_STATE_SHUTDOWN = "shutdown";                    // state of the dialogue while awaiting confirmation of shutdown
+    String DIALOGUE_STATE_REBOOT = "reboot";                        // state of the dialogue while awaiting confirmation of reboot
+    String DIALOGUE_STATE_TURN_OFF_CONFIRMED = "turnOffConfirmed";  // state of the dialogue after turn off was confirmed
+    String DIALOGUE_STATE_SHUTDOWN_CONFIRMED = "shutdownConfirmed"; // state of the dialogue after shutdown was confirmed
+    String DIALOGUE_STATE_REBOOT_CONFIRMED = "rebootConfirmed";     // state of the dialogue after reboot was confirmed
+    boolean REPROCESS_INPUT = true;                                 // the input of a transition is also matched in the next state
+    boolean CONSUME_INPUT = false;                                  // the input of a transition is not used again
+
+    DialogueCommand[] NO_COMMANDS = {};                             // commands of transitions that do not send any actions
+    DialogueCommand[] ABORT_RECOGNITION_COMMANDS = {new DialogueCommand(VOICE_RECOGNITION_MANAGER_NAME,
+            ActionHandlingConstants.ACTION_VOICE_RECOGNITION_ABORT)};   // command to avoid a deadlock of the VoiceRecognitionManager
+    DialogueCommand[] TURN_OFF_COMMANDS = {new DialogueCommand(ACTION_QUEUE_MANAGER_NAME,
+            ActionHandlingConstants.TURN_OFF_ACTION)};              // command for terminating this program
+    DialogueCommand[] SHUTDOWN_COMMANDS = {new DialogueCommand(ACTION_QUEUE_MANAGER_NAME,
+            ActionHandlingConstants.SHUTDOWN_ACTION)};              // command for shutting down the machine
+    DialogueCommand[] REBOOT_COMMANDS = {new DialogueCommand(ACTION_QUEUE_MANAGER_NAME,
+            ActionHandlingConstants.REBOOT_ACTION)};                // command for rebooting the machine
+
+    // all transitions of the dialogue with Auto, the first matching transition of a state is taken
+    //####################################################################################################
+    //--------------------------------ADD TRANSITIONS OF NEW DIALOGUES HERE-------------------------------
+    //####################################################################################################
+    DialogueTransition[] DIALOGUE_TRANSITIONS = {
+            // start of a dialogue, the same input is used to choose the dialogue
+            new DialogueTransition(DIALOGUE_STATE_IDLE, DialogueTransition.MATCH_CONTAINS, new String[]{RECOGNITION_AUTO},
+                    DIALOGUE_STATE_ACTIVE, REPROCESS_INPUT, DialogueTransition.NO_RESPONSE, DialogueTransition.NO_RESPONSE, NO_COMMANDS),
+            // abortion of any active dialogue
+            new DialogueTransition(DialogueTransition.ANY_ACTIVE_STATE, DialogueTransition.MATCH_EQUALS, new String[]{RECOGNITION_ABORT},
+                    DIALOGUE_STATE_IDLE, CONSUME_INPUT, RECOGNITION_ABORTED, RECOGNITION_ABORTED, NO_COMMANDS),
+            // greeting
+            new DialogueTransition(DIALOGUE_STATE_ACTIVE, DialogueTransition.MATCH_CONTAINS, new String[]{GREETING_1, GREETING_2},
+                    DIALOGUE_STATE_IDLE, CONSUME_INPUT, GREETING_RESPONSE, GREETING_RESPONSE+DOT, ABORT_RECOGNITION_COMMANDS),
+            // first response of a dialogue
+            new DialogueTransition(DIALOGUE_STATE_ACTIVE, DialogueTransition.MATCH_CONTAINS, new String[]{RECOGNITION_START_1, RECOGNITION_START_2},
+                    DIALOGUE_STATE_ACTIVE, CONSUME_INPUT, RECOGNITION_START, RECOGNITION_START, NO_COMMANDS),
+            // turn off, shutdown and reboot
+            new DialogueTransition(DIALOGUE_STATE_ACTIVE, DialogueTransition.MATCH_CONTAINS, new String[]{INPUT_TURN_OFF, INPUT_SHUTDOWN, INPUT_REBOOT},
+                    DIALOGUE_STATE_POWER, REPROCESS_INPUT, DialogueTransition.NO_RESPONSE, DialogueTransition.NO_RESPONSE, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_POWER, DialogueTransition.MATCH_CONTAINS, new String[]{INPUT_TURN_OFF},
+                    DIALOGUE_STATE_TURN_OFF, CONSUME_INPUT, TURN_OFF_RESPONSE, TURN_OFF_RESPONSE+Q_MARK, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_POWER, DialogueTransition.MATCH_CONTAINS, new String[]{INPUT_SHUTDOWN},
+                    DIALOGUE_STATE_SHUTDOWN, CONSUME_INPUT, SHUTDOWN_RESPONSE, SHUTDOWN_RESPONSE+Q_MARK, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_POWER, DialogueTransition.MATCH_CONTAINS, new String[]{INPUT_REBOOT},
+                    DIALOGUE_STATE_REBOOT, CONSUME_INPUT, REBOOT_RESPONSE, REBOOT_RESPONSE+Q_MARK, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_TURN_OFF, DialogueTransition.MATCH_CONTAINS, new String[]{CONFIRMATION_YES},
+                    DIALOGUE_STATE_TURN_OFF_CONFIRMED, CONSUME_INPUT, TURN_OFF_CONFIRM, TURN_OFF_CONFIRM+DOT, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_TURN_OFF, DialogueTransition.MATCH_CONTAINS, new String[]{CONFIRMATION_NO},
+                    DIALOGUE_STATE_IDLE, CONSUME_INPUT, TURN_OFF_ABORT, TURN_OFF_ABORT+DOT, ABORT_RECOGNITION_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_SHUTDOWN, DialogueTransition.MATCH_CONTAINS, new String[]{CONFIRMATION_YES},
+                    DIALOGUE_STATE_SHUTDOWN_CONFIRMED, CONSUME_INPUT, SHUTDOWN_CONFIRM, SHUTDOWN_CONFIRM+DOT, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_SHUTDOWN, DialogueTransition.MATCH_CONTAINS, new String[]{CONFIRMATION_NO},
+                    DIALOGUE_STATE_IDLE, CONSUME_INPUT, SHUTDOWN_ABORT, SHUTDOWN_ABORT+DOT, ABORT_RECOGNITION_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_REBOOT, DialogueTransition.MATCH_CONTAINS, new String[]{CONFIRMATION_YES},
+                    DIALOGUE_STATE_REBOOT_CONFIRMED, CONSUME_INPUT, REBOOT_CONFIRM, REBOOT_CONFIRM+DOT, NO_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_REBOOT, DialogueTransition.MATCH_CONTAINS, new String[]{CONFIRMATION_NO},
+                    DIALOGUE_STATE_IDLE, CONSUME_INPUT, REBOOT_ABORT, REBOOT_ABORT+DOT, ABORT_RECOGNITION_COMMANDS),
+            // execution of turn off, shutdown and reboot directly after the confirmation
+            new DialogueTransition(DIALOGUE_STATE_TURN_OFF_CONFIRMED, DialogueTransition.MATCH_ALWAYS, DialogueTransition.NO_KEYWORDS,
+                    DIALOGUE_STATE_POWER, CONSUME_INPUT, TURN_OFF_CONFIRMATION, TURN_OFF_CONFIRMATION+DOT, TURN_OFF_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_SHUTDOWN_CONFIRMED, DialogueTransition.MATCH_ALWAYS, DialogueTransition.NO_KEYWORDS,
+                    DIALOGUE_STATE_POWER, CONSUME_INPUT, SHUTDOWN_CONFIRMATION_TEXT, SHUTDOWN_CONFIRMATION_TEXT+DOT, SHUTDOWN_COMMANDS),
+            new DialogueTransition(DIALOGUE_STATE_REBOOT_CONFIRMED, DialogueTransition.MATCH_ALWAYS, DialogueTransition.NO_KEYWORDS,
+                    DIALOGUE_STATE_POWER, CONSUME_INPUT, REBOOT_CONFIRMATION, REBOOT_CONFIRMATION+DOT, REBOOT_COMMANDS)
+    };
+    DialogueDefinition DIALOGUE_DEFINITION = new DialogueDefinition(DIALOGUE_STATE_IDLE,
+            DIALOGUE_TRANSITIONS);                                  // compiled dialogue, shared by all instances
 }
@@ -0,0 +1,12 @@
+package model.Constants.AUTO.Components;
+
+/**
+ * Interface containing all constants used in the ComponentSnapshot class
+ * @author Philipp Schulz
+ */
+public interface ComponentSnapshotConstants
+{
+    int DEFAULT_COMPONENT_ID = -1;                                  // return value if a component name is not contained in the snapshot
+    int MINIMUM_COMPONENT_ID = 0;                                   // minimum valid component ID, smaller IDs are ignored
+    String DEFAULT_COMPONENT_NAME = "";                             // return value if a component ID is not contained in the snapshot
+}
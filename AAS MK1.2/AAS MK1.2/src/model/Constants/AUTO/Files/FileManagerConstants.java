@@ -13,9 +13,8 @@ public interface FileManagerConstants
     String COMPONENT_LIST_PATH = "resources/componentList.txt";     // path to the component list file
     String COMPONENT_LIST_COMMENT = "//";                           // String containing the comment symbol from the component list
     String SPACE_STRING = " ";                                      // String that contains one space
-    String ACTION_READ_COMPONENT_LIST = "READ COMPONENT LIST";      // String to signalize that the terminal user wants to read the component list file
 
-    String SOUND_MANAGER_COMPONENT_NAME = "SoundManager";           // Name of the SoundManager class
+    String ACTION_QUEUE_MANAGER_NAME = "ActionQueueManager";        // Name of the ActionQueueManager class
     String SOUND_FILE_PATH_AUTO = "resources/audio/AUTO/";          // Path from home path to sound files for voice of AUTO
     String SOUND_FILE_PATH_GLADOS = "resources/audio/GLaDOS/";      // Path from home path to sound files for voice of GLaDOS
     String USER_DIR = "user.dir";                                   // command to find out user directory on Windows
@@ -6,32 +6,39 @@ package model.Constants;
  */
 public interface ActionHandlingConstants
 {
-    String UPDATE_OWN_ID = "UPDATE_ID";                             // action for updating the component ID
-    String WRONG_COMPONENT_ID = "";                                 // action for handling a wrong component ID
-    String SHUTDOWN_ACTION = "SHUTDOWN";                            // value for shutdown request for the field action
-    String REBOOT_ACTION = "REBOOT";                                // value for reboot request for the field action
-    String TURN_OFF_ACTION = "TURN_OFF";                            // value for turn off request for the field action
-    String SHUTDOWN_CONFIRMATION = "SHUTDOWN_COMPLETE";             // confirmation String that is sent by other components to signal completed shutdown
+    // opcodes of all actions, the payload of an action is described behind the corresponding opcode
+    int UPDATE_OWN_ID = 0;                                          // opcode for updating the component ID, value: new ID
+    int WRONG_COMPONENT_ID = 1;                                     // opcode for an action that was sent back due to a wrong component ID, value: rejected target ID
+    int SHUTDOWN_ACTION = 2;                                        // opcode for a shutdown request
+    int REBOOT_ACTION = 3;                                          // opcode for a reboot request
+    int TURN_OFF_ACTION = 4;                                        // opcode for a turn off request
+    int SHUTDOWN_CONFIRMATION = 5;                                  // opcode that is sent by other components to signal completed shutdown
+    int UPDATE_ID_ACTION = 6;                                       // opcode for updating the IDs of all components
+    int ACTION_HANDLE_ACTION = 7;                                   // opcode for a dialogue input that was given via terminal, text: input
+    int SHUTDOWN_SOUND_PLAYBACK = 8;                                // opcode that indicates that specifically the sound output should be stopped
+    int ACTION_TERMINAL_MANAGER_PRINT = 9;                          // opcode that indicates printing to the terminal, text: String to print
+    int ACTION_VOICE_RECOGNITION_START = 10;                        // opcode that indicates the start of the voice recognition module
+    int ACTION_VOICE_RECOGNITION_STOP = 11;                         // opcode that indicates stopping the voice recognition module
+    int ACTION_VOICE_RECOGNITION_ABORT = 12;                        // opcode that indicates that the current dialogue of the voice recognition module should be stopped
+    int ACTION_DEVICE_MANAGER_OS = 13;                              // opcode that indicates that the current OS is requested, text of the answer: name of the OS
+    int ACTION_PLAY_SOUND_GLADOS = 14;                              // opcode that indicates that sound should be played with Glados voice, text: sentence
+    int ACTION_PLAY_SOUND_AUTO = 15;                                // opcode that indicates that sound should be played with Autos voice, text: sentence
+    int ACTION_VOICE_RECOGNITION_INPUT = 16;                        // opcode that indicates that an input was received via voice recognition, text: input
+    int ACTION_TERMINAL_INPUT = 17;                                 // opcode that indicates that an input was received via the terminal, text: input
+    int ACTION_GET_PATH_TO = 18;                                    // opcode that indicates that the path to a specific file/folder is requested, value: PATH_*, text of the answer: path
+    int ACTION_SOUND_OUTPUT_BUSY = 19;                              // opcode that is no longer handled, the state of the Sound Output is published on the StateBus (SOUND_PLAYBACK_FINISHED)
+    int NOTIFY_COMPONENT = 20;                                      // opcode that indicates that another component should be notified, general definition for all components
+    int ACTION_READ_COMPONENT_LIST = 21;                            // opcode that indicates that the component list file should be read
+    int ACTION_INITIALIZATION_COMPLETE = 22;                        // opcode that indicates that an initialization task finished, text: name of the task, flag: success, value: duration in [ms]
+    int ACTION_OPCODE_COUNT = 23;                                   // number of opcodes, all opcodes are in the range [0, ACTION_OPCODE_COUNT)
+
+    int PATH_SOUND_FILES_AUTO = 0;                                  // value of ACTION_GET_PATH_TO for the sound files of Auto
+    int PATH_SOUND_FILES_GLADOS = 1;                                // value of ACTION_GET_PATH_TO for the sound files of Glados
+
     String SPACE = " ";                                             // String that contains a space character for action handling
     String EMPTY_STRING = "";                                       // empty String
-
-    String ACTION_HANDLE_ACTION = "HANDLE ";                        // wildcard action for implementing different functionalities
-    String SHUTDOWN_SOUND_PLAYBACK = "SHUTDOWN_SOUND_OUTPUT";       // String that indicates that specifically the sound output should be stopped
-    String ACTION_TERMINAL_MANAGER_PRINT = "PRINT ";                // String that indicates printing to the terminal
-    String ACTION_VOICE_RECOGNITION_START = "START_VOICE_RECOGNITION";; // String that indicates the start of the voice recognition module
-    String ACTION_VOICE_RECOGNITION_STOP = "STOP_VOICE_RECOGNITION";// String that indicates stopping the voice recognition module
-    String ACTION_VOICE_RECOGNITION_ABORT = "ABORT_VOICE_RECOGNITION";// String that indicates that the current dialogue of the voice recognition module should be stopped
-    String ACTION_DEVICE_MANAGER_OS = "OS";                         // Sting that indicates that the current OS is requested
-    String ACTION_PLAY_SOUND_GLADOS = "PLAY_SOUND_GLADOS ";         // String that indicates that sound should be played with Glados voice
-    String ACTION_PLAY_SOUND_AUTO = "PLAY_SOUND_AUTO ";             // String that indicates that sound should be played with Autos voice
-    String ACTION_VOICE_RECOGNITION_INPUT = "VOICE_RECOGNITION";    // String that indicates that an input was received via voice recognition
-    String ACTION_TERMINAL_INPUT = "TERMINAL_INPUT";                // String that indicates that an input was received via the terminal
-    String ACTION_GET_PATH_TO = "REQUEST_PATH";                     // String that indicates that the path to a specific file/folder is requested
-    String ACTION_SOUND_OUTPUT_BUSY = "SOUND_OUTPUT_BUSY";          // String that indicates that the state of the Sound Ouput is being requested or returned
     String AUTO_COMPONENT_NAME = "AUTO";                            // Name of auto during action handling
     String GLADOS_COMPONENT_NAME = "GLADOS";                        // Name of glados during action handling
-    String FILE_MANAGER_NAME = "FileManager";                       // Name of the FileManager class
-    String NOTIFY_COMPONENT = "NOTIFY";                             // String that indicates that another component should be notified, general definition for all components
 
     boolean WAIT_FOR_EXECUTION_FALSE = false;                       // value if an action does not require the waitForExecution field
     boolean WAIT_FOR_EXECUTION_TRUE = true;                         // value if an action requires the waitForExecution field
@@ -39,12 +46,8 @@ public interface ActionHandlingConstants
     int ERROR_COUNT_NEW = 0;                                        // value for shutdown request for the field errorCount
     int ERROR_COUNT_INCREMENT = 1;                                  // value by which the error count should be incremented
 
-    int SUBSTRING_OFFSET_1 = 1;                                     // offset of 1 used in substrings
-
     int INDEX_ZERO = 0;                                             // index of position 0 in Strings
     int INDEX_ONE = 1;                                              // index of position 1 in Strings
     int INDEX_TWO = 2;                                              // index of position 2 in Strings
-    int INDEX_THREE = 3;                                            // index of position 3 in Strings
     int INDEX_FOUR = 4;                                             // index of position 4 in Strings
-    int INDEX_FIVE = 5;                                             // index of position 5 in Strings
 }
@@ -6,5 +6,9 @@ package model.Constants.ActionQueue;
  */
 public interface ActionConstants
 {
-
+    int DEFAULT_VALUE = 0;                                          // default value for the field value
+    boolean DEFAULT_FLAG = false;                                   // default value for the field flag
+    boolean DEFAULT_QUEUED = false;                                 // default value for the field queued
+    long DEFAULT_CORRELATION_ID = PendingRequestsConstants.NO_CORRELATION_ID;   // default value for the field correlationID, no request
+    long NO_TRACE_ID = 0L;                                          // trace ID of actions that are not traced, default value for the field traceID
 }
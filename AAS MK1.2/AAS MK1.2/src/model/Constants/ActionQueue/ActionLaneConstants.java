@@ -0,0 +1,21 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionLane class
+ * @author Philipp Schulz
+ */
+public interface ActionLaneConstants
+{
+    int OVERFLOW_BLOCK = 0;                                         // overflow policy: the producer waits until there is space again
+    int OVERFLOW_DROP_OLDEST = 1;                                   // overflow policy: the oldest waiting action is dropped for the new one
+    int OVERFLOW_COALESCE = 2;                                      // overflow policy: the new action is merged into an equivalent waiting action
+    int OVERFLOW_REJECT = 3;                                        // overflow policy: the new action is rejected
+    String[] OVERFLOW_POLICY_NAMES = {"block", "drop-oldest", "coalesce", "reject"};    // names of all overflow policies
+    int OFFER_ENQUEUED = 0;                                         // result of an offer: the action was added to the lane
+    int OFFER_COALESCED = 1;                                        // result of an offer: an equivalent action is already waiting
+    int OFFER_REJECTED = 2;                                         // result of an offer: the action was not added
+    long BLOCK_TIMEOUT = 1000L;                                     // maximum waiting time in [ms] of a blocked producer before the action is rejected
+    long BLOCK_PARK_TIME = 100000L;                                 // waiting time in [ns] of a blocked producer between two attempts
+    int DROP_OLDEST_ATTEMPTS = 64;                                  // maximum number of dropped actions for a single new action
+    int COALESCE_SCAN_DEPTH = 64;                                   // number of the newest waiting actions that are checked for coalescing
+}
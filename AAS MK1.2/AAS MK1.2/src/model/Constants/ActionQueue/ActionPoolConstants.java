@@ -0,0 +1,15 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionPool class
+ * @author Philipp Schulz
+ */
+public interface ActionPoolConstants
+{
+    int POOL_CAPACITY = 256;                                        // maximum number of unused actions that are kept for reuse
+    int POOL_EMPTY = 0;                                             // number of unused actions in an empty pool
+    int DEFAULT_ERROR_COUNT = 0;                                    // error count of a newly obtained action
+    int DEFAULT_TARGET_INDEX = -1;                                  // target ID of a released action
+    int DEFAULT_OPCODE = -1;                                        // opcode of a released action
+    boolean DEFAULT_WAIT_FOR_EXECUTION = false;                     // waitForExecution of a released action
+}
@@ -1,11 +1,41 @@
 package model.Constants.ActionQueue;
 
+import model.Constants.ActionHandlingConstants;
+
 /**
  * Interface containing all constants used in the ActionQueue class
  * @author Philipp Schulz
  */
 public interface ActionQueueConstants
 {
-    int MAXIMUM_QUEUE_SIZE = 9999;                                  // maximum size of action queue
     int DEFAULT_ERROR_COUNT = 0;                                    // default value for the field errorCount
+    int WAIT_SPIN_TRIES = 64;                                       // number of checks of all lanes before the consumer parks
+    int EMPTY_QUEUE = 0;                                            // number of actions in an empty action queue
+    long WAIT_FOR_EXECUTION_TIMEOUT = 5000L;                        // maximum waiting time in [ms] of a sender for an action with waitForExecution
+    // lanes of the action queue, the index is the priority of the lane (control first)
+    int LANE_CONTROL = 0;                                           // lane for shutdown, ID updates and control of the voice recognition
+    int LANE_DEVICE = 1;                                            // lane for requests to devices and files
+    int LANE_SPEECH = 2;                                            // lane for sound output and dialogue inputs
+    int LANE_DIAGNOSTICS = 3;                                       // lane for terminal prints
+    int LANE_COUNT = 4;                                             // number of lanes
+    int DEFAULT_LANE = LANE_DEVICE;                                 // lane of all opcodes that are not assigned to a lane
+    String[] LANE_NAMES = {"control", "device", "speech", "diagnostics"};  // names of all lanes
+    int[] LANE_CAPACITIES = {1024, 4096, 8192, 4096};               // maximum number of actions of every lane, powers of two
+    int[] LANE_WEIGHTS = {16, 8, 4, 2};                             // number of actions taken out of every lane per round of draining
+    int[] LANE_OVERFLOW_POLICIES = {ActionLaneConstants.OVERFLOW_BLOCK, ActionLaneConstants.OVERFLOW_REJECT,
+            ActionLaneConstants.OVERFLOW_COALESCE, ActionLaneConstants.OVERFLOW_DROP_OLDEST};   // overflow policies of every lane
+    int[][] LANE_OPCODES = {
+            {ActionHandlingConstants.UPDATE_OWN_ID, ActionHandlingConstants.WRONG_COMPONENT_ID, ActionHandlingConstants.SHUTDOWN_ACTION,
+                    ActionHandlingConstants.REBOOT_ACTION, ActionHandlingConstants.TURN_OFF_ACTION, ActionHandlingConstants.SHUTDOWN_CONFIRMATION,
+                    ActionHandlingConstants.UPDATE_ID_ACTION, ActionHandlingConstants.SHUTDOWN_SOUND_PLAYBACK,
+                    ActionHandlingConstants.ACTION_VOICE_RECOGNITION_START, ActionHandlingConstants.ACTION_VOICE_RECOGNITION_STOP,
+                    ActionHandlingConstants.ACTION_VOICE_RECOGNITION_ABORT, ActionHandlingConstants.ACTION_READ_COMPONENT_LIST,
+                    ActionHandlingConstants.ACTION_INITIALIZATION_COMPLETE},
+            {ActionHandlingConstants.ACTION_DEVICE_MANAGER_OS, ActionHandlingConstants.ACTION_GET_PATH_TO,
+                    ActionHandlingConstants.NOTIFY_COMPONENT},
+            {ActionHandlingConstants.ACTION_HANDLE_ACTION, ActionHandlingConstants.ACTION_PLAY_SOUND_GLADOS,
+                    ActionHandlingConstants.ACTION_PLAY_SOUND_AUTO, ActionHandlingConstants.ACTION_VOICE_RECOGNITION_INPUT,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT},
+            {ActionHandlingConstants.ACTION_TERMINAL_MANAGER_PRINT}
+    };                                                              // opcodes of every lane
 }
@@ -8,14 +8,24 @@ public interface ActionQueueManagerConstants
 {
     int INITIAL_STATE_OWN_ID = -1;                                  // default value for the field ownID
     int ACTION_MANAGEMENT_MINIMUM_ID = 0;                           // minimum ID that is valid for actionManagement
-    int ACTION_MANAGEMENT_WAIT_TIME = 10;                           // waiting time in [ms] until next check for actions
+    int ACTION_MANAGEMENT_WAIT_TIME = 1000;                         // maximum waiting time in [ms] for a new action before checking the exit condition again
+    int ACTION_MANAGEMENT_BURST_SIZE = 64;                          // maximum number of actions taken from the ActionQueue at once
     int ACTION_MANAGEMENT_ERROR_COUNT_INCREMENT = 1;                // value by which the error counter should be incremented
+    int MAILBOX_THREADS = 4;                                        // number of threads that handle the actions of all component mailboxes
+    long MAILBOX_IDLE_TIMEOUT = 5000L;                              // maximum waiting time in [ms] for a busy component before the IDs are updated
+    int MAILBOX_AUTO = 0;                                           // index of the mailbox of Auto
+    int MAILBOX_GLADOS = 1;                                         // index of the mailbox of Glados (including the NetworkManager)
+    int MAILBOX_TERMINAL_MANAGER = 2;                               // index of the mailbox of the TerminalManager
+    int MAILBOX_DEVICE_MANAGER = 3;                                 // index of the mailbox of the DeviceManager and its sub-components
+    int MAILBOX_SOUND_MANAGER = 4;                                  // index of the mailbox of the SoundManager
+    int MAILBOX_VOICE_RECOGNITION_MANAGER = 5;                      // index of the mailbox of the VoiceRecognitionManager
+    int MAILBOX_COUNT = 6;                                          // number of component mailboxes
+    String MAILBOX_THREAD_NAME = "Mailbox-";                        // name of the mailbox threads, followed by a number
     boolean INITIAL_STATE_MANAGE_ACTIONS = true;                    // default value for the field manageActions
     boolean INITIAL_STATE_AUTO_STOPPED = false;                     // default value for the field autoStopped
     boolean INITIAL_STATE_GLADOS_STOPPED = false;                   // default value for the field gladosStopped
     boolean INITIAL_STATE_SOUND_STOPPED = false;                    // default value for the field soundStopped
     boolean INITIAL_STATE_VOICE_RECOGNITION_STOPPED = false;        // default value for the field voiceRecognitionStopped
-    String UPDATE_ID_ACTION = "UPDATE IDS";                         // action for updating the IDs of all components
     String CLASS_NAME_TERMINAL_MANAGER = "TerminalManager";         // name of the TerminalManager class
     String CLASS_NAME_SOUND_MANAGER = "SoundManager";               // name of the SoundManager class
     String BOOT_COMPLETE = "Initialization of AAS M K 1.2 complete."; // String that should be printed to the terminal after startup
@@ -7,4 +7,5 @@ package model.Constants.ActionQueue;
 public interface ActionQueuePublicConstants
 {
     int DEFAULT_ERROR_COUNT = 0;                                    // default value for the field errorCount
+    int INITIALIZATION_THREADS = 2;                                 // maximum number of initialization tasks of the components that run at the same time
 }
@@ -0,0 +1,11 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionReply class
+ * @author Philipp Schulz
+ */
+public interface ActionReplyConstants
+{
+    boolean EXPLICIT_REPLY = true;                                  // the target component answered the request with its own action
+    boolean EXECUTION_REPLY = false;                                // the target component handled the request without answering it
+}
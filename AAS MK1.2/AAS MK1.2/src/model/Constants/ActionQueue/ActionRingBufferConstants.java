@@ -0,0 +1,22 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionRingBuffer class
+ * @author Philipp Schulz
+ */
+public interface ActionRingBufferConstants
+{
+    int MINIMUM_CAPACITY = 2;                                       // smallest capacity of the ring buffer
+    int POWER_OF_TWO_BIT_COUNT = 1;                                 // number of set bits of a power of two
+    int EMPTY_RING_BUFFER = 0;                                      // number of actions in an empty ring buffer
+    int CACHE_LINE_LONGS = 8;                                       // number of long values in one cache line of 64 byte
+    int PRODUCER_CURSOR_INDEX = CACHE_LINE_LONGS;                   // index of the producer cursor, one cache line of padding in front
+    int CONSUMER_CURSOR_INDEX = 3*CACHE_LINE_LONGS;                 // index of the consumer cursor, one cache line of padding between the cursors
+    int CURSOR_ARRAY_LENGTH = 4*CACHE_LINE_LONGS;                   // length of the padded cursor array, one cache line of padding behind
+    boolean SHARED_CONSUMERS_DEFAULT = false;                       // by default only the consumer thread takes actions
+    int SPIN_TRIES = 64;                                            // number of retries of the consumer before it parks
+    long START_SEQUENCE = 0L;                                       // sequence of the first slot of the ring buffer
+    long NEXT_SEQUENCE = 1L;                                        // increment of a sequence for the next slot
+    String ERROR_CAPACITY = "capacity of the ring buffer must be a power of two, got ";  // error for an invalid capacity
+    String ERROR_FULL = "Queue full";                               // error if an action is added to a full ring buffer
+}
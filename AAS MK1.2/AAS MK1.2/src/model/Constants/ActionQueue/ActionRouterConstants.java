@@ -0,0 +1,17 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ActionRouter class
+ * @author Philipp Schulz
+ */
+public interface ActionRouterConstants
+{
+    int HIERARCHY_DEPTH_ROOT = 0;                                   // depth of Glados, Auto and the general components (first digit of the ID)
+    int HIERARCHY_DEPTH_1 = 1;                                      // depth of the direct components of Glados and Auto (e.g. DeviceManager)
+    int HIERARCHY_DEPTH_2 = 2;                                      // depth of the components below depth 1 (e.g. ComPortManager)
+    int HIERARCHY_DEPTH_EXACT = 3;                                  // depth that only matches the exact component ID
+    int HIERARCHY_DEPTH_COUNT = 4;                                  // number of hierarchy depths of the component IDs
+    int[] HIERARCHY_DIVISORS = {1000000, 10000, 100, 1};            // divisor per depth to get the ID prefix of a component (2 digits / depth)
+    int MINIMUM_COMPONENT_ID = 0;                                   // minimum ID that can be routed
+    int EXPECTED_ROUTE_COUNT = 8;                                   // expected number of routes per component
+}
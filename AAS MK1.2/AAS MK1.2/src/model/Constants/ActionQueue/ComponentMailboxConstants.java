@@ -0,0 +1,18 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ComponentMailbox class
+ * @author Philipp Schulz
+ */
+public interface ComponentMailboxConstants
+{
+    int MAILBOX_CAPACITY = 1024;                                    // maximum number of actions waiting for one component, power of two
+    int MAILBOX_BATCH_SIZE = 16;                                    // maximum number of actions handled before the thread is given to the next mailbox
+    long MAILBOX_FULL_PARK_TIME = 100000L;                          // waiting time in [ns] of the dispatcher between two attempts to fill a full mailbox
+    long MAILBOX_FULL_TIMEOUT = 100000000L;                         // maximum waiting time in [ns] of the dispatcher for a full mailbox before the action is rejected
+    long MAILBOX_IDLE_PARK_TIME = 1000000L;                         // waiting time in [ns] between two checks if a mailbox is idle
+    int MAILBOX_TASK_BATCH_SIZE = 16;                               // maximum number of continuations of requests handled at once
+    boolean OPEN_START = true;                                      // default value for the field open
+    boolean NOT_OVERFLOWING = false;                                // state of the field overflowing while the component keeps up, default value
+    boolean OVERFLOWING = true;                                     // state of the field overflowing after the mailbox stayed full
+}
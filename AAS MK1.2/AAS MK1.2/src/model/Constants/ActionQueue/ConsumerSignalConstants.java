@@ -0,0 +1,11 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the ConsumerSignal class
+ * @author Philipp Schulz
+ */
+public interface ConsumerSignalConstants
+{
+    long NO_TIMEOUT = 0L;                                           // remaining waiting time when the deadline passed
+    long NANOSECONDS_PER_MILLISECOND = 1000000L;                    // factor to convert [ms] into [ns]
+}
@@ -0,0 +1,18 @@
+package model.Constants.ActionQueue;
+
+/**
+ * Interface containing all constants used in the PendingRequests class
+ * @author Philipp Schulz
+ */
+public interface PendingRequestsConstants
+{
+    long NO_CORRELATION_ID = 0L;                                    // correlation ID of an action that is not a request
+    long FIRST_CORRELATION_ID = NO_CORRELATION_ID;                  // start value of the correlation ID counter, the first request gets the next ID
+    int TIMEOUT_THREADS = 1;                                        // number of threads that complete requests after their timeout
+    String TIMEOUT_THREAD_NAME = "RequestTimeout";                  // name of the thread for the timeouts of requests
+    boolean MAY_INTERRUPT_TIMEOUT = false;                          // a timeout task that was cancelled does not need to be interrupted
+    String ERROR_TIMEOUT = "no reply within %d ms for request %d";  // error if the timeout of a request passed
+    String ERROR_REJECTED = "request %d was rejected by the lane of its opcode";    // error if the ActionQueue rejected a request
+    String ERROR_DROPPED = "request %d was dropped by the lane of its opcode for a newer action";  // error if a full lane dropped a request
+    String ERROR_DISCARDED = "request %d was discarded before it was handled";      // error if a request was dropped without handling
+}
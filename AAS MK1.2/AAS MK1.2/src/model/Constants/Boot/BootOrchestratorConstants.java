@@ -0,0 +1,24 @@
+package model.Constants.Boot;
+
+/**
+ * Interface containing all constants used in the BootOrchestrator class
+ * @author Philipp Schulz
+ */
+public interface BootOrchestratorConstants
+{
+    String BOOT_THREAD_NAME = "Boot-";                              // name of the boot threads, followed by a number
+    double NANOSECONDS_PER_MILLISECOND = 1000000.0;                 // factor to convert [ms] into [ns]
+    String CRITICAL_PATH_SEPARATOR = " -> ";                        // separator between the phases of the critical path
+    String TIMELINE_HEADER_FORMAT = "%-24s %10s %10s %10s  %-10s %s%n";     // format of the header of the timeline
+    String TIMELINE_FORMAT = "%-24s %10.1f %10.1f %10.1f  %-10s %s%n";      // format of a phase that ran
+    String TIMELINE_NOT_RUN_FORMAT = "%-24s %10s %10s %10s  %-10s %s%n";    // format of a phase that did not run
+    String[] TIMELINE_COLUMNS = {"boot timeline [ms]", "start", "end", "duration", "thread", "state"};  // names of all columns
+    String NO_TIME = "-";                                           // time of a phase that did not run
+    String TIME_TO_PHASE_FORMAT = "time to %s: %.1f ms, critical path: %s%n";  // format of the summary of the target phase
+    String PHASE_NOT_REACHED_FORMAT = "%s was not reached%n";       // format of the summary if the target phase did not finish
+    String ERROR_DUPLICATE_PHASE = "boot phase already exists: ";   // error if two phases have the same name
+    String ERROR_UNKNOWN_DEPENDENCY = "boot phase %s depends on unknown phase %s";  // error if a dependency was not added before
+    String ERROR_UNKNOWN_PHASE = "unknown boot phase: ";            // error if a phase is requested that does not exist
+    String ERROR_STARTED = "boot sequence was already started";     // error if the phases are changed after the start
+    String ERROR_NOT_STARTED = "boot sequence was not started yet"; // error if a phase is awaited before the start
+}
@@ -0,0 +1,17 @@
+package model.Constants.Boot;
+
+/**
+ * Interface containing all constants used in the BootPhase class
+ * @author Philipp Schulz
+ */
+public interface BootPhaseConstants
+{
+    int STATE_PENDING = 0;                                          // state of a phase that waits for its dependencies
+    int STATE_RUNNING = 1;                                          // state of a phase whose task is running
+    int STATE_DONE = 2;                                             // state of a phase whose task finished successfully
+    int STATE_FAILED = 3;                                           // state of a phase whose task threw an exception
+    int STATE_SKIPPED = 4;                                          // state of a phase that was not run because a dependency failed
+    String[] STATE_NAMES = {"pending", "running", "done", "failed", "skipped"};     // names of all states, indexed by state
+    long NOT_RECORDED = -1L;                                        // start or end time of a phase that did not start or end yet
+    String NO_THREAD = "-";                                         // thread name of a phase that did not run
+}
@@ -0,0 +1,15 @@
+package model.Constants.Boot;
+
+/**
+ * Interface containing all constants used in the InitializationService class
+ * @author Philipp Schulz
+ */
+public interface InitializationServiceConstants
+{
+    long THREAD_KEEP_ALIVE_TIME = 30000;                            // time in [ms] an idle initialization thread is kept
+    String INITIALIZATION_THREAD_NAME = "Init-";                    // name of the initialization threads, followed by a number
+    long NANOSECONDS_PER_MILLISECOND = 1000000L;                    // factor to convert [ms] into [ns]
+    boolean INITIALIZATION_FAILED = false;                          // result of an initialization task that threw an exception
+    String ERROR_INITIALIZATION = "Initialization task failed: ";   // error if an initialization task threw an exception
+    String ERROR_COMPLETION_REJECTED = "Completion of initialization task was rejected: ";  // error if the completion action could not be queued
+}
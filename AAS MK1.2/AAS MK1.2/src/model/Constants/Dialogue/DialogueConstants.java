@@ -0,0 +1,11 @@
+package model.Constants.Dialogue;
+
+/**
+ * Interface containing all constants used in the Dialogue class
+ * @author Philipp Schulz
+ */
+public interface DialogueConstants
+{
+    int FIRST_STEP = 0;                                             // index of the first transition that is taken for an input
+    boolean INPUT_AVAILABLE = true;                                 // the input was not used by a transition yet
+}
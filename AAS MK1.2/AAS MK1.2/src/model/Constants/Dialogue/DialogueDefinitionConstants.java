@@ -0,0 +1,14 @@
+package model.Constants.Dialogue;
+
+/**
+ * Interface containing all constants used in the DialogueDefinition class
+ * @author Philipp Schulz
+ */
+public interface DialogueDefinitionConstants
+{
+    int FIRST_INDEX = 0;                                            // index of the first element of an array
+    int NO_TRANSITION = -1;                                         // index returned if no transition of a state matches the input
+    long NO_KEYWORDS_MASK = 0L;                                     // keyword mask of transitions without any keyword
+    long SINGLE_KEYWORD_MASK = 1L;                                  // keyword mask of the first keyword, shifted for all other keywords
+    int ADDITIONAL_STEPS = 1;                                       // number of steps per input on top of the number of transitions
+}
@@ -0,0 +1,15 @@
+package model.Constants.Dialogue;
+
+/**
+ * Interface containing all constants used in the DialogueTransition class
+ * @author Philipp Schulz
+ */
+public interface DialogueTransitionConstants
+{
+    int MATCH_CONTAINS = 0;                                         // transition is taken if the input contains any of its keywords
+    int MATCH_EQUALS = 1;                                           // transition is taken if the input equals any of its keywords
+    int MATCH_ALWAYS = 2;                                           // transition is taken directly after entering its state, no input required
+    String ANY_ACTIVE_STATE = "*";                                  // source state of transitions that are possible in every state except the initial state
+    String NO_RESPONSE = "";                                        // response of transitions that do not answer
+    String[] NO_KEYWORDS = {};                                      // keywords of transitions that do not depend on the input
+}
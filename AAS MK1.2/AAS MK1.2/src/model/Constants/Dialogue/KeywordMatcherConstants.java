@@ -0,0 +1,20 @@
+package model.Constants.Dialogue;
+
+/**
+ * Interface containing all constants used in the KeywordMatcher class
+ * @author Philipp Schulz
+ */
+public interface KeywordMatcherConstants
+{
+    int MAXIMUM_KEYWORDS = Long.SIZE;                               // maximum number of keywords, one bit of the match result per keyword
+    int ASCII_SIZE = 128;                                           // number of characters that are looked up in an array instead of a map
+    int ROOT_NODE = 0;                                              // index of the root node of the trie (no character matched yet)
+    int NO_NODE = -1;                                               // index of a missing child node while building the trie
+    int OTHER_CHARACTER_CLASS = 0;                                  // character class of all characters that are not part of any keyword
+    int FIRST_CHARACTER_CLASS = 1;                                  // character class of the first character that is part of a keyword
+    int FIRST_INDEX = 0;                                            // index of the first element of an array or String
+    long NO_MATCHES = 0L;                                           // match result if no keyword was found
+    long SINGLE_MATCH = 1L;                                         // match result of the first keyword, shifted for all other keywords
+    String ERROR_TOO_MANY_KEYWORDS = "At most %d keywords are supported, got %d";  // error if more keywords are given than bits in the match result
+    String ERROR_EMPTY_KEYWORD = "Keywords must not be empty";      // error if a keyword without characters is given
+}
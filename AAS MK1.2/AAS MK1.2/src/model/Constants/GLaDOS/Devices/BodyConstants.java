@@ -20,6 +20,7 @@ public interface BodyConstants
     int INDEX_SERVO_2 = 2;                                          // index of servo 2
     int INDEX_SERVO_3 = 3;                                          // index of servo 3
     int INDEX_SERVO_4 = 4;                                          // index of servo 4
+    int SERVO_COUNT = 4;                                            // number of servos of the body
 
     int SERVO_DEFAULT_ANSWER_POSITION = -9999;                      // default return value for method getServoPosition()
 }
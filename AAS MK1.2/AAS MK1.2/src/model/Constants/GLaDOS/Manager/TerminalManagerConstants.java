@@ -7,7 +7,6 @@ package model.Constants.GLaDOS.Manager;
 public interface TerminalManagerConstants
 {
     boolean INITIAL_STATE_IS_ACTIVE = true;                         // default value for the field isActive
-    boolean RECEIVED_INPUT_START = false;                           // default value for field receivedInput
 
     int ZERO_INDEX = 0;                                             // index of first value in an array
     int INITIAL_STATE_OWN_ID = -1;                                  // default value for the field ownID
@@ -28,15 +27,24 @@ public interface TerminalManagerConstants
     String TERMINAL_INPUT_RECOGNITION_START = "VR START";           // String to signalize that the terminal user wants the voice recognition to start
     String TERMINAL_INPUT_RECOGNITION_STOP = "VR STOP";             // String to signalize that the terminal user wants the voice recognition to stop
     String TERMINAL_INPUT_PLAY_SOUND = "SAY";                       // String to signalize that the terminal user wants a sentence to be played as sound
+    String TERMINAL_INPUT_STATISTICS = "STATS";                     // String to signalize that the terminal user wants to see the statistics of the action system
+    String STATISTICS_EXPORT = "EXPORT";                            // option of the STATS command to export the statistics periodically
+    String STATISTICS_EXPORT_OFF = "OFF";                           // value of the EXPORT option to stop the periodic export
+    String STATISTICS_EXPORT_FILE = "statistics.txt";               // default file of the periodic export of the statistics
+    String STATISTICS_EXPORT_STARTED = "Statistics are exported every %d s to %s.";   // confirmation of a started export
+    String STATISTICS_EXPORT_STOPPED = "Export of the statistics stopped.";     // confirmation of a stopped export
+    int STATISTICS_OPTION_INDEX = 1;                                // index of the option in a split STATS command
+    int STATISTICS_PERIOD_INDEX = 2;                                // index of the export period in a split STATS command
+    int STATISTICS_FILE_INDEX = 3;                                  // index of the export file in a split STATS command
+    int STATISTICS_MINIMUM_PERIOD = 1;                              // shortest export period in [s]
     String TERMINAL_INPUT_CONFIRMATION = "Request confirmed.";      // standard print to give the user feedback that the command has been accepted
     String TERMINAL_INPUT_REJECT = "Request denied.";               // standard print to give the user feedback that the command has been rejected
     String TERMINAL_INPUT_ERROR = "Command is not supported.";      // print to signalize user that the previous input was invalid
-    String ACTION_PRINT = "PRINT ";                                 // action command for printing to console
     String HELP_NOTE = "Type in 'HELP' to see available commands."; // text to print to terminal to signalize help
     String PLAY_SOUND_WRONG_VOICE = "voice is unsupported,";        // Error to handle unsupported voices for sound playing
 
     String TERMINAL_PRINT_PREFIX = ": ";                            // prefix to format terminal prints with origin and text
-    String VALID_SOUND_OUTPUT = "true";                             // String that indicates that the sound output is not busy
+    boolean VALID_SOUND_OUTPUT = true;                              // state of the sound output that indicates that it is not busy
 
     String GLADOS_RIGHT = "GLaDOS";                                 // correct string to print to terminal for glados
     String GLADOS_WRONG_1 = "lettuce";                              // wrong string 1 to print to terminal for glados
@@ -55,4 +63,5 @@ public interface TerminalManagerConstants
     String HELP_VOICE_RECOGNITION_START = "starts the voice recognition";   // description of the VR START command
     String HELP_VOICE_RECOGNITION_STOP = "stops the voice recognition"; // description of the VR STOP command
     String HELP_PLAY_SOUND = "plays a given sentence the defined voice. Structure is 'SAY [voice] [sentence]'"; // description of the SAY command
+    String HELP_STATISTICS = "prints latencies, queue depths and counters of the action system. 'STATS EXPORT [seconds] [file]' exports them periodically, 'STATS EXPORT OFF' stops it";  // description of the STATS command
 }
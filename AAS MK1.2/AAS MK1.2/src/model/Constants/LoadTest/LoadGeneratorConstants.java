@@ -0,0 +1,80 @@
+package model.Constants.LoadTest;
+
+import model.Constants.ActionHandlingConstants;
+import model.LoadTest.LoadStep;
+
+/**
+ * Interface containing all constants used in the LoadGenerator class
+ * @author Philipp Schulz
+ */
+public interface LoadGeneratorConstants
+{
+    double DEFAULT_RATE = 20.0;                                     // default number of inputs per second of all virtual users together
+    int DEFAULT_CONCURRENCY = 4;                                    // default number of virtual users
+    long DEFAULT_DURATION = 30L;                                    // default duration of the load in [s]
+    long START_TIMEOUT = 60000L;                                    // maximum time in [ms] to wait for the voice recognition before the load starts anyway
+    long START_WAIT_TIME = 100L;                                    // waiting time in [ms] between two checks if the program is ready
+    long DRAIN_TIME = 2000L;                                        // time in [ms] after the load during which late answers are still counted
+    long SCHEDULER_TIMEOUT = 1000L;                                 // maximum time in [ms] to wait for the virtual users to stop
+    long NANOSECONDS_PER_SECOND = 1000000000L;                      // factor to convert [s] into [ns]
+    double NANOSECONDS_PER_MILLISECOND = 1000000.0;                 // factor to convert [ns] into [ms]
+    long MINIMUM_PERIOD = 1L;                                       // shortest time in [ns] between two inputs of a virtual user
+    int FIRST_STEP = 0;                                             // index of the first step of the script
+    int NEXT_STEP = 1;                                              // increment of the step of a virtual user
+    int FIRST_INDEX = 0;                                            // index of the first input of the load
+    long FIRST_TRACE_ID = 1L;                                       // trace ID of the first input, 0 means not traced
+    long TRACE_CLOSED = Long.MIN_VALUE;                             // injection time of an input that was answered or rejected
+    double PERCENTILE_50 = 50.0;                                    // median of the latency
+    double PERCENTILE_99 = 99.0;                                    // 99th percentile of the latency
+    double PERCENTILE_999 = 99.9;                                   // 99.9th percentile of the latency
+    String THREAD_NAME = "LoadGenerator";                           // name of the thread that controls the load test
+    String USER_THREAD_NAME = "LoadGenerator-User-";                // name of the threads of the virtual users, followed by a number
+
+    // names of the components in the component list
+    String AUTO_NAME = "Auto";                                      // name of the component Auto
+    String GLADOS_NAME = "Glados";                                  // name of the component Glados
+    String TERMINAL_MANAGER_NAME = "TerminalManager";               // name of the component TerminalManager
+    String VOICE_RECOGNITION_MANAGER_NAME = "VoiceRecognitionManager";  // name of the component VoiceRecognitionManager
+    String ACTION_QUEUE_MANAGER_NAME = "ActionQueueManager";        // name of the component ActionQueueManager
+
+    // kinds of the inputs, the latencies are reported per kind
+    int KIND_VOICE_RECOGNITION = 0;                                 // dialogue input as if it came from the voice recognition
+    int KIND_TERMINAL_INPUT = 1;                                    // dialogue input as if it came from the terminal
+    int KIND_TERMINAL_LINE = 2;                                     // complete line that is handled like a line typed into the terminal
+    String[] KIND_NAMES = {"VOICE_RECOGNITION", "TERMINAL_INPUT", "TERMINAL_LINE"};  // names of all kinds, index is the kind
+
+    // script of the virtual users, every user starts at a different step and repeats the script
+    // the script must never confirm a turn off, shutdown or reboot, the program would end during the load
+    LoadStep[] LOAD_SCRIPT = {
+            new LoadStep(KIND_VOICE_RECOGNITION, AUTO_NAME, VOICE_RECOGNITION_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_VOICE_RECOGNITION_INPUT, "auto hello"),
+            new LoadStep(KIND_TERMINAL_INPUT, AUTO_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "auto turn off"),
+            new LoadStep(KIND_TERMINAL_INPUT, AUTO_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "no"),
+            new LoadStep(KIND_TERMINAL_LINE, TERMINAL_MANAGER_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "SAY auto all systems are running"),
+            new LoadStep(KIND_VOICE_RECOGNITION, GLADOS_NAME, VOICE_RECOGNITION_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_VOICE_RECOGNITION_INPUT, "lettuce hello"),
+            new LoadStep(KIND_TERMINAL_INPUT, GLADOS_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "lettuce turn off"),
+            new LoadStep(KIND_TERMINAL_INPUT, GLADOS_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "no"),
+            new LoadStep(KIND_TERMINAL_LINE, TERMINAL_MANAGER_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "SAY glados the test will continue"),
+            new LoadStep(KIND_TERMINAL_LINE, TERMINAL_MANAGER_NAME, TERMINAL_MANAGER_NAME,
+                    ActionHandlingConstants.ACTION_TERMINAL_INPUT, "VR auto hello")
+    };
+
+    String START_WAITING = "LoadGenerator: waiting for the voice recognition to start...";    // print while waiting for the program
+    String START_TIMEOUT_REACHED = "LoadGenerator: voice recognition did not start, starting the load anyway"; // print if the program did not get ready
+    String START_FORMAT = "LoadGenerator: %.1f inputs/s with %d virtual users for %d s%n";    // print when the load starts
+    String REPORT_HEADER = "LoadGenerator: report of the load test";    // first line of the report
+    String REPORT_COUNTS_FORMAT = "injected %d, rejected %d, answered %d, unanswered %d%n"; // format of the counters
+    String REPORT_THROUGHPUT_FORMAT = "offered %.1f inputs/s, answered %.1f inputs/s%n";  // format of the throughput
+    String REPORT_TABLE_FORMAT = "%-18s %9s %9s %9s %9s %9s%n";     // format of the header of the latency table
+    String[] REPORT_TABLE_COLUMNS = {"latency [ms]", "answered", "p50", "p99", "p999", "max"};    // names of all columns
+    String REPORT_LINE_FORMAT = "%-18s %9d %9.2f %9.2f %9.2f %9.2f%n";  // format of a single line of the latency table
+    String REPORT_TOTAL = "ALL";                                    // name of the line with the latencies of all inputs
+    String REPORT_SHUTDOWN = "LoadGenerator: turning off the program";  // print before the program is turned off
+}
@@ -6,5 +6,13 @@ package model.Constants;
  */
 public interface MainConstants
 {
-
+    int ARGUMENT_MODE_INDEX = 0;                                    // index of the argument that selects the mode of the program
+    int ARGUMENT_RATE_INDEX = 1;                                    // index of the argument with the rate of the load test
+    int ARGUMENT_CONCURRENCY_INDEX = 2;                             // index of the argument with the number of virtual users
+    int ARGUMENT_DURATION_INDEX = 3;                                // index of the argument with the duration of the load test
+    int MINIMUM_CONCURRENCY = 1;                                    // smallest number of virtual users
+    long MINIMUM_DURATION = 1L;                                     // shortest duration in [s] of the load test
+    double MINIMUM_RATE = 0.0;                                      // the rate of the load test must be greater than this
+    String MODE_LOAD_TEST = "LOAD";                                 // argument for starting the load test instead of the normal program
+    String ERROR_LOAD_TEST_ARGUMENTS = "usage: LOAD [inputs per second > 0] [virtual users >= 1] [duration in s >= 1]";  // print for invalid arguments
 }
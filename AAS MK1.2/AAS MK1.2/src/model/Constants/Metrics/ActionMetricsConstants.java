@@ -0,0 +1,36 @@
+package model.Constants.Metrics;
+
+/**
+ * Interface containing all constants used in the ActionMetrics class
+ * @author Philipp Schulz
+ */
+public interface ActionMetricsConstants
+{
+    double NANOSECONDS_PER_MICROSECOND = 1000.0;                    // factor to convert [ns] into [us]
+    double NANOSECONDS_PER_SECOND = 1000000000.0;                   // factor to convert [ns] into [s]
+    double PERCENTILE_50 = 50.0;                                    // median
+    double PERCENTILE_99 = 99.0;                                    // 99th percentile
+    double PERCENTILE_999 = 99.9;                                   // 99.9th percentile
+    long NO_DEPTH = 0L;                                             // depth of an empty lane
+    long NO_ACTIONS = 0L;                                           // count of an opcode that was never dispatched
+    int EXPORT_THREADS = 1;                                         // number of threads that export the statistics
+    String EXPORT_THREAD_NAME = "StatisticsExport";                 // name of the thread that exports the statistics
+    boolean MAY_INTERRUPT_EXPORT = false;                           // a running export is finished before it is stopped
+    String[] OPCODE_NAMES = {"UPDATE_OWN_ID", "WRONG_COMPONENT_ID", "SHUTDOWN_ACTION", "REBOOT_ACTION", "TURN_OFF_ACTION",
+            "SHUTDOWN_CONFIRMATION", "UPDATE_ID_ACTION", "ACTION_HANDLE_ACTION", "SHUTDOWN_SOUND_PLAYBACK",
+            "ACTION_TERMINAL_MANAGER_PRINT", "ACTION_VOICE_RECOGNITION_START", "ACTION_VOICE_RECOGNITION_STOP",
+            "ACTION_VOICE_RECOGNITION_ABORT", "ACTION_DEVICE_MANAGER_OS", "ACTION_PLAY_SOUND_GLADOS", "ACTION_PLAY_SOUND_AUTO",
+            "ACTION_VOICE_RECOGNITION_INPUT", "ACTION_TERMINAL_INPUT", "ACTION_GET_PATH_TO", "ACTION_SOUND_OUTPUT_BUSY",
+            "NOTIFY_COMPONENT", "ACTION_READ_COMPONENT_LIST", "ACTION_INITIALIZATION_COMPLETE"};     // names of all opcodes, indexed by the opcode
+    String REPORT_SUMMARY = "statistics after %.1f s: %d actions dispatched (%.1f actions/s), %d bounced (WRONG_COMPONENT_ID)";   // first line of the report
+    String REPORT_LANE_HEADER = String.format("%-14s %9s %10s %10s %10s %10s %7s %9s %8s %8s %9s %8s", "queue wait", "count",
+            "p50 us", "p99 us", "p999 us", "max us", "depth", "max depth", "blocked", "dropped", "coalesced", "rejected");  // header of the lanes
+    String REPORT_LANE = "%-14s %9d %10.1f %10.1f %10.1f %10.1f %7d %9d %8d %8d %9d %8d";  // format of a lane
+    String REPORT_TARGET_HEADER = String.format("%-24s %9s %10s %10s %10s %10s %10s %10s %7s %10s %9s", "handling", "count",
+            "wait p50", "wait p99", "p50 us", "p99 us", "p999 us", "max us", "size", "full waits", "rejected");   // header of the targets
+    String REPORT_TARGET = "%-24s %9d %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f %7d %10d %9d";   // format of a target
+    String REPORT_OPCODES_HEADER = "actions per opcode:";           // header of the opcode counters
+    String REPORT_OPCODE = "  %-32s %9d";                           // format of an opcode counter
+    String REPORT_REQUESTS = "requests: %d pending, %d timed out, %d late replies";    // format of the request counters
+    String REPORT_TIMESTAMP = "=== %s ===";                         // separator of two exported reports
+}
@@ -0,0 +1,17 @@
+package model.Constants.Metrics;
+
+/**
+ * Interface containing all constants used in the LatencyHistogram class
+ * @author Philipp Schulz
+ */
+public interface LatencyHistogramConstants
+{
+    int SUB_BUCKET_BITS = 5;                                        // number of bits of a value that are kept exactly, relative error below 2^-5 (about 3 %)
+    int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;                    // number of buckets per power of two
+    int HIGHEST_BIT = Long.SIZE - 1;                                // index of the highest bit of a positive long value
+    int BUCKET_COUNT = SUB_BUCKET_COUNT + (HIGHEST_BIT - SUB_BUCKET_BITS)*SUB_BUCKET_COUNT;   // number of buckets to cover all positive long values
+    long MINIMUM_VALUE = 0L;                                        // smallest value that can be recorded, negative values are recorded as this
+    long EMPTY_HISTOGRAM = 0L;                                      // count and value of an empty histogram
+    double PERCENTILE_FACTOR = 100.0;                               // factor to convert a percentile into a fraction
+    long BUCKET_WIDTH_OFFSET = 1L;                                  // offset between the width of a bucket and its highest value
+}
@@ -0,0 +1,15 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the AudioSinkFactory class
+ * @author Philipp Schulz
+ */
+public interface AudioSinkFactoryConstants
+{
+    String AUDIO_OUTPUT_LINE = "line";          // backend that plays on the sound card
+    String AUDIO_OUTPUT_NULL = "null";          // backend that discards the data without limit
+    String AUDIO_OUTPUT_REALTIME = "realtime";  // backend that discards the data at the speed of a sound card
+    String AUDIO_OUTPUT_WAV = "wav";            // backend that writes every sentence into a WAV file
+    String DEFAULT_WAV_DIRECTORY = "soundOutput";   // directory of the WAV files if no directory is given
+    boolean REALTIME = true;                    // speed of the null sink for the realtime backend
+}
@@ -0,0 +1,10 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the JavaSoundSink class
+ * @author Philipp Schulz
+ */
+public interface JavaSoundSinkConstants
+{
+    long NO_PLAYED_BYTES = 0L;                  // number of played bytes while no line is open
+}
@@ -0,0 +1,17 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the NullAudioSink class
+ * @author Philipp Schulz
+ */
+public interface NullAudioSinkConstants
+{
+    boolean REALTIME_DEFAULT = false;           // default speed of the sink, data is consumed as fast as it is written
+    long NO_PLAYED_BYTES = 0L;                  // number of played bytes after opening the sink
+    long NO_WRITTEN_BYTES = 0L;                 // number of written bytes after opening the sink
+    long NO_BYTE_RATE = 0L;                     // byte rate of a format without frame rate, consumed without limit
+    long BUFFER_TIME = 200L;                    // time in [ms] of data that is accepted ahead of the playback
+    long MINIMUM_WAIT_TIME = 1L;                // shortest waiting time in [ms] while the buffer is full
+    long NANOSECONDS_PER_SECOND = 1000000000L;  // conversion factor from [s] to [ns]
+    long MILLISECONDS_PER_SECOND = 1000L;       // conversion factor from [s] to [ms]
+}
@@ -0,0 +1,14 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the PcmRingBuffer class
+ * @author Philipp Schulz
+ */
+public interface PcmRingBufferConstants
+{
+    int RING_BUFFER_SIZE = 64*1024;                                 // default capacity of the ring buffer in [byte]
+    int EMPTY_RING_BUFFER = 0;                                      // number of bytes in an empty ring buffer
+    int START_INDEX = 0;                                            // index of the first byte in the ring buffer
+    int END_OF_STREAM = -1;                                         // return value of read() after the ring buffer was closed and emptied
+    boolean CLOSED_START = false;                                   // default value for field closed
+}
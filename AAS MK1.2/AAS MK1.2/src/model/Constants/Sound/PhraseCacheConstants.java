@@ -0,0 +1,15 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the PhraseCache class
+ * @author Philipp Schulz
+ */
+public interface PhraseCacheConstants
+{
+    long MAXIMUM_CACHE_SIZE = 16L*1024L*1024L;                     // maximum size of all rendered phrases in [byte]
+    int INITIAL_CACHE_CAPACITY = 64;                                // initial capacity of the cache, number of phrases
+    float CACHE_LOAD_FACTOR = 0.75f;                                // load factor of the underlying LinkedHashMap
+    boolean CACHE_ACCESS_ORDER = true;                              // order the cache by access, required for LRU eviction
+    long EMPTY_CACHE_SIZE = 0L;                                     // size of an empty cache
+    String KEY_SEPARATOR = "\n";                                    // separator between voice and phrase, can not be part of a sentence
+}
@@ -0,0 +1,32 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the SentenceRenderer class
+ * @author Philipp Schulz
+ */
+public interface SentenceRendererConstants
+{
+    boolean TRIM_SILENCE = true;                                    // value to indicate that silence before and after each word is removed
+    int CROSSFADE_TIME = 10;                                        // time in [ms] two following words are faded into each other
+    int SENTENCE_SPACER = 200;                                      // time in [ms] of silence after each sentence
+    int SILENCE_THRESHOLD = 256;                                    // amplitude up to which a 16 bit sample counts as silence
+    int SILENCE_MARGIN_TIME = 20;                                   // time in [ms] of silence that is kept before and after each word
+    int MILLIS_PER_SECOND = 1000;                                   // number of milliseconds per second
+    int PROCESSABLE_SAMPLE_SIZE = 16;                               // sample size in [bit] for which trimming and crossfading is supported
+    int BYTES_PER_SAMPLE = 2;                                       // number of bytes of one processable sample
+    int BITS_PER_BYTE = 8;                                          // number of bits per byte
+    int BYTE_MASK = 0xFF;                                           // mask for reading a byte without sign
+    int UNSIGNED_SILENCE = 0x80;                                    // value of the most significant byte of a silent unsigned sample
+    int SILENCE_CHUNK_SIZE = 4096;                                  // maximum size in [byte] of the silence written at once
+    int NO_FRAMES = 0;                                              // number of frames of an empty range
+    int FIRST_FRAME = 0;                                            // index of the first frame of a word
+    int FIRST_CHANNEL = 0;                                          // index of the first channel of a frame
+    int FIRST_BYTE = 0;                                             // index of the first byte of an array
+    int NO_BYTES = 0;                                               // size of empty PCM data
+    int MINIMUM_SAMPLE_BYTES = 1;                                   // minimum number of bytes of one sample
+    int FIRST_WORD = 0;                                             // index of the first word of a sentence
+    int RENDERED_WORDS = 1;                                         // number of words of a sentence that was rendered completely
+    int MAXIMUM_RENDERED_SIZE = Integer.MAX_VALUE;                  // maximum size in [byte] of a sentence that is rendered into memory
+    double FADE_CENTER_OFFSET = 0.5;                                // offset to use the center of a frame for the fade factor
+    double FULL_VOLUME = 1.0;                                       // factor for a sample without any fading
+}
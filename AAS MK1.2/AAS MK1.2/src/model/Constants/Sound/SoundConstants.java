@@ -7,18 +7,20 @@ package model.Constants.Sound;
 public interface SoundConstants
 {
     boolean INITIALIZED_START = false;          // default value for field initialized
+    boolean OUTPUT_STARTED_START = false;       // default value for field outputStarted
     boolean IS_WINDOWS_START = false;           // default value for field isWindows
     boolean ALIVE_START = true;                 // default value for field alive
-    boolean ENABLE_PLAYBACK = false;            // value to indicate that sound will be played
-    boolean DISABLE_PLAYBACK = true;            // value to indicate that sound playback is finished
-    int WAITING_TIME = 5;                       // waiting time in [ms]
     int LOOP_WAIT_TIME = 50;                    // waiting time in output thread in [ms]
-    int SENTENCE_SPACER = 200;                  // time in [ms] to wait between sentences
     int QUEUE_LENGTH = 100;                     // Maximum number of elements in sound output queue
+    int NO_PENDING_SENTENCES = 0;               // number of pending sentences when playback is finished
+    int FIRST_PENDING_SENTENCE = 1;             // number of pending sentences when playback starts
+    int LINE_CHUNK_SIZE = 4096;                 // size in [byte] of the data written into the sound output line at once
+    int START_INDEX = 0;                        // index of the first byte of the line buffer
+    long START_POSITION = 0L;                   // position of the sound output line after opening it
+    long NO_REMAINING_BYTES = 0L;               // number of bytes left when a sentence was copied completely
     String GLADOS = "GLADOS";                   // String to indicate voice origin for glados
     String AUTO = "AUTO";                       // String to indicate voice origin for auto
     String EMPTY_STRING = "";                   // Empty String
-    String FILE_FORMAT = ".wav";                // format of the sound files
     String PI_PATH = "/home/pi/";               // Segment in the file path to decide which OS is used
-    String MIXER_PI_INFO = "Direct Audio Device: USB Audio Device, USB Audio, USB Audio";    // description of sound output on Raspberry Pi
-    }
+    String MIXER_PI_INFO = "USB Audio";         // part of the name or description of the sound output on Raspberry Pi
+}
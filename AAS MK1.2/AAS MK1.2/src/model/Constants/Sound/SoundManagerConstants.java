@@ -1,5 +1,11 @@
 package model.Constants.Sound;
 
+import model.Constants.AUTO.AutoConstants;
+import model.Constants.ActionQueue.ActionQueueManagerConstants;
+import model.Constants.GLaDOS.GladosConstants;
+import model.Constants.Util.UtilityFunctionsConstants;
+import model.Constants.VoiceRecognition.VoiceRecognitionManagerConstants;
+
 /**
  * Interface containing all constants used in the SoundManager class
  * @author Philipp Schulz
@@ -8,9 +14,34 @@ public interface SoundManagerConstants
 {
     boolean KILL_SOUND_OUTPUT = false;                              // value to stop the sound output thread
     boolean WINDOWS_OS_PRESENT = true;                              // value to indicate that current OS is Windows
+    boolean WARM_UP_ENABLED = true;                                 // value to indicate that frequent words are loaded after initialization
+    boolean PHRASE_CACHE_ENABLED = true;                            // value to indicate that fixed phrases are rendered once and played from memory
     int INITIAL_STATE_OWN_ID = -1;                                  // default value for the field ownID
     int SOUND_FILE_PATH_INDEX = 1;                                  // index at which the path to the sound files is in the action
     String WINDOWS_OS = "windows";                                  // String that contains the name of Windows OS
     String LINUX_HOME_PATH = "/home/pi/";                           // String that contains part of the home path on Linux
     String COMMA = ",";                                             // String that contains a single comma character
+    String[] WARM_UP_PHRASES_GLADOS = {GladosConstants.GREETING_RESPONSE, GladosConstants.RECOGNITION_START,
+            GladosConstants.RECOGNITION_ABORTED};                   // phrases of Glados whose words are loaded after initialization
+    String[] WARM_UP_PHRASES_AUTO = {AutoConstants.GREETING_RESPONSE, AutoConstants.RECOGNITION_START,
+            AutoConstants.RECOGNITION_ABORTED};                     // phrases of Auto whose words are loaded after initialization
+    String[] WARM_UP_PHRASES_NUMBERS = {UtilityFunctionsConstants.HUNDRED, UtilityFunctionsConstants.POINT_STRING,
+            UtilityFunctionsConstants.MINUS_WORD, UtilityFunctionsConstants.PLUS_WORD}; // number words of both voices that are loaded after initialization
+    String[] FIXED_PHRASES_GLADOS = {GladosConstants.GREETING_RESPONSE, GladosConstants.RECOGNITION_START,
+            GladosConstants.RECOGNITION_ABORTED, GladosConstants.TURN_OFF_RESPONSE, GladosConstants.SHUTDOWN_RESPONSE,
+            GladosConstants.REBOOT_RESPONSE, GladosConstants.TURN_OFF_CONFIRM, GladosConstants.TURN_OFF_ABORT,
+            GladosConstants.SHUTDOWN_CONFIRM, GladosConstants.SHUTDOWN_ABORT, GladosConstants.REBOOT_CONFIRM,
+            GladosConstants.REBOOT_ABORT, GladosConstants.TURN_OFF_CONFIRMATION, GladosConstants.SHUTDOWN_CONFIRMATION_TEXT,
+            GladosConstants.REBOOT_CONFIRMATION};                   // fixed phrases of Glados that are rendered after initialization
+    String[] FIXED_PHRASES_AUTO = {AutoConstants.GREETING_RESPONSE, AutoConstants.RECOGNITION_START,
+            AutoConstants.RECOGNITION_ABORTED, AutoConstants.TURN_OFF_RESPONSE, AutoConstants.SHUTDOWN_RESPONSE,
+            AutoConstants.REBOOT_RESPONSE, AutoConstants.TURN_OFF_CONFIRM, AutoConstants.TURN_OFF_ABORT,
+            AutoConstants.SHUTDOWN_CONFIRM, AutoConstants.SHUTDOWN_ABORT, AutoConstants.REBOOT_CONFIRM,
+            AutoConstants.REBOOT_ABORT, AutoConstants.TURN_OFF_CONFIRMATION, AutoConstants.SHUTDOWN_CONFIRMATION_TEXT,
+            AutoConstants.REBOOT_CONFIRMATION, ActionQueueManagerConstants.BOOT_COMPLETE,
+            VoiceRecognitionManagerConstants.RECOGNIZER_CREATION_SUCCESS, VoiceRecognitionManagerConstants.RECOGNITION_START,
+            VoiceRecognitionManagerConstants.RECOGNITION_STOP};     // fixed phrases of Auto that are rendered after initialization
+
+    String INITIALIZATION_SOUND_OUTPUT = "soundOutput";             // name of the initialization task that opens the sound output
+    boolean INITIALIZATION_SUCCESSFUL = true;                       // result of the initialization task of the sound output
 }
@@ -0,0 +1,23 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the VoiceBankBuilder class
+ * @author Philipp Schulz
+ */
+public interface VoiceBankBuilderConstants
+{
+    int NUMBER_OF_ARGUMENTS = 2;                                    // number of command line arguments of the tool
+    int SOURCE_ARGUMENT = 0;                                        // index of the argument with the WAV directory or zip file
+    int BANK_ARGUMENT = 1;                                          // index of the argument with the voice bank file
+    long EMPTY_FILE = 0L;                                           // length of an empty file
+    long HEADER_POSITION = 0L;                                      // position of the header in the voice bank
+    int EMPTY_BANK_CHANNELS = 1;                                    // number of channels written into the header of an empty voice bank
+    int BITS_PER_BYTE = 8;                                          // number of bits per byte
+    String FILE_MODE_WRITE = "rw";                                  // mode for opening a voice bank for writing
+    String WAV_FILE_FORMAT = ".wav";                                // format of the sound files that are packed
+    String PATH_SEPARATOR = "/";                                    // separator of the paths inside a zip file
+    String USAGE = "usage: VoiceBankBuilder <WAV directory or zip file> <voice bank file>";  // message for wrong arguments
+    String NO_SOURCE_MESSAGE = "no WAV directory or zip file: ";    // message if the source does not exist
+    String SKIPPED_WORD_MESSAGE = "skipped word with unsupported format: ";  // message if a word could not be converted
+    String BUILD_FINISHED_MESSAGE = " words packed into ";          // message after the voice bank was written
+}
@@ -0,0 +1,26 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the VoiceBank class
+ * Describes the file format that is shared with the VoiceBankBuilder
+ * @author Philipp Schulz
+ */
+public interface VoiceBankConstants
+{
+    int BANK_MAGIC = 0x41415356;                                    // first four bytes of each voice bank ("AASV")
+    int BANK_VERSION = 1;                                           // version of the voice bank format
+    int HEADER_SIZE = 28;                                           // size of the header in [byte], data starts directly after it
+    long MAP_START = 0L;                                            // position in the file at which the mapping starts
+    int FIRST_WORD = 0;                                             // index of the first word in the index
+    int INDEX_CAPACITY_FACTOR = 2;                                  // factor between number of words and capacity of the word index
+    int BANK_SAMPLE_SIZE = 16;                                      // sample size in [bit] of all PCM data in a voice bank
+    boolean BANK_SIGNED = true;                                     // all PCM data in a voice bank is signed
+    boolean BANK_BIG_ENDIAN = false;                                // byte order of all PCM data in a voice bank
+    int UNSIGNED_SHORT_MASK = 0xFFFF;                               // mask for reading an unsigned short
+    int INITIAL_INDEX_CAPACITY = 1024;                              // initial capacity of the word index
+    String FILE_MODE_READ = "r";                                    // mode for opening a voice bank for reading
+    String INVALID_BANK_MESSAGE = "not a voice bank: ";             // message if a file is not a voice bank
+    String BANK_FILE_FORMAT = ".bank";                              // format of the voice bank files
+    String SLASH = "/";                                             // String that contains a single forward slash for paths
+    String BACKSLASH = "\\";                                        // String that contains a single backslash for paths
+}
@@ -0,0 +1,15 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the WavFileSink class
+ * @author Philipp Schulz
+ */
+public interface WavFileSinkConstants
+{
+    int FIRST_UTTERANCE = 1;                    // number of the first file that is written
+    int EMPTY_UTTERANCE = 0;                    // size of an utterance without data
+    long NO_WRITTEN_BYTES = 0L;                 // number of written bytes after opening the sink
+    String FILE_NAME_FORMAT = "%04d_%s.wav";    // name of a file with the number of the utterance and the voice
+    String UNKNOWN_VOICE = "unknown";           // voice in the file name of an utterance without voice
+    String ERROR_DIRECTORY = "WavFileSink: could not create directory ";   // print if the output directory is missing
+}
@@ -0,0 +1,20 @@
+package model.Constants.Sound;
+
+/**
+ * Interface containing all constants used in the WordSampleCache class
+ * @author Philipp Schulz
+ */
+public interface WordSampleCacheConstants
+{
+    long MAXIMUM_CACHE_SIZE = 16L*1024L*1024L;                     // maximum size of all cached PCM data in [byte]
+    int INITIAL_CACHE_CAPACITY = 256;                               // initial capacity of the cache, number of words
+    float CACHE_LOAD_FACTOR = 0.75f;                                // load factor of the underlying LinkedHashMap
+    boolean CACHE_ACCESS_ORDER = true;                              // order the cache by access, required for LRU eviction
+    int READ_BUFFER_SIZE = 4096;                                    // size of the buffer in [byte] used for decoding a sound file
+    int READ_END_OF_STREAM = -1;                                    // return value of read() at the end of a stream
+    int PCM_SAMPLE_SIZE = 16;                                       // sample size in [bit] used when a sound file is not in PCM format
+    int BITS_PER_BYTE = 8;                                          // number of bits per byte
+    boolean PCM_BIG_ENDIAN = false;                                 // byte order used when a sound file is not in PCM format
+    long EMPTY_CACHE_SIZE = 0L;                                     // size of an empty cache
+    String FILE_FORMAT = ".wav";                                    // format of the sound files
+}
@@ -0,0 +1,22 @@
+package model.Constants.StateBus;
+
+import model.GLaDOS.Devices.BodyState;
+import model.GLaDOS.Devices.RadioState;
+import model.StateBus.StateTopicKey;
+
+/**
+ * Interface containing all constants used in the StateBus class, including the keys of all topics
+ * @author Philipp Schulz
+ */
+public interface StateBusConstants
+{
+    StateTopicKey<Boolean> SOUND_PLAYBACK_FINISHED = new StateTopicKey<>("sound.playbackFinished", Boolean.class,
+            Boolean.TRUE);                                          // true if all sentences of the sound output were played, published by Sound
+    StateTopicKey<Boolean> VOICE_RECOGNITION_RUNNING = new StateTopicKey<>("voiceRecognition.running", Boolean.class,
+            Boolean.FALSE);                                         // true if the recognizer is listening, published by VoiceRecognitionCMU
+    StateTopicKey<BodyState> BODY_STATE = new StateTopicKey<>("glados.body", BodyState.class,
+            null);                                                  // state of the physical body of GLaDOS, published by Body
+    StateTopicKey<RadioState> RADIO_STATE = new StateTopicKey<>("glados.radio", RadioState.class,
+            null);                                                  // state of the radio, published by Radio
+    String ERROR_TYPE = "topic %s has type %s, requested as %s";    // error if a topic name is used with two different types
+}
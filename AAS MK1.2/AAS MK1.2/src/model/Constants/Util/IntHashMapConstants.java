@@ -0,0 +1,15 @@
+package model.Constants.Util;
+
+/**
+ * Interface containing all constants used in the IntHashMap class
+ * @author Philipp Schulz
+ */
+public interface IntHashMapConstants
+{
+    int FREE_KEY = Integer.MIN_VALUE;                               // key that marks an unused slot, can not be stored in the map
+    int DEFAULT_CAPACITY = 16;                                      // default number of slots of a new map, always a power of two
+    int CAPACITY_GROWTH_FACTOR = 2;                                 // factor by which the number of slots grows when the map is resized
+    int MAXIMUM_LOAD_DIVISOR = 2;                                   // the map is resized once more than 1/x of all slots are in use
+    int HASH_MULTIPLIER = 0x9E3779B9;                               // multiplier (golden ratio) to spread component IDs over all slots
+    int HASH_SHIFT = 16;                                            // shift used to mix the upper bits of the hash into the lower bits
+}
@@ -6,35 +6,36 @@ package model.Constants.Util;
  */
 public interface UtilityFunctionsConstants
 {
-    int ZERO_INDEX = 0;                                             // index of position 0
-    int ONE_INDEX = 1;                                              // index of position 1
-    int INCREMENT = 1;                                              // factor to increment by 1
-    int MINIMUM_WORD_LENGTH = 1;                                    // minimum length of a word to filter out empty words or spaces
-    int NUMBER_PARSE_FACTOR = 10;                                   // factor to multiply number with during integer conversion
-    int NUMBER_PARSE_RESULT = 0;                                    // result if number is an integer
-    int ZERO = 0;                                                   // number 0
-    int INVERSION_FACTOR = -1;                                      // factor to remove the negative sign of the number
-    int FLOATING_SUBSTRING_START = 2;                               // offset to get the floating part from a double number
-    int TRIPLET_SIZE = 3;                                           // maximum size of a triplet
-    int TRIPLET_SIZE_1 = 0;                                         // size of triplet of 0 digits
-    int TRIPLET_SIZE_2 = 1;                                         // size of triplet of 1 digits
-    int TRIPLET_SIZE_3 = 2;                                         // size of triplet of 2 digits
-    int TRIPLET_SIZE_4 = 3;                                         // size of triplet of 3 digits
+    int FIRST_INDEX = 0;                                            // index of position 0
+    int INDEX_OFFSET = 1;                                           // offset between a count and the last index
+    int EMPTY_LENGTH = 0;                                           // length of an empty token
+    int NO_DIGITS = 0;                                              // number of digits of a token without digits
+    int NO_POINT = -1;                                              // index of the point in a token without point
+    int SIGN_LENGTH = 1;                                            // length of a sign in front of a number
+    int POINT_LENGTH = 1;                                           // length of the point in a number
+    int NO_VALUE = 0;                                               // number 0
+    int DECIMAL_BASE = 10;                                          // base of the decimal system
+    int HUNDRED_BASE = 100;                                         // number 100 to split a triplet into hundreds and the rest
+    int TRIPLET_BASE = 1000;                                        // number 1000 to split a number into triplets
+    int MAXIMUM_TRIPLETS = 7;                                       // maximum number of triplets of a Long
+    int MAXIMUM_LONG_DIGITS = 18;                                   // number of digits that always fit into a Long
+    int FIRST_WEIGHT_WORD = 2;                                      // weight of the first triplet that has a name (thousand)
     int TWENTY = 20;                                                // number 20 to distinguish during number to word conversion
 
-    double ROUND_CEILING_FACTOR = 0.999;                            // factor for rounding for numbers >=0.5 correctly
+    char DIGIT_ZERO = '0';                                          // character of the digit 0
+    char DIGIT_NINE = '9';                                          // character of the digit 9
+    char MINUS_CHAR = '-';                                          // character of the minus sign
+    char PLUS_CHAR = '+';                                           // character of the plus sign
+    char POINT_CHAR = '.';                                          // character of the decimal point
+    char QUESTION_MARK_CHAR = '?';                                  // character of the question mark
+    char EXCLAMATION_MARK_CHAR = '!';                               // character of the exclamation mark
+    char EXPONENT_CHAR = 'E';                                       // character of the exponent of a Double in scientific notation
 
     String SPACE = " ";                                             // String that contains one space character
     String EMPTY_STRING = "";                                       // empty String
-    String MINUS = "-";                                             // String that contains one minus character
-    String MINUS_STRING = " minus";                                 // String that contains the word minus plus a spacer
-    String PLUS = "+";                                              // String that contains one plus character
-    String PLUS_STRING = " plus ";                                  // String that contains the word plus with two spacers
-    String COMMA = ",";                                             // String that contains one comma character
-    String POINT = ".";                                             // String that contains one point character
+    String MINUS_WORD = "minus";                                    // String that contains the word minus
+    String PLUS_WORD = "plus";                                      // String that contains the word plus
     String POINT_STRING = "point";                                  // String that contains the word point
-    String QUESTION_MARK = "?";                                     // String that contains one question mark character
-    String EXCLAMATION_MARK = "!";                                  // String that contains one exclamation mark character
     String[] UNDER_TWENTY = {"zero","one","two","three","four","five","six","seven",
             "eight","nine","ten","eleven","twelve","thirteen","fourteen","fifteen",
             "sixteen","seventeen","eighteen","nineteen"};           // String array that contains all numbers between 0 and 19
@@ -42,7 +43,5 @@ public interface UtilityFunctionsConstants
             "eighty","ninety"};                                     // String array that contains all 10 steps between 20 and 90
     String[] TEN_STEPS = {"","","thousand","million","billion","trillion","quadrillion","quintillion",
             "sextillion","septillion","octillion","nonillion","decillion"}; // String array that contains all 1000 steps between a thousand and a decillion
-    String ZERO_STRING = "0";                                       // String that contains one 0 character
-    String TRIPLET_ZERO = "000";                                    // String that contains 3 0 characters
     String HUNDRED = "hundred";                                     // String that contains one word for 100
 }
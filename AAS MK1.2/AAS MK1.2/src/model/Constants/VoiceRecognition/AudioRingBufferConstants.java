@@ -0,0 +1,10 @@
+package model.Constants.VoiceRecognition;
+
+/**
+ * Interface containing all constants used in the AudioRingBuffer class
+ * @author Philipp Schulz
+ */
+public interface AudioRingBufferConstants
+{
+    int EMPTY = 0;                                                  // size and positions of an empty buffer
+}
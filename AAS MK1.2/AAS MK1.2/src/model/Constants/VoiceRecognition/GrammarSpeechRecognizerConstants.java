@@ -0,0 +1,11 @@
+package model.Constants.VoiceRecognition;
+
+/**
+ * Interface containing all constants used in the GrammarSpeechRecognizer class
+ * @author Philipp Schulz
+ */
+public interface GrammarSpeechRecognizerConstants
+{
+    String PROPERTY_GRAMMAR_NAME = "jsgfGrammar->grammarName";      // property of the Sphinx4 configuration that contains the name of the grammar
+    String RESULT_SEPARATOR = " ";                                  // separator between the results of two utterances of the same audio
+}
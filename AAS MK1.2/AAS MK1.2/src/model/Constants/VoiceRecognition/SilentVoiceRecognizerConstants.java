@@ -0,0 +1,14 @@
+package model.Constants.VoiceRecognition;
+
+/**
+ * Interface containing all constants used in the SilentVoiceRecognizer class
+ * @author Philipp Schulz
+ */
+public interface SilentVoiceRecognizerConstants
+{
+    boolean INITIAL_STATE_IS_RUNNING = false;                       // default value for the field isRunning
+    boolean RECOGNIZER_CREATION_SUCCESS = true;                     // return value if recognizer was created
+    boolean RECOGNITION_START = true;                               // state of the field isRunning when the recognition should run
+    long RECOGNIZE_WAIT_TIME = 100L;                                // time in [ms] a single recognition waits before it returns nothing
+    String EMPTY_RESULT = "";                                       // result of every recognition
+}
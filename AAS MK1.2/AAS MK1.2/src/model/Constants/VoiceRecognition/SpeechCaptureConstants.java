@@ -0,0 +1,36 @@
+package model.Constants.VoiceRecognition;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Interface containing all constants used in the SpeechCapture class
+ * @author Philipp Schulz
+ */
+public interface SpeechCaptureConstants
+{
+    float SAMPLE_RATE = 16000.0f;                                   // sample rate of the microphone in [Hz], expected by the acoustic model
+    int SAMPLE_SIZE = 16;                                           // size of a sample in [bit]
+    int CHANNELS = 1;                                               // number of channels of the microphone
+    boolean SIGNED = true;                                          // samples are signed
+    boolean BIG_ENDIAN = false;                                     // samples are little endian like the recognizer expects them
+    AudioFormat CAPTURE_FORMAT = new AudioFormat(SAMPLE_RATE, SAMPLE_SIZE, CHANNELS, SIGNED, BIG_ENDIAN);  // format of the microphone
+
+    int FRAME_MILLISECONDS = 10;                                    // length of a frame of the voice activity detection in [ms]
+    int FRAME_SAMPLES = 160;                                        // number of samples of a frame
+    int FRAME_BYTES = 320;                                          // number of bytes of a frame
+    int FRAMES_PER_READ = 4;                                        // number of frames that are read from the microphone at once
+    int LINE_BUFFER_FRAMES = 20;                                    // size of the buffer of the microphone in frames
+    int PRE_ROLL_FRAMES = 30;                                       // number of frames before the start of speech that belong to the segment
+    int MAX_SEGMENT_FRAMES = 1000;                                  // maximum length of a segment in frames, longer speech is split
+    int SEGMENT_QUEUE_LENGTH = 8;                                   // maximum number of segments that wait for the recognizer, the oldest is dropped
+
+    int SEGMENT_SIZE_ESTIMATE_DIVISOR = 4;                          // initial size of a segment as part of the maximum length, most utterances are short
+    byte[] NO_AUDIO = new byte[0];                                  // audio of the segment that marks the end of the capture
+    String ERROR_NOT_OPENED = "the microphone was not opened";      // error if the capture is started before the microphone was opened
+    String CAPTURE_THREAD_NAME = "SpeechCapture";                   // name of the thread that reads the microphone
+    long CAPTURE_STOP_TIMEOUT = 1000L;                              // maximum time in [ms] to wait for the capture thread after a stop
+    int NO_BYTES = 0;                                               // number of bytes of an empty frame
+    long NO_FRAMES = 0L;                                            // number of frames after the start
+    long NO_TIME = 0L;                                              // time of the segment that marks the end of the capture
+    boolean INITIAL_STATE_CAPTURING = false;                        // default value for the field capturing
+}
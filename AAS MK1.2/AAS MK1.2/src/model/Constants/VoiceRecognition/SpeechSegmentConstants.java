@@ -0,0 +1,11 @@
+package model.Constants.VoiceRecognition;
+
+/**
+ * Interface containing all constants used in the SpeechSegment class
+ * @author Philipp Schulz
+ */
+public interface SpeechSegmentConstants
+{
+    int END_OF_CAPTURE_LENGTH = 0;                                  // number of bytes of the segment that marks the end of the capture
+    long FRAME_TIME = SpeechCaptureConstants.FRAME_MILLISECONDS*1000000L;  // length of a frame in [ns], same as the SpeechCapture
+}
@@ -0,0 +1,31 @@
+package model.Constants.VoiceRecognition;
+
+/**
+ * Interface containing all constants used in the VoiceActivityDetector class
+ * @author Philipp Schulz
+ */
+public interface VoiceActivityDetectorConstants
+{
+    int BYTES_PER_SAMPLE = 2;                                       // number of bytes of a sample (16 bit, little endian)
+    int BYTE_MASK = 0xFF;                                           // mask of the unsigned low byte of a sample
+    int BITS_PER_BYTE = 8;                                          // shift of the high byte of a sample
+    double FULL_SCALE = 32768.0;                                    // largest amplitude of a 16 bit sample
+    double DECIBEL_FACTOR = 10.0;                                   // factor to convert an energy ratio into [dB]
+    double ENERGY_EPSILON = 1e-10;                                  // energy that is added to avoid the logarithm of zero
+
+    double VOICED_THRESHOLD = 10.0;                                 // level in [dB] above the noise floor of a voiced speech frame
+    double UNVOICED_THRESHOLD = 4.0;                                // level in [dB] above the noise floor of an unvoiced speech frame (e.g. "s", "f")
+    double UNVOICED_ZERO_CROSSING_RATE = 0.3;                       // minimum zero-crossing rate per sample of an unvoiced speech frame
+    double MINIMUM_SPEECH_LEVEL = -55.0;                            // level in [dBFS] below which a frame is never speech
+
+    double NOISE_FLOOR_FALL = 0.3;                                  // smoothing factor of the noise floor if the frame is quieter
+    double NOISE_FLOOR_RISE = 0.02;                                 // smoothing factor of the noise floor if a louder frame is no speech
+    double NOISE_FLOOR_RISE_SPEECH = 0.0005;                        // smoothing factor of the noise floor during speech, follows a steady noise within seconds
+
+    int ONSET_FRAMES = 3;                                           // consecutive speech frames until speech starts
+    int HANGOVER_FRAMES = 40;                                       // consecutive non-speech frames until speech ends
+    int NO_FRAMES = 0;                                              // number of frames after a reset
+    boolean INITIAL_STATE_IN_SPEECH = false;                        // default value for the field inSpeech
+    boolean INITIAL_STATE_NOISE_FLOOR_SET = false;                  // default value for the field noiseFloorSet
+    double INITIAL_STATE_LEVEL = 0.0;                               // default value of all levels and rates
+}
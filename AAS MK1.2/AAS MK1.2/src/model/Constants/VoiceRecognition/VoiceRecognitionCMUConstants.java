@@ -6,13 +6,17 @@ package model.Constants.VoiceRecognition;
  */
 public interface VoiceRecognitionCMUConstants
 {
-    boolean CLEAR_RECOGNIZER = true;                                // value to give the recognizer when starting it
     boolean SPHINX4_USE_GRAMMAR = true;                             // default value for using the grammar file during recognition
 
     int INITIAL_STATE_OWN_ID = -1;                                  // default value for the field ownID
-    int RECOGNIZE_TIMEOUT = 1000;                                   // timeout for recognition [ms]
 
-    boolean INITIAL_STATE_IS_RUNNING = false;                       // default value for the field isRunning
+    int STATE_STOPPED = 0;                                          // state of the recognition when the recognizer is released
+    int STATE_RUNNING = 1;                                          // state of the recognition when the microphone runs and no result is recognized
+    int STATE_RECOGNIZING = 2;                                      // state of the recognition while a thread waits for a result
+    int STATE_STOPPING = 3;                                         // state of the recognition when a stop was requested while recognizing
+    int STATE_RESTARTING = 4;                                       // state of the recognition when a start was requested while stopping
+
+    boolean RECOGNIZER_USABLE = true;                               // value of the recognizer flag when a result could be recognized
     boolean RECOGNIZER_CREATION_SUCCESS = true;                     // return value if recognizer was created
     boolean RECOGNIZER_CREATION_FAILED = false;                     // return value if recognizer was not created
     boolean RECOGNITION_START = true;                               // state of the field isRunning when the recognition should run
@@ -26,6 +30,10 @@ public interface VoiceRecognitionCMUConstants
     String SPHINX4_DICTIONARY_PATH = "resource:/resources/CMUSphinx/edu/cmu/sphinx/models/en-us/cmudict-en-us.dict"; // default path for Sphinx4 dictionary
     String SPHINX4_LANGUAGE_MODEL_PATH = "resource:/resources/CMUSphinx/edu/cmu/sphinx/models/en-us/en-us.lm.bin";  // default path for Sphinx4 language model
     String SPHINX4_GRAMMAR_NAME = "CMUSphinxGrammar";               // default name of the grammar file
+    String SPHINX4_WAKE_GRAMMAR_NAME = "CMUSphinxWakeGrammar";      // name of the grammar file that only contains the wake words
+    boolean WAKE_WORD_GATING_DEFAULT = true;                        // default value for the field wakeWordGating
+    boolean INITIAL_STATE_DIALOGUE_ACTIVE = false;                  // default value for the field dialogueActive
+    long DIALOGUE_TIMEOUT = 20000L;                                 // time in [ms] without input after which a dialogue is over
     String SPHINX4_GRAMMAR_PATH_PI = "file:///home/pi/AAS/resources/"; // default path of the grammar file on a Rasp    berry Pi
     String SPHINX4_GRAMMAR_PATH_WINDOWS = "/resources/CMUSphinx/";// default path of the grammar file on Windows
 
@@ -0,0 +1,92 @@
+package model.Dialogue;
+
+import model.Constants.Dialogue.DialogueConstants;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class for the state of a single dialogue, e.g. the dialogue of Glados or Auto
+ * The states and transitions are taken from a DialogueDefinition, this class only stores the current state, so every
+ * component has its own state even if several components use the same definition
+ * Not thread-safe, only used by the component that owns it
+ * @author Philipp Schulz
+ */
+public class Dialogue implements DialogueConstants
+{
+    // objects of all required components of Dialogue
+    private final DialogueDefinition definition;
+    // local fields
+    private int currentState;
+
+    /**
+     * Constructor of the Dialogue class, the dialogue starts in the initial state of the definition
+     * @param definition Compiled states and transitions of the dialogue
+     * @author Philipp Schulz
+     */
+    public Dialogue(DialogueDefinition definition)
+    {
+        // save reference to the definition
+        this.definition = definition;
+        // initialize local fields
+        this.currentState = definition.getInitialState();
+    }
+
+    /**
+     * Method for handling an input of the user
+     * The input is lowercased and searched for all keywords once, afterwards all matching transitions are taken until
+     * a state is reached in which no transition matches
+     * @param input String that contains the input from the user
+     * @param takenTransitions List to which all taken transitions are added in the order they were taken
+     * @author Philipp Schulz
+     */
+    public void handleInput(String input, List<DialogueTransition> takenTransitions)
+    {
+        String lowercaseInput = input.trim().toLowerCase(Locale.ROOT);
+        long keywordMatches = this.definition.getKeywordMatcher().match(lowercaseInput);
+        boolean inputAvailable = INPUT_AVAILABLE;
+        for(int step = FIRST_STEP; step < this.definition.getMaximumSteps(); step++)
+        {
+            int transition = this.definition.findTransition(this.currentState, lowercaseInput, keywordMatches, inputAvailable);
+            if(transition == DialogueDefinition.NO_TRANSITION)
+            {
+                break;
+            }
+            takenTransitions.add(this.definition.getTransition(this.currentState, transition));
+            // the input is only used again if the transition passes it on to the next state
+            inputAvailable = this.definition.getTransition(this.currentState, transition).getReprocessInput();
+            this.currentState = this.definition.getTargetState(this.currentState, transition);
+        }
+    }
+
+    /**
+     * Method for ending the dialogue, the dialogue is in its initial state afterwards
+     * @author Philipp Schulz
+     */
+    public void reset()
+    {
+        this.currentState = this.definition.getInitialState();
+    }
+
+    /**
+     * Method for checking if a dialogue is currently active
+     * @return True if the dialogue is not in its initial state
+     * @author Philipp Schulz
+     */
+    public boolean isActive()
+    {
+        return this.currentState != this.definition.getInitialState();
+    }
+
+    /**
+     * Method for checking if the dialogue is in a state
+     * @param stateName Name of the state
+     * @return True if the state is the current state
+     * @author Philipp Schulz
+     */
+    public boolean isInState(String stateName)
+    {
+        Integer state = this.definition.getStateIndex(stateName);
+        return state != null && state == this.currentState;
+    }
+}
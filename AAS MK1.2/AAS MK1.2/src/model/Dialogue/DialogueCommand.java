@@ -0,0 +1,46 @@
+package model.Dialogue;
+
+/**
+ * Container class for an action that is sent to another component when a transition of a dialogue is taken,
+ * e.g. turning off the program or ending the dialogue of the voice recognition
+ * @author Philipp Schulz
+ */
+public class DialogueCommand
+{
+    // local fields
+    private final String targetName;
+    private final int opcode;
+
+    /**
+     * Constructor of the DialogueCommand class
+     * @param targetName Name of the component that should receive the action (as in the component list)
+     * @param opcode Opcode of the action
+     * @author Philipp Schulz
+     */
+    public DialogueCommand(String targetName, int opcode)
+    {
+        // initialize local fields
+        this.targetName = targetName;
+        this.opcode = opcode;
+    }
+
+    /**
+     * Method for getting the name of the component that should receive the action
+     * @return Name of the target component
+     * @author Philipp Schulz
+     */
+    public String getTargetName()
+    {
+        return this.targetName;
+    }
+
+    /**
+     * Method for getting the opcode of the action
+     * @return Opcode of the action
+     * @author Philipp Schulz
+     */
+    public int getOpcode()
+    {
+        return this.opcode;
+    }
+}
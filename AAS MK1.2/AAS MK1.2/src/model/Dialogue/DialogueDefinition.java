@@ -0,0 +1,274 @@
+package model.Dialogue;
+
+import model.Constants.Dialogue.DialogueDefinitionConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class for compiling the transitions of a dialogue into lookup tables that can be used by any number of dialogues
+ * All keywords that are searched in the input are compiled into a single KeywordMatcher, so each input only has to be
+ * searched once, the transitions of each state are stored in the order in which they were defined
+ * Immutable after construction, can be shared between threads
+ * @author Philipp Schulz
+ */
+public class DialogueDefinition implements DialogueDefinitionConstants
+{
+    // local fields
+    private final HashMap<String, Integer> stateIndices;
+    private final DialogueTransition[][] transitions;
+    private final int[][] targetStates;
+    private final long[][] keywordMasks;
+    private final String[][][] equalKeywords;
+    private final KeywordMatcher keywordMatcher;
+    private final int initialState;
+    private final int maximumSteps;
+
+    /**
+     * Constructor of the DialogueDefinition class
+     * @param initialState Name of the state in which the dialogue starts, the dialogue is not active in this state
+     * @param dialogueTransitions All transitions of the dialogue
+     * @throws IllegalArgumentException If the transitions contain more than 64 different keywords
+     * @author Philipp Schulz
+     */
+    public DialogueDefinition(String initialState, DialogueTransition[] dialogueTransitions)
+    {
+        // give every state an index, the initial state comes first
+        this.stateIndices = new HashMap<>();
+        addState(initialState);
+        for(DialogueTransition transition : dialogueTransitions)
+        {
+            if(!transition.getSourceState().equals(DialogueTransition.ANY_ACTIVE_STATE))
+            {
+                addState(transition.getSourceState());
+            }
+            addState(transition.getTargetState());
+        }
+        this.initialState = this.stateIndices.get(initialState);
+        // give every keyword that is searched in the input an index for the keyword matcher
+        HashMap<String, Integer> keywordIndices = new HashMap<>();
+        List<String> keywords = new ArrayList<>();
+        for(DialogueTransition transition : dialogueTransitions)
+        {
+            if(transition.getMatchType() == DialogueTransition.MATCH_CONTAINS)
+            {
+                for(int i = FIRST_INDEX; i < transition.getNumberOfKeywords(); i++)
+                {
+                    String keyword = transition.getKeyword(i).toLowerCase(Locale.ROOT);
+                    if(!keywordIndices.containsKey(keyword))
+                    {
+                        keywordIndices.put(keyword, keywords.size());
+                        keywords.add(keyword);
+                    }
+                }
+            }
+        }
+        this.keywordMatcher = new KeywordMatcher(keywords.toArray(new String[keywords.size()]));
+        // collect the transitions of every state, transitions of all active states are checked first
+        int numberOfStates = this.stateIndices.size();
+        this.transitions = new DialogueTransition[numberOfStates][];
+        this.targetStates = new int[numberOfStates][];
+        this.keywordMasks = new long[numberOfStates][];
+        this.equalKeywords = new String[numberOfStates][][];
+        for(int state = FIRST_INDEX; state < numberOfStates; state++)
+        {
+            List<DialogueTransition> stateTransitions = new ArrayList<>();
+            if(state != this.initialState)
+            {
+                for(DialogueTransition transition : dialogueTransitions)
+                {
+                    if(transition.getSourceState().equals(DialogueTransition.ANY_ACTIVE_STATE))
+                    {
+                        stateTransitions.add(transition);
+                    }
+                }
+            }
+            for(DialogueTransition transition : dialogueTransitions)
+            {
+                Integer sourceState = this.stateIndices.get(transition.getSourceState());
+                if(sourceState != null && sourceState == state)
+                {
+                    stateTransitions.add(transition);
+                }
+            }
+            compileState(state, stateTransitions, keywordIndices);
+        }
+        // every transition can be taken at most once per input unless the definition contains a loop
+        this.maximumSteps = dialogueTransitions.length+ADDITIONAL_STEPS;
+    }
+
+    /**
+     * Method for getting the state in which every dialogue starts
+     * @return Index of the initial state
+     * @author Philipp Schulz
+     */
+    public int getInitialState()
+    {
+        return this.initialState;
+    }
+
+    /**
+     * Method for getting the index of a state
+     * @param stateName Name of the state
+     * @return Index of the state, null if the state is not part of the dialogue
+     * @author Philipp Schulz
+     */
+    public Integer getStateIndex(String stateName)
+    {
+        return this.stateIndices.get(stateName);
+    }
+
+    /**
+     * Method for getting the matcher that contains all keywords of the dialogue
+     * @return Keyword matcher, bit i of a match result belongs to keyword i
+     * @author Philipp Schulz
+     */
+    KeywordMatcher getKeywordMatcher()
+    {
+        return this.keywordMatcher;
+    }
+
+    /**
+     * Method for getting the maximum number of transitions that are taken for a single input
+     * @return Maximum number of steps, protects against definitions with loops of MATCH_ALWAYS transitions
+     * @author Philipp Schulz
+     */
+    int getMaximumSteps()
+    {
+        return this.maximumSteps;
+    }
+
+    /**
+     * Method for finding the first transition of a state that matches an input
+     * @param state Index of the current state
+     * @param input Lowercase input
+     * @param keywordMatches Result of the keyword matcher for the input
+     * @param inputAvailable False if the input was already used by the previous transition
+     * @return Index of the transition within the state, NO_TRANSITION if no transition matches
+     * @author Philipp Schulz
+     */
+    int findTransition(int state, String input, long keywordMatches, boolean inputAvailable)
+    {
+        DialogueTransition[] stateTransitions = this.transitions[state];
+        for(int i = FIRST_INDEX; i < stateTransitions.length; i++)
+        {
+            switch(stateTransitions[i].getMatchType())
+            {
+                case DialogueTransition.MATCH_ALWAYS:       // taken directly after entering the state
+                    return i;
+
+                case DialogueTransition.MATCH_CONTAINS:     // input contains a keyword
+                    if(inputAvailable && (keywordMatches & this.keywordMasks[state][i]) != NO_KEYWORDS_MASK)
+                    {
+                        return i;
+                    }
+                    break;
+
+                case DialogueTransition.MATCH_EQUALS:       // input equals a keyword
+                    if(inputAvailable && equalsKeyword(input, this.equalKeywords[state][i]))
+                    {
+                        return i;
+                    }
+                    break;
+            }
+        }
+        return NO_TRANSITION;
+    }
+
+    /**
+     * Method for getting a transition of a state
+     * @param state Index of the state
+     * @param transition Index of the transition within the state
+     * @return Transition
+     * @author Philipp Schulz
+     */
+    DialogueTransition getTransition(int state, int transition)
+    {
+        return this.transitions[state][transition];
+    }
+
+    /**
+     * Method for getting the target state of a transition
+     * @param state Index of the state
+     * @param transition Index of the transition within the state
+     * @return Index of the target state
+     * @author Philipp Schulz
+     */
+    int getTargetState(int state, int transition)
+    {
+        return this.targetStates[state][transition];
+    }
+
+    /**
+     * Method for giving a state an index if it does not have one yet
+     * @param stateName Name of the state
+     * @author Philipp Schulz
+     */
+    private void addState(String stateName)
+    {
+        if(!this.stateIndices.containsKey(stateName))
+        {
+            this.stateIndices.put(stateName, this.stateIndices.size());
+        }
+    }
+
+    /**
+     * Method for compiling the transitions of a state into the lookup tables
+     * @param state Index of the state
+     * @param stateTransitions Transitions of the state in the order in which they are checked
+     * @param keywordIndices Index of every keyword in the keyword matcher
+     * @author Philipp Schulz
+     */
+    private void compileState(int state, List<DialogueTransition> stateTransitions, HashMap<String, Integer> keywordIndices)
+    {
+        int numberOfTransitions = stateTransitions.size();
+        this.transitions[state] = stateTransitions.toArray(new DialogueTransition[numberOfTransitions]);
+        this.targetStates[state] = new int[numberOfTransitions];
+        this.keywordMasks[state] = new long[numberOfTransitions];
+        this.equalKeywords[state] = new String[numberOfTransitions][];
+        for(int i = FIRST_INDEX; i < numberOfTransitions; i++)
+        {
+            DialogueTransition transition = stateTransitions.get(i);
+            this.targetStates[state][i] = this.stateIndices.get(transition.getTargetState());
+            if(transition.getMatchType() == DialogueTransition.MATCH_CONTAINS)
+            {
+                // one bit for every keyword of the transition
+                for(int keyword = FIRST_INDEX; keyword < transition.getNumberOfKeywords(); keyword++)
+                {
+                    int keywordIndex = keywordIndices.get(transition.getKeyword(keyword).toLowerCase(Locale.ROOT));
+                    this.keywordMasks[state][i] |= SINGLE_KEYWORD_MASK << keywordIndex;
+                }
+            }
+            else if(transition.getMatchType() == DialogueTransition.MATCH_EQUALS)
+            {
+                // the complete input is compared with every keyword
+                this.equalKeywords[state][i] = new String[transition.getNumberOfKeywords()];
+                for(int keyword = FIRST_INDEX; keyword < transition.getNumberOfKeywords(); keyword++)
+                {
+                    this.equalKeywords[state][i][keyword] = transition.getKeyword(keyword).toLowerCase(Locale.ROOT);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for checking if an input equals any keyword of a transition
+     * @param input Lowercase input
+     * @param keywords Lowercase keywords of the transition
+     * @return True if the input equals one of the keywords
+     * @author Philipp Schulz
+     */
+    private boolean equalsKeyword(String input, String[] keywords)
+    {
+        for(String keyword : keywords)
+        {
+            if(input.equals(keyword))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+}
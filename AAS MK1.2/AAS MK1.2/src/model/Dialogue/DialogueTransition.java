@@ -0,0 +1,151 @@
+package model.Dialogue;
+
+import model.Constants.Dialogue.DialogueTransitionConstants;
+
+/**
+ * Container class for a single transition of a dialogue
+ * A dialogue is only defined by its transitions, the states are the names used as source and target of all transitions
+ * If several transitions of a state match an input, the transition that was defined first is taken
+ * @author Philipp Schulz
+ */
+public class DialogueTransition implements DialogueTransitionConstants
+{
+    // local fields
+    private final String sourceState;
+    private final int matchType;
+    private final String[] keywords;
+    private final String targetState;
+    private final boolean reprocessInput;
+    private final String soundResponse;
+    private final String textResponse;
+    private final DialogueCommand[] commands;
+
+    /**
+     * Constructor of the DialogueTransition class
+     * @param sourceState Name of the state in which the transition is possible, ANY_ACTIVE_STATE for all states except
+     *                    the initial state
+     * @param matchType MATCH_CONTAINS, MATCH_EQUALS or MATCH_ALWAYS
+     * @param keywords Keywords that trigger the transition, the case is ignored
+     * @param targetState Name of the state that is active after the transition
+     * @param reprocessInput True if the same input should also be matched against the transitions of the target state
+     * @param soundResponse Sentence that is played after the transition, NO_RESPONSE for no sound output
+     * @param textResponse Text that is printed to the terminal after the transition, NO_RESPONSE for no output
+     * @param commands Actions that are sent to other components after the response
+     * @author Philipp Schulz
+     */
+    public DialogueTransition(String sourceState, int matchType, String[] keywords, String targetState,
+                              boolean reprocessInput, String soundResponse, String textResponse, DialogueCommand[] commands)
+    {
+        // initialize local fields
+        this.sourceState = sourceState;
+        this.matchType = matchType;
+        this.keywords = keywords.clone();
+        this.targetState = targetState;
+        this.reprocessInput = reprocessInput;
+        this.soundResponse = soundResponse;
+        this.textResponse = textResponse;
+        this.commands = commands.clone();
+    }
+
+    /**
+     * Method for getting the name of the state in which the transition is possible
+     * @return Name of the source state
+     * @author Philipp Schulz
+     */
+    public String getSourceState()
+    {
+        return this.sourceState;
+    }
+
+    /**
+     * Method for getting the way the input is compared to the keywords
+     * @return MATCH_CONTAINS, MATCH_EQUALS or MATCH_ALWAYS
+     * @author Philipp Schulz
+     */
+    public int getMatchType()
+    {
+        return this.matchType;
+    }
+
+    /**
+     * Method for getting the number of keywords that trigger the transition
+     * @return Number of keywords
+     * @author Philipp Schulz
+     */
+    public int getNumberOfKeywords()
+    {
+        return this.keywords.length;
+    }
+
+    /**
+     * Method for getting a keyword that triggers the transition
+     * @param index Index of the keyword
+     * @return Keyword as it was defined
+     * @author Philipp Schulz
+     */
+    public String getKeyword(int index)
+    {
+        return this.keywords[index];
+    }
+
+    /**
+     * Method for getting the name of the state that is active after the transition
+     * @return Name of the target state
+     * @author Philipp Schulz
+     */
+    public String getTargetState()
+    {
+        return this.targetState;
+    }
+
+    /**
+     * Method for checking if the input is also matched against the transitions of the target state
+     * @return True if the input is passed on to the target state
+     * @author Philipp Schulz
+     */
+    public boolean getReprocessInput()
+    {
+        return this.reprocessInput;
+    }
+
+    /**
+     * Method for getting the sentence that is played after the transition
+     * @return Sentence for the sound output, NO_RESPONSE for no sound output
+     * @author Philipp Schulz
+     */
+    public String getSoundResponse()
+    {
+        return this.soundResponse;
+    }
+
+    /**
+     * Method for getting the text that is printed to the terminal after the transition
+     * @return Text for the terminal, NO_RESPONSE for no output
+     * @author Philipp Schulz
+     */
+    public String getTextResponse()
+    {
+        return this.textResponse;
+    }
+
+    /**
+     * Method for getting the number of actions that are sent after the transition
+     * @return Number of commands
+     * @author Philipp Schulz
+     */
+    public int getNumberOfCommands()
+    {
+        return this.commands.length;
+    }
+
+    /**
+     * Method for getting an action that is sent after the transition
+     * @param index Index of the command
+     * @return Command that describes the action
+     * @author Philipp Schulz
+     */
+    public DialogueCommand getCommand(int index)
+    {
+        return this.commands[index];
+    }
+}
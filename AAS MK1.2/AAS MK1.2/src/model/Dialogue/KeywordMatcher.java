@@ -0,0 +1,195 @@
+package model.Dialogue;
+
+import model.Constants.Dialogue.KeywordMatcherConstants;
+import model.Util.IntHashMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * Class for finding a fixed set of keywords in a text with a single pass over the text (Aho-Corasick automaton)
+ * The keywords are compiled into a trie once, the missing transitions of every node are filled in with the
+ * transitions of its failure node, so matching only needs one table lookup per character
+ * The result of a match contains one bit per keyword (bit i is set if keyword i is part of the text), so at most
+ * 64 keywords are supported
+ * Immutable after construction, can be shared between threads
+ * @author Philipp Schulz
+ */
+public class KeywordMatcher implements KeywordMatcherConstants
+{
+    // local fields
+    private final int[] asciiClasses;
+    private final IntHashMap<Integer> otherClasses;
+    private final int[][] transitions;
+    private final long[] outputs;
+    private final int numberOfKeywords;
+
+    /**
+     * Constructor of the KeywordMatcher class, compiles all keywords into the automaton
+     * @param keywords Array of all keywords, matching is case-sensitive
+     * @throws IllegalArgumentException If more than 64 keywords are given or a keyword is empty
+     * @author Philipp Schulz
+     */
+    public KeywordMatcher(String[] keywords)
+    {
+        if(keywords.length > MAXIMUM_KEYWORDS)
+        {
+            throw new IllegalArgumentException(String.format(ERROR_TOO_MANY_KEYWORDS, MAXIMUM_KEYWORDS, keywords.length));
+        }
+        // initialize local fields
+        this.asciiClasses = new int[ASCII_SIZE];
+        this.otherClasses = new IntHashMap<>();
+        this.numberOfKeywords = keywords.length;
+        // every character that is part of a keyword gets its own column in the transition table
+        int numberOfClasses = FIRST_CHARACTER_CLASS;
+        for(String keyword : keywords)
+        {
+            if(keyword.isEmpty())
+            {
+                throw new IllegalArgumentException(ERROR_EMPTY_KEYWORD);
+            }
+            for(int i = FIRST_INDEX; i < keyword.length(); i++)
+            {
+                char character = keyword.charAt(i);
+                if(getCharacterClass(character) == OTHER_CHARACTER_CLASS)
+                {
+                    if(character < ASCII_SIZE)
+                    {
+                        this.asciiClasses[character] = numberOfClasses;
+                    }
+                    else
+                    {
+                        this.otherClasses.put(character, numberOfClasses);
+                    }
+                    numberOfClasses++;
+                }
+            }
+        }
+        // build the trie of all keywords
+        ArrayList<int[]> trie = new ArrayList<>();
+        ArrayList<Long> trieOutputs = new ArrayList<>();
+        trie.add(createNode(numberOfClasses));
+        trieOutputs.add(NO_MATCHES);
+        for(int keywordIndex = FIRST_INDEX; keywordIndex < keywords.length; keywordIndex++)
+        {
+            String keyword = keywords[keywordIndex];
+            int node = ROOT_NODE;
+            for(int i = FIRST_INDEX; i < keyword.length(); i++)
+            {
+                int characterClass = getCharacterClass(keyword.charAt(i));
+                if(trie.get(node)[characterClass] == NO_NODE)
+                {
+                    trie.get(node)[characterClass] = trie.size();
+                    trie.add(createNode(numberOfClasses));
+                    trieOutputs.add(NO_MATCHES);
+                }
+                node = trie.get(node)[characterClass];
+            }
+            trieOutputs.set(node, trieOutputs.get(node) | (SINGLE_MATCH << keywordIndex));
+        }
+        this.transitions = trie.toArray(new int[trie.size()][]);
+        this.outputs = new long[trie.size()];
+        for(int node = ROOT_NODE; node < this.outputs.length; node++)
+        {
+            this.outputs[node] = trieOutputs.get(node);
+        }
+        // complete the automaton in breadth-first order, so the failure node of every node is already complete
+        int[] failureNodes = new int[this.transitions.length];
+        ArrayDeque<Integer> nodes = new ArrayDeque<>();
+        for(int characterClass = OTHER_CHARACTER_CLASS; characterClass < numberOfClasses; characterClass++)
+        {
+            int child = this.transitions[ROOT_NODE][characterClass];
+            if(child == NO_NODE)
+            {
+                // characters that do not start a keyword stay at the root
+                this.transitions[ROOT_NODE][characterClass] = ROOT_NODE;
+            }
+            else
+            {
+                failureNodes[child] = ROOT_NODE;
+                nodes.add(child);
+            }
+        }
+        while(!nodes.isEmpty())
+        {
+            int node = nodes.poll();
+            for(int characterClass = OTHER_CHARACTER_CLASS; characterClass < numberOfClasses; characterClass++)
+            {
+                int child = this.transitions[node][characterClass];
+                int failureTransition = this.transitions[failureNodes[node]][characterClass];
+                if(child == NO_NODE)
+                {
+                    // continue like the longest suffix that is also the beginning of a keyword
+                    this.transitions[node][characterClass] = failureTransition;
+                }
+                else
+                {
+                    // a node also matches all keywords that end at its failure node
+                    failureNodes[child] = failureTransition;
+                    this.outputs[child] |= this.outputs[failureTransition];
+                    nodes.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for finding all keywords in a text
+     * @param text Text that should be searched
+     * @return Bit i is set if keyword i is part of the text
+     * @author Philipp Schulz
+     */
+    public long match(CharSequence text)
+    {
+        long matches = NO_MATCHES;
+        int node = ROOT_NODE;
+        for(int i = FIRST_INDEX; i < text.length(); i++)
+        {
+            node = this.transitions[node][getCharacterClass(text.charAt(i))];
+            matches |= this.outputs[node];
+        }
+        return matches;
+    }
+
+    /**
+     * Method for getting the number of keywords of the automaton
+     * @return Number of keywords
+     * @author Philipp Schulz
+     */
+    public int getNumberOfKeywords()
+    {
+        return this.numberOfKeywords;
+    }
+
+    /**
+     * Method for getting the column of a character in the transition table
+     * @param character Character of the text or a keyword
+     * @return Character class, OTHER_CHARACTER_CLASS if the character is not part of any keyword
+     * @author Philipp Schulz
+     */
+    private int getCharacterClass(char character)
+    {
+        if(character < ASCII_SIZE)
+        {
+            return this.asciiClasses[character];
+        }
+        Integer characterClass = this.otherClasses.get(character);
+        return characterClass == null ? OTHER_CHARACTER_CLASS : characterClass;
+    }
+
+    /**
+     * Method for creating a new node of the trie without any children
+     * @param numberOfClasses Number of columns of the transition table
+     * @return Transitions of the new node
+     * @author Philipp Schulz
+     */
+    private int[] createNode(int numberOfClasses)
+    {
+        int[] node = new int[numberOfClasses];
+        for(int characterClass = OTHER_CHARACTER_CLASS; characterClass < numberOfClasses; characterClass++)
+        {
+            node[characterClass] = NO_NODE;
+        }
+        return node;
+    }
+}
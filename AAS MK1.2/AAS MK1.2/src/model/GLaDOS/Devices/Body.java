@@ -1,14 +1,19 @@
 package model.GLaDOS.Devices;
 
 import model.Constants.GLaDOS.Devices.BodyConstants;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
 
 /**
  *  Class representing the functionality of the physical body of GLaDOS
  *  This class only stores states, the actual logic is in the BodyManager
+ *  Every change of the state is published as BodyState on the StateBus
  *  @author Philipp Schulz
  */
 public class Body implements BodyConstants
 {
+    // topic of the StateBus for the state of the body
+    private final StateTopic<BodyState> bodyStateTopic;
     //local fields
     private int simonID;
     private boolean isReachable;
@@ -22,10 +27,12 @@ public class Body implements BodyConstants
 
     /**
      * Constructor of the Body class
+     * @param stateBus Instance of the StateBus for publishing the state of the body
      * @author Philipp Schulz
      */
-    public Body()
+    public Body(StateBus stateBus)
     {
+        this.bodyStateTopic = stateBus.getTopic(StateBus.BODY_STATE);
         // initialize local fields
         this.isReachable = INITIAL_STATE_IS_REACHABLE;
         this.lampState = INITIAL_STATE_LAMP_STATE;
@@ -36,6 +43,8 @@ public class Body implements BodyConstants
         this.servo3Position = INITIAL_STATE_SERVO_3_POSITION;
         this.servo4Position = INITIAL_STATE_SERVO_4_POSITION;
         this.simonID = INITIAL_STATE_SIMON_ID;
+        // publish the initial state
+        publishState();
     }
 
     /**
@@ -45,6 +54,7 @@ public class Body implements BodyConstants
     public void setAvailability(boolean newState)
     {
         this.isReachable = newState;
+        publishState();
     }
 
     /**
@@ -55,6 +65,7 @@ public class Body implements BodyConstants
     public void setLampState(boolean newState)
     {
         this.lampState = newState;
+        publishState();
     }
 
     /**
@@ -65,6 +76,7 @@ public class Body implements BodyConstants
     public void setEyeState(boolean newState)
     {
         this.eyeState = newState;
+        publishState();
     }
 
     /**
@@ -75,6 +87,7 @@ public class Body implements BodyConstants
     public void setServoState(boolean newState)
     {
         this.servoState = newState;
+        publishState();
     }
 
     /**
@@ -100,6 +113,7 @@ public class Body implements BodyConstants
                 this.servo4Position = newPosition;
                 break;
         }
+        publishState();
     }
 
     /**
@@ -189,4 +203,13 @@ public class Body implements BodyConstants
     {
         return this.simonID;
     }
+
+    /**
+     * Method for publishing the current state of the body on the StateBus
+     * @author Philipp Schulz
+     */
+    private void publishState()
+    {
+        this.bodyStateTopic.publish(new BodyState(this));
+    }
 }
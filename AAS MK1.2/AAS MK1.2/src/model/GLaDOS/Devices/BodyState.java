@@ -0,0 +1,90 @@
+package model.GLaDOS.Devices;
+
+import model.Constants.GLaDOS.Devices.BodyConstants;
+
+/**
+ * Immutable snapshot of the state of the physical body of GLaDOS, published by the Body class on the StateBus
+ * @author Philipp Schulz
+ */
+public class BodyState implements BodyConstants
+{
+    // local fields
+    private final boolean isReachable;
+    private final boolean lampState;
+    private final boolean eyeState;
+    private final boolean servoState;
+    private final double[] servoPositions;
+
+    /**
+     * Constructor of the BodyState class, copies the current state of a body
+     * @param body Body whose state should be copied
+     * @author Philipp Schulz
+     */
+    public BodyState(Body body)
+    {
+        this.isReachable = body.getAvailability();
+        this.lampState = body.getLampState();
+        this.eyeState = body.getEyeState();
+        this.servoState = body.getServoState();
+        this.servoPositions = new double[SERVO_COUNT];
+        for(int i = 0; i < SERVO_COUNT; i++)
+        {
+            this.servoPositions[i] = body.getServoPosition(INDEX_SERVO_1 + i);
+        }
+    }
+
+    /**
+     * Method for getting the connection status to the physical body
+     * @return True if the physical body is reachable
+     * @author Philipp Schulz
+     */
+    public boolean getAvailability()
+    {
+        return this.isReachable;
+    }
+
+    /**
+     * Method for getting the lamp state
+     * @return True if the lamp is on
+     * @author Philipp Schulz
+     */
+    public boolean getLampState()
+    {
+        return this.lampState;
+    }
+
+    /**
+     * Method for getting the eye state
+     * @return True if the eye is on
+     * @author Philipp Schulz
+     */
+    public boolean getEyeState()
+    {
+        return this.eyeState;
+    }
+
+    /**
+     * Method for getting the servo state
+     * @return True if the servos are powered
+     * @author Philipp Schulz
+     */
+    public boolean getServoState()
+    {
+        return this.servoState;
+    }
+
+    /**
+     * Method for getting the position of a specified servo
+     * @param servoNumber Index of the servo (INDEX_SERVO_1 to INDEX_SERVO_4)
+     * @return Position of the specified servo, SERVO_DEFAULT_ANSWER_POSITION for an unknown servo
+     * @author Philipp Schulz
+     */
+    public double getServoPosition(int servoNumber)
+    {
+        if(servoNumber < INDEX_SERVO_1 || servoNumber > INDEX_SERVO_4)
+        {
+            return SERVO_DEFAULT_ANSWER_POSITION;
+        }
+        return this.servoPositions[servoNumber - INDEX_SERVO_1];
+    }
+}
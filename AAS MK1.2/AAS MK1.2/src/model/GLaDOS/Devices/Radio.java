@@ -2,14 +2,19 @@ package model.GLaDOS.Devices;
 
 import com.fazecast.jSerialComm.SerialPort;
 import model.Constants.GLaDOS.Devices.RadioConstants;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
 
 /**
  *  Class representing the functionality of the radio
  *  This class only stores states, the actual logic is in the ComPortManager
+ *  Every change of the state is published as RadioState on the StateBus
  *  @author Philipp Schulz
  */
 public class Radio implements RadioConstants
 {
+    // topic of the StateBus for the state of the radio
+    private final StateTopic<RadioState> radioStateTopic;
     // local fields
     private SerialPort comPort;
     private boolean isConnected;
@@ -18,14 +23,18 @@ public class Radio implements RadioConstants
 
     /**
      * Constructor of the Radio class
+     * @param stateBus Instance of the StateBus for publishing the state of the radio
      * @author Philipp Schulz
      */
-    public Radio()
+    public Radio(StateBus stateBus)
     {
+        this.radioStateTopic = stateBus.getTopic(StateBus.RADIO_STATE);
         // initialize local fields
         this.isConnected = INITIAL_STATE_IS_CONNECTED;
         this.isEnabled = INITIAL_STATE_IS_ENABLED;
         this.volume = INITIAL_STATE_VOLUME;
+        // publish the initial state
+        publishState();
     }
 
     /**
@@ -86,6 +95,7 @@ public class Radio implements RadioConstants
     public void setIsConnected(boolean connected)
     {
         isConnected = connected;
+        publishState();
     }
 
     /**
@@ -96,6 +106,7 @@ public class Radio implements RadioConstants
     public void setIsEnabled(boolean enabled)
     {
         isEnabled = enabled;
+        publishState();
     }
 
     /**
@@ -106,5 +117,15 @@ public class Radio implements RadioConstants
     public void setVolume(int volume)
     {
         this.volume = volume;
+        publishState();
+    }
+
+    /**
+     * Method for publishing the current state of the radio on the StateBus
+     * @author Philipp Schulz
+     */
+    private void publishState()
+    {
+        this.radioStateTopic.publish(new RadioState(this));
     }
 }
@@ -0,0 +1,55 @@
+package model.GLaDOS.Devices;
+
+/**
+ * Immutable snapshot of the state of the radio, published by the Radio class on the StateBus
+ * @author Philipp Schulz
+ */
+public class RadioState
+{
+    // local fields
+    private final boolean isConnected;
+    private final boolean isEnabled;
+    private final int volume;
+
+    /**
+     * Constructor of the RadioState class, copies the current state of a radio
+     * @param radio Radio whose state should be copied
+     * @author Philipp Schulz
+     */
+    public RadioState(Radio radio)
+    {
+        this.isConnected = radio.getIsConnected();
+        this.isEnabled = radio.getIsEnabled();
+        this.volume = radio.getVolume();
+    }
+
+    /**
+     * Method for getting the connection state of the radio
+     * @return True if this program is connected to the radio
+     * @author Philipp Schulz
+     */
+    public boolean getIsConnected()
+    {
+        return this.isConnected;
+    }
+
+    /**
+     * Method for getting the enabled state of the radio
+     * @return True if the radio is turned on
+     * @author Philipp Schulz
+     */
+    public boolean getIsEnabled()
+    {
+        return this.isEnabled;
+    }
+
+    /**
+     * Method for getting the volume of the speaker inside the radio
+     * @return Integer in percent of max volume of the radio speaker
+     * @author Philipp Schulz
+     */
+    public int getVolume()
+    {
+        return this.volume;
+    }
+}
@@ -0,0 +1,85 @@
+package model.LoadTest;
+
+/**
+ * Container class for a single scripted input of the load test, e.g. a greeting that is sent to Auto as if it came
+ * from the voice recognition
+ * @author Philipp Schulz
+ */
+public class LoadStep
+{
+    // local fields
+    private final int kind;
+    private final String targetName;
+    private final String originName;
+    private final int opcode;
+    private final String text;
+
+    /**
+     * Constructor of the LoadStep class
+     * @param kind Kind of the input, used for grouping the latencies in the report
+     * @param targetName Name of the component that should receive the action (as in the component list)
+     * @param originName Name of the component the action pretends to come from (as in the component list)
+     * @param opcode Opcode of the action
+     * @param text String that contains the input
+     * @author Philipp Schulz
+     */
+    public LoadStep(int kind, String targetName, String originName, int opcode, String text)
+    {
+        // initialize local fields
+        this.kind = kind;
+        this.targetName = targetName;
+        this.originName = originName;
+        this.opcode = opcode;
+        this.text = text;
+    }
+
+    /**
+     * Method for getting the kind of the input
+     * @return Kind of the input
+     * @author Philipp Schulz
+     */
+    public int getKind()
+    {
+        return this.kind;
+    }
+
+    /**
+     * Method for getting the name of the component that should receive the action
+     * @return Name of the target component
+     * @author Philipp Schulz
+     */
+    public String getTargetName()
+    {
+        return this.targetName;
+    }
+
+    /**
+     * Method for getting the name of the component the action pretends to come from
+     * @return Name of the origin component
+     * @author Philipp Schulz
+     */
+    public String getOriginName()
+    {
+        return this.originName;
+    }
+
+    /**
+     * Method for getting the opcode of the action
+     * @return Opcode of the action
+     * @author Philipp Schulz
+     */
+    public int getOpcode()
+    {
+        return this.opcode;
+    }
+
+    /**
+     * Method for getting the input
+     * @return String that contains the input
+     * @author Philipp Schulz
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+}
@@ -0,0 +1,280 @@
+package model.Metrics;
+
+import model.ActionQueue.Action;
+import model.ActionQueue.ActionLane;
+import model.ActionQueue.ActionQueue;
+import model.ActionQueue.ComponentMailbox;
+import model.ActionQueue.PendingRequests;
+import model.Constants.ActionHandlingConstants;
+import model.Constants.ActionQueue.ActionQueueConstants;
+import model.Constants.Metrics.ActionMetricsConstants;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Central instrumentation of the action system, owned by the ActionQueue
+ * Records the time every action waits in its lane, the time it waits in the mailbox of its target and the time the
+ * target needs to handle it, next to queue depths, per-opcode counters and bounced actions
+ * All recording methods are allocation-free and lock-free, only creating a report allocates
+ * @author Philipp Schulz
+ */
+public class ActionMetrics implements ActionMetricsConstants, ActionQueueConstants, ActionHandlingConstants
+{
+    // objects of all required components of ActionMetrics
+    private final ActionQueue actionQueue;
+    private final CopyOnWriteArrayList<TargetMetrics> targets;
+    private final ScheduledThreadPoolExecutor exportScheduler;
+    // local fields
+    private final LatencyHistogram[] queueWaitTimes;
+    private final AtomicLongArray maximumLaneDepths;
+    private final AtomicLongArray opcodeCounts;
+    private final AtomicLong dispatchedActions;
+    private final AtomicLong bouncedActions;
+    private final long startTime;
+    private ScheduledFuture<?> exportTask;
+
+    /**
+     * Constructor of the ActionMetrics class
+     * @param actionQueue Instance of the ActionQueue whose lanes and requests are reported
+     * @author Philipp Schulz
+     */
+    public ActionMetrics(ActionQueue actionQueue)
+    {
+        this.actionQueue = actionQueue;
+        this.targets = new CopyOnWriteArrayList<>();
+        // the thread of the export must not keep the program alive after the shutdown
+        this.exportScheduler = new ScheduledThreadPoolExecutor(EXPORT_THREADS, runnable ->
+        {
+            Thread exportThread = new Thread(runnable, EXPORT_THREAD_NAME);
+            exportThread.setDaemon(true);
+            return exportThread;
+        });
+        this.queueWaitTimes = new LatencyHistogram[LANE_COUNT];
+        for(int lane = 0; lane < LANE_COUNT; lane++)
+        {
+            this.queueWaitTimes[lane] = new LatencyHistogram();
+        }
+        this.maximumLaneDepths = new AtomicLongArray(LANE_COUNT);
+        this.opcodeCounts = new AtomicLongArray(ACTION_OPCODE_COUNT);
+        this.dispatchedActions = new AtomicLong();
+        this.bouncedActions = new AtomicLong();
+        this.startTime = System.nanoTime();
+        this.exportTask = null;
+    }
+
+    /**
+     * Method for recording that an action was taken out of its lane, only called by the ActionQueue!
+     * @param action Action that was taken out of the lane
+     * @param lane Index of the lane (LANE_*)
+     * @param dispatchTime Time in [ns] (System.nanoTime()) when the action was taken out
+     * @author Philipp Schulz
+     */
+    public void recordDispatch(Action action, int lane, long dispatchTime)
+    {
+        this.queueWaitTimes[lane].record(dispatchTime - action.getEnqueueTime());
+        this.dispatchedActions.incrementAndGet();
+        int opcode = action.getOpcode();
+        if(opcode >= INDEX_ZERO && opcode < ACTION_OPCODE_COUNT)
+        {
+            this.opcodeCounts.incrementAndGet(opcode);
+        }
+        // actions are bounced by the ActionQueueManager and by every component that does not know the target ID
+        if(opcode == WRONG_COMPONENT_ID)
+        {
+            this.bouncedActions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Method for sampling the current depth of all lanes, called by the ActionQueueManager once per burst
+     * @author Philipp Schulz
+     */
+    public void sampleQueueDepths()
+    {
+        for(int lane = 0; lane < LANE_COUNT; lane++)
+        {
+            long depth = this.actionQueue.getActionLane(lane).size();
+            long maximumDepth = this.maximumLaneDepths.get(lane);
+            while(depth > maximumDepth && !this.maximumLaneDepths.compareAndSet(lane, maximumDepth, depth))
+            {
+                maximumDepth = this.maximumLaneDepths.get(lane);
+            }
+        }
+    }
+
+    /**
+     * Method for registering a target of the ActionQueueManager, e.g. a component mailbox
+     * @param name Name of the target
+     * @param mailbox Mailbox of the target, null if the target has no mailbox
+     * @return Metrics of the target, the target records the handling of its actions there
+     * @author Philipp Schulz
+     */
+    public TargetMetrics registerTarget(String name, ComponentMailbox mailbox)
+    {
+        TargetMetrics target = new TargetMetrics(name, mailbox);
+        this.targets.add(target);
+        return target;
+    }
+
+    /**
+     * Method for getting the number of bounced actions (WRONG_COMPONENT_ID)
+     * @return Number of bounced actions
+     * @author Philipp Schulz
+     */
+    public long getBouncedActions()
+    {
+        return this.bouncedActions.get();
+    }
+
+    /**
+     * Method for getting the number of actions that were taken out of the lanes
+     * @return Number of dispatched actions
+     * @author Philipp Schulz
+     */
+    public long getDispatchedActions()
+    {
+        return this.dispatchedActions.get();
+    }
+
+    /**
+     * Method for getting the histogram of the waiting times of a lane
+     * @param lane Index of the lane (LANE_*)
+     * @return Histogram in [ns]
+     * @author Philipp Schulz
+     */
+    public LatencyHistogram getQueueWaitTime(int lane)
+    {
+        return this.queueWaitTimes[lane];
+    }
+
+    /**
+     * Method for creating a report of all metrics, e.g. for the STATS command of the TerminalManager
+     * @return List of the lines of the report
+     * @author Philipp Schulz
+     */
+    public List<String> createReport()
+    {
+        List<String> report = new ArrayList<>();
+        // summary
+        double runTime = (System.nanoTime() - this.startTime)/NANOSECONDS_PER_SECOND;
+        long dispatched = this.dispatchedActions.get();
+        report.add(String.format(REPORT_SUMMARY, runTime, dispatched, dispatched/runTime, this.bouncedActions.get()));
+        // waiting times and depths of the lanes
+        report.add(REPORT_LANE_HEADER);
+        for(int lane = 0; lane < LANE_COUNT; lane++)
+        {
+            ActionLane actionLane = this.actionQueue.getActionLane(lane);
+            LatencyHistogram waitTime = this.queueWaitTimes[lane];
+            report.add(String.format(REPORT_LANE, actionLane.getName(), waitTime.getCount(),
+                    toMicroseconds(waitTime.getValueAtPercentile(PERCENTILE_50)), toMicroseconds(waitTime.getValueAtPercentile(PERCENTILE_99)),
+                    toMicroseconds(waitTime.getValueAtPercentile(PERCENTILE_999)), toMicroseconds(waitTime.getMaximum()),
+                    actionLane.size(), this.maximumLaneDepths.get(lane), actionLane.getBlockedActions(), actionLane.getDroppedActions(),
+                    actionLane.getCoalescedActions(), actionLane.getRejectedActions()));
+        }
+        // handling times of the targets
+        report.add(REPORT_TARGET_HEADER);
+        for(TargetMetrics target : this.targets)
+        {
+            LatencyHistogram waitTime = target.getMailboxWaitTime();
+            LatencyHistogram handlingTime = target.getHandlingTime();
+            ComponentMailbox mailbox = target.getMailbox();
+            report.add(String.format(REPORT_TARGET, target.getName(), handlingTime.getCount(),
+                    toMicroseconds(waitTime.getValueAtPercentile(PERCENTILE_50)), toMicroseconds(waitTime.getValueAtPercentile(PERCENTILE_99)),
+                    toMicroseconds(handlingTime.getValueAtPercentile(PERCENTILE_50)), toMicroseconds(handlingTime.getValueAtPercentile(PERCENTILE_99)),
+                    toMicroseconds(handlingTime.getValueAtPercentile(PERCENTILE_999)), toMicroseconds(handlingTime.getMaximum()),
+                    mailbox == null ? NO_DEPTH : mailbox.getSize(), mailbox == null ? NO_ACTIONS : mailbox.getFullMailboxWaits(),
+                    mailbox == null ? NO_ACTIONS : mailbox.getRejectedActions()));
+        }
+        // actions per opcode, opcodes that were never dispatched are left out
+        report.add(REPORT_OPCODES_HEADER);
+        for(int opcode = 0; opcode < ACTION_OPCODE_COUNT; opcode++)
+        {
+            long count = this.opcodeCounts.get(opcode);
+            if(count != NO_ACTIONS)
+            {
+                report.add(String.format(REPORT_OPCODE, OPCODE_NAMES[opcode], count));
+            }
+        }
+        // requests with correlation ID
+        PendingRequests pendingRequests = this.actionQueue.getPendingRequests();
+        report.add(String.format(REPORT_REQUESTS, pendingRequests.size(), pendingRequests.getTimedOutRequests(),
+                pendingRequests.getLateReplies()));
+        return report;
+    }
+
+    /**
+     * Method for exporting the report periodically to a file, a running export is replaced
+     * Every report is appended to the file with a timestamp
+     * @param path Path of the file
+     * @param period Time in [s] between two exports
+     * @throws java.nio.file.InvalidPathException If the path is invalid
+     * @author Philipp Schulz
+     */
+    public synchronized void startExport(String path, long period)
+    {
+        // check the path before the export runs in the background
+        Paths.get(path);
+        stopExport();
+        this.exportTask = this.exportScheduler.scheduleAtFixedRate(() -> exportReport(path), period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Method for stopping the periodic export
+     * @return True if an export was running
+     * @author Philipp Schulz
+     */
+    public synchronized boolean stopExport()
+    {
+        if(this.exportTask == null)
+        {
+            return false;
+        }
+        this.exportTask.cancel(MAY_INTERRUPT_EXPORT);
+        this.exportTask = null;
+        return true;
+    }
+
+    /**
+     * Method for appending the current report to a file
+     * @param path Path of the file
+     * @author Philipp Schulz
+     */
+    private void exportReport(String path)
+    {
+        List<String> report = createReport();
+        report.add(INDEX_ZERO, String.format(REPORT_TIMESTAMP, LocalDateTime.now()));
+        try
+        {
+            Files.write(Paths.get(path), report, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        catch(IOException e)
+        {
+            // a failed export must not stop the following exports
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Method for converting a time in [ns] into [us]
+     * @param nanoseconds Time in [ns]
+     * @return Time in [us]
+     * @author Philipp Schulz
+     */
+    private double toMicroseconds(long nanoseconds)
+    {
+        return nanoseconds/NANOSECONDS_PER_MICROSECOND;
+    }
+}
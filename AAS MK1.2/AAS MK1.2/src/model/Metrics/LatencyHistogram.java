@@ -0,0 +1,154 @@
+package model.Metrics;
+
+import model.Constants.Metrics.LatencyHistogramConstants;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in [ns] with log-linear buckets in the style of an HDR histogram
+ * Every power of two is split into SUB_BUCKET_COUNT buckets, so all values up to Long.MAX_VALUE are covered with a fixed
+ * relative error and a fixed number of buckets
+ * Recording is allocation-free and lock-free, it can be called by any number of threads at the same time
+ * @author Philipp Schulz
+ */
+public class LatencyHistogram implements LatencyHistogramConstants
+{
+    // local fields
+    private final AtomicLongArray counts;
+    private final AtomicLong totalCount;
+    private final AtomicLong totalValue;
+    private final AtomicLong maximumValue;
+
+    /**
+     * Constructor of the LatencyHistogram class
+     * @author Philipp Schulz
+     */
+    public LatencyHistogram()
+    {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.totalCount = new AtomicLong();
+        this.totalValue = new AtomicLong();
+        this.maximumValue = new AtomicLong(EMPTY_HISTOGRAM);
+    }
+
+    /**
+     * Method for recording a single value
+     * @param value Latency in [ns], negative values are recorded as 0
+     * @author Philipp Schulz
+     */
+    public void record(long value)
+    {
+        long boundedValue = Math.max(MINIMUM_VALUE, value);
+        this.counts.incrementAndGet(getBucketIndex(boundedValue));
+        this.totalCount.incrementAndGet();
+        this.totalValue.addAndGet(boundedValue);
+        // only write the maximum if it grows, the common case is a single read
+        long maximum = this.maximumValue.get();
+        while(boundedValue > maximum && !this.maximumValue.compareAndSet(maximum, boundedValue))
+        {
+            maximum = this.maximumValue.get();
+        }
+    }
+
+    /**
+     * Method for getting the number of recorded values
+     * @return Number of recorded values
+     * @author Philipp Schulz
+     */
+    public long getCount()
+    {
+        return this.totalCount.get();
+    }
+
+    /**
+     * Method for getting the largest recorded value
+     * @return Largest recorded value in [ns], 0 if nothing was recorded
+     * @author Philipp Schulz
+     */
+    public long getMaximum()
+    {
+        return this.maximumValue.get();
+    }
+
+    /**
+     * Method for getting the mean of all recorded values
+     * @return Mean in [ns], 0 if nothing was recorded
+     * @author Philipp Schulz
+     */
+    public double getMean()
+    {
+        long count = this.totalCount.get();
+        return count == EMPTY_HISTOGRAM ? EMPTY_HISTOGRAM : (double) this.totalValue.get()/count;
+    }
+
+    /**
+     * Method for getting the value below which a given percentage of all recorded values lies
+     * The result is the highest value of the bucket of the percentile, but never more than the largest recorded value
+     * @param percentile Percentile between 0 and 100, e.g. 99.9
+     * @return Value of the percentile in [ns], 0 if nothing was recorded
+     * @author Philipp Schulz
+     */
+    public long getValueAtPercentile(double percentile)
+    {
+        // the counts of the buckets are read once, values recorded meanwhile may be missing
+        long count = EMPTY_HISTOGRAM;
+        for(int i = 0; i < BUCKET_COUNT; i++)
+        {
+            count += this.counts.get(i);
+        }
+        if(count == EMPTY_HISTOGRAM)
+        {
+            return EMPTY_HISTOGRAM;
+        }
+        long targetCount = Math.max(BUCKET_WIDTH_OFFSET, (long) Math.ceil(percentile/PERCENTILE_FACTOR*count));
+        long cumulativeCount = EMPTY_HISTOGRAM;
+        for(int i = 0; i < BUCKET_COUNT; i++)
+        {
+            cumulativeCount += this.counts.get(i);
+            if(cumulativeCount >= targetCount)
+            {
+                return Math.min(getHighestValueOfBucket(i), getMaximum());
+            }
+        }
+        return getMaximum();
+    }
+
+    /**
+     * Method for getting the bucket of a value
+     * @param value Value that is not negative
+     * @return Index of the bucket
+     * @author Philipp Schulz
+     */
+    private int getBucketIndex(long value)
+    {
+        // small values are counted exactly
+        if(value < SUB_BUCKET_COUNT)
+        {
+            return (int) value;
+        }
+        // the highest bit selects the power of two, the following bits select the sub-bucket
+        int highestBit = HIGHEST_BIT - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift*SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Method for getting the highest value that is counted in a bucket
+     * @param index Index of the bucket
+     * @return Highest value of the bucket
+     * @author Philipp Schulz
+     */
+    private long getHighestValueOfBucket(int index)
+    {
+        if(index < SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT)/SUB_BUCKET_COUNT;
+        long subBucket = (index - SUB_BUCKET_COUNT)%SUB_BUCKET_COUNT;
+        long lowestValue = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowestValue + (BUCKET_WIDTH_OFFSET << shift) - BUCKET_WIDTH_OFFSET;
+    }
+}
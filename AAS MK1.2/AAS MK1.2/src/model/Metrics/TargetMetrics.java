@@ -0,0 +1,82 @@
+package model.Metrics;
+
+import model.ActionQueue.ComponentMailbox;
+
+/**
+ * Latency metrics of a single target of the ActionQueueManager (a component mailbox or the ActionQueueManager itself)
+ * @author Philipp Schulz
+ */
+public class TargetMetrics
+{
+    // local fields
+    private final String name;
+    private final ComponentMailbox mailbox;
+    private final LatencyHistogram mailboxWaitTime;
+    private final LatencyHistogram handlingTime;
+
+    /**
+     * Constructor of the TargetMetrics class
+     * @param name Name of the target
+     * @param mailbox Mailbox of the target for reading its size, null if the target has no mailbox
+     * @author Philipp Schulz
+     */
+    public TargetMetrics(String name, ComponentMailbox mailbox)
+    {
+        this.name = name;
+        this.mailbox = mailbox;
+        this.mailboxWaitTime = new LatencyHistogram();
+        this.handlingTime = new LatencyHistogram();
+    }
+
+    /**
+     * Method for recording the handling of a single action
+     * @param mailboxWaitTime Time in [ns] between the dispatch of the action and the start of its handling
+     * @param handlingTime Time in [ns] that the handleAction method of the target needed
+     * @author Philipp Schulz
+     */
+    public void recordAction(long mailboxWaitTime, long handlingTime)
+    {
+        this.mailboxWaitTime.record(mailboxWaitTime);
+        this.handlingTime.record(handlingTime);
+    }
+
+    /**
+     * Method for getting the name of the target
+     * @return Name of the target
+     * @author Philipp Schulz
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Method for getting the mailbox of the target
+     * @return Mailbox of the target, null if the target has no mailbox
+     * @author Philipp Schulz
+     */
+    public ComponentMailbox getMailbox()
+    {
+        return this.mailbox;
+    }
+
+    /**
+     * Method for getting the histogram of the times between the dispatch and the start of the handling
+     * @return Histogram in [ns]
+     * @author Philipp Schulz
+     */
+    public LatencyHistogram getMailboxWaitTime()
+    {
+        return this.mailboxWaitTime;
+    }
+
+    /**
+     * Method for getting the histogram of the handling times
+     * @return Histogram in [ns]
+     * @author Philipp Schulz
+     */
+    public LatencyHistogram getHandlingTime()
+    {
+        return this.handlingTime;
+    }
+}
@@ -0,0 +1,72 @@
+package model.Sound;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Interface for everything the sound output can play its PCM stream on, e.g. a line of the Java Sound API, a sink
+ * that discards the data for tests without sound card or a sink that renders every sentence into a WAV file
+ * All methods except selectDevice are only called from the thread that feeds the sound output
+ * @author Philipp Schulz
+ */
+public interface AudioSink
+{
+    /**
+     * Method for choosing a specific output device, used for all following calls of open
+     * Sinks without output devices ignore the device
+     * @param description Description of the output device
+     * @author Philipp Schulz
+     */
+    void selectDevice(String description);
+
+    /**
+     * Method for opening the sink for a format, an open sink must be closed first
+     * @param format Format of the PCM data
+     * @return True if the sink was opened, false if no output is available for the format
+     * @author Philipp Schulz
+     */
+    boolean open(AudioFormat format);
+
+    /**
+     * Method for getting the format the sink was opened with
+     * @return Format of the open sink, null if the sink is closed
+     * @author Philipp Schulz
+     */
+    AudioFormat getFormat();
+
+    /**
+     * Method for writing PCM data into the open sink, blocks while the sink is full
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @author Philipp Schulz
+     */
+    void write(byte[] data, int offset, int length);
+
+    /**
+     * Method for marking the end of a sentence, all data written since the last call belongs to this sentence
+     * Sinks that play a continuous stream ignore the end of a sentence
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @author Philipp Schulz
+     */
+    void endUtterance(String voice, String sentence);
+
+    /**
+     * Method for getting the number of bytes that were played since the sink was opened
+     * @return Number of played bytes
+     * @author Philipp Schulz
+     */
+    long getPlayedBytes();
+
+    /**
+     * Method for waiting until all written data was played
+     * @author Philipp Schulz
+     */
+    void drain();
+
+    /**
+     * Method for closing the sink, data that was not played yet is discarded
+     * @author Philipp Schulz
+     */
+    void close();
+}
@@ -0,0 +1,39 @@
+package model.Sound;
+
+import model.Constants.Sound.AudioSinkFactoryConstants;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * Class for creating the sink of the sound output from the name of its backend
+ * Available backends are line (sound card), null (discarded without limit), realtime (discarded at the speed of a
+ * sound card) and wav (one WAV file per sentence)
+ * @author Philipp Schulz
+ */
+public class AudioSinkFactory implements AudioSinkFactoryConstants
+{
+    /**
+     * Method for creating the sink of a backend
+     * @param backend Name of the backend, case is ignored
+     * @param directory Directory for the WAV files of the wav backend, null for the default directory
+     * @return New sink of the backend, null if the backend is unknown
+     * @author Philipp Schulz
+     */
+    public static AudioSink createAudioSink(String backend, String directory)
+    {
+        switch(backend.toLowerCase(Locale.ROOT))
+        {
+            case AUDIO_OUTPUT_LINE:
+                return new JavaSoundSink();
+            case AUDIO_OUTPUT_NULL:
+                return new NullAudioSink();
+            case AUDIO_OUTPUT_REALTIME:
+                return new NullAudioSink(REALTIME);
+            case AUDIO_OUTPUT_WAV:
+                return new WavFileSink(new File((directory == null) ? DEFAULT_WAV_DIRECTORY : directory));
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package model.Sound;
+
+import model.Constants.Sound.JavaSoundSinkConstants;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.DataLine;
+import javax.sound.sampled.Line;
+import javax.sound.sampled.Mixer;
+import javax.sound.sampled.SourceDataLine;
+import java.util.Locale;
+
+/**
+ * Sink of the sound output that plays the PCM stream on a SourceDataLine of the Java Sound API
+ * Uses the default output unless a specific mixer was selected (e.g. the USB sound card of the Raspberry Pi)
+ * @author Philipp Schulz
+ */
+public class JavaSoundSink implements JavaSoundSinkConstants, AudioSink
+{
+    // local fields
+    private Mixer mixer;
+    private SourceDataLine line;
+
+    /**
+     * Constructor of the JavaSoundSink class
+     * @author Philipp Schulz
+     */
+    public JavaSoundSink()
+    {
+        // initialize local fields
+        this.mixer = null;
+        this.line = null;
+    }
+
+    /**
+     * Method for choosing the mixer that is used for all following lines
+     * The first mixer whose name or description contains the given text (ignoring case) and that offers output lines
+     * is used, so the exact description of the driver does not matter
+     * @param description Part of the name or description of the mixer, the default output is kept if no mixer matches
+     * @author Philipp Schulz
+     */
+    public void selectDevice(String description)
+    {
+        String searchedDevice = description.toLowerCase(Locale.ROOT);
+        Line.Info outputLineInfo = new Line.Info(SourceDataLine.class);
+        // go over all entries of the mixerInfo array
+        for(Mixer.Info info : AudioSystem.getMixerInfo())
+        {
+            // check if the correct output is found, port mixers with the same name have no output lines
+            if(info.getName().toLowerCase(Locale.ROOT).contains(searchedDevice)
+                    || info.getDescription().toLowerCase(Locale.ROOT).contains(searchedDevice))
+            {
+                Mixer candidate = AudioSystem.getMixer(info);
+                if(candidate.isLineSupported(outputLineInfo))
+                {
+                    // assign mixer
+                    this.mixer = candidate;
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for opening a sound output line for a format, uses the selected mixer if available
+     * @param format Format of the PCM data
+     * @return True if the line was opened and started, false if no line is available for the format
+     * @author Philipp Schulz
+     */
+    public boolean open(AudioFormat format)
+    {
+        try
+        {
+            DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
+            // use the default output if no specific mixer was selected
+            SourceDataLine newLine = (this.mixer != null) ? (SourceDataLine) this.mixer.getLine(info)
+                    : (SourceDataLine) AudioSystem.getLine(info);
+            newLine.open(format);
+            newLine.start();
+            this.line = newLine;
+            return true;
+        }
+        catch(Exception e)  // print exception if the line fails
+        {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Method for getting the format of the open line
+     * @return Format of the line, null if no line is open
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return (this.line == null) ? null : this.line.getFormat();
+    }
+
+    /**
+     * Method for writing PCM data into the line, blocks while the line is full
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @author Philipp Schulz
+     */
+    public void write(byte[] data, int offset, int length)
+    {
+        if(this.line != null)
+        {
+            this.line.write(data, offset, length);
+        }
+    }
+
+    /**
+     * Method for marking the end of a sentence, the line plays one continuous stream
+     * @param voice String that contains the voice of the sentence, ignored
+     * @param sentence String that contains the sentence, ignored
+     * @author Philipp Schulz
+     */
+    public void endUtterance(String voice, String sentence)
+    {
+        // the next sentence follows directly on the line
+    }
+
+    /**
+     * Method for getting the number of bytes that left the speaker
+     * @return Number of played bytes since the line was opened
+     * @author Philipp Schulz
+     */
+    public long getPlayedBytes()
+    {
+        return (this.line == null) ? NO_PLAYED_BYTES : this.line.getLongFramePosition()*this.line.getFormat().getFrameSize();
+    }
+
+    /**
+     * Method for waiting until the line played everything
+     * @author Philipp Schulz
+     */
+    public void drain()
+    {
+        if(this.line != null)
+        {
+            this.line.drain();
+        }
+    }
+
+    /**
+     * Method for closing and releasing the line
+     * @author Philipp Schulz
+     */
+    public void close()
+    {
+        if(this.line != null)
+        {
+            this.line.close();
+            this.line = null;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package model.Sound;
+
+import model.Constants.Sound.NullAudioSinkConstants;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Sink of the sound output that discards the PCM stream, e.g. for load tests and benchmarks without sound card
+ * Without real-time speed all data counts as played as soon as it was written, so sentences finish as fast as they
+ * are rendered
+ * With real-time speed the data is consumed at the byte rate of the format like a sound card would, writing blocks
+ * while more than the buffer time is waiting and gaps in the stream delay the playback just like on a speaker
+ * @author Philipp Schulz
+ */
+public class NullAudioSink implements NullAudioSinkConstants, AudioSink
+{
+    // local fields
+    private final boolean realtime;
+    private AudioFormat format;
+    private long byteRate;
+    private long writtenBytes;
+    private long runStartBytes;
+    private long runStartTime;
+
+    /**
+     * Constructor of the NullAudioSink class, the data is consumed without limit
+     * @author Philipp Schulz
+     */
+    public NullAudioSink()
+    {
+        this(REALTIME_DEFAULT);
+    }
+
+    /**
+     * Constructor of the NullAudioSink class
+     * @param realtime True if the data should be consumed at the speed of a sound card
+     * @author Philipp Schulz
+     */
+    public NullAudioSink(boolean realtime)
+    {
+        // initialize local fields
+        this.realtime = realtime;
+        this.format = null;
+        this.byteRate = NO_BYTE_RATE;
+        this.writtenBytes = NO_WRITTEN_BYTES;
+        this.runStartBytes = NO_PLAYED_BYTES;
+        this.runStartTime = System.nanoTime();
+    }
+
+    /**
+     * Method for choosing an output device, there are no devices to choose from
+     * @param description Description of the output device, ignored
+     * @author Philipp Schulz
+     */
+    public void selectDevice(String description)
+    {
+        // nothing to select, all data is discarded
+    }
+
+    /**
+     * Method for opening the sink for a format
+     * @param format Format of the PCM data
+     * @return Always true
+     * @author Philipp Schulz
+     */
+    public boolean open(AudioFormat format)
+    {
+        this.format = format;
+        // formats without frame rate can not be played in real time
+        this.byteRate = (format.getFrameRate() > 0 && format.getFrameSize() > 0)
+                ? (long) (format.getFrameRate()*format.getFrameSize()) : NO_BYTE_RATE;
+        this.writtenBytes = NO_WRITTEN_BYTES;
+        this.runStartBytes = NO_PLAYED_BYTES;
+        this.runStartTime = System.nanoTime();
+        return true;
+    }
+
+    /**
+     * Method for getting the format the sink was opened with
+     * @return Format of the open sink, null if the sink is closed
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return this.format;
+    }
+
+    /**
+     * Method for discarding PCM data
+     * Without real-time speed the data counts as played immediately, otherwise the call blocks while the buffer is full
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @author Philipp Schulz
+     */
+    public void write(byte[] data, int offset, int length)
+    {
+        if(isUnlimited())
+        {
+            this.writtenBytes += length;
+            return;
+        }
+        // the playback stopped since everything was played, it starts again with the new data like on a sound card
+        if(getPlayedBytes() >= this.writtenBytes)
+        {
+            this.runStartBytes = this.writtenBytes;
+            this.runStartTime = System.nanoTime();
+        }
+        this.writtenBytes += length;
+        // block until the data that is waiting fits into the buffer again
+        long bufferBytes = this.byteRate*BUFFER_TIME/MILLISECONDS_PER_SECOND;
+        waitForPlayback(bufferBytes);
+    }
+
+    /**
+     * Method for marking the end of a sentence, the stream is consumed continuously
+     * @param voice String that contains the voice of the sentence, ignored
+     * @param sentence String that contains the sentence, ignored
+     * @author Philipp Schulz
+     */
+    public void endUtterance(String voice, String sentence)
+    {
+        // the next sentence follows directly in the stream
+    }
+
+    /**
+     * Method for getting the number of bytes that were consumed since the sink was opened
+     * @return Number of played bytes
+     * @author Philipp Schulz
+     */
+    public long getPlayedBytes()
+    {
+        if(isUnlimited())
+        {
+            return this.writtenBytes;
+        }
+        // the playback runs at the byte rate since it started again, but never ahead of the written data
+        long elapsedTime = System.nanoTime() - this.runStartTime;
+        long playedBytes = this.runStartBytes + (long) ((double) elapsedTime*this.byteRate/NANOSECONDS_PER_SECOND);
+        return Math.min(playedBytes, this.writtenBytes);
+    }
+
+    /**
+     * Method for waiting until all written data was played, only waits with real-time speed
+     * @author Philipp Schulz
+     */
+    public void drain()
+    {
+        if(!isUnlimited())
+        {
+            waitForPlayback(NO_WRITTEN_BYTES);
+        }
+    }
+
+    /**
+     * Method for closing the sink, data that was not played yet is discarded
+     * @author Philipp Schulz
+     */
+    public void close()
+    {
+        this.format = null;
+    }
+
+    /**
+     * Method for checking if the data is consumed without limit
+     * @return True if all data counts as played as soon as it was written
+     * @author Philipp Schulz
+     */
+    private boolean isUnlimited()
+    {
+        return !this.realtime || this.byteRate == NO_BYTE_RATE;
+    }
+
+    /**
+     * Method for waiting until no more than the given number of bytes is waiting for the playback
+     * @param waitingBytes Maximum number of bytes that may still wait
+     * @author Philipp Schulz
+     */
+    private void waitForPlayback(long waitingBytes)
+    {
+        long excessBytes = this.writtenBytes - getPlayedBytes() - waitingBytes;
+        while(excessBytes > 0)
+        {
+            // sleep for the time the playback needs for the excess data
+            try
+            {
+                Thread.sleep(Math.max(MINIMUM_WAIT_TIME, excessBytes*MILLISECONDS_PER_SECOND/this.byteRate));
+            }
+            catch(InterruptedException e)
+            {
+                // keep the interrupt for the sound output thread and stop waiting
+                Thread.currentThread().interrupt();
+                return;
+            }
+            excessBytes = this.writtenBytes - getPlayedBytes() - waitingBytes;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package model.Sound;
+
+/**
+ * Interface for everything the SentenceRenderer can write PCM data to, e.g. the ring buffer of the sound output or
+ * the buffer of a pre-rendered phrase
+ * @author Philipp Schulz
+ */
+public interface PcmOutput
+{
+    /**
+     * Method for writing PCM data, blocks until all bytes are written
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @throws InterruptedException If the thread is interrupted while waiting for free space
+     * @author Philipp Schulz
+     */
+    void write(byte[] data, int offset, int length) throws InterruptedException;
+}
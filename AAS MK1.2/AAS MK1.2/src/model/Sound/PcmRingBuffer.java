@@ -0,0 +1,148 @@
+package model.Sound;
+
+import model.Constants.Sound.PcmRingBufferConstants;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Class for passing PCM data from the sentence renderer to the thread that writes into the sound output line
+ * Bounded ring buffer for exactly one writing and one reading thread, both sides block instead of polling
+ * @author Philipp Schulz
+ */
+public class PcmRingBuffer implements PcmRingBufferConstants, PcmOutput
+{
+    // objects for synchronization of both threads
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    // local fields
+    private final byte[] buffer;
+    private int readIndex;
+    private int writeIndex;
+    private int size;
+    private boolean closed;
+
+    /**
+     * Constructor of the PcmRingBuffer class
+     * @author Philipp Schulz
+     */
+    public PcmRingBuffer()
+    {
+        this(RING_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor of the PcmRingBuffer class
+     * @param capacity Capacity of the ring buffer in [byte]
+     * @author Philipp Schulz
+     */
+    public PcmRingBuffer(int capacity)
+    {
+        // initialize synchronization objects
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+        // initialize local fields
+        this.buffer = new byte[capacity];
+        this.readIndex = START_INDEX;
+        this.writeIndex = START_INDEX;
+        this.size = EMPTY_RING_BUFFER;
+        this.closed = CLOSED_START;
+    }
+
+    /**
+     * Method for writing PCM data into the ring buffer, blocks until all bytes are written
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @throws InterruptedException If the thread is interrupted while waiting for free space
+     * @author Philipp Schulz
+     */
+    public void write(byte[] data, int offset, int length) throws InterruptedException
+    {
+        this.lock.lock();
+        try
+        {
+            while(length > EMPTY_RING_BUFFER && !this.closed)
+            {
+                // wait until the reading thread freed some space
+                while(this.size == this.buffer.length && !this.closed)
+                {
+                    this.notFull.await();
+                }
+                // copy as many bytes as possible without wrapping around
+                int chunk = Math.min(length, Math.min(this.buffer.length-this.size, this.buffer.length-this.writeIndex));
+                System.arraycopy(data, offset, this.buffer, this.writeIndex, chunk);
+                this.writeIndex = (this.writeIndex+chunk)%this.buffer.length;
+                this.size += chunk;
+                offset += chunk;
+                length -= chunk;
+                // wake up the reading thread
+                this.notEmpty.signal();
+            }
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Method for reading PCM data from the ring buffer, blocks until at least one byte is available
+     * @param data Byte array the PCM data is copied to
+     * @param offset Index of the first byte to fill
+     * @param length Maximum number of bytes to read
+     * @return Number of bytes read, END_OF_STREAM if the ring buffer was closed and all bytes are read
+     * @throws InterruptedException If the thread is interrupted while waiting for data
+     * @author Philipp Schulz
+     */
+    public int read(byte[] data, int offset, int length) throws InterruptedException
+    {
+        this.lock.lock();
+        try
+        {
+            // wait until the writing thread added some data
+            while(this.size == EMPTY_RING_BUFFER && !this.closed)
+            {
+                this.notEmpty.await();
+            }
+            if(this.size == EMPTY_RING_BUFFER)
+            {
+                return END_OF_STREAM;
+            }
+            // copy as many bytes as possible without wrapping around
+            int chunk = Math.min(length, Math.min(this.size, this.buffer.length-this.readIndex));
+            System.arraycopy(this.buffer, this.readIndex, data, offset, chunk);
+            this.readIndex = (this.readIndex+chunk)%this.buffer.length;
+            this.size -= chunk;
+            // wake up the writing thread
+            this.notFull.signal();
+            return chunk;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Method for closing the ring buffer, remaining data can still be read
+     * @author Philipp Schulz
+     */
+    public void close()
+    {
+        this.lock.lock();
+        try
+        {
+            this.closed = !CLOSED_START;
+            // wake up both threads
+            this.notEmpty.signalAll();
+            this.notFull.signalAll();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+}
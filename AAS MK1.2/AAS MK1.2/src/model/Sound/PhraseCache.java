@@ -0,0 +1,164 @@
+package model.Sound;
+
+import model.Constants.Sound.PhraseCacheConstants;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class for keeping fixed dialogue phrases completely rendered in memory, so they can be played without assembling
+ * them from single words again
+ * Only phrases that were registered before are kept, sentences that change every time (e.g. numbers) are not cached
+ * The least recently used phrases are removed as soon as the size of all rendered phrases exceeds the maximum cache
+ * size, removed phrases are rendered again the next time they are played
+ * Used by the sound output thread and the warm-up at the same time, all accesses to the map are synchronized
+ * @author Philipp Schulz
+ */
+public class PhraseCache implements PhraseCacheConstants
+{
+    // local fields
+    private final LinkedHashMap<String, WordSample> renderedPhrases;
+    private final Set<String> knownPhrases;
+    private final long maximumCacheSize;
+    private long cacheSize;
+
+    /**
+     * Constructor of the PhraseCache class
+     * @author Philipp Schulz
+     */
+    public PhraseCache()
+    {
+        this(MAXIMUM_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor of the PhraseCache class
+     * @param maximumCacheSize Maximum size of all rendered phrases in [byte]
+     * @author Philipp Schulz
+     */
+    public PhraseCache(long maximumCacheSize)
+    {
+        // initialize local fields
+        this.renderedPhrases = new LinkedHashMap<>(INITIAL_CACHE_CAPACITY, CACHE_LOAD_FACTOR, CACHE_ACCESS_ORDER);
+        this.knownPhrases = ConcurrentHashMap.newKeySet();
+        this.maximumCacheSize = maximumCacheSize;
+        this.cacheSize = EMPTY_CACHE_SIZE;
+    }
+
+    /**
+     * Method for registering a fixed phrase of a voice, only registered phrases are kept in the cache
+     * @param voice String that contains the voice of the phrase
+     * @param phrase String that contains the phrase exactly as it is passed to the sound output
+     * @author Philipp Schulz
+     */
+    public void addKnownPhrase(String voice, String phrase)
+    {
+        this.knownPhrases.add(createKey(voice, phrase));
+    }
+
+    /**
+     * Method for checking if a sentence is a registered phrase of a voice
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @return True if the sentence should be kept in the cache after rendering
+     * @author Philipp Schulz
+     */
+    public boolean isKnownPhrase(String voice, String sentence)
+    {
+        return this.knownPhrases.contains(createKey(voice, sentence));
+    }
+
+    /**
+     * Method for getting the rendered PCM data of a phrase, also marks the phrase as recently used
+     * @param voice String that contains the voice of the phrase
+     * @param phrase String that contains the phrase
+     * @return Rendered phrase, null if the phrase is not cached
+     * @author Philipp Schulz
+     */
+    public synchronized WordSample getRenderedPhrase(String voice, String phrase)
+    {
+        return this.renderedPhrases.get(createKey(voice, phrase));
+    }
+
+    /**
+     * Method for checking if a phrase is rendered in memory
+     * @param voice String that contains the voice of the phrase
+     * @param phrase String that contains the phrase
+     * @return True if the phrase is cached
+     * @author Philipp Schulz
+     */
+    public synchronized boolean containsRenderedPhrase(String voice, String phrase)
+    {
+        return this.renderedPhrases.containsKey(createKey(voice, phrase));
+    }
+
+    /**
+     * Method for adding a rendered phrase to the cache and removing the least recently used phrases if required
+     * Sentences that were not registered as phrase are ignored
+     * @param voice String that contains the voice of the phrase
+     * @param phrase String that contains the phrase
+     * @param renderedPhrase Complete PCM data of the phrase
+     * @author Philipp Schulz
+     */
+    public synchronized void addRenderedPhrase(String voice, String phrase, WordSample renderedPhrase)
+    {
+        String key = createKey(voice, phrase);
+        // phrases that change every time or do not fit into the cache at all are not kept
+        if(!this.knownPhrases.contains(key) || renderedPhrase.getSize() > this.maximumCacheSize)
+        {
+            return;
+        }
+        // another thread could have rendered the same phrase in the meantime
+        WordSample previousPhrase = this.renderedPhrases.put(key, renderedPhrase);
+        if(previousPhrase != null)
+        {
+            this.cacheSize -= previousPhrase.getSize();
+        }
+        this.cacheSize += renderedPhrase.getSize();
+        // remove the least recently used phrases (first in access order) until the cache fits again
+        Iterator<Map.Entry<String, WordSample>> iterator = this.renderedPhrases.entrySet().iterator();
+        while(this.cacheSize > this.maximumCacheSize && iterator.hasNext())
+        {
+            Map.Entry<String, WordSample> eldestEntry = iterator.next();
+            this.cacheSize -= eldestEntry.getValue().getSize();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Method for getting the size of all rendered phrases
+     * @return Size of all cached PCM data in [byte]
+     * @author Philipp Schulz
+     */
+    public synchronized long getCacheSize()
+    {
+        return this.cacheSize;
+    }
+
+    /**
+     * Method for removing all rendered phrases from memory, e.g. when the sound files change
+     * Registered phrases are kept and rendered again the next time they are played
+     * @author Philipp Schulz
+     */
+    public synchronized void clear()
+    {
+        this.renderedPhrases.clear();
+        this.cacheSize = EMPTY_CACHE_SIZE;
+    }
+
+    /**
+     * Method for creating the key of a phrase, the case of the phrase is ignored like during rendering
+     * @param voice String that contains the voice of the phrase
+     * @param phrase String that contains the phrase
+     * @return Key of the phrase
+     * @author Philipp Schulz
+     */
+    private String createKey(String voice, String phrase)
+    {
+        return voice+KEY_SEPARATOR+phrase.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,204 @@
+package model.Sound;
+
+import javax.sound.sampled.AudioFormat;
+import java.util.List;
+
+/**
+ * Container class used by the SentenceRenderer for a sentence that is prepared for streaming
+ * Contains the words of the sentence and the frame ranges that are played of each word
+ * @author Philipp Schulz
+ */
+public class SentencePlan
+{
+    // local fields
+    private final boolean endOfStream;
+    private final String voice;
+    private final String sentence;
+    private final AudioFormat format;
+    private final List<WordSample> wordSamples;
+    private final int[] startFrames;
+    private final int[] endFrames;
+    private final int[] fadeFrames;
+    private final int spacerFrames;
+    private final long length;
+    private long endPosition;
+
+    /**
+     * Constructor of the SentencePlan class for the marker that ends the sound output
+     * @author Philipp Schulz
+     */
+    SentencePlan()
+    {
+        this(true, null, null, null, null, null, null, null, 0, 0L);
+    }
+
+    /**
+     * Constructor of the SentencePlan class
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @param format Format of the PCM data of all words, null if no word could be found
+     * @param wordSamples List of the decoded sound files of all words
+     * @param startFrames Index of the first frame that is played of each word
+     * @param endFrames Index after the last frame that is played of each word
+     * @param fadeFrames Number of frames each word is faded into the previous word
+     * @param spacerFrames Number of silent frames after the sentence
+     * @param length Size of the complete PCM data of the sentence in [byte]
+     * @author Philipp Schulz
+     */
+    SentencePlan(String voice, String sentence, AudioFormat format, List<WordSample> wordSamples, int[] startFrames,
+                 int[] endFrames, int[] fadeFrames, int spacerFrames, long length)
+    {
+        this(false, voice, sentence, format, wordSamples, startFrames, endFrames, fadeFrames, spacerFrames, length);
+    }
+
+    /**
+     * Constructor of the SentencePlan class that initializes all fields
+     * @param endOfStream True if this plan marks the end of the sound output
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @param format Format of the PCM data of all words
+     * @param wordSamples List of the decoded sound files of all words
+     * @param startFrames Index of the first frame that is played of each word
+     * @param endFrames Index after the last frame that is played of each word
+     * @param fadeFrames Number of frames each word is faded into the previous word
+     * @param spacerFrames Number of silent frames after the sentence
+     * @param length Size of the complete PCM data of the sentence in [byte]
+     * @author Philipp Schulz
+     */
+    private SentencePlan(boolean endOfStream, String voice, String sentence, AudioFormat format, List<WordSample> wordSamples,
+                         int[] startFrames, int[] endFrames, int[] fadeFrames, int spacerFrames, long length)
+    {
+        // initialize local fields
+        this.endOfStream = endOfStream;
+        this.voice = voice;
+        this.sentence = sentence;
+        this.format = format;
+        this.wordSamples = wordSamples;
+        this.startFrames = startFrames;
+        this.endFrames = endFrames;
+        this.fadeFrames = fadeFrames;
+        this.spacerFrames = spacerFrames;
+        this.length = length;
+        this.endPosition = length;
+    }
+
+    /**
+     * Method for checking if this plan marks the end of the sound output
+     * @return True if no more sentences follow
+     * @author Philipp Schulz
+     */
+    public boolean isEndOfStream()
+    {
+        return this.endOfStream;
+    }
+
+    /**
+     * Getter for the voice of the sentence
+     * @return String that contains the voice
+     * @author Philipp Schulz
+     */
+    public String getVoice()
+    {
+        return this.voice;
+    }
+
+    /**
+     * Getter for the sentence
+     * @return String that contains the sentence
+     * @author Philipp Schulz
+     */
+    public String getSentence()
+    {
+        return this.sentence;
+    }
+
+    /**
+     * Getter for the format of the PCM data
+     * @return Format of the PCM data, null if the sentence contains no known word
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return this.format;
+    }
+
+    /**
+     * Getter for the size of the complete PCM data of the sentence
+     * @return Size of the PCM data in [byte]
+     * @author Philipp Schulz
+     */
+    public long getLength()
+    {
+        return this.length;
+    }
+
+    /**
+     * Getter for the position in the sound output line at which the sentence ends
+     * @return Position in [byte] since the line was opened
+     * @author Philipp Schulz
+     */
+    long getEndPosition()
+    {
+        return this.endPosition;
+    }
+
+    /**
+     * Setter for the position in the sound output line at which the sentence ends
+     * @param endPosition Position in [byte] since the line was opened
+     * @author Philipp Schulz
+     */
+    void setEndPosition(long endPosition)
+    {
+        this.endPosition = endPosition;
+    }
+
+    /**
+     * Getter for the decoded sound files of all words
+     * @return List of decoded sound files
+     * @author Philipp Schulz
+     */
+    List<WordSample> getWordSamples()
+    {
+        return this.wordSamples;
+    }
+
+    /**
+     * Getter for the first frames that are played of each word
+     * @return Array with one frame index per word
+     * @author Philipp Schulz
+     */
+    int[] getStartFrames()
+    {
+        return this.startFrames;
+    }
+
+    /**
+     * Getter for the frames after the last frames that are played of each word
+     * @return Array with one frame index per word
+     * @author Philipp Schulz
+     */
+    int[] getEndFrames()
+    {
+        return this.endFrames;
+    }
+
+    /**
+     * Getter for the number of frames each word is faded into the previous word
+     * @return Array with one number of frames per word
+     * @author Philipp Schulz
+     */
+    int[] getFadeFrames()
+    {
+        return this.fadeFrames;
+    }
+
+    /**
+     * Getter for the number of silent frames after the sentence
+     * @return Number of frames
+     * @author Philipp Schulz
+     */
+    int getSpacerFrames()
+    {
+        return this.spacerFrames;
+    }
+}
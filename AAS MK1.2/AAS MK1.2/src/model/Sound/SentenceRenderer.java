@@ -0,0 +1,428 @@
+package model.Sound;
+
+import model.Constants.Sound.SentenceRendererConstants;
+import model.Util.UtilityFunctions;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Class for turning a sentence into one continuous stream of PCM data
+ * The decoded words are concatenated, silence before and after each word is removed and following words are faded
+ * into each other, trimming and crossfading is only done for 16 bit signed PCM
+ * Only used by the sound output thread of the Sound class
+ * @author Philipp Schulz
+ */
+public class SentenceRenderer implements SentenceRendererConstants
+{
+    // objects of all required components of SentenceRenderer
+    private final WordSampleCache wordSampleCache;
+    // local fields
+    private final ArrayList<String> words;
+    private final boolean trimSilence;
+    private final int crossfadeTime;
+    private final int sentenceSpacer;
+
+    /**
+     * Constructor of the SentenceRenderer class
+     * @param wordSampleCache Cache for the decoded sound files of all words
+     * @author Philipp Schulz
+     */
+    public SentenceRenderer(WordSampleCache wordSampleCache)
+    {
+        this(wordSampleCache, TRIM_SILENCE, CROSSFADE_TIME, SENTENCE_SPACER);
+    }
+
+    /**
+     * Constructor of the SentenceRenderer class
+     * @param wordSampleCache Cache for the decoded sound files of all words
+     * @param trimSilence True if silence before and after each word should be removed
+     * @param crossfadeTime Time in [ms] two following words are faded into each other, 0 to disable crossfading
+     * @param sentenceSpacer Time in [ms] of silence after each sentence
+     * @author Philipp Schulz
+     */
+    public SentenceRenderer(WordSampleCache wordSampleCache, boolean trimSilence, int crossfadeTime, int sentenceSpacer)
+    {
+        // save reference to the cache
+        this.wordSampleCache = wordSampleCache;
+        // initialize local fields
+        this.words = new ArrayList<>();
+        this.trimSilence = trimSilence;
+        this.crossfadeTime = crossfadeTime;
+        this.sentenceSpacer = sentenceSpacer;
+    }
+
+    /**
+     * Method for preparing a sentence for streaming, loads all words and calculates the played range of each word
+     * @param voice String that contains the voice of the sentence
+     * @param path String that contains the path to the sound files of the voice
+     * @param sentence String that contains the sentence
+     * @return Plan that contains everything required for writing the sentence
+     * @author Philipp Schulz
+     */
+    public SentencePlan prepareSentence(String voice, String path, String sentence)
+    {
+        // load all words, the format of the first word is used for the complete sentence
+        List<WordSample> wordSamples = new ArrayList<>();
+        AudioFormat format = null;
+        // the list of words is reused for every sentence
+        this.words.clear();
+        UtilityFunctions.extractSingleWordsFromText(sentence.toLowerCase(Locale.ROOT), this.words);
+        for(String word : this.words)
+        {
+            WordSample wordSample = this.wordSampleCache.getWordSample(path, word);
+            if(wordSample == null)  // skip words without sound file
+            {
+                continue;
+            }
+            if(format == null)
+            {
+                format = wordSample.getFormat();
+            }
+            else if(!wordSample.getFormat().matches(format))    // convert words that were recorded differently
+            {
+                wordSample = convertWordSample(wordSample, format);
+                if(wordSample == null)
+                {
+                    continue;
+                }
+            }
+            wordSamples.add(wordSample);
+        }
+        // sentences without any known word are not played
+        int numberOfWords = wordSamples.size();
+        if(format == null)
+        {
+            return new SentencePlan(voice, sentence, null, wordSamples, new int[numberOfWords], new int[numberOfWords],
+                    new int[numberOfWords], NO_FRAMES, NO_BYTES);
+        }
+        boolean processable = isProcessable(format);
+        // calculate the range of each word that is played
+        int[] startFrames = new int[numberOfWords];
+        int[] endFrames = new int[numberOfWords];
+        for(int i = FIRST_WORD; i < numberOfWords; i++)
+        {
+            WordSample wordSample = wordSamples.get(i);
+            startFrames[i] = FIRST_FRAME;
+            endFrames[i] = wordSample.getSize()/format.getFrameSize();
+            if(this.trimSilence && processable)
+            {
+                trimWord(wordSample, format, startFrames, endFrames, i);
+            }
+        }
+        // calculate the number of frames each word overlaps with the previous word, at most half of both words
+        int[] fadeFrames = new int[numberOfWords];
+        int crossfadeFrames = processable ? millisToFrames(format, this.crossfadeTime) : NO_FRAMES;
+        long totalFrames = NO_FRAMES;
+        for(int i = FIRST_WORD; i < numberOfWords; i++)
+        {
+            if(i > FIRST_WORD)
+            {
+                fadeFrames[i] = Math.min(crossfadeFrames, Math.min((endFrames[i-1]-startFrames[i-1])/2,
+                        (endFrames[i]-startFrames[i])/2));
+            }
+            totalFrames += endFrames[i]-startFrames[i]-fadeFrames[i];
+        }
+        int spacerFrames = millisToFrames(format, this.sentenceSpacer);
+        totalFrames += spacerFrames;
+        return new SentencePlan(voice, sentence, format, wordSamples, startFrames, endFrames, fadeFrames, spacerFrames,
+                totalFrames*format.getFrameSize());
+    }
+
+    /**
+     * Method for preparing a sentence that was already rendered completely, e.g. a phrase from the PhraseCache
+     * The rendered PCM data is written like a single word without any trimming or crossfading
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @param renderedSentence Complete PCM data of the sentence including the silence after it
+     * @return Plan that contains everything required for writing the sentence
+     * @author Philipp Schulz
+     */
+    public SentencePlan prepareRenderedSentence(String voice, String sentence, WordSample renderedSentence)
+    {
+        List<WordSample> wordSamples = Collections.singletonList(renderedSentence);
+        int[] startFrames = {FIRST_FRAME};
+        int[] endFrames = {renderedSentence.getSize()/renderedSentence.getFormat().getFrameSize()};
+        return new SentencePlan(voice, sentence, renderedSentence.getFormat(), wordSamples, startFrames, endFrames,
+                new int[RENDERED_WORDS], NO_FRAMES, renderedSentence.getSize());
+    }
+
+    /**
+     * Method for rendering the complete PCM data of a prepared sentence into memory
+     * @param plan Prepared sentence
+     * @return Complete PCM data of the sentence including the silence after it, null if nothing would be played or the
+     * sentence is too long
+     * @author Philipp Schulz
+     */
+    public WordSample renderSentence(SentencePlan plan)
+    {
+        if(plan.getFormat() == null || plan.getLength() > MAXIMUM_RENDERED_SIZE)
+        {
+            return null;
+        }
+        // write the sentence into a buffer instead of the ring buffer, the buffer never blocks
+        byte[] data = new byte[(int) plan.getLength()];
+        ByteBuffer target = ByteBuffer.wrap(data);
+        try
+        {
+            writeSentence(plan, target::put);
+        }
+        catch(InterruptedException e)
+        {
+            // keep the interrupt for the calling thread
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return new WordSample(plan.getFormat(), data);
+    }
+
+    /**
+     * Method for writing the PCM data of a prepared sentence, blocks until everything is written
+     * Writes exactly the number of bytes given by the length of the plan
+     * @param plan Prepared sentence
+     * @param output Output the PCM data is written to, e.g. the ring buffer of the sound output
+     * @throws InterruptedException If the thread is interrupted while waiting for the output
+     * @author Philipp Schulz
+     */
+    public void writeSentence(SentencePlan plan, PcmOutput output) throws InterruptedException
+    {
+        AudioFormat format = plan.getFormat();
+        if(format == null)      // nothing to play
+        {
+            return;
+        }
+        int frameSize = format.getFrameSize();
+        List<WordSample> wordSamples = plan.getWordSamples();
+        int[] startFrames = plan.getStartFrames();
+        int[] endFrames = plan.getEndFrames();
+        int[] fadeFrames = plan.getFadeFrames();
+        // loop over all words
+        for(int i = FIRST_WORD; i < wordSamples.size(); i++)
+        {
+            WordSample wordSample = wordSamples.get(i);
+            // write the part that is faded into the end of the previous word
+            if(fadeFrames[i] > NO_FRAMES)
+            {
+                byte[] crossfade = mixWords(wordSamples.get(i-1), endFrames[i-1]-fadeFrames[i], wordSample,
+                        startFrames[i], fadeFrames[i], format);
+                output.write(crossfade, FIRST_BYTE, crossfade.length);
+            }
+            // write the word without the parts that are faded into the previous or the next word
+            int bodyStart = startFrames[i]+fadeFrames[i];
+            int bodyEnd = endFrames[i]-(i+1 < wordSamples.size() ? fadeFrames[i+1] : NO_FRAMES);
+            if(bodyEnd > bodyStart)
+            {
+                output.write(wordSample.getData(), bodyStart*frameSize, (bodyEnd-bodyStart)*frameSize);
+            }
+        }
+        // write the silence after the sentence
+        long spacerLength = (long) plan.getSpacerFrames()*frameSize;
+        byte[] silence = createSilence(format, (int) Math.min(spacerLength, SILENCE_CHUNK_SIZE/frameSize*frameSize));
+        while(spacerLength > NO_BYTES)
+        {
+            int chunk = (int) Math.min(spacerLength, silence.length);
+            output.write(silence, FIRST_BYTE, chunk);
+            spacerLength -= chunk;
+        }
+    }
+
+    /**
+     * Method for checking if trimming and crossfading is supported for a format
+     * @param format Format of the PCM data
+     * @return True if the format is 16 bit signed PCM
+     * @author Philipp Schulz
+     */
+    private boolean isProcessable(AudioFormat format)
+    {
+        return format.getEncoding().equals(AudioFormat.Encoding.PCM_SIGNED)
+                && format.getSampleSizeInBits() == PROCESSABLE_SAMPLE_SIZE;
+    }
+
+    /**
+     * Method for converting a time into a number of frames
+     * @param format Format of the PCM data
+     * @param millis Time in [ms]
+     * @return Number of frames
+     * @author Philipp Schulz
+     */
+    private int millisToFrames(AudioFormat format, int millis)
+    {
+        return (int) (format.getFrameRate()*millis/MILLIS_PER_SECOND);
+    }
+
+    /**
+     * Method for removing the silence before and after a word, a short margin of silence is kept
+     * @param wordSample Decoded sound file of the word
+     * @param format Format of the PCM data
+     * @param startFrames Array in which the first played frame of the word is stored
+     * @param endFrames Array in which the frame after the last played frame of the word is stored
+     * @param index Index of the word in the sentence
+     * @author Philipp Schulz
+     */
+    private void trimWord(WordSample wordSample, AudioFormat format, int[] startFrames, int[] endFrames, int index)
+    {
+        int frames = endFrames[index];
+        // search for the first and the last frame that is not silent
+        int firstSound = FIRST_FRAME;
+        while(firstSound < frames && isSilentFrame(wordSample.getData(), firstSound, format))
+        {
+            firstSound++;
+        }
+        int lastSound = frames;
+        while(lastSound > firstSound && isSilentFrame(wordSample.getData(), lastSound-1, format))
+        {
+            lastSound--;
+        }
+        if(lastSound <= firstSound)     // word contains only silence
+        {
+            startFrames[index] = FIRST_FRAME;
+            endFrames[index] = FIRST_FRAME;
+            return;
+        }
+        // keep a short margin so the beginning and the end of the word are not cut off
+        int marginFrames = millisToFrames(format, SILENCE_MARGIN_TIME);
+        startFrames[index] = Math.max(FIRST_FRAME, firstSound-marginFrames);
+        endFrames[index] = Math.min(frames, lastSound+marginFrames);
+    }
+
+    /**
+     * Method for checking if all samples of a frame are silent
+     * @param data Byte array that contains 16 bit signed PCM data
+     * @param frame Index of the frame
+     * @param format Format of the PCM data
+     * @return True if the amplitude of all channels is below the silence threshold
+     * @author Philipp Schulz
+     */
+    private boolean isSilentFrame(byte[] data, int frame, AudioFormat format)
+    {
+        int frameStart = frame*format.getFrameSize();
+        for(int channel = FIRST_CHANNEL; channel < format.getChannels(); channel++)
+        {
+            if(Math.abs(readSample(data, frameStart+channel*BYTES_PER_SAMPLE, format.isBigEndian())) > SILENCE_THRESHOLD)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method for fading the end of a word into the beginning of the next word
+     * @param previousWord Decoded sound file of the previous word
+     * @param previousStart Index of the first frame of the previous word that is faded out
+     * @param nextWord Decoded sound file of the next word
+     * @param nextStart Index of the first frame of the next word that is faded in
+     * @param frames Number of frames that are faded
+     * @param format Format of the PCM data
+     * @return Byte array that contains the mixed PCM data
+     * @author Philipp Schulz
+     */
+    private byte[] mixWords(WordSample previousWord, int previousStart, WordSample nextWord, int nextStart, int frames,
+                            AudioFormat format)
+    {
+        int frameSize = format.getFrameSize();
+        boolean bigEndian = format.isBigEndian();
+        byte[] mixed = new byte[frames*frameSize];
+        // loop over all samples of all frames
+        for(int frame = FIRST_FRAME; frame < frames; frame++)
+        {
+            double nextFactor = (frame+FADE_CENTER_OFFSET)/frames;
+            for(int channel = FIRST_CHANNEL; channel < format.getChannels(); channel++)
+            {
+                int offset = frame*frameSize+channel*BYTES_PER_SAMPLE;
+                int previousSample = readSample(previousWord.getData(), previousStart*frameSize+offset, bigEndian);
+                int nextSample = readSample(nextWord.getData(), nextStart*frameSize+offset, bigEndian);
+                // linear fade, the result can not exceed the range of a sample
+                int sample = (int) Math.round(previousSample*(FULL_VOLUME-nextFactor)+nextSample*nextFactor);
+                writeSample(mixed, offset, sample, bigEndian);
+            }
+        }
+        return mixed;
+    }
+
+    /**
+     * Method for reading a single 16 bit signed sample
+     * @param data Byte array that contains the PCM data
+     * @param index Index of the first byte of the sample
+     * @param bigEndian True if the most significant byte comes first
+     * @return Value of the sample
+     * @author Philipp Schulz
+     */
+    private int readSample(byte[] data, int index, boolean bigEndian)
+    {
+        if(bigEndian)
+        {
+            return (data[index] << BITS_PER_BYTE) | (data[index+1] & BYTE_MASK);
+        }
+        return (data[index+1] << BITS_PER_BYTE) | (data[index] & BYTE_MASK);
+    }
+
+    /**
+     * Method for writing a single 16 bit signed sample
+     * @param data Byte array the sample is written to
+     * @param index Index of the first byte of the sample
+     * @param sample Value of the sample
+     * @param bigEndian True if the most significant byte comes first
+     * @author Philipp Schulz
+     */
+    private void writeSample(byte[] data, int index, int sample, boolean bigEndian)
+    {
+        byte mostSignificant = (byte) (sample >> BITS_PER_BYTE);
+        byte leastSignificant = (byte) sample;
+        data[index] = bigEndian ? mostSignificant : leastSignificant;
+        data[index+1] = bigEndian ? leastSignificant : mostSignificant;
+    }
+
+    /**
+     * Method for creating silent PCM data
+     * @param format Format of the PCM data
+     * @param length Size of the silence in [byte], must be a multiple of the frame size
+     * @return Byte array that contains the silence
+     * @author Philipp Schulz
+     */
+    private byte[] createSilence(AudioFormat format, int length)
+    {
+        byte[] silence = new byte[length];
+        // silence of signed PCM is 0, unsigned PCM has its zero line in the middle of the range
+        if(format.getEncoding().equals(AudioFormat.Encoding.PCM_UNSIGNED))
+        {
+            int sampleSize = Math.max(MINIMUM_SAMPLE_BYTES, format.getSampleSizeInBits()/BITS_PER_BYTE);
+            int mostSignificantOffset = format.isBigEndian() ? FIRST_BYTE : sampleSize-1;
+            for(int i = mostSignificantOffset; i < length; i += sampleSize)
+            {
+                silence[i] = (byte) UNSIGNED_SILENCE;
+            }
+        }
+        return silence;
+    }
+
+    /**
+     * Method for converting a word into the format of the sentence
+     * @param wordSample Decoded sound file of the word
+     * @param format Format of the sentence
+     * @return Converted word, null if the conversion is not supported
+     * @author Philipp Schulz
+     */
+    private WordSample convertWordSample(WordSample wordSample, AudioFormat format)
+    {
+        try(AudioInputStream sourceStream = new AudioInputStream(new ByteArrayInputStream(wordSample.getData()),
+                wordSample.getFormat(), wordSample.getSize()/wordSample.getFormat().getFrameSize());
+            AudioInputStream convertedStream = AudioSystem.getAudioInputStream(format, sourceStream))
+        {
+            return new WordSample(format, WordSampleCache.readPcmData(convertedStream));
+        }
+        catch(Exception e)
+        {
+            // return null due to error
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
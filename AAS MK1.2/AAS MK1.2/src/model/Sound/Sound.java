@@ -1,74 +1,106 @@
 package model.Sound;
 
 import model.Constants.Sound.SoundConstants;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
 import model.Util.UtilityFunctions;
 
-import javax.sound.sampled.*;
-import java.io.File;
-import java.util.ArrayList;
+import javax.sound.sampled.AudioFormat;
+import java.util.ArrayDeque;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class for sound output via Portal Radio
+ * Sentences are rendered into one continuous PCM stream that is played by a single, long-lived AudioSink
+ * (a SourceDataLine by default, see AudioSinkFactory for the other backends)
+ * The state of the playback (all sentences played or not) is published on the StateBus
  * Only called once by SoundManager!
  * @author Philipp Schulz
  */
 public class Sound implements SoundConstants
 {
+    // objects of all required components of Sound
+    private final WordSampleCache wordSampleCache;
+    private final SentenceRenderer sentenceRenderer;
+    private final PhraseCache phraseCache;
+    private final PcmRingBuffer ringBuffer;
+    private final LinkedBlockingQueue<SentencePlan> sentencePlans;
+    private final CopyOnWriteArrayList<SoundOutputListener> soundOutputListeners;
+    private final StateTopic<Boolean> playbackFinishedTopic;
+    private final AudioSink audioSink;
     // local fields
-    private boolean playbackFinished;
+    private final AtomicInteger pendingSentences;
+    private final AtomicBoolean outputStarted;
     private boolean initialized;
     private volatile boolean isWindows;
     private volatile boolean alive;
     private final ArrayBlockingQueue<String> outputQueue;
     private final ArrayBlockingQueue<String> outputVoiceQueue;
-    private Mixer mixer;
-    private ArrayList<Clip> clips;
     private String autoSoundPath;
     private String gladosSoundPath;
 
     /**
      * constructor of the Sound class
+     * @param stateBus Instance of the StateBus for publishing the state of the playback
      * @author Philipp Schulz
      */
-    public Sound()
+    public Sound(StateBus stateBus)
     {
+        this(stateBus, new JavaSoundSink());
+    }
+
+    /**
+     * constructor of the Sound class with a specific sink for the PCM stream, e.g. a stand-in for load tests
+     * @param stateBus Instance of the StateBus for publishing the state of the playback
+     * @param audioSink Sink that plays the PCM stream
+     * @author Philipp Schulz
+     */
+    public Sound(StateBus stateBus, AudioSink audioSink)
+    {
+        // initialize rest of components
+        this.wordSampleCache = new WordSampleCache();
+        this.sentenceRenderer = new SentenceRenderer(this.wordSampleCache);
+        this.phraseCache = new PhraseCache();
+        this.ringBuffer = new PcmRingBuffer();
+        this.sentencePlans = new LinkedBlockingQueue<>();
+        this.soundOutputListeners = new CopyOnWriteArrayList<>();
+        this.playbackFinishedTopic = stateBus.getTopic(StateBus.SOUND_PLAYBACK_FINISHED);
+        this.audioSink = audioSink;
         // initialize local fields
-        this.playbackFinished = DISABLE_PLAYBACK;
+        this.pendingSentences = new AtomicInteger(NO_PENDING_SENTENCES);
+        this.outputStarted = new AtomicBoolean(OUTPUT_STARTED_START);
         this.initialized = INITIALIZED_START;
         this.isWindows = IS_WINDOWS_START;
         this.alive = ALIVE_START;
         this.outputQueue = new ArrayBlockingQueue<>(QUEUE_LENGTH);
         this.outputVoiceQueue = new ArrayBlockingQueue<>(QUEUE_LENGTH);
-        this.clips = new ArrayList<>();
         this.autoSoundPath = EMPTY_STRING;
         this.gladosSoundPath = EMPTY_STRING;
     }
 
     /**
-     * Method for initializing sound system
+     * Method for initializing sound system, only the first call starts the sound output, further calls do nothing
      * @author Philipp Schulz
      */
     public void initialize()
     {
-        // get information about all possible sound outputs
-        Mixer.Info[] mixerInfo = AudioSystem.getMixerInfo();
-        // check if program runs on a Raspberry Pi, does not need to be done on Windows
-        if(this.gladosSoundPath.contains(PI_PATH))
+        // a second render and line thread would take sentences from the same queues
+        if(!this.outputStarted.compareAndSet(OUTPUT_STARTED_START, !OUTPUT_STARTED_START))
         {
-            // go over all entries of the mixerInfo array
-            for (Mixer.Info info : mixerInfo)
-            {
-                // check if the correct output is found
-                if (info.getDescription().equals(MIXER_PI_INFO))
-                {
-                    // assign mixer
-                    this.mixer = AudioSystem.getMixer(info);
-                    // break the loop
-                    break;
-                }
-            }
+            return;
+        }
+        // check if program runs on a Raspberry Pi, Windows always uses the default output
+        if(!this.isWindows && this.gladosSoundPath.contains(PI_PATH))
+        {
+            // use the USB sound card of the Raspberry Pi
+            this.audioSink.selectDevice(MIXER_PI_INFO);
         }
         // start the sound output thread
         this.playSound();
@@ -82,19 +114,25 @@ public class Sound implements SoundConstants
      */
     public void addTextToOutputQueue(String source, String text)
     {
-        // add new text to output queue
-        this.outputQueue.add(text);
-        // handle source
-        if(source.contains(GLADOS)) // voice for GLaDOS
-        {
-            // add voice to outputVoiceQueue
-            this.outputVoiceQueue.add(GLADOS);
-        }
-        else if(source.contains(AUTO))  // voice for AUTO
+        // handle source, the voice is added first so it is always available as soon as the text can be taken
+        this.outputVoiceQueue.add(getVoice(source));
+        // count the sentence until it was played, the first sentence starts the playback
+        if(this.pendingSentences.incrementAndGet() == FIRST_PENDING_SENTENCE)
         {
-            // add voice to outputVoiceQueue
-            this.outputVoiceQueue.add(AUTO);
+            publishPlaybackState();
         }
+        // add new text to output queue
+        this.outputQueue.add(text);
+    }
+
+    /**
+     * Method for registering a component that wants to be informed about the progress of the sound output
+     * @param soundOutputListener Component that should be informed
+     * @author Philipp Schulz
+     */
+    public void addSoundOutputListener(SoundOutputListener soundOutputListener)
+    {
+        this.soundOutputListeners.add(soundOutputListener);
     }
 
     /**
@@ -118,164 +156,325 @@ public class Sound implements SoundConstants
     }
 
     /**
-     * Getter for the field playbackFinished
-     * @return True if playback has finished
+     * Getter for the state of the sound output
+     * @return True if all sentences have been played
      * @author Philipp Schulz
      */
     public boolean getPlaybackFinished()
     {
-        return this.playbackFinished;
+        return this.pendingSentences.get() == NO_PENDING_SENTENCES;
     }
 
     /**
-     * Method for setting the current state of playbackFinished
-     * @param playbackFinished New state for the playbackFinished field
+     * Method for playing all remaining data of the sink and closing it afterwards
+     * @param playingSentences Sentences that were written into the sink but not reported as finished yet
      * @author Philipp Schulz
      */
-    private void setPlaybackFinished(boolean playbackFinished)
+    private void closeSink(ArrayDeque<SentencePlan> playingSentences)
     {
-        this.playbackFinished = playbackFinished;
+        if(this.audioSink.getFormat() != null)
+        {
+            // wait until the sink played everything
+            this.audioSink.drain();
+            this.audioSink.close();
+        }
+        notifySentencesFinished(Long.MAX_VALUE, playingSentences);
     }
 
     /**
-     * Method for clearing out the old word buffer
+     * Method for getting the position of the sound output, sentences before it have already been played
+     * @return Number of bytes that left the speaker, Long.MAX_VALUE if the sink is closed and nothing can be played
      * @author Philipp Schulz
      */
-    private void refreshWordBuffer()
+    private long getPlayedPosition()
     {
-        this.clips = new ArrayList<>();
+        return (this.audioSink.getFormat() == null) ? Long.MAX_VALUE : this.audioSink.getPlayedBytes();
     }
 
     /**
-     * Method for creating a file based on the currently active clip
-     * @param filePath String that contains the path to the file
-     * @param fileName String that contains the name of the file
-     * @return File pointing towards the required file of the current clip
+     * Method for informing all listeners about the sentences that have already been played by the sink
+     * @param playedPosition Number of bytes that left the speaker, Long.MAX_VALUE to report all sentences as finished
+     * @param playingSentences Sentences that were written into the sink, ordered by their end position
      * @author Philipp Schulz
      */
-    private AudioInputStream createAudioInputStream(String filePath, String fileName)
+    private void notifySentencesFinished(long playedPosition, ArrayDeque<SentencePlan> playingSentences)
     {
-        // initialize file name
-        String fileNamePath = filePath+fileName+FILE_FORMAT;
-        try
+        while(!playingSentences.isEmpty() && playingSentences.peek().getEndPosition() <= playedPosition)
         {
-            // create AudioInputStream from fileNamePath
-            return AudioSystem.getAudioInputStream(new File(fileNamePath).toURI().toURL());
+            SentencePlan plan = playingSentences.poll();
+            for(SoundOutputListener soundOutputListener : this.soundOutputListeners)
+            {
+                soundOutputListener.handleSentenceFinished(plan.getVoice(), plan.getSentence());
+            }
+            // inform listeners once no more sentences are waiting
+            if(this.pendingSentences.decrementAndGet() == NO_PENDING_SENTENCES)
+            {
+                publishPlaybackState();
+                for(SoundOutputListener soundOutputListener : this.soundOutputListeners)
+                {
+                    soundOutputListener.handlePlaybackFinished();
+                }
+            }
         }
-        catch(Exception e)
+    }
+
+    /**
+     * Method for publishing the state of the playback on the StateBus
+     * The sound thread and the thread of the SoundManager may publish at the same time, the state is checked again
+     * after publishing so the last publication always matches the number of pending sentences
+     * @author Philipp Schulz
+     */
+    private void publishPlaybackState()
+    {
+        boolean playbackFinished;
+        do
         {
-            // return null due to error
-            e.printStackTrace();
-            return null;
+            playbackFinished = getPlaybackFinished();
+            this.playbackFinishedTopic.publish(playbackFinished);
+        }
+        while(playbackFinished != getPlaybackFinished());
+    }
+
+    /**
+     * Method for getting the voice that belongs to a source
+     * @param source String that contains information about the voice to use
+     * @return String that contains the voice, empty if the voice is unknown and no sound files are available
+     * @author Philipp Schulz
+     */
+    private String getVoice(String source)
+    {
+        if(source.contains(GLADOS))                 // voice for GLaDOS
+        {
+            return GLADOS;
+        }
+        else if(source.contains(AUTO))              // voice for AUTO
+        {
+            return AUTO;
+        }
+        return EMPTY_STRING;
+    }
+
+    /**
+     * Method for getting the path to the sound files of a voice
+     * @param outputVoice String that contains information about the voice to use
+     * @return String that contains the path to the sound files, empty if the voice is unknown
+     * @author Philipp Schulz
+     */
+    private String getSoundPath(String outputVoice)
+    {
+        if(outputVoice.contains(AUTO))              // if voice is for AUTO
+        {
+            return this.autoSoundPath;
+        }
+        else if(outputVoice.contains(GLADOS))       // if voice is for GLaDOS
+        {
+            return this.gladosSoundPath;
+        }
+        return EMPTY_STRING;
+    }
+
+    /**
+     * Method for loading the sound files of frequently used words into memory before they are played
+     * Blocks until all words are loaded, playback is possible at the same time from other threads
+     * @param source String that contains information about the voice to use
+     * @param phrases List of phrases whose words should be loaded
+     * @author Philipp Schulz
+     */
+    public void warmUp(String source, List<String> phrases)
+    {
+        String path = getSoundPath(source);
+        // loop over all words of all phrases, split the same way as during playback
+        for(String phrase : phrases)
+        {
+            for(String word : UtilityFunctions.extractSingleWordsFromText(phrase.toLowerCase(Locale.ROOT)))
+            {
+                // stop loading if the sound output is shut down
+                if(!this.alive)
+                {
+                    return;
+                }
+                this.wordSampleCache.preloadWordSample(path, word);
+            }
+        }
+    }
+
+    /**
+     * Method for registering the fixed dialogue phrases of a voice, they are rendered completely once and played from
+     * memory afterwards
+     * Blocks until all phrases are rendered, playback is possible at the same time from other threads
+     * @param source String that contains information about the voice to use
+     * @param phrases List of phrases exactly as they are passed to the sound output
+     * @author Philipp Schulz
+     */
+    public void addFixedPhrases(String source, List<String> phrases)
+    {
+        String voice = getVoice(source);
+        // register the phrases first, so they are kept even if they are played before rendering finished
+        for(String phrase : phrases)
+        {
+            this.phraseCache.addKnownPhrase(voice, phrase);
+        }
+        // render the phrases with an own renderer, the renderer of the sound output is not thread-safe
+        SentenceRenderer phraseRenderer = new SentenceRenderer(this.wordSampleCache);
+        String path = getSoundPath(voice);
+        for(String phrase : phrases)
+        {
+            // stop rendering if the sound output is shut down
+            if(!this.alive)
+            {
+                return;
+            }
+            if(!this.phraseCache.containsRenderedPhrase(voice, phrase))
+            {
+                WordSample renderedPhrase = phraseRenderer.renderSentence(phraseRenderer.prepareSentence(voice,
+                        path, phrase));
+                if(renderedPhrase != null)
+                {
+                    this.phraseCache.addRenderedPhrase(voice, phrase, renderedPhrase);
+                }
+            }
         }
     }
 
+    /**
+     * Method for preparing a sentence for streaming, fixed phrases are taken from the phrase cache
+     * Fixed phrases that are not in the phrase cache are rendered completely and added to it
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @return Plan that contains everything required for writing the sentence
+     * @author Philipp Schulz
+     */
+    private SentencePlan prepareSentence(String voice, String sentence)
+    {
+        // play fixed phrases from memory
+        WordSample renderedPhrase = this.phraseCache.getRenderedPhrase(voice, sentence);
+        if(renderedPhrase != null)
+        {
+            return this.sentenceRenderer.prepareRenderedSentence(voice, sentence, renderedPhrase);
+        }
+        SentencePlan plan = this.sentenceRenderer.prepareSentence(voice, getSoundPath(voice), sentence);
+        // render fixed phrases that are not cached yet or were removed from the cache, so the next time is faster
+        if(this.phraseCache.isKnownPhrase(voice, sentence))
+        {
+            renderedPhrase = this.sentenceRenderer.renderSentence(plan);
+            if(renderedPhrase != null)
+            {
+                this.phraseCache.addRenderedPhrase(voice, sentence, renderedPhrase);
+                return this.sentenceRenderer.prepareRenderedSentence(voice, sentence, renderedPhrase);
+            }
+        }
+        return plan;
+    }
+
     /**
      * Method for playing sounds of a given message.
-     * Starts a new thread that will run until field alive is reset
+     * Starts a thread that renders all sentences into the ring buffer and a thread that feeds the AudioSink,
+     * both will run until field alive is reset
      * @author Philipp Schulz
      */
     public void playSound()
     {
-        // create new thread for handling sound output
-        Thread thread = new Thread(() -> {
+        // create new thread for rendering the sentences
+        Thread renderThread = new Thread(() -> {
             // enter temporary loop that waits for initialization to complete
             while(!initialized)
             {
                 // sleep for specified time
                 waitShortPeriod(LOOP_WAIT_TIME);
             }
-            // enter main loop
-            while(alive || !outputQueue.isEmpty())
+            try
             {
-                // check if queue has elements
-                if(!outputQueue.isEmpty())
+                // enter main loop
+                while(alive || !outputQueue.isEmpty())
                 {
-                    // set flag for other program parts
-                    setPlaybackFinished(ENABLE_PLAYBACK);
-                    // get current sentence to output
-                    String sentence = outputQueue.poll();
-                    // get current output voice
-                    String outputVoice = outputVoiceQueue.poll();
-                    // get correct path to sound files
-                    String path = EMPTY_STRING;
-                    assert outputVoice != null;
-                    if(outputVoice.contains(AUTO))  // if voice is for AUTO
+                    // wait for the next sentence, wake up regularly to check field alive
+                    String sentence = outputQueue.poll(LOOP_WAIT_TIME, TimeUnit.MILLISECONDS);
+                    if(sentence == null)
                     {
-                        // set file path to AUTO
-                        path = autoSoundPath;
+                        continue;
                     }
-                    else if(outputVoice.contains(GLADOS))   // if voice is for GLaDOS
+                    // get current output voice, always added before the sentence
+                    String outputVoice = outputVoiceQueue.poll();
+                    assert outputVoice != null;
+                    // prepare the sentence and hand it to the line thread before streaming its data
+                    SentencePlan plan = prepareSentence(outputVoice, sentence);
+                    sentencePlans.put(plan);
+                    sentenceRenderer.writeSentence(plan, ringBuffer);
+                }
+            }
+            catch(InterruptedException e)
+            {
+                e.printStackTrace();
+            }
+            // tell the line thread that no more sentences follow
+            sentencePlans.add(new SentencePlan());
+            ringBuffer.close();
+        });
+        // create new thread for feeding the AudioSink
+        Thread lineThread = new Thread(() -> {
+            long linePosition = START_POSITION;
+            ArrayDeque<SentencePlan> playingSentences = new ArrayDeque<>();
+            byte[] buffer = new byte[LINE_CHUNK_SIZE];
+            try
+            {
+                // wait for the first sentence
+                SentencePlan plan = sentencePlans.take();
+                while(!plan.isEndOfStream())
+                {
+                    // the sink is only opened again if the format of the voice changes
+                    AudioFormat sinkFormat = audioSink.getFormat();
+                    if(plan.getFormat() != null && (sinkFormat == null || !sinkFormat.matches(plan.getFormat())))
                     {
-                        // set file path to GLaDOS
-                        path = gladosSoundPath;
+                        closeSink(playingSentences);
+                        audioSink.open(plan.getFormat());
+                        linePosition = START_POSITION;
                     }
-                    // refresh word buffer and split sentence to single words
-                    refreshWordBuffer();
-                    ArrayList<String> words = UtilityFunctions.extractSingleWordsFromText(sentence.toLowerCase(Locale.ROOT));
-                    // loop over all words and prepare all clips
-                    for (String word : words)
+                    // copy the data of the sentence from the ring buffer into the sink, blocks while the sink is full
+                    long remaining = plan.getLength();
+                    while(remaining > NO_REMAINING_BYTES)
                     {
-                        // if this program runs on Windows
-                        if(isWindows)
+                        int readBytes = ringBuffer.read(buffer, START_INDEX, (int) Math.min(buffer.length, remaining));
+                        if(readBytes == PcmRingBuffer.END_OF_STREAM)
                         {
-                            try
-                            {
-                                // create new clip for current word
-                                Clip clip = AudioSystem.getClip();
-                                // open current clip
-                                clip.open(createAudioInputStream(path, word));
-                                // add current clip to ArrayList
-                                clips.add(clip);
-                            }
-                            catch (Exception e)  // print exception if the clip fails
-                            {
-                                e.printStackTrace();
-                            }
+                            break;
                         }
-                        else    // if this program runs on Linux
+                        if(audioSink.getFormat() != null)
                         {
-                            try
-                            {
-                                // create new clip for current word
-                                Clip clip = (Clip) mixer.getLine(new DataLine.Info(Clip.class, null));
-                                // open current clip
-                                clip.open(createAudioInputStream(path, word));
-                                // add current clip to ArrayList
-                                clips.add(clip);
-                            }
-                            catch (Exception e)  // print exception if the clip fails
-                            {
-                                e.printStackTrace();
-                            }
+                            audioSink.write(buffer, START_INDEX, readBytes);
                         }
+                        remaining -= readBytes;
+                        linePosition += readBytes;
+                        notifySentencesFinished(getPlayedPosition(), playingSentences);
                     }
-                    // loop over all clips
-                    for(Clip clip : clips)
+                    // tell the sink where the sentence ends, e.g. for writing it into its own file
+                    if(audioSink.getFormat() != null)
                     {
-                        // start current clip
-                        clip.start();
-                        // wait until clip is finished
-                        do
-                        {
-                            waitShortPeriod(WAITING_TIME);
-                        }while(clip.isActive());
-                        // close current clip
-                        clip.stop();
+                        audioSink.endUtterance(plan.getVoice(), plan.getSentence());
+                    }
+                    // remember where the sentence ends
+                    plan.setEndPosition(linePosition);
+                    playingSentences.add(plan);
+                    notifySentencesFinished(getPlayedPosition(), playingSentences);
+                    // if no sentence follows, wait until everything was played
+                    if(sentencePlans.isEmpty())
+                    {
+                        audioSink.drain();
+                        notifySentencesFinished(Long.MAX_VALUE, playingSentences);
                     }
-                    // clear word buffer
-                    refreshWordBuffer();
-                    // wait for sentence spacer
-                    waitShortPeriod(SENTENCE_SPACER);
+                    // wait for the next sentence
+                    plan = sentencePlans.take();
                 }
-                // sleep for specified time
-                waitShortPeriod(LOOP_WAIT_TIME);
-                // reset flag for other program parts
-                setPlaybackFinished(DISABLE_PLAYBACK);
             }
+            catch(InterruptedException e)
+            {
+                e.printStackTrace();
+            }
+            // play everything that is left and release the sink
+            closeSink(playingSentences);
         });
-        // start the tread
-        thread.start();
+        // start the threads
+        renderThread.start();
+        lineThread.start();
     }
 
     /**
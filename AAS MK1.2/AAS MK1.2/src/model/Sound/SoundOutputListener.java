@@ -0,0 +1,23 @@
+package model.Sound;
+
+/**
+ * Interface for all components that want to be informed about the progress of the sound output
+ * Methods are called from the thread that feeds the sound output line and should return quickly
+ * @author Philipp Schulz
+ */
+public interface SoundOutputListener
+{
+    /**
+     * Method that is called as soon as a sentence was played completely
+     * @param voice String that contains the voice of the sentence
+     * @param sentence String that contains the sentence
+     * @author Philipp Schulz
+     */
+    void handleSentenceFinished(String voice, String sentence);
+
+    /**
+     * Method that is called as soon as no more sentences are waiting for playback
+     * @author Philipp Schulz
+     */
+    void handlePlaybackFinished();
+}
@@ -0,0 +1,138 @@
+package model.Sound;
+
+import model.Constants.Sound.VoiceBankConstants;
+
+import javax.sound.sampled.AudioFormat;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * Class for reading the sound files of one voice from a single packed voice bank
+ * The bank is memory-mapped once, looking up a word is a map hit plus a copy of its slice of the mapped buffer
+ * Voice banks are created by the VoiceBankBuilder
+ * File format: header (magic, version, PCM format, number of words, index offset), PCM data of all words,
+ * index (word, offset, length per word)
+ * @author Philipp Schulz
+ */
+public class VoiceBank implements VoiceBankConstants
+{
+    // local fields
+    private final MappedByteBuffer buffer;
+    private final AudioFormat format;
+    private final HashMap<String, Integer> wordIndex;
+    private final int[] offsets;
+    private final int[] lengths;
+
+    /**
+     * Constructor of the VoiceBank class, maps the file and reads the index
+     * @param bankFile File that contains the voice bank
+     * @throws IOException If the file could not be read or is not a valid voice bank
+     * @author Philipp Schulz
+     */
+    public VoiceBank(File bankFile) throws IOException
+    {
+        // map the complete file, the mapping stays valid after the channel is closed
+        try(RandomAccessFile file = new RandomAccessFile(bankFile, FILE_MODE_READ); FileChannel channel = file.getChannel())
+        {
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, MAP_START, channel.size());
+        }
+        // read the header
+        if(this.buffer.getInt() != BANK_MAGIC || this.buffer.getInt() != BANK_VERSION)
+        {
+            throw new IOException(INVALID_BANK_MESSAGE+bankFile);
+        }
+        float sampleRate = this.buffer.getFloat();
+        int channels = this.buffer.getInt();
+        this.format = new AudioFormat(sampleRate, BANK_SAMPLE_SIZE, channels, BANK_SIGNED, BANK_BIG_ENDIAN);
+        int numberOfWords = this.buffer.getInt();
+        int indexOffset = (int) this.buffer.getLong();
+        // read the index
+        this.wordIndex = new HashMap<>(Math.max(INITIAL_INDEX_CAPACITY, numberOfWords*INDEX_CAPACITY_FACTOR));
+        this.offsets = new int[numberOfWords];
+        this.lengths = new int[numberOfWords];
+        this.buffer.position(indexOffset);
+        for(int i = FIRST_WORD; i < numberOfWords; i++)
+        {
+            byte[] word = new byte[this.buffer.getShort() & UNSIGNED_SHORT_MASK];
+            this.buffer.get(word);
+            this.offsets[i] = (int) this.buffer.getLong();
+            this.lengths[i] = this.buffer.getInt();
+            this.wordIndex.put(new String(word, StandardCharsets.UTF_8), i);
+        }
+    }
+
+    /**
+     * Method for getting the path of the voice bank that belongs to a directory with sound files
+     * @param soundPath String that contains the path to the sound files of a voice, e.g. "resources/audio/AUTO/"
+     * @return String that contains the path to the voice bank, e.g. "resources/audio/AUTO.bank"
+     * @author Philipp Schulz
+     */
+    public static String getBankPath(String soundPath)
+    {
+        String directory = soundPath;
+        // remove separator at the end of the path
+        if(directory.endsWith(SLASH) || directory.endsWith(BACKSLASH))
+        {
+            directory = directory.substring(0, directory.length()-1);
+        }
+        return directory+BANK_FILE_FORMAT;
+    }
+
+    /**
+     * Method for getting the format of all words in this voice bank
+     * @return Format of the PCM data
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return this.format;
+    }
+
+    /**
+     * Method for getting the number of words in this voice bank
+     * @return Number of words
+     * @author Philipp Schulz
+     */
+    public int getNumberOfWords()
+    {
+        return this.offsets.length;
+    }
+
+    /**
+     * Method for checking if a word is in this voice bank
+     * @param word String that contains the word
+     * @return True if the voice bank contains the word
+     * @author Philipp Schulz
+     */
+    public boolean containsWord(String word)
+    {
+        return this.wordIndex.containsKey(word);
+    }
+
+    /**
+     * Method for getting the PCM data of a word
+     * @param word String that contains the word
+     * @return Decoded sound file of the word, null if the voice bank does not contain the word
+     * @author Philipp Schulz
+     */
+    public WordSample getWordSample(String word)
+    {
+        Integer index = this.wordIndex.get(word);
+        if(index == null)
+        {
+            return null;
+        }
+        // copy the slice of the word, a duplicate keeps the position of the shared buffer untouched
+        byte[] data = new byte[this.lengths[index]];
+        ByteBuffer slice = this.buffer.duplicate();
+        slice.position(this.offsets[index]);
+        slice.get(data);
+        return new WordSample(this.format, data);
+    }
+}
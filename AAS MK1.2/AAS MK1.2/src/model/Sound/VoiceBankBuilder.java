@@ -0,0 +1,355 @@
+package model.Sound;
+
+import model.Constants.Sound.VoiceBankBuilderConstants;
+import model.Constants.Sound.VoiceBankConstants;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Tool for packing the sound files of one voice into a voice bank that can be read by the VoiceBank class
+ * Reads a directory with WAV files or the zip file the voices are shipped in, all words are converted to
+ * 16 bit signed little endian PCM with the highest sample rate and number of channels of all words, so the
+ * complete voice can be played by one sound output line
+ * Usage: VoiceBankBuilder &lt;WAV directory or zip file&gt; &lt;voice bank file&gt;
+ * @author Philipp Schulz
+ */
+public class VoiceBankBuilder implements VoiceBankConstants, VoiceBankBuilderConstants
+{
+    // local fields
+    private RandomAccessFile bankFile;
+    private AudioFormat format;
+    private final HashSet<String> packedWords;
+    private final List<String> words;
+    private final List<Long> offsets;
+    private final List<Integer> lengths;
+
+    /**
+     * Constructor of the VoiceBankBuilder class
+     * @author Philipp Schulz
+     */
+    public VoiceBankBuilder()
+    {
+        // initialize local fields
+        this.packedWords = new HashSet<>();
+        this.words = new ArrayList<>();
+        this.offsets = new ArrayList<>();
+        this.lengths = new ArrayList<>();
+    }
+
+    /**
+     * Main method of the tool
+     * @param args WAV directory or zip file and the voice bank file to create
+     * @author Philipp Schulz
+     */
+    public static void main(String[] args)
+    {
+        // check arguments
+        if(args.length != NUMBER_OF_ARGUMENTS)
+        {
+            System.out.println(USAGE);
+            return;
+        }
+        try
+        {
+            // build the voice bank
+            int numberOfWords = new VoiceBankBuilder().buildVoiceBank(new File(args[SOURCE_ARGUMENT]),
+                    new File(args[BANK_ARGUMENT]));
+            System.out.println(numberOfWords+BUILD_FINISHED_MESSAGE+args[BANK_ARGUMENT]);
+        }
+        catch(IOException e)
+        {
+            // print out details to console
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Method for creating a voice bank from a directory with WAV files or a zip file
+     * @param source Directory or zip file that contains the WAV files, the file name is the word
+     * @param bank File the voice bank is written to, overwritten if it exists
+     * @return Number of words in the voice bank
+     * @throws IOException If the source could not be read or the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    public int buildVoiceBank(File source, File bank) throws IOException
+    {
+        if(!source.exists())
+        {
+            throw new IOException(NO_SOURCE_MESSAGE+source);
+        }
+        try(RandomAccessFile file = new RandomAccessFile(bank, FILE_MODE_WRITE))
+        {
+            // start with an empty file and no words, the PCM data starts after the header
+            this.format = null;
+            this.packedWords.clear();
+            this.words.clear();
+            this.offsets.clear();
+            this.lengths.clear();
+            this.bankFile = file;
+            this.bankFile.setLength(EMPTY_FILE);
+            this.bankFile.seek(HEADER_SIZE);
+            // pack all words
+            if(source.isDirectory())
+            {
+                packDirectory(source);
+            }
+            else
+            {
+                packZipFile(source);
+            }
+            // the index follows the PCM data, the header is written last
+            long indexOffset = this.bankFile.getFilePointer();
+            writeIndex();
+            writeHeader(indexOffset);
+        }
+        finally
+        {
+            this.bankFile = null;
+        }
+        return this.words.size();
+    }
+
+    /**
+     * Method for packing all WAV files of a directory
+     * @param directory Directory that contains the WAV files
+     * @throws IOException If the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    private void packDirectory(File directory) throws IOException
+    {
+        File[] files = directory.listFiles();
+        if(files == null)
+        {
+            return;
+        }
+        // sort files so the same directory always results in the same voice bank
+        Arrays.sort(files);
+        // read only the headers first to find the format of the voice bank
+        for(File file : files)
+        {
+            if(file.isFile() && getWord(file.getName()) != null)
+            {
+                try
+                {
+                    updateFormat(AudioSystem.getAudioFileFormat(file).getFormat());
+                }
+                catch(UnsupportedAudioFileException e)
+                {
+                    System.out.println(SKIPPED_WORD_MESSAGE+getWord(file.getName()));
+                }
+            }
+        }
+        // pack all words
+        for(File file : files)
+        {
+            String word = getWord(file.getName());
+            if(file.isFile() && word != null)
+            {
+                try(AudioInputStream stream = AudioSystem.getAudioInputStream(file))
+                {
+                    packWord(word, stream);
+                }
+                catch(UnsupportedAudioFileException e)   // no readable sound file
+                {
+                    System.out.println(SKIPPED_WORD_MESSAGE+word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for packing all WAV files of a zip file, directories inside the zip file are ignored
+     * @param zip Zip file that contains the WAV files
+     * @throws IOException If the zip file could not be read or the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    private void packZipFile(File zip) throws IOException
+    {
+        try(ZipFile zipFile = new ZipFile(zip))
+        {
+            // sort entries so the same zip file always results in the same voice bank
+            List<ZipEntry> entries = new ArrayList<>();
+            Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+            while(enumeration.hasMoreElements())
+            {
+                entries.add(enumeration.nextElement());
+            }
+            entries.sort((first, second) -> first.getName().compareTo(second.getName()));
+            // read only the headers first to find the format of the voice bank
+            for(ZipEntry entry : entries)
+            {
+                if(!entry.isDirectory() && getWord(entry.getName()) != null)
+                {
+                    try(InputStream entryStream = new BufferedInputStream(zipFile.getInputStream(entry)))
+                    {
+                        updateFormat(AudioSystem.getAudioFileFormat(entryStream).getFormat());
+                    }
+                    catch(UnsupportedAudioFileException e)
+                    {
+                        System.out.println(SKIPPED_WORD_MESSAGE+getWord(entry.getName()));
+                    }
+                }
+            }
+            // pack all words
+            for(ZipEntry entry : entries)
+            {
+                String word = getWord(entry.getName());
+                if(!entry.isDirectory() && word != null)
+                {
+                    // the audio system requires a stream that supports mark and reset
+                    try(InputStream entryStream = new BufferedInputStream(zipFile.getInputStream(entry));
+                        AudioInputStream stream = AudioSystem.getAudioInputStream(entryStream))
+                    {
+                        packWord(word, stream);
+                    }
+                    catch(UnsupportedAudioFileException e)   // no readable sound file
+                    {
+                        System.out.println(SKIPPED_WORD_MESSAGE+word);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for getting the word of a WAV file
+     * @param fileName String that contains the name or path of the file
+     * @return String that contains the word, null if the file is no WAV file
+     * @author Philipp Schulz
+     */
+    private String getWord(String fileName)
+    {
+        String name = fileName.substring(fileName.lastIndexOf(PATH_SEPARATOR)+PATH_SEPARATOR.length());
+        if(!name.toLowerCase(Locale.ROOT).endsWith(WAV_FILE_FORMAT) || name.length() == WAV_FILE_FORMAT.length())
+        {
+            return null;
+        }
+        return name.substring(0, name.length()-WAV_FILE_FORMAT.length());
+    }
+
+    /**
+     * Method for adjusting the format of the voice bank to a word, the highest sample rate and number of channels is used
+     * @param sourceFormat Format of the WAV file of the word
+     * @author Philipp Schulz
+     */
+    private void updateFormat(AudioFormat sourceFormat)
+    {
+        if(this.format == null || sourceFormat.getSampleRate() > this.format.getSampleRate()
+                || sourceFormat.getChannels() > this.format.getChannels())
+        {
+            float sampleRate = this.format == null ? sourceFormat.getSampleRate()
+                    : Math.max(this.format.getSampleRate(), sourceFormat.getSampleRate());
+            int channels = this.format == null ? sourceFormat.getChannels()
+                    : Math.max(this.format.getChannels(), sourceFormat.getChannels());
+            this.format = new AudioFormat(sampleRate, BANK_SAMPLE_SIZE, channels, BANK_SIGNED, BANK_BIG_ENDIAN);
+        }
+    }
+
+    /**
+     * Method for converting a word into the format of the voice bank and appending it to the PCM data
+     * @param word String that contains the word
+     * @param stream Stream of the WAV file
+     * @throws IOException If the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    private void packWord(String word, AudioInputStream stream) throws IOException
+    {
+        // every word is only packed once
+        if(this.packedWords.contains(word))
+        {
+            return;
+        }
+        AudioFormat sourceFormat = stream.getFormat();
+        byte[] data;
+        try
+        {
+            AudioInputStream pcmStream = stream;
+            // decode compressed sound files first, the audio system converts PCM formats only
+            if(!sourceFormat.getEncoding().equals(AudioFormat.Encoding.PCM_SIGNED) &&
+                    !sourceFormat.getEncoding().equals(AudioFormat.Encoding.PCM_UNSIGNED))
+            {
+                pcmStream = AudioSystem.getAudioInputStream(new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
+                        sourceFormat.getSampleRate(), BANK_SAMPLE_SIZE, sourceFormat.getChannels(),
+                        sourceFormat.getChannels()*BANK_SAMPLE_SIZE/BITS_PER_BYTE, sourceFormat.getSampleRate(),
+                        BANK_BIG_ENDIAN), stream);
+            }
+            if(!pcmStream.getFormat().matches(this.format))
+            {
+                pcmStream = AudioSystem.getAudioInputStream(this.format, pcmStream);
+            }
+            data = WordSampleCache.readPcmData(pcmStream);
+        }
+        catch(IllegalArgumentException e)   // conversion not supported, e.g. different sample rate
+        {
+            System.out.println(SKIPPED_WORD_MESSAGE+word);
+            return;
+        }
+        // append the PCM data and remember its position
+        this.packedWords.add(word);
+        this.words.add(word);
+        this.offsets.add(this.bankFile.getFilePointer());
+        this.lengths.add(data.length);
+        this.bankFile.write(data);
+    }
+
+    /**
+     * Method for writing the index of all words at the current position of the voice bank
+     * @throws IOException If the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    private void writeIndex() throws IOException
+    {
+        // collect the complete index in memory and write it at once
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream indexStream = new DataOutputStream(index);
+        for(int i = FIRST_WORD; i < this.words.size(); i++)
+        {
+            byte[] word = this.words.get(i).getBytes(StandardCharsets.UTF_8);
+            indexStream.writeShort(word.length);
+            indexStream.write(word);
+            indexStream.writeLong(this.offsets.get(i));
+            indexStream.writeInt(this.lengths.get(i));
+        }
+        indexStream.flush();
+        this.bankFile.write(index.toByteArray());
+    }
+
+    /**
+     * Method for writing the header at the beginning of the voice bank
+     * @param indexOffset Position of the index in the voice bank
+     * @throws IOException If the voice bank could not be written
+     * @author Philipp Schulz
+     */
+    private void writeHeader(long indexOffset) throws IOException
+    {
+        // an empty voice bank still gets a valid format
+        AudioFormat headerFormat = this.format != null ? this.format : new AudioFormat(AudioSystem.NOT_SPECIFIED,
+                BANK_SAMPLE_SIZE, EMPTY_BANK_CHANNELS, BANK_SIGNED, BANK_BIG_ENDIAN);
+        this.bankFile.seek(HEADER_POSITION);
+        this.bankFile.writeInt(BANK_MAGIC);
+        this.bankFile.writeInt(BANK_VERSION);
+        this.bankFile.writeFloat(headerFormat.getSampleRate());
+        this.bankFile.writeInt(headerFormat.getChannels());
+        this.bankFile.writeInt(this.words.size());
+        this.bankFile.writeLong(indexOffset);
+    }
+}
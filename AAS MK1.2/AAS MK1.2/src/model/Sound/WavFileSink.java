@@ -0,0 +1,167 @@
+package model.Sound;
+
+import model.Constants.Sound.WavFileSinkConstants;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Sink of the sound output that renders every sentence into its own WAV file instead of playing it, e.g. for
+ * checking the sound output in environments without sound card
+ * The files are numbered in the order of the sentences, all data counts as played as soon as it was written
+ * @author Philipp Schulz
+ */
+public class WavFileSink implements WavFileSinkConstants, AudioSink
+{
+    // local fields
+    private final File directory;
+    private final ByteArrayOutputStream utterance;
+    private AudioFormat format;
+    private long writtenBytes;
+    private int utteranceNumber;
+
+    /**
+     * Constructor of the WavFileSink class
+     * @param directory Directory the WAV files are written into, created if it does not exist
+     * @author Philipp Schulz
+     */
+    public WavFileSink(File directory)
+    {
+        // initialize local fields
+        this.directory = directory;
+        this.utterance = new ByteArrayOutputStream();
+        this.format = null;
+        this.writtenBytes = NO_WRITTEN_BYTES;
+        this.utteranceNumber = FIRST_UTTERANCE;
+    }
+
+    /**
+     * Method for choosing an output device, there are no devices to choose from
+     * @param description Description of the output device, ignored
+     * @author Philipp Schulz
+     */
+    public void selectDevice(String description)
+    {
+        // nothing to select, all data is written into files
+    }
+
+    /**
+     * Method for opening the sink for a format, the directory is created if necessary
+     * @param format Format of the PCM data
+     * @return True if the directory for the files exists
+     * @author Philipp Schulz
+     */
+    public boolean open(AudioFormat format)
+    {
+        if(!this.directory.isDirectory() && !this.directory.mkdirs())
+        {
+            System.out.println(ERROR_DIRECTORY + this.directory.getAbsolutePath());
+            return false;
+        }
+        this.format = format;
+        this.writtenBytes = NO_WRITTEN_BYTES;
+        this.utterance.reset();
+        return true;
+    }
+
+    /**
+     * Method for getting the format the sink was opened with
+     * @return Format of the open sink, null if the sink is closed
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return this.format;
+    }
+
+    /**
+     * Method for adding PCM data to the current sentence, the data counts as played immediately
+     * @param data Byte array that contains the PCM data
+     * @param offset Index of the first byte to write
+     * @param length Number of bytes to write
+     * @author Philipp Schulz
+     */
+    public void write(byte[] data, int offset, int length)
+    {
+        this.utterance.write(data, offset, length);
+        this.writtenBytes += length;
+    }
+
+    /**
+     * Method for writing the current sentence into its own WAV file
+     * @param voice String that contains the voice of the sentence, part of the file name
+     * @param sentence String that contains the sentence
+     * @author Philipp Schulz
+     */
+    public void endUtterance(String voice, String sentence)
+    {
+        writeUtterance(voice);
+    }
+
+    /**
+     * Method for getting the number of bytes that were written since the sink was opened
+     * @return Number of played bytes
+     * @author Philipp Schulz
+     */
+    public long getPlayedBytes()
+    {
+        return this.writtenBytes;
+    }
+
+    /**
+     * Method for waiting until all written data was played, the files are written without waiting
+     * @author Philipp Schulz
+     */
+    public void drain()
+    {
+        // all data is already in memory or on disk
+    }
+
+    /**
+     * Method for closing the sink, a sentence that was not finished is written into a file as well
+     * @author Philipp Schulz
+     */
+    public void close()
+    {
+        if(this.format != null)
+        {
+            writeUtterance(UNKNOWN_VOICE);
+            this.format = null;
+        }
+    }
+
+    /**
+     * Method for writing all data of the current sentence into the next WAV file, sentences without data are skipped
+     * @param voice String that contains the voice of the sentence
+     * @author Philipp Schulz
+     */
+    private void writeUtterance(String voice)
+    {
+        if(this.utterance.size() == EMPTY_UTTERANCE)
+        {
+            return;
+        }
+        byte[] data = this.utterance.toByteArray();
+        this.utterance.reset();
+        String fileName = String.format(Locale.ROOT, FILE_NAME_FORMAT, this.utteranceNumber++,
+                voice.isEmpty() ? UNKNOWN_VOICE : voice.toLowerCase(Locale.ROOT));
+        // the length of the stream is given in frames
+        AudioInputStream stream = new AudioInputStream(new ByteArrayInputStream(data), this.format,
+                data.length/this.format.getFrameSize());
+        try
+        {
+            AudioSystem.write(stream, AudioFileFormat.Type.WAVE, new File(this.directory, fileName));
+        }
+        catch(IOException e)    // print exception if the file can not be written
+        {
+            e.printStackTrace();
+        }
+    }
+}
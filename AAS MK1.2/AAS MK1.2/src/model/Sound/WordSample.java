@@ -0,0 +1,57 @@
+package model.Sound;
+
+import javax.sound.sampled.AudioFormat;
+
+/**
+ * Container class used by the WordSampleCache for the decoded PCM data of a single word
+ * @author Philipp Schulz
+ */
+public class WordSample
+{
+    // local fields
+    private final AudioFormat format;
+    private final byte[] data;
+
+    /**
+     * Constructor of the WordSample class
+     * @param format Format of the PCM data
+     * @param data Decoded PCM data of the word, must not be changed afterwards
+     * @author Philipp Schulz
+     */
+    public WordSample(AudioFormat format, byte[] data)
+    {
+        // initialize local fields
+        this.format = format;
+        this.data = data;
+    }
+
+    /**
+     * Method for getting the format of the PCM data
+     * @return Format of the PCM data
+     * @author Philipp Schulz
+     */
+    public AudioFormat getFormat()
+    {
+        return this.format;
+    }
+
+    /**
+     * Method for getting the decoded PCM data
+     * @return Byte array with the PCM data, must not be changed
+     * @author Philipp Schulz
+     */
+    public byte[] getData()
+    {
+        return this.data;
+    }
+
+    /**
+     * Method for getting the size of the PCM data
+     * @return Size of the PCM data in [byte]
+     * @author Philipp Schulz
+     */
+    public int getSize()
+    {
+        return this.data.length;
+    }
+}
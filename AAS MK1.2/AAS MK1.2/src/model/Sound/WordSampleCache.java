@@ -0,0 +1,267 @@
+package model.Sound;
+
+import model.Constants.Sound.WordSampleCacheConstants;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class for keeping decoded sound files of single words in memory
+ * Words are identified by the path of their voice and the word itself, the least recently used words are removed
+ * as soon as the size of all cached words exceeds the maximum cache size
+ * If a voice bank exists for the path of a voice, words are taken from the voice bank instead of single sound files
+ * Used by the sound output thread and the warm-up at the same time, all accesses to the map are synchronized
+ * @author Philipp Schulz
+ */
+public class WordSampleCache implements WordSampleCacheConstants
+{
+    // local fields
+    private final LinkedHashMap<String, WordSample> wordSamples;
+    private final HashMap<String, VoiceBank> voiceBanks;
+    private final long maximumCacheSize;
+    private long cacheSize;
+
+    /**
+     * Constructor of the WordSampleCache class
+     * @author Philipp Schulz
+     */
+    public WordSampleCache()
+    {
+        this(MAXIMUM_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor of the WordSampleCache class
+     * @param maximumCacheSize Maximum size of all cached PCM data in [byte]
+     * @author Philipp Schulz
+     */
+    public WordSampleCache(long maximumCacheSize)
+    {
+        // initialize local fields
+        this.wordSamples = new LinkedHashMap<>(INITIAL_CACHE_CAPACITY, CACHE_LOAD_FACTOR, CACHE_ACCESS_ORDER);
+        this.voiceBanks = new HashMap<>();
+        this.maximumCacheSize = maximumCacheSize;
+        this.cacheSize = EMPTY_CACHE_SIZE;
+    }
+
+    /**
+     * Method for getting the decoded sound file of a word, reads the file only if the word is not cached yet
+     * The file is read outside of the lock, so other words can be taken from the cache in the meantime
+     * @param path String that contains the path to the sound files of the voice
+     * @param word String that contains the word (name of the sound file without format)
+     * @return Decoded sound file of the word, null if the file could not be read
+     * @author Philipp Schulz
+     */
+    public WordSample getWordSample(String path, String word)
+    {
+        String key = path+word;
+        // check if the word is already in memory, also marks the word as recently used
+        WordSample wordSample;
+        synchronized(this)
+        {
+            wordSample = this.wordSamples.get(key);
+        }
+        if(wordSample == null)
+        {
+            // read the word from the voice bank or its sound file and keep it for the next time
+            wordSample = loadWordSample(path, word);
+            if(wordSample != null)
+            {
+                addWordSample(key, wordSample);
+            }
+        }
+        return wordSample;
+    }
+
+    /**
+     * Method for loading a word into memory before it is played, words without a sound file are skipped silently
+     * @param path String that contains the path to the sound files of the voice
+     * @param word String that contains the word (name of the sound file without format)
+     * @author Philipp Schulz
+     */
+    public void preloadWordSample(String path, String word)
+    {
+        // only read words that have a sound file, not every voice knows every word
+        VoiceBank voiceBank = getVoiceBank(path);
+        if((voiceBank != null && voiceBank.containsWord(word)) || new File(path+word+FILE_FORMAT).isFile())
+        {
+            getWordSample(path, word);
+        }
+    }
+
+    /**
+     * Method for checking if a word is in memory, does not read any files
+     * @param path String that contains the path to the sound files of the voice
+     * @param word String that contains the word
+     * @return True if the word is cached
+     * @author Philipp Schulz
+     */
+    public synchronized boolean containsWordSample(String path, String word)
+    {
+        return this.wordSamples.containsKey(path+word);
+    }
+
+    /**
+     * Method for getting the size of all cached words
+     * @return Size of all cached PCM data in [byte]
+     * @author Philipp Schulz
+     */
+    public synchronized long getCacheSize()
+    {
+        return this.cacheSize;
+    }
+
+    /**
+     * Method for removing all words from memory, e.g. when the paths to the sound files change
+     * Voice banks are opened again on the next access
+     * @author Philipp Schulz
+     */
+    public synchronized void clear()
+    {
+        this.wordSamples.clear();
+        this.voiceBanks.clear();
+        this.cacheSize = EMPTY_CACHE_SIZE;
+    }
+
+    /**
+     * Method for adding a word to the cache and removing the least recently used words if required
+     * @param key Key of the word (path + word)
+     * @param wordSample Decoded sound file of the word
+     * @author Philipp Schulz
+     */
+    private synchronized void addWordSample(String key, WordSample wordSample)
+    {
+        // words that do not fit into the cache at all are not kept
+        if(wordSample.getSize() > this.maximumCacheSize)
+        {
+            return;
+        }
+        // another thread could have read the same word in the meantime
+        WordSample previousWordSample = this.wordSamples.put(key, wordSample);
+        if(previousWordSample != null)
+        {
+            this.cacheSize -= previousWordSample.getSize();
+        }
+        this.cacheSize += wordSample.getSize();
+        // remove the least recently used words (first in access order) until the cache fits again
+        Iterator<Map.Entry<String, WordSample>> iterator = this.wordSamples.entrySet().iterator();
+        while(this.cacheSize > this.maximumCacheSize && iterator.hasNext())
+        {
+            Map.Entry<String, WordSample> eldestEntry = iterator.next();
+            this.cacheSize -= eldestEntry.getValue().getSize();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Method for getting the voice bank of a voice, the voice bank is opened on the first access
+     * @param path String that contains the path to the sound files of the voice
+     * @return Voice bank of the voice, null if no voice bank exists for the path
+     * @author Philipp Schulz
+     */
+    private synchronized VoiceBank getVoiceBank(String path)
+    {
+        // only look for the voice bank once per path
+        if(!this.voiceBanks.containsKey(path))
+        {
+            VoiceBank voiceBank = null;
+            File bankFile = new File(VoiceBank.getBankPath(path));
+            if(bankFile.isFile())
+            {
+                try
+                {
+                    voiceBank = new VoiceBank(bankFile);
+                }
+                catch(IOException e)
+                {
+                    // fall back to single sound files
+                    e.printStackTrace();
+                }
+            }
+            this.voiceBanks.put(path, voiceBank);
+        }
+        return this.voiceBanks.get(path);
+    }
+
+    /**
+     * Method for loading a word that is not cached yet, the voice bank is preferred over single sound files
+     * @param path String that contains the path to the sound files of the voice
+     * @param word String that contains the word
+     * @return Decoded sound file of the word, null if the word could not be found
+     * @author Philipp Schulz
+     */
+    private WordSample loadWordSample(String path, String word)
+    {
+        VoiceBank voiceBank = getVoiceBank(path);
+        if(voiceBank != null)
+        {
+            WordSample wordSample = voiceBank.getWordSample(word);
+            if(wordSample != null)
+            {
+                return wordSample;
+            }
+        }
+        // no voice bank or word missing in the voice bank
+        return readWordSample(path+word+FILE_FORMAT);
+    }
+
+    /**
+     * Method for reading and decoding a sound file into PCM data
+     * @param fileNamePath String that contains the complete path to the sound file
+     * @return Decoded sound file, null if the file could not be read
+     * @author Philipp Schulz
+     */
+    private WordSample readWordSample(String fileNamePath)
+    {
+        try(AudioInputStream fileStream = AudioSystem.getAudioInputStream(new File(fileNamePath)))
+        {
+            AudioInputStream pcmStream = fileStream;
+            AudioFormat format = fileStream.getFormat();
+            // convert compressed sound files into PCM, Clips and DataLines can only play PCM
+            if(!format.getEncoding().equals(AudioFormat.Encoding.PCM_SIGNED) &&
+                    !format.getEncoding().equals(AudioFormat.Encoding.PCM_UNSIGNED))
+            {
+                format = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), PCM_SAMPLE_SIZE,
+                        format.getChannels(), format.getChannels()*PCM_SAMPLE_SIZE/BITS_PER_BYTE, format.getSampleRate(),
+                        PCM_BIG_ENDIAN);
+                pcmStream = AudioSystem.getAudioInputStream(format, fileStream);
+            }
+            // read the complete PCM data into memory
+            return new WordSample(format, readPcmData(pcmStream));
+        }
+        catch(Exception e)
+        {
+            // return null due to error
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Method for reading the complete PCM data of a stream into memory
+     * @param pcmStream Stream that contains PCM data
+     * @return Byte array that contains the PCM data
+     * @throws IOException If the stream could not be read
+     * @author Philipp Schulz
+     */
+    static byte[] readPcmData(AudioInputStream pcmStream) throws IOException
+    {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int readBytes = pcmStream.read(buffer);
+        while(readBytes != READ_END_OF_STREAM)
+        {
+            data.write(buffer, 0, readBytes);
+            readBytes = pcmStream.read(buffer);
+        }
+        return data.toByteArray();
+    }
+}
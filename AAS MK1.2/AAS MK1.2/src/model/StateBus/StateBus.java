@@ -0,0 +1,84 @@
+package model.StateBus;
+
+import model.Constants.StateBus.StateBusConstants;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typed publish/subscribe bus for the state of components, used alongside the ActionQueue
+ * Every topic has exactly one publisher (e.g. Sound for the playback state), other components read the latest value
+ * without sending a query through the ActionQueue or subscribe to its changes
+ * @author Philipp Schulz
+ */
+public class StateBus implements StateBusConstants
+{
+    // local fields
+    private final ConcurrentHashMap<String, StateTopic<?>> topics;
+
+    /**
+     * Constructor of the StateBus class
+     * @author Philipp Schulz
+     */
+    public StateBus()
+    {
+        this.topics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Method for getting a topic, the topic is created with its initial value on first use
+     * Components should keep the returned topic instead of looking it up for every read
+     * @param key Key of the topic
+     * @param <T> Type of the values of the topic
+     * @return Instance of the StateTopic class for the key
+     * @throws IllegalArgumentException If the name of the key is already used for a topic of another type
+     * @author Philipp Schulz
+     */
+    @SuppressWarnings("unchecked")
+    public <T> StateTopic<T> getTopic(StateTopicKey<T> key)
+    {
+        StateTopic<?> topic = this.topics.computeIfAbsent(key.getName(), name -> new StateTopic<>(key));
+        if(topic.getKey().getType() != key.getType())
+        {
+            throw new IllegalArgumentException(String.format(ERROR_TYPE, key.getName(), topic.getKey().getType().getSimpleName(),
+                    key.getType().getSimpleName()));
+        }
+        return (StateTopic<T>) topic;
+    }
+
+    /**
+     * Method for publishing a new value of a topic
+     * @param key Key of the topic
+     * @param value New immutable value of the topic
+     * @param <T> Type of the values of the topic
+     * @return True if the value changed
+     * @author Philipp Schulz
+     */
+    public <T> boolean publish(StateTopicKey<T> key, T value)
+    {
+        return getTopic(key).publish(value);
+    }
+
+    /**
+     * Method for getting the latest value of a topic
+     * @param key Key of the topic
+     * @param <T> Type of the values of the topic
+     * @return Latest published value of the topic
+     * @author Philipp Schulz
+     */
+    public <T> T getValue(StateTopicKey<T> key)
+    {
+        return getTopic(key).getValue();
+    }
+
+    /**
+     * Method for registering a component that wants to be informed about changes of a topic
+     * @param key Key of the topic
+     * @param subscriber Component that should be informed
+     * @param <T> Type of the values of the topic
+     * @author Philipp Schulz
+     */
+    public <T> void subscribe(StateTopicKey<T> key, StateSubscriber<T> subscriber)
+    {
+        getTopic(key).subscribe(subscriber);
+    }
+}
@@ -0,0 +1,20 @@
+package model.StateBus;
+
+/**
+ * Interface for all components that want to be informed about the changes of a topic of the StateBus
+ * Methods are called from the thread of the publisher and should return quickly, components that only need the current
+ * state read the snapshot of the topic instead
+ * @param <T> Type of the values of the topic
+ * @author Philipp Schulz
+ */
+public interface StateSubscriber<T>
+{
+    /**
+     * Method that is called as soon as a new value was published that differs from the previous one
+     * @param topic Key of the topic that changed
+     * @param previousValue Value of the topic before the change, may be null
+     * @param newValue Value of the topic after the change, may be null
+     * @author Philipp Schulz
+     */
+    void handleStateChange(StateTopicKey<T> topic, T previousValue, T newValue);
+}
@@ -0,0 +1,115 @@
+package model.StateBus;
+
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Single topic of the StateBus that holds the latest value published by its owner
+ * Reading the value is a single volatile read without locking, values must be immutable so readers always see a
+ * consistent snapshot
+ * @param <T> Type of the values of the topic
+ * @author Philipp Schulz
+ */
+public class StateTopic<T>
+{
+    // local fields
+    private final StateTopicKey<T> key;
+    private final AtomicReference<T> value;
+    private final AtomicLong version;
+    private final CopyOnWriteArrayList<StateSubscriber<T>> subscribers;
+
+    /**
+     * Constructor of the StateTopic class
+     * @param key Key of the topic, contains its initial value
+     * @author Philipp Schulz
+     */
+    public StateTopic(StateTopicKey<T> key)
+    {
+        this.key = key;
+        this.value = new AtomicReference<>(key.getInitialValue());
+        this.version = new AtomicLong();
+        this.subscribers = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Method for publishing a new value, subscribers are only informed if the value changed
+     * @param newValue New immutable value of the topic
+     * @return True if the value changed
+     * @author Philipp Schulz
+     */
+    public boolean publish(T newValue)
+    {
+        T previousValue = this.value.getAndSet(newValue);
+        this.version.incrementAndGet();
+        if(Objects.equals(previousValue, newValue))
+        {
+            return false;
+        }
+        for(StateSubscriber<T> subscriber : this.subscribers)
+        {
+            try
+            {
+                subscriber.handleStateChange(this.key, previousValue, newValue);
+            }
+            catch(RuntimeException e)
+            {
+                // an error of one subscriber must not stop the publisher
+                e.printStackTrace();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Method for getting the latest value of the topic
+     * @return Latest published value, the initial value of the key if nothing was published yet
+     * @author Philipp Schulz
+     */
+    public T getValue()
+    {
+        return this.value.get();
+    }
+
+    /**
+     * Method for getting the number of publications of the topic, e.g. to find out if a value was published since
+     * the last check
+     * @return Number of publications
+     * @author Philipp Schulz
+     */
+    public long getVersion()
+    {
+        return this.version.get();
+    }
+
+    /**
+     * Method for registering a component that wants to be informed about changes of the topic
+     * @param subscriber Component that should be informed
+     * @author Philipp Schulz
+     */
+    public void subscribe(StateSubscriber<T> subscriber)
+    {
+        this.subscribers.add(subscriber);
+    }
+
+    /**
+     * Method for removing a component from the informed components
+     * @param subscriber Component that should no longer be informed
+     * @author Philipp Schulz
+     */
+    public void unsubscribe(StateSubscriber<T> subscriber)
+    {
+        this.subscribers.remove(subscriber);
+    }
+
+    /**
+     * Method for getting the key of the topic
+     * @return Key of the topic
+     * @author Philipp Schulz
+     */
+    public StateTopicKey<T> getKey()
+    {
+        return this.key;
+    }
+}
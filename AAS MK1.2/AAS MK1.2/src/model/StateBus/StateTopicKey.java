@@ -0,0 +1,58 @@
+package model.StateBus;
+
+/**
+ * Typed name of a topic of the StateBus, all keys are defined in StateBusConstants
+ * @param <T> Type of the values of the topic
+ * @author Philipp Schulz
+ */
+public class StateTopicKey<T>
+{
+    // local fields
+    private final String name;
+    private final Class<T> type;
+    private final T initialValue;
+
+    /**
+     * Constructor of the StateTopicKey class
+     * @param name Unique name of the topic
+     * @param type Type of the values of the topic
+     * @param initialValue Value of the topic before its publisher published anything, may be null
+     * @author Philipp Schulz
+     */
+    public StateTopicKey(String name, Class<T> type, T initialValue)
+    {
+        this.name = name;
+        this.type = type;
+        this.initialValue = initialValue;
+    }
+
+    /**
+     * Method for getting the name of the topic
+     * @return Unique name of the topic
+     * @author Philipp Schulz
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Method for getting the type of the values of the topic
+     * @return Type of the values
+     * @author Philipp Schulz
+     */
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Method for getting the value of the topic before its publisher published anything
+     * @return Initial value of the topic, may be null
+     * @author Philipp Schulz
+     */
+    public T getInitialValue()
+    {
+        return this.initialValue;
+    }
+}
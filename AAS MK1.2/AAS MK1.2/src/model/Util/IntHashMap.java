@@ -0,0 +1,190 @@
+package model.Util;
+
+import model.Constants.Util.IntHashMapConstants;
+
+import java.util.Arrays;
+
+/**
+ * Hash map with primitive Integer keys, used for lookups that happen for every action (e.g. component IDs)
+ * Uses open addressing, so neither put() nor get() create any objects for the keys
+ * Not thread-safe, instances that are shared between threads must not be changed after they were published
+ * @param <V> Type of the stored values
+ * @author Philipp Schulz
+ */
+public class IntHashMap<V> implements IntHashMapConstants
+{
+    // local fields
+    private int[] keys;
+    private Object[] values;
+    private int size;
+    private int mask;
+
+    /**
+     * Constructor of the IntHashMap class
+     * @author Philipp Schulz
+     */
+    public IntHashMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor of the IntHashMap class
+     * @param expectedSize Number of entries that the map should hold without resizing
+     * @author Philipp Schulz
+     */
+    public IntHashMap(int expectedSize)
+    {
+        // determine the smallest power of two that keeps the load below the maximum
+        int capacity = DEFAULT_CAPACITY;
+        while(capacity < expectedSize*MAXIMUM_LOAD_DIVISOR)
+        {
+            capacity *= CAPACITY_GROWTH_FACTOR;
+        }
+        // initialize local fields
+        initializeSlots(capacity);
+    }
+
+    /**
+     * Method for getting the value that is stored for a given key
+     * @param key Key of the value
+     * @return Stored value, null if the key is not contained in the map
+     * @author Philipp Schulz
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key)
+    {
+        // go over the slots, starting at the slot of the hash
+        int index = getSlotIndex(key);
+        while(this.keys[index] != FREE_KEY)
+        {
+            // check if the key was found
+            if(this.keys[index] == key)
+            {
+                return (V) this.values[index];
+            }
+            // continue with the next slot
+            index = (index + 1) & this.mask;
+        }
+        // key is not contained in the map
+        return null;
+    }
+
+    /**
+     * Method for checking if a given key is contained in the map
+     * @param key Key that should be checked
+     * @return True if the map contains a value for the key
+     * @author Philipp Schulz
+     */
+    public boolean containsKey(int key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Method for storing a value for a given key, replaces any previously stored value
+     * @param key Key of the value, must not be Integer.MIN_VALUE
+     * @param value Value that should be stored, must not be null
+     * @author Philipp Schulz
+     */
+    public void put(int key, V value)
+    {
+        // check if the key and value can be stored
+        if(key == FREE_KEY || value == null)
+        {
+            throw new IllegalArgumentException("key " + key + " or value " + value + " can not be stored");
+        }
+        // go over the slots, starting at the slot of the hash
+        int index = getSlotIndex(key);
+        while(this.keys[index] != FREE_KEY)
+        {
+            // check if the key already exists
+            if(this.keys[index] == key)
+            {
+                // replace the value
+                this.values[index] = value;
+                return;
+            }
+            // continue with the next slot
+            index = (index + 1) & this.mask;
+        }
+        // save the new entry in the free slot
+        this.keys[index] = key;
+        this.values[index] = value;
+        this.size++;
+        // resize the map if too many slots are in use
+        if(this.size*MAXIMUM_LOAD_DIVISOR > this.keys.length)
+        {
+            resize(this.keys.length*CAPACITY_GROWTH_FACTOR);
+        }
+    }
+
+    /**
+     * Method for removing all entries from the map
+     * @author Philipp Schulz
+     */
+    public void clear()
+    {
+        Arrays.fill(this.keys, FREE_KEY);
+        Arrays.fill(this.values, null);
+        this.size = 0;
+    }
+
+    /**
+     * Method for getting the number of entries in the map
+     * @return Number of stored entries
+     * @author Philipp Schulz
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Method for determining the first slot that should be checked for a given key
+     * @param key Key that should be located
+     * @return Index of the first slot for the key
+     * @author Philipp Schulz
+     */
+    private int getSlotIndex(int key)
+    {
+        int hash = key*HASH_MULTIPLIER;
+        return (hash ^ (hash >>> HASH_SHIFT)) & this.mask;
+    }
+
+    /**
+     * Method for creating empty slots
+     * @param capacity Number of slots, must be a power of two
+     * @author Philipp Schulz
+     */
+    private void initializeSlots(int capacity)
+    {
+        this.keys = new int[capacity];
+        Arrays.fill(this.keys, FREE_KEY);
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    /**
+     * Method for moving all entries into a larger number of slots
+     * @param capacity New number of slots, must be a power of two
+     * @author Philipp Schulz
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity)
+    {
+        // save old slots
+        int[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        // create new slots and insert all previous entries
+        initializeSlots(capacity);
+        for(int i = 0; i < oldKeys.length; i++)
+        {
+            if(oldKeys[i] != FREE_KEY)
+            {
+                put(oldKeys[i], (V) oldValues[i]);
+            }
+        }
+    }
+}
@@ -2,7 +2,9 @@ package model.Util;
 
 import model.Constants.Util.UtilityFunctionsConstants;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Class that contains utility functions that do not belong in any other class
@@ -19,7 +21,7 @@ public class UtilityFunctions implements UtilityFunctionsConstants
      */
     public static String numberToString(int number)
     {
-        return numberToString(number+EMPTY_STRING);
+        return numberToString((long) number);
     }
 
     /**
@@ -30,7 +32,9 @@ public class UtilityFunctions implements UtilityFunctionsConstants
      */
     public static String numberToString(long number)
     {
-        return numberToString(number+EMPTY_STRING);
+        ArrayList<String> words = new ArrayList<>();
+        appendNumberWords(number, words);
+        return String.join(SPACE, words);
     }
 
     /**
@@ -41,294 +45,371 @@ public class UtilityFunctions implements UtilityFunctionsConstants
      */
     public static String numberToString(double number)
     {
-        return numberToString(number+EMPTY_STRING);
+        ArrayList<String> words = new ArrayList<>();
+        appendNumberWords(number, words);
+        return String.join(SPACE, words);
     }
 
     /**
      * Method for converting a given String of a number into a String of the English language
      * @param number Number that should be converted into a String
-     * @return Given number as a String of the English language
+     * @return Given number as a String of the English language, text that is no number is returned as words
      * @author Philipp Schulz
      */
     public static String numberToString(String number)
     {
-        // initialize return value
-        StringBuilder numberString = new StringBuilder(EMPTY_STRING);
-        // initialize floating point and integer parts of number
-        long numberDouble = ZERO;
-        long numberLong;
-        String floatingPoint=EMPTY_STRING;
-        // parse string as numbers for conversion handling
-        if(number.contains(POINT))  // if a floating point number is given
-        {
-            floatingPoint = number.substring(number.indexOf(POINT)+INCREMENT);
-            numberDouble = Long.parseLong(floatingPoint);
-            numberLong = Long.parseLong(number.substring(ZERO,number.indexOf(POINT)));
-        }
-        else    // if a pure integer is given
-        {
-            numberLong = Long.parseLong(number);
-        }
-        // if the number is negative
-        if(number.trim().startsWith(MINUS))
-        {
-            // add minus sign and space to return value
-            numberString.append(MINUS_STRING + SPACE);
-            // adjust numbers to avoid multiple minus sings
-            numberLong *= INVERSION_FACTOR;
-        }
-        // if the integer part of the number is zero
-        if(numberLong==ZERO)
-        {
-            // add zero and space to return value
-            numberString.append(UNDER_TWENTY[ZERO]).append(SPACE);
-        }
-        // create new strings for adjusted number rest
-        String newNumberInt = numberLong+EMPTY_STRING;
-        String newNumberFloating = numberDouble+EMPTY_STRING;
-        // determine how many triplets are in the integer part of the number
-        int tripletCount = (int)((float)newNumberInt.length()/(TRIPLET_SIZE) + ROUND_CEILING_FACTOR);
-        // initialize ArrayList that will contain the triplets
-        ArrayList<String> triplets = new ArrayList<>();
-        // loop over the number of triplets in the integer part of the number
-        for(int i = 0; i < tripletCount; i++)
+        return String.join(SPACE, extractSingleWordsFromText(number));
+    }
+
+    /**
+     * Method for converting a given number as a String into a String containing all single digits
+     * @param number String that contains the number to convert (supports "." too)
+     * @return All single digits of the given number in a String
+     * @author Philipp Schulz
+     */
+    public static String numberToSingleDigits(String number)
+    {
+        ArrayList<String> words = new ArrayList<>();
+        appendDigitWords(number, FIRST_INDEX, number.length(), words);
+        return String.join(SPACE, words);
+    }
+
+    /**
+     * Method for converting a given String into an Arraylist of the individual words
+     * @param text Text that contains all words to be split into an ArrayList
+     * @return ArrayList<String> containing all single words of the given text
+     * @author Philipp Schulz
+     */
+    public static ArrayList<String> extractSingleWordsFromText(String text)
+    {
+        ArrayList<String> words = new ArrayList<>();
+        extractSingleWordsFromText(text, words);
+        return words;
+    }
+
+    /**
+     * Method for splitting a given String into its individual words in a single pass
+     * Numbers are replaced by their English words, question and exclamation marks are removed,
+     * points are removed and signs are replaced by words outside of numbers
+     * @param text Text that contains all words
+     * @param words List the words are appended to, can be cleared and reused by the caller
+     * @author Philipp Schulz
+     */
+    public static void extractSingleWordsFromText(String text, List<String> words)
+    {
+        StringBuilder token = new StringBuilder();
+        int length = text.length();
+        int index = FIRST_INDEX;
+        // loop over all tokens separated by whitespace
+        while(index < length)
         {
-            // check if the integer part of the number is larger than a single triplet
-            if(newNumberInt.length()  >= TRIPLET_SIZE)
+            // skip whitespace in front of the token
+            while(index < length && Character.isWhitespace(text.charAt(index)))
             {
-                // extract current triplet from number String, starting from right side
-                triplets.add(newNumberInt.substring(newNumberInt.length()-TRIPLET_SIZE));
-                // adjust integer part of number, remove current triplet
-                newNumberInt = newNumberInt.substring(ZERO_INDEX,newNumberInt.length()-TRIPLET_SIZE);
+                index++;
             }
-            else    // if the integer part of the number is equal or smaller than a single triplet
+            // copy the token and classify it while scanning: [+-] digits [. digits]
+            token.setLength(EMPTY_LENGTH);
+            boolean numeric = true;
+            int digits = NO_DIGITS;
+            int pointIndex = NO_POINT;
+            while(index < length && !Character.isWhitespace(text.charAt(index)))
             {
-                // add triplet to ArrayList
-                triplets.add(newNumberInt);
+                char character = text.charAt(index++);
+                if(character == QUESTION_MARK_CHAR || character == EXCLAMATION_MARK_CHAR)
+                {
+                    continue;   // removed everywhere
+                }
+                if(character >= DIGIT_ZERO && character <= DIGIT_NINE)
+                {
+                    digits++;
+                }
+                else if(character == POINT_CHAR && pointIndex == NO_POINT)
+                {
+                    pointIndex = token.length();
+                }
+                else if(!((character == MINUS_CHAR || character == PLUS_CHAR) && token.length() == EMPTY_LENGTH))
+                {
+                    numeric = false;
+                }
+                token.append(character);
+            }
+            if(token.length() == EMPTY_LENGTH)
+            {
+                continue;
+            }
+            // convert numbers, fall back to the word if the number can not be spoken
+            if(!(numeric && digits > NO_DIGITS && appendNumberToken(token, pointIndex, words)))
+            {
+                appendWordToken(token, words);
             }
         }
-        // loop backwards over extracted triplets, starting with the "largest" triplet
-        for(int i = tripletCount-INCREMENT; i >= 0; i--)
-        {
-            numberString.append(convertTripletToWords(triplets.get(i), i + INCREMENT));
-        }
-        // check if there is a floating point remainder
-        if(!newNumberFloating.equals(ZERO+EMPTY_STRING))
-        {
-            // convert the floating point part of the number to single digit words
-            numberString.append(POINT_STRING + SPACE).append(numberToSingleDigits(floatingPoint));
-        }
-        // return the final String
-        return numberString.toString();
     }
 
     /**
-     * Method for converting a given triplet of digits into words
-     * @param triplet String that contains a number with 3 digits
-     * @param weight Weight of the decimal name for the triplet (e.g. a million, a billion)
-     * @return Given number converted into English words
+     * Method for converting a numeric token into words
+     * @param token Token that contains a number ([+-] digits [. digits])
+     * @param pointIndex Index of the point in the token, NO_POINT if the token is an integer
+     * @param words List the words are appended to
+     * @return True if the words were appended, false if the integer part does not fit into a Long
+     * @author Philipp Schulz
      */
-    private static String convertTripletToWords(String triplet, int weight)
+    private static boolean appendNumberToken(CharSequence token, int pointIndex, List<String> words)
     {
-        // initialize return String and helper Strings
-        String tripletWords = EMPTY_STRING;
-        String triplet1, triplet2, triplet3, triplet23, triplet123;
-        // assign triplets based on length of the given triplet
-        switch(triplet.length())
+        boolean negative = token.charAt(FIRST_INDEX) == MINUS_CHAR;
+        int integerStart = (negative || token.charAt(FIRST_INDEX) == PLUS_CHAR) ? FIRST_INDEX+SIGN_LENGTH : FIRST_INDEX;
+        int integerEnd = (pointIndex == NO_POINT) ? token.length() : pointIndex;
+        // check if the digits after the point change the value
+        boolean integral = true;
+        for(int i = integerEnd+POINT_LENGTH; i < token.length(); i++)
         {
-            case TRIPLET_SIZE_1:    // if the String has length 0
-                // assign all helper Strings to "0"
-                triplet1 = ZERO_STRING;
-                triplet2 = ZERO_STRING;
-                triplet3 = ZERO_STRING;
-                break;
-            case TRIPLET_SIZE_2:    // if the String has length 1
-                triplet1 = ZERO_STRING;
-                triplet2 = ZERO_STRING;
-                triplet3 = triplet;
-                break;
-            case TRIPLET_SIZE_3:   // if the String has length 2
-                triplet1 = ZERO_STRING;
-                triplet2 = triplet.substring(TRIPLET_SIZE_1,TRIPLET_SIZE_2);
-                triplet3 = triplet.substring(TRIPLET_SIZE_2);
-                break;
-            default:               // if the String has length 3
-                triplet1 = triplet.substring(TRIPLET_SIZE_1,TRIPLET_SIZE_2);
-                triplet2 = triplet.substring(TRIPLET_SIZE_2,TRIPLET_SIZE_3);
-                triplet3 = triplet.substring(TRIPLET_SIZE_3,TRIPLET_SIZE_4);
+            if(token.charAt(i) != DIGIT_ZERO)
+            {
+                integral = false;
                 break;
+            }
+        }
+        if(!integral)
+        {
+            // the digits of a floating point number follow the shortest representation of its Double value
+            appendNumberWords(Double.parseDouble(token.toString()), words);
+            return true;
         }
-        // create triplet combinations required for next part
-        triplet23 = triplet2+triplet3;
-        triplet123 = triplet1 + triplet23;
-        // check if total triplet is not zero, ignore if it is
-        if(!triplet123.equals(TRIPLET_ZERO))
+        // accumulate the integer part negatively, so Long.MIN_VALUE can be represented as well
+        long value = NO_VALUE;
+        for(int i = integerStart; i < integerEnd; i++)
         {
-            // handle triplet1 helper String if it is not zero
-            if(Integer.parseInt(triplet1) != ZERO)
+            int digit = token.charAt(i)-DIGIT_ZERO;
+            if(value < Long.MIN_VALUE/DECIMAL_BASE || value*DECIMAL_BASE < Long.MIN_VALUE+digit)
             {
-                // add the hundred part to number
-                tripletWords += UNDER_TWENTY[Integer.parseInt(triplet1)] + SPACE + HUNDRED + SPACE;
+                return false;   // overflow
             }
-            // check if triplet23 is less than twenty
-            if(Integer.parseInt(triplet23) < TWENTY && Integer.parseInt(triplet1) == ZERO)
+            value = value*DECIMAL_BASE-digit;
+        }
+        if(!negative)
+        {
+            if(value == Long.MIN_VALUE)
             {
-                // add last two digits as one combination
-                tripletWords += UNDER_TWENTY[Integer.parseInt(triplet23)] + SPACE;
+                return false;   // overflow
             }
-            else    // if the number part is larger than 20, split triplet2 and triplet3
+            value = -value;
+        }
+        appendNumberWords(value, words);
+        return true;
+    }
+
+    /**
+     * Method for appending a token that is no number, points are removed and signs are replaced by words
+     * A minus is attached to the following characters (e.g. "a-b" -> "a", "minusb"), a plus is a separate word
+     * @param token Token that contains the word
+     * @param words List the words are appended to
+     * @author Philipp Schulz
+     */
+    private static void appendWordToken(CharSequence token, List<String> words)
+    {
+        int wordStart = FIRST_INDEX;
+        StringBuilder word = null;
+        for(int i = FIRST_INDEX; i < token.length(); i++)
+        {
+            char character = token.charAt(i);
+            if(character == POINT_CHAR || character == MINUS_CHAR || character == PLUS_CHAR)
             {
-                // handle triplet2 if greater than zero
-                if(!triplet2.equals(ZERO_STRING))
+                // the word is only copied if it has to be split or changed
+                if(word == null)
                 {
-                    // add the teens part to number
-                    tripletWords += TEENS_DIGITS[Integer.parseInt(triplet2)] + SPACE;
+                    word = new StringBuilder(token.length());
+                    word.append(token, wordStart, i);
                 }
-                // handle triplet3 if greater than zero
-                if(!triplet3.equals(ZERO_STRING))
+                if(character == MINUS_CHAR)
                 {
-                    // add the single digit part to number
-                    tripletWords += UNDER_TWENTY[Integer.parseInt(triplet3)] + SPACE;
+                    addWord(word, words);
+                    word.append(MINUS_WORD);
+                }
+                else if(character == PLUS_CHAR)
+                {
+                    addWord(word, words);
+                    words.add(PLUS_WORD);
                 }
             }
-            // apply total weight to triplet (thousand, million, billion, ...)
-            if(weight>TRIPLET_SIZE_1)
+            else if(word != null)
             {
-                // add triplet weight as appended word
-                tripletWords += TEN_STEPS[weight] + SPACE;
+                word.append(character);
             }
         }
-        // return final String
-        return tripletWords;
+        if(word == null)
+        {
+            words.add(token.toString());
+        }
+        else
+        {
+            addWord(word, words);
+        }
     }
 
     /**
-     * Method for converting a given number as a String into a String containing all single digits
-     * @param number String that contains the number to convert (supports "." too)
-     * @return All single digits of the given number in a String
+     * Method for adding a word to the list if it is not empty and resetting the word afterwards
+     * @param word Word that should be added
+     * @param words List the word is appended to
      * @author Philipp Schulz
      */
-    public static String numberToSingleDigits(String number)
+    private static void addWord(StringBuilder word, List<String> words)
     {
-        // initialize return String
-        StringBuilder singleDigits = new StringBuilder(EMPTY_STRING);
-        // loop over all characters of the given number String
-        for(int i = 0; i < number.length();i++)
+        if(word.length() > EMPTY_LENGTH)
         {
-            // extract the current character
-            String currentChar = number.substring(i,i+ONE_INDEX);
-            // if current character is not a point
-            if(!currentChar.equals(POINT))
-            {
-                // append single digit to return String
-                singleDigits.append(UNDER_TWENTY[Integer.parseInt(currentChar)]);
-            }
-            else    // if current character is a point
-            {
-                // append point to return String
-                singleDigits.append(POINT_STRING);
-            }
-            // append space to return String
-            singleDigits.append(SPACE);
+            words.add(word.toString());
+            word.setLength(EMPTY_LENGTH);
         }
-        // return
-        return singleDigits.toString();
     }
 
     /**
-     * Method for converting a given String into an Arraylist of the individual words
-     * @param text Text that contains all words to be split into an ArrayList
-     * @return ArrayList<String> containing all single words of the given text
+     * Method for appending the English words of a Long (e.g. -210 -> "minus", "two", "hundred", "ten")
+     * @param number Long that should be converted
+     * @param words List the words are appended to
      * @author Philipp Schulz
      */
-    public static ArrayList<String> extractSingleWordsFromText(String text)
+    public static void appendNumberWords(long number, List<String> words)
     {
-        // initialize ArrayList for words
-        ArrayList<String> words = new ArrayList<>();
-        // save local copy of parameter text
-        String message = text;
-        // replace question mark and exclamation mark with empty strings
-        message = message.replace(QUESTION_MARK,EMPTY_STRING);
-        message = message.replace(EXCLAMATION_MARK,EMPTY_STRING);
-        // split message into single words and store them in ArrayList
-        if(message.contains(SPACE))    // if the text contains multiple words
+        if(number == NO_VALUE)
         {
-            // loop until no space is left in the text
-            while(message.contains(SPACE))
-            {
-                // save word to ArrayList
-                words.add(message.substring(ZERO_INDEX,message.indexOf(SPACE)));
-                // adjust text for next loop
-                message = message.substring(message.indexOf(SPACE)+INCREMENT);
-            }
-            // add last word if present
-            if(message.length()>=MINIMUM_WORD_LENGTH)
-            {
-                words.add(message.trim());
-            }
+            words.add(UNDER_TWENTY[NO_VALUE]);
+            return;
+        }
+        if(number < NO_VALUE)
+        {
+            words.add(MINUS_WORD);
+        }
+        // split the number into triplets, the remainder keeps the sign so Long.MIN_VALUE needs no special handling
+        int[] triplets = new int[MAXIMUM_TRIPLETS];
+        int tripletCount = NO_VALUE;
+        long rest = number;
+        while(rest != NO_VALUE)
+        {
+            triplets[tripletCount++] = (int) Math.abs(rest%TRIPLET_BASE);
+            rest /= TRIPLET_BASE;
+        }
+        // start with the "largest" triplet
+        for(int i = tripletCount-INDEX_OFFSET; i >= FIRST_INDEX; i--)
+        {
+            appendTripletWords(triplets[i], i+INDEX_OFFSET, words);
+        }
+    }
+
+    /**
+     * Method for appending the English words of a Double (e.g. -1.32 -> "minus", "one", "point", "three", "two")
+     * The digits after the point are spoken one by one
+     * @param number Double that should be converted
+     * @param words List the words are appended to
+     * @author Philipp Schulz
+     */
+    public static void appendNumberWords(double number, List<String> words)
+    {
+        if(Double.isNaN(number) || Double.isInfinite(number))
+        {
+            words.add(Double.toString(number));
+            return;
         }
-        else                            // if the text only contains one word
+        if(number < NO_VALUE)
         {
-            words.add(message.trim());  // add single word to ArrayList
+            words.add(MINUS_WORD);
         }
-        // go over all words and convert numbers to text if required
-        for(int i=0;i<words.size();i++)
+        // shortest representation of the value, large and small numbers without exponent
+        String digits = Double.toString(Math.abs(number));
+        if(digits.indexOf(EXPONENT_CHAR) >= FIRST_INDEX)
         {
-            // try to parse current word to Double
-            try
+            digits = new BigDecimal(digits).toPlainString();
+        }
+        int pointIndex = digits.indexOf(POINT_CHAR);
+        int integerEnd = (pointIndex < FIRST_INDEX) ? digits.length() : pointIndex;
+        // integer part as Long if possible, otherwise digit by digit
+        if(integerEnd <= MAXIMUM_LONG_DIGITS)
+        {
+            long integerPart = NO_VALUE;
+            for(int i = FIRST_INDEX; i < integerEnd; i++)
             {
-                // parse word to number
-                double doubleWord = Double.parseDouble(words.get(i));
-                // check if number is an integer
-                if((doubleWord*NUMBER_PARSE_FACTOR)%NUMBER_PARSE_FACTOR == NUMBER_PARSE_RESULT)
-                {
-                    // parse integer to text
-                    words.set(i,numberToString(Long.parseLong(words.get(i).replace(POINT,EMPTY_STRING))));
-                }
-                else // if number is floating point
-                {
-                    // parse double to text
-                    words.set(i,numberToString(doubleWord));
-                }
+                integerPart = integerPart*DECIMAL_BASE+(digits.charAt(i)-DIGIT_ZERO);
             }
-            catch(Exception e)
+            appendNumberWords(integerPart, words);
+        }
+        else
+        {
+            appendDigitWords(digits, FIRST_INDEX, integerEnd, words);
+        }
+        // floating point part, ignored if it is zero
+        int fractionEnd = digits.length();
+        while(fractionEnd > integerEnd+POINT_LENGTH && digits.charAt(fractionEnd-INDEX_OFFSET) == DIGIT_ZERO)
+        {
+            fractionEnd--;
+        }
+        if(fractionEnd > integerEnd+POINT_LENGTH)
+        {
+            words.add(POINT_STRING);
+            appendDigitWords(digits, integerEnd+POINT_LENGTH, fractionEnd, words);
+        }
+    }
+
+    /**
+     * Method for appending the words of a given triplet of digits
+     * @param triplet Number between 0 and 999
+     * @param weight Weight of the decimal name for the triplet (e.g. a million, a billion)
+     * @param words List the words are appended to
+     * @author Philipp Schulz
+     */
+    private static void appendTripletWords(int triplet, int weight, List<String> words)
+    {
+        // ignore triplets that are zero
+        if(triplet == NO_VALUE)
+        {
+            return;
+        }
+        int hundreds = triplet/HUNDRED_BASE;
+        int rest = triplet%HUNDRED_BASE;
+        // add the hundred part to number
+        if(hundreds != NO_VALUE)
+        {
+            words.add(UNDER_TWENTY[hundreds]);
+            words.add(HUNDRED);
+        }
+        if(rest != NO_VALUE && rest < TWENTY)   // add last two digits as one combination
+        {
+            words.add(UNDER_TWENTY[rest]);
+        }
+        else if(rest != NO_VALUE)               // split into the teens part and the single digit part
+        {
+            words.add(TEENS_DIGITS[rest/DECIMAL_BASE]);
+            if(rest%DECIMAL_BASE != NO_VALUE)
             {
-                // word is not a number, remove point
-                words.set(i,words.get(i).replace(POINT,EMPTY_STRING));
-                // replace common characters with appropriate words
-                words.set(i,words.get(i).replace(MINUS,MINUS_STRING));
-                words.set(i,words.get(i).replace(PLUS,PLUS_STRING));
+                words.add(UNDER_TWENTY[rest%DECIMAL_BASE]);
             }
         }
-        // initialize return value
-        ArrayList<String> newWords = new ArrayList<>();
-        // final loop over words, split new words from number conversion
-        for(String word : words)
+        // apply total weight to triplet (thousand, million, billion, ...)
+        if(weight >= FIRST_WEIGHT_WORD)
+        {
+            words.add(TEN_STEPS[weight]);
+        }
+    }
+
+    /**
+     * Method for appending the single digits of a given range of a number String
+     * @param number String that contains the number (supports "." too)
+     * @param start Index of the first character
+     * @param end Index after the last character
+     * @param words List the words are appended to
+     * @author Philipp Schulz
+     */
+    private static void appendDigitWords(String number, int start, int end, List<String> words)
+    {
+        for(int i = start; i < end; i++)
         {
-            // if the current word contains a space
-            if(word.contains(SPACE))
+            char character = number.charAt(i);
+            if(character >= DIGIT_ZERO && character <= DIGIT_NINE)
             {
-                // split current word into all sub words
-                String[] multipleWords = word.split(SPACE);
-                // loop over sub words
-                for(String newWord : multipleWords)
-                {
-                    // if the current sub word is not just a space or an empty String
-                    if(!newWord.equals(SPACE) && !newWord.equals(EMPTY_STRING))
-                    {
-                        // add current sub word to new word list
-                        newWords.add(newWord);
-                    }
-                }
+                words.add(UNDER_TWENTY[character-DIGIT_ZERO]);
             }
-            else
+            else if(character == POINT_CHAR)
             {
-                // just add the word
-                newWords.add(word);
+                words.add(POINT_STRING);
             }
         }
-        // return words
-        return newWords;
     }
 
     /**
@@ -0,0 +1,87 @@
+package model.VoiceRecognition;
+
+import model.Constants.VoiceRecognition.AudioRingBufferConstants;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Class for keeping the most recent audio of the microphone, e.g. the pre-roll before the start of speech was detected
+ * Writing more than the capacity overwrites the oldest bytes
+ * Not thread safe, used by the capture thread only
+ * @author Philipp Schulz
+ */
+public class AudioRingBuffer implements AudioRingBufferConstants
+{
+    // local fields
+    private final byte[] buffer;
+    private int writePosition;
+    private int size;
+
+    /**
+     * Constructor of the AudioRingBuffer class
+     * @param capacity Number of bytes that are kept
+     * @author Philipp Schulz
+     */
+    public AudioRingBuffer(int capacity)
+    {
+        this.buffer = new byte[capacity];
+        this.writePosition = EMPTY;
+        this.size = EMPTY;
+    }
+
+    /**
+     * Method for adding audio, the oldest bytes are overwritten if the buffer is full
+     * @param audio Byte array that contains the audio
+     * @param offset Index of the first byte to add
+     * @param length Number of bytes to add
+     * @author Philipp Schulz
+     */
+    public void write(byte[] audio, int offset, int length)
+    {
+        // only the newest bytes fit into the buffer
+        if(length > this.buffer.length)
+        {
+            offset += length - this.buffer.length;
+            length = this.buffer.length;
+        }
+        // copy in at most two parts, until the end of the array and from its start
+        int firstPart = Math.min(length, this.buffer.length - this.writePosition);
+        System.arraycopy(audio, offset, this.buffer, this.writePosition, firstPart);
+        System.arraycopy(audio, offset + firstPart, this.buffer, EMPTY, length - firstPart);
+        this.writePosition = (this.writePosition + length) % this.buffer.length;
+        this.size = Math.min(this.size + length, this.buffer.length);
+    }
+
+    /**
+     * Method for copying the content into a stream, oldest bytes first
+     * @param output Stream that receives the content
+     * @author Philipp Schulz
+     */
+    public void copyTo(ByteArrayOutputStream output)
+    {
+        int readPosition = (this.writePosition - this.size + this.buffer.length) % this.buffer.length;
+        int firstPart = Math.min(this.size, this.buffer.length - readPosition);
+        output.write(this.buffer, readPosition, firstPart);
+        output.write(this.buffer, EMPTY, this.size - firstPart);
+    }
+
+    /**
+     * Method for getting the number of bytes in the buffer
+     * @return Number of bytes, at most the capacity
+     * @author Philipp Schulz
+     */
+    public int size()
+    {
+        return this.size;
+    }
+
+    /**
+     * Method for removing all bytes from the buffer
+     * @author Philipp Schulz
+     */
+    public void clear()
+    {
+        this.writePosition = EMPTY;
+        this.size = EMPTY;
+    }
+}
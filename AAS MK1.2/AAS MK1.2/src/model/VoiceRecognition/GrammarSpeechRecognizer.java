@@ -0,0 +1,76 @@
+package model.VoiceRecognition;
+
+import edu.cmu.sphinx.api.Configuration;
+import edu.cmu.sphinx.api.SpeechResult;
+import edu.cmu.sphinx.api.StreamSpeechRecognizer;
+import model.Constants.VoiceRecognition.GrammarSpeechRecognizerConstants;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Class for a stream recognizer whose grammar can be exchanged, e.g. a small grammar with the wake words only and the
+ * full grammar of the dialogues
+ * The acoustic model is loaded once for all grammars, a new grammar is loaded when the next recognition starts
+ * @author Philipp Schulz
+ */
+public class GrammarSpeechRecognizer extends StreamSpeechRecognizer implements GrammarSpeechRecognizerConstants
+{
+    /**
+     * Constructor of the GrammarSpeechRecognizer class
+     * @param configuration Configuration of the recognizer, must use a JSGF grammar
+     * @throws IOException If the acoustic model could not be loaded
+     * @author Philipp Schulz
+     */
+    public GrammarSpeechRecognizer(Configuration configuration) throws IOException
+    {
+        super(configuration);
+    }
+
+    /**
+     * Method for exchanging the grammar, only called while no recognition runs
+     * @param grammarName Name of the grammar file without extension, in the same directory as the configured grammar
+     * @author Philipp Schulz
+     */
+    public void setGrammarName(String grammarName)
+    {
+        // the grammar reloads itself as soon as its properties change
+        this.context.setLocalProperty(PROPERTY_GRAMMAR_NAME, grammarName);
+    }
+
+    /**
+     * Method for decoding a piece of audio with the current grammar, the recognizer is released afterwards
+     * Used for the segments of the microphone and by the benchmark for recorded utterances
+     * @param audio Byte array that contains 16 bit little endian mono samples with 16 kHz
+     * @return Best final results of all utterances in the audio without filler, empty if nothing was recognized
+     * @author Philipp Schulz
+     */
+    public String decode(byte[] audio)
+    {
+        StringBuilder hypothesis = new StringBuilder();
+        startRecognition(new ByteArrayInputStream(audio));
+        try
+        {
+            // the audio may contain more than one utterance, the recognizer returns null at its end
+            SpeechResult result;
+            while((result = getResult()) != null)
+            {
+                String words = result.getResult().getBestFinalResultNoFiller();
+                if(!words.isEmpty())
+                {
+                    if(hypothesis.length() > 0)
+                    {
+                        hypothesis.append(RESULT_SEPARATOR);
+                    }
+                    hypothesis.append(words);
+                }
+            }
+        }
+        finally
+        {
+            // release the decoder until the next recognition
+            stopRecognition();
+        }
+        return hypothesis.toString();
+    }
+}
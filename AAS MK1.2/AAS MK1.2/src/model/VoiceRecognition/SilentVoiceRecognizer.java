@@ -0,0 +1,98 @@
+package model.VoiceRecognition;
+
+import model.Constants.VoiceRecognition.SilentVoiceRecognizerConstants;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stand-in for the voice recognition that never recognizes anything, e.g. for load tests without microphone and
+ * acoustic model
+ * The state of the recognition is published on the StateBus exactly like the real recognition does
+ * @author Philipp Schulz
+ */
+public class SilentVoiceRecognizer implements SilentVoiceRecognizerConstants, VoiceRecognizer
+{
+    // topic of the StateBus for the state of the recognition
+    private final StateTopic<Boolean> runningTopic;
+    // local fields
+    private volatile boolean isRunning;
+
+    /**
+     * Constructor of the SilentVoiceRecognizer class
+     * @param stateBus Instance of the StateBus for publishing if the recognition is running
+     * @author Philipp Schulz
+     */
+    public SilentVoiceRecognizer(StateBus stateBus)
+    {
+        this.runningTopic = stateBus.getTopic(StateBus.VOICE_RECOGNITION_RUNNING);
+        // initialize local fields
+        this.isRunning = INITIAL_STATE_IS_RUNNING;
+    }
+
+    /**
+     * Method for creating the recognizer, there is nothing to create for the silent recognition
+     * @param OS String that contains information about the OS "pi", "windows", ...
+     * @return Always true
+     * @author Philipp Schulz
+     */
+    public boolean createRecognizer(String OS)
+    {
+        // start the recognition like the real recognizer does after its creation
+        setIsRunning(RECOGNITION_START);
+        return RECOGNIZER_CREATION_SUCCESS;
+    }
+
+    /**
+     * Method for getting the current state of the isRunning field
+     * @return Current value of isRunning (true=is running)
+     * @author Philipp Schulz
+     */
+    public boolean getIsRunning()
+    {
+        return this.isRunning;
+    }
+
+    /**
+     * Method for setting a new value of the isRunning field
+     * @param isRunning New value for the isRunning field
+     * @author Philipp Schulz
+     */
+    public void setIsRunning(boolean isRunning)
+    {
+        // save and publish new state of isRunning
+        this.isRunning = isRunning;
+        this.runningTopic.publish(isRunning);
+    }
+
+    /**
+     * Method for telling the recognition if a dialogue is active, the silent recognition has no grammar to switch
+     * @param dialogueActive True while a dialogue with a component is active
+     * @author Philipp Schulz
+     */
+    public void setDialogueActive(boolean dialogueActive)
+    {
+        // nothing to switch
+    }
+
+    /**
+     * Method for waiting for a single result, the silent recognition never hears anything
+     * @return Always an empty String
+     * @author Philipp Schulz
+     */
+    public String recognize()
+    {
+        // wait like a recognition without speech would, the caller must not spin
+        try
+        {
+            TimeUnit.MILLISECONDS.sleep(RECOGNIZE_WAIT_TIME);
+        }
+        catch(InterruptedException e)
+        {
+            // keep the interrupt for the caller
+            Thread.currentThread().interrupt();
+        }
+        return EMPTY_RESULT;
+    }
+}
@@ -0,0 +1,291 @@
+package model.VoiceRecognition;
+
+import model.Constants.VoiceRecognition.SpeechCaptureConstants;
+
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.TargetDataLine;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Class for capturing the microphone and cutting the speech out of it
+ * The capture thread reads the microphone in frames of 10 ms and passes them to the VoiceActivityDetector. While there
+ * is no speech, the frames only go into a ring buffer (pre-roll). As soon as speech starts, the pre-roll and all
+ * following frames up to the end of the hangover form a segment, only segments reach the recognizer
+ * The frames can also be passed in directly with processAudio(), e.g. from a file
+ * @author Philipp Schulz
+ */
+public class SpeechCapture implements SpeechCaptureConstants
+{
+    // objects of all required components of SpeechCapture
+    private final VoiceActivityDetector voiceActivityDetector;
+    private final AudioRingBuffer preRoll;
+    private final BlockingQueue<SpeechSegment> segments;
+    private TargetDataLine line;
+    private Thread captureThread;
+    // local fields
+    private final byte[] frame;
+    private int frameFill;
+    private long frameCount;
+    private ByteArrayOutputStream currentSegment;
+    private long segmentStartFrame;
+    private volatile boolean capturing;
+
+    /**
+     * Constructor of the SpeechCapture class
+     * @author Philipp Schulz
+     */
+    public SpeechCapture()
+    {
+        // initialize rest of components
+        this.voiceActivityDetector = new VoiceActivityDetector();
+        this.preRoll = new AudioRingBuffer(PRE_ROLL_FRAMES*FRAME_BYTES);
+        this.segments = new ArrayBlockingQueue<>(SEGMENT_QUEUE_LENGTH);
+        this.line = null;
+        this.captureThread = null;
+        // initialize local fields
+        this.frame = new byte[FRAME_BYTES];
+        this.capturing = INITIAL_STATE_CAPTURING;
+        reset();
+    }
+
+    /**
+     * Method for opening the microphone, done once before the first start
+     * @throws LineUnavailableException If there is no microphone with the required format
+     * @author Philipp Schulz
+     */
+    public synchronized void open() throws LineUnavailableException
+    {
+        if(this.line == null)
+        {
+            TargetDataLine targetDataLine = AudioSystem.getTargetDataLine(CAPTURE_FORMAT);
+            targetDataLine.open(CAPTURE_FORMAT, LINE_BUFFER_FRAMES*FRAME_BYTES);
+            this.line = targetDataLine;
+        }
+    }
+
+    /**
+     * Method for starting the capture thread, old segments are dropped
+     * @throws IllegalStateException If the microphone was not opened
+     * @author Philipp Schulz
+     */
+    public synchronized void start()
+    {
+        if(this.line == null)
+        {
+            throw new IllegalStateException(ERROR_NOT_OPENED);
+        }
+        if(this.capturing)
+        {
+            return;
+        }
+        // start with a fresh detector and without old audio
+        reset();
+        this.segments.clear();
+        this.line.flush();
+        this.line.start();
+        this.capturing = true;
+        // create new Thread that reads the microphone
+        this.captureThread = new Thread(() ->
+        {
+            byte[] readBuffer = new byte[FRAMES_PER_READ*FRAME_BYTES];
+            while(this.capturing)
+            {
+                // blocks until the buffer is filled or the microphone is stopped
+                int read = this.line.read(readBuffer, NO_BYTES, readBuffer.length);
+                if(read > NO_BYTES && this.capturing)
+                {
+                    processAudio(readBuffer, NO_BYTES, read);
+                }
+            }
+        }, CAPTURE_THREAD_NAME);
+        this.captureThread.setDaemon(true);
+        // start the Thread
+        this.captureThread.start();
+    }
+
+    /**
+     * Method for stopping the capture thread, a waiting takeSegment() returns a segment that marks the end
+     * The speech of a segment that is not finished is dropped
+     * @author Philipp Schulz
+     */
+    public synchronized void stop()
+    {
+        if(!this.capturing)
+        {
+            return;
+        }
+        // stop the microphone, the capture thread returns from reading and ends
+        this.capturing = false;
+        this.line.stop();
+        try
+        {
+            this.captureThread.join(CAPTURE_STOP_TIMEOUT);
+        }
+        catch(InterruptedException e)
+        {
+            // keep the interrupt for the caller
+            Thread.currentThread().interrupt();
+        }
+        this.line.flush();
+        // release a thread that waits for the next segment
+        addSegment(new SpeechSegment(NO_AUDIO, this.frameCount, this.frameCount, NO_TIME));
+    }
+
+    /**
+     * Method for closing the microphone, the capture must be opened again before the next start
+     * @author Philipp Schulz
+     */
+    public synchronized void close()
+    {
+        stop();
+        if(this.line != null)
+        {
+            this.line.close();
+            this.line = null;
+        }
+    }
+
+    /**
+     * Method for waiting for the next segment of speech
+     * @return Next segment, the segment marks the end of the capture if the capture was stopped
+     * @throws InterruptedException If the thread was interrupted while waiting
+     * @author Philipp Schulz
+     */
+    public SpeechSegment takeSegment() throws InterruptedException
+    {
+        return this.segments.take();
+    }
+
+    /**
+     * Method for getting the next segment of speech without waiting
+     * @return Next segment, null if there is none
+     * @author Philipp Schulz
+     */
+    public SpeechSegment pollSegment()
+    {
+        return this.segments.poll();
+    }
+
+    /**
+     * Method for passing audio to the voice activity detection, called by the capture thread or directly with audio from
+     * a file
+     * The audio is split into frames, a frame that is not complete is finished by the next call
+     * @param audio Byte array that contains 16 bit little endian mono samples
+     * @param offset Index of the first byte
+     * @param length Number of bytes
+     * @author Philipp Schulz
+     */
+    public void processAudio(byte[] audio, int offset, int length)
+    {
+        int position = offset;
+        int end = offset + length;
+        while(position < end)
+        {
+            // fill the current frame
+            int copied = Math.min(FRAME_BYTES - this.frameFill, end - position);
+            System.arraycopy(audio, position, this.frame, this.frameFill, copied);
+            this.frameFill += copied;
+            position += copied;
+            // classify every complete frame
+            if(this.frameFill == FRAME_BYTES)
+            {
+                processFrame();
+                this.frameFill = NO_BYTES;
+            }
+        }
+    }
+
+    /**
+     * Method for finishing a segment that is still open, e.g. at the end of a file
+     * @author Philipp Schulz
+     */
+    public void flush()
+    {
+        if(this.currentSegment != null)
+        {
+            finishSegment();
+        }
+    }
+
+    /**
+     * Method for resetting the detection, also used by the benchmark between two files
+     * @author Philipp Schulz
+     */
+    public void reset()
+    {
+        this.voiceActivityDetector.reset();
+        this.preRoll.clear();
+        this.frameFill = NO_BYTES;
+        this.frameCount = NO_FRAMES;
+        this.currentSegment = null;
+        this.segmentStartFrame = NO_FRAMES;
+    }
+
+    /**
+     * Method for getting the voice activity detection, e.g. for printing the noise floor
+     * @return Instance of the VoiceActivityDetector class
+     * @author Philipp Schulz
+     */
+    public VoiceActivityDetector getVoiceActivityDetector()
+    {
+        return this.voiceActivityDetector;
+    }
+
+    /**
+     * Method for handling a single complete frame
+     * @author Philipp Schulz
+     */
+    private void processFrame()
+    {
+        boolean inSpeech = this.voiceActivityDetector.processFrame(this.frame, NO_BYTES, FRAME_SAMPLES);
+        long frameNumber = this.frameCount++;
+        if(this.currentSegment == null)
+        {
+            // keep the frame in case speech starts in the next frames
+            this.preRoll.write(this.frame, NO_BYTES, FRAME_BYTES);
+            if(inSpeech)
+            {
+                // the segment starts with the pre-roll, which already contains the onset of the speech
+                this.segmentStartFrame = frameNumber + 1 - this.preRoll.size()/FRAME_BYTES;
+                this.currentSegment = new ByteArrayOutputStream(MAX_SEGMENT_FRAMES*FRAME_BYTES/SEGMENT_SIZE_ESTIMATE_DIVISOR);
+                this.preRoll.copyTo(this.currentSegment);
+                this.preRoll.clear();
+            }
+        }
+        else
+        {
+            // add the frame to the segment, the hangover is part of it
+            this.currentSegment.write(this.frame, NO_BYTES, FRAME_BYTES);
+            if(!inSpeech || this.currentSegment.size() >= MAX_SEGMENT_FRAMES*FRAME_BYTES)
+            {
+                finishSegment();
+            }
+        }
+    }
+
+    /**
+     * Method for handing the current segment over to the recognizer
+     * @author Philipp Schulz
+     */
+    private void finishSegment()
+    {
+        addSegment(new SpeechSegment(this.currentSegment.toByteArray(), this.segmentStartFrame, this.frameCount, System.nanoTime()));
+        this.currentSegment = null;
+    }
+
+    /**
+     * Method for adding a segment to the queue, the oldest segment is dropped if the recognizer can not keep up
+     * @param segment Segment that should be recognized
+     * @author Philipp Schulz
+     */
+    private void addSegment(SpeechSegment segment)
+    {
+        while(!this.segments.offer(segment))
+        {
+            this.segments.poll();
+        }
+    }
+}
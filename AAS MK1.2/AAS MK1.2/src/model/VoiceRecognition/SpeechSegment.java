@@ -0,0 +1,93 @@
+package model.VoiceRecognition;
+
+import model.Constants.VoiceRecognition.SpeechSegmentConstants;
+
+/**
+ * Class for a single segment of speech that was cut out of the microphone signal by the SpeechCapture
+ * Contains the raw samples including the pre-roll and the hangover, ready to be decoded by the recognizer
+ * @author Philipp Schulz
+ */
+public class SpeechSegment implements SpeechSegmentConstants
+{
+    // local fields
+    private final byte[] audio;
+    private final long startFrame;
+    private final long endFrame;
+    private final long endTime;
+
+    /**
+     * Constructor of the SpeechSegment class
+     * @param audio Raw samples of the segment, 16 bit little endian mono
+     * @param startFrame Number of the first frame of the segment since the capture was started
+     * @param endFrame Number of the frame after the segment since the capture was started
+     * @param endTime Time in [ns] (System.nanoTime()) when the end of the segment was detected
+     * @author Philipp Schulz
+     */
+    public SpeechSegment(byte[] audio, long startFrame, long endFrame, long endTime)
+    {
+        this.audio = audio;
+        this.startFrame = startFrame;
+        this.endFrame = endFrame;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Method for getting the time when the segment started, calculated back from its end and its length
+     * @return Time in [ns] (System.nanoTime()) of the first frame of the segment
+     * @author Philipp Schulz
+     */
+    public long getStartTime()
+    {
+        return this.endTime - (this.endFrame - this.startFrame)*FRAME_TIME;
+    }
+
+    /**
+     * Method for getting the raw samples of the segment
+     * @return Byte array of 16 bit little endian mono samples
+     * @author Philipp Schulz
+     */
+    public byte[] getAudio()
+    {
+        return this.audio;
+    }
+
+    /**
+     * Method for getting the position of the segment in the captured audio
+     * @return Number of the first frame of the segment
+     * @author Philipp Schulz
+     */
+    public long getStartFrame()
+    {
+        return this.startFrame;
+    }
+
+    /**
+     * Method for getting the end of the segment in the captured audio
+     * @return Number of the frame after the segment
+     * @author Philipp Schulz
+     */
+    public long getEndFrame()
+    {
+        return this.endFrame;
+    }
+
+    /**
+     * Method for getting the time when the end of the segment was detected, the time to a result is measured from here
+     * @return Time in [ns] (System.nanoTime())
+     * @author Philipp Schulz
+     */
+    public long getEndTime()
+    {
+        return this.endTime;
+    }
+
+    /**
+     * Method for checking if this segment only marks that the capture was stopped
+     * @return True if the segment contains no audio
+     * @author Philipp Schulz
+     */
+    public boolean isEndOfCapture()
+    {
+        return this.audio.length == END_OF_CAPTURE_LENGTH;
+    }
+}
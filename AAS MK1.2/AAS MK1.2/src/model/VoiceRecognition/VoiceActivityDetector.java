@@ -0,0 +1,200 @@
+package model.VoiceRecognition;
+
+import model.Constants.VoiceRecognition.VoiceActivityDetectorConstants;
+
+/**
+ * Class for detecting speech in frames of 16 bit little endian mono samples
+ * A frame counts as speech if its energy is clearly above the noise floor (voiced) or a little above it with many
+ * zero crossings (unvoiced, e.g. "s"). The noise floor follows quiet frames quickly and louder frames slowly. Speech only
+ * starts after some speech frames in a row and only ends after a hangover of non-speech frames, so short clicks are
+ * ignored and pauses between words do not split an utterance
+ * Not thread safe, used by the capture thread only
+ * @author Philipp Schulz
+ */
+public class VoiceActivityDetector implements VoiceActivityDetectorConstants
+{
+    // local fields
+    private double noiseFloor;
+    private boolean noiseFloorSet;
+    private boolean inSpeech;
+    private int speechFrames;
+    private int silenceFrames;
+    private double lastLevel;
+    private double lastZeroCrossingRate;
+
+    /**
+     * Constructor of the VoiceActivityDetector class
+     * @author Philipp Schulz
+     */
+    public VoiceActivityDetector()
+    {
+        reset();
+    }
+
+    /**
+     * Method for resetting the detector, e.g. after the microphone was stopped
+     * @author Philipp Schulz
+     */
+    public void reset()
+    {
+        this.noiseFloor = INITIAL_STATE_LEVEL;
+        this.noiseFloorSet = INITIAL_STATE_NOISE_FLOOR_SET;
+        this.inSpeech = INITIAL_STATE_IN_SPEECH;
+        this.speechFrames = NO_FRAMES;
+        this.silenceFrames = NO_FRAMES;
+        this.lastLevel = INITIAL_STATE_LEVEL;
+        this.lastZeroCrossingRate = INITIAL_STATE_LEVEL;
+    }
+
+    /**
+     * Method for classifying the next frame
+     * @param audio Byte array that contains the frame
+     * @param offset Index of the first byte of the frame
+     * @param samples Number of samples of the frame
+     * @return True while speech is detected, including the onset and the hangover
+     * @author Philipp Schulz
+     */
+    public boolean processFrame(byte[] audio, int offset, int samples)
+    {
+        // energy and zero crossings of the frame
+        double sumOfSquares = INITIAL_STATE_LEVEL;
+        int zeroCrossings = NO_FRAMES;
+        boolean previousPositive = true;
+        for(int i = 0; i < samples; i++)
+        {
+            int index = offset + i*BYTES_PER_SAMPLE;
+            int sample = (audio[index] & BYTE_MASK) | (audio[index + 1] << BITS_PER_BYTE);
+            sumOfSquares += (double) sample*sample;
+            boolean positive = sample >= 0;
+            if(i > 0 && positive != previousPositive)
+            {
+                zeroCrossings++;
+            }
+            previousPositive = positive;
+        }
+        this.lastLevel = DECIBEL_FACTOR*Math.log10(sumOfSquares/samples/(FULL_SCALE*FULL_SCALE) + ENERGY_EPSILON);
+        this.lastZeroCrossingRate = (double) zeroCrossings/samples;
+        // the first frame is the first estimate of the noise floor
+        if(!this.noiseFloorSet)
+        {
+            this.noiseFloor = this.lastLevel;
+            this.noiseFloorSet = true;
+        }
+        boolean speechFrame = isSpeechFrame(this.lastLevel, this.lastZeroCrossingRate);
+        updateNoiseFloor(this.lastLevel, speechFrame);
+        return smoothDecision(speechFrame);
+    }
+
+    /**
+     * Method for getting the current state of the detector
+     * @return True while speech is detected
+     * @author Philipp Schulz
+     */
+    public boolean isInSpeech()
+    {
+        return this.inSpeech;
+    }
+
+    /**
+     * Method for getting the current estimate of the noise floor
+     * @return Noise floor in [dBFS]
+     * @author Philipp Schulz
+     */
+    public double getNoiseFloor()
+    {
+        return this.noiseFloor;
+    }
+
+    /**
+     * Method for getting the level of the last frame
+     * @return Level in [dBFS]
+     * @author Philipp Schulz
+     */
+    public double getLastLevel()
+    {
+        return this.lastLevel;
+    }
+
+    /**
+     * Method for getting the zero-crossing rate of the last frame
+     * @return Zero crossings per sample
+     * @author Philipp Schulz
+     */
+    public double getLastZeroCrossingRate()
+    {
+        return this.lastZeroCrossingRate;
+    }
+
+    /**
+     * Method for classifying a single frame without smoothing
+     * @param level Level of the frame in [dBFS]
+     * @param zeroCrossingRate Zero crossings per sample of the frame
+     * @return True if the frame contains voiced or unvoiced speech
+     * @author Philipp Schulz
+     */
+    private boolean isSpeechFrame(double level, double zeroCrossingRate)
+    {
+        if(level < MINIMUM_SPEECH_LEVEL)
+        {
+            return false;
+        }
+        boolean voiced = level > this.noiseFloor + VOICED_THRESHOLD;
+        boolean unvoiced = level > this.noiseFloor + UNVOICED_THRESHOLD && zeroCrossingRate > UNVOICED_ZERO_CROSSING_RATE;
+        return voiced || unvoiced;
+    }
+
+    /**
+     * Method for following the noise floor, quiet frames lower it quickly, louder frames raise it slowly
+     * @param level Level of the frame in [dBFS]
+     * @param speechFrame True if the frame was classified as speech
+     * @author Philipp Schulz
+     */
+    private void updateNoiseFloor(double level, boolean speechFrame)
+    {
+        double smoothingFactor;
+        if(level < this.noiseFloor)
+        {
+            smoothingFactor = NOISE_FLOOR_FALL;
+        }
+        else if(speechFrame)
+        {
+            smoothingFactor = NOISE_FLOOR_RISE_SPEECH;
+        }
+        else
+        {
+            smoothingFactor = NOISE_FLOOR_RISE;
+        }
+        this.noiseFloor += smoothingFactor*(level - this.noiseFloor);
+    }
+
+    /**
+     * Method for smoothing the decisions of single frames with an onset and a hangover
+     * @param speechFrame True if the frame was classified as speech
+     * @return True while speech is detected
+     * @author Philipp Schulz
+     */
+    private boolean smoothDecision(boolean speechFrame)
+    {
+        if(speechFrame)
+        {
+            this.speechFrames++;
+            this.silenceFrames = NO_FRAMES;
+            // speech starts after a few speech frames in a row
+            if(!this.inSpeech && this.speechFrames >= ONSET_FRAMES)
+            {
+                this.inSpeech = true;
+            }
+        }
+        else
+        {
+            this.speechFrames = NO_FRAMES;
+            // speech ends after the hangover, pauses between words are kept
+            if(this.inSpeech && ++this.silenceFrames >= HANGOVER_FRAMES)
+            {
+                this.inSpeech = false;
+                this.silenceFrames = NO_FRAMES;
+            }
+        }
+        return this.inSpeech;
+    }
+}
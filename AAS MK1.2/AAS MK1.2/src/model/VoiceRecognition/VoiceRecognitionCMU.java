@@ -1,32 +1,63 @@
 package model.VoiceRecognition;
 
-import edu.cmu.sphinx.api.SpeechResult;
 import model.Constants.VoiceRecognition.VoiceRecognitionCMUConstants;
+import model.StateBus.StateBus;
+import model.StateBus.StateTopic;
 import edu.cmu.sphinx.api.Configuration;
-import edu.cmu.sphinx.api.LiveSpeechRecognizer;
 
 import java.util.concurrent.TimeUnit;
 
 /**
  * Class for voice recognition via CMUSphinx
+ * The microphone is read by the SpeechCapture, only the segments that contain speech are decoded by the stream
+ * recognizer, silence and background noise never reach the decoder
+ * With wake word gating, segments outside of a dialogue are decoded with a small grammar that only contains the
+ * component names and activation phrases, the full grammar is only used during a dialogue
+ * The recognition is driven by a state machine (stopped, running, recognizing, stopping, restarting). A stop or start
+ * that is requested while a segment is awaited or decoded is finished by the recognizing thread as soon as it returned,
+ * so the recognizer is never stopped while it is busy and the next recognition can start immediately after a result
  * Only called once by VoiceRecognitionManager!
  * @author Philipp Schulz
  */
-public class VoiceRecognitionCMU implements VoiceRecognitionCMUConstants
+public class VoiceRecognitionCMU implements VoiceRecognitionCMUConstants, VoiceRecognizer
 {
+    // topic of the StateBus for the state of the recognition
+    private final StateTopic<Boolean> runningTopic;
     // local fields
-    private boolean isRunning;
+    private final SpeechCapture speechCapture;
+    private final boolean wakeWordGating;
+    private volatile int state;
+    private volatile boolean dialogueActive;
+    private volatile long lastDialogueInputTime;
     private String os;
-    private LiveSpeechRecognizer recognizer;
+    private String activeGrammar;
+    private GrammarSpeechRecognizer recognizer;
 
     /**
      * Constructor of the VoiceRecognitionCMU class
+     * @param stateBus Instance of the StateBus for publishing if the recognition is running
      * @author Philipp Schulz
      */
-    public VoiceRecognitionCMU()
+    public VoiceRecognitionCMU(StateBus stateBus)
     {
+        this(stateBus, WAKE_WORD_GATING_DEFAULT);
+    }
+
+    /**
+     * Constructor of the VoiceRecognitionCMU class
+     * @param stateBus Instance of the StateBus for publishing if the recognition is running
+     * @param wakeWordGating True if only the wake words should be recognized outside of a dialogue
+     * @author Philipp Schulz
+     */
+    public VoiceRecognitionCMU(StateBus stateBus, boolean wakeWordGating)
+    {
+        this.runningTopic = stateBus.getTopic(StateBus.VOICE_RECOGNITION_RUNNING);
         // initialize local fields
-        this.isRunning = INITIAL_STATE_IS_RUNNING;
+        this.speechCapture = new SpeechCapture();
+        this.wakeWordGating = wakeWordGating;
+        this.state = STATE_STOPPED;
+        this.dialogueActive = INITIAL_STATE_DIALOGUE_ACTIVE;
+        this.lastDialogueInputTime = System.nanoTime();
         this.recognizer = null;
         this.os = INITIAL_STATE_OS;
     }
@@ -41,32 +72,25 @@ public class VoiceRecognitionCMU implements VoiceRecognitionCMUConstants
     {
         // save os information
         this.os = OS;
-        // disable logging from voice recognition
-        System.setProperty(LOGGER_PROPERTY1, LOGGER_PROPERTY2);
-        // set up the Sphinx4 configuration
-        Configuration configuration = new Configuration();
-        configuration.setAcousticModelPath(SPHINX4_ACOUSTIC_MODEL_PATH);
-        configuration.setDictionaryPath(SPHINX4_DICTIONARY_PATH);
-        configuration.setLanguageModelPath(SPHINX4_LANGUAGE_MODEL_PATH);
-        // set the name of the grammar file
-        configuration.setGrammarName(SPHINX4_GRAMMAR_NAME);
-        // indicate that the grammar should be used
-        configuration.setUseGrammar(SPHINX4_USE_GRAMMAR);
-
-        // handle different parts due to OS
+        // the grammar is read from a different path on the Pi than on Windows
+        String grammarPath = null;
         if (this.os.equals(OS_LINUX))    // if the program runs on Linux (aka on a Pi)
         {
             // set grammar path for Pi
-            configuration.setGrammarPath(SPHINX4_GRAMMAR_PATH_PI);
+            grammarPath = SPHINX4_GRAMMAR_PATH_PI;
         } else if (this.os.equals(OS_WINDOWS))    // if the program runs on Windows
         {
             // set grammar path for Windows
-            configuration.setGrammarPath(FILE + System.getProperty(SPHINX4_USER_DIR) + SPHINX4_GRAMMAR_PATH_WINDOWS);
+            grammarPath = FILE + System.getProperty(SPHINX4_USER_DIR) + SPHINX4_GRAMMAR_PATH_WINDOWS;
         }
+        Configuration configuration = createConfiguration(grammarPath, SPHINX4_GRAMMAR_NAME);
         // create recognizer
         try
         {
-            this.recognizer = new LiveSpeechRecognizer(configuration);
+            this.recognizer = new GrammarSpeechRecognizer(configuration);
+            this.activeGrammar = SPHINX4_GRAMMAR_NAME;
+            // open the microphone, the recognizer can not be used without it
+            this.speechCapture.open();
             // start the recognition
             setIsRunning(RECOGNITION_START);
             return RECOGNIZER_CREATION_SUCCESS;
@@ -80,100 +104,221 @@ public class VoiceRecognitionCMU implements VoiceRecognitionCMUConstants
     }
 
     /**
-     * Method for getting the current state of the isRunning field
-     * @return Current value of isRunning (true=is running)
+     * Method for creating the Sphinx4 configuration of the recognizer, also used by the benchmark of the recognition
+     * @param grammarPath Path of the directory with the grammar files, not set if null
+     * @param grammarName Name of the grammar file without extension
+     * @return Configuration with the acoustic model, the dictionary and the grammar
+     * @author Philipp Schulz
+     */
+    public static Configuration createConfiguration(String grammarPath, String grammarName)
+    {
+        // disable logging from voice recognition
+        System.setProperty(LOGGER_PROPERTY1, LOGGER_PROPERTY2);
+        // set up the Sphinx4 configuration
+        Configuration configuration = new Configuration();
+        configuration.setAcousticModelPath(SPHINX4_ACOUSTIC_MODEL_PATH);
+        configuration.setDictionaryPath(SPHINX4_DICTIONARY_PATH);
+        configuration.setLanguageModelPath(SPHINX4_LANGUAGE_MODEL_PATH);
+        // set the name of the grammar file
+        configuration.setGrammarName(grammarName);
+        // indicate that the grammar should be used
+        configuration.setUseGrammar(SPHINX4_USE_GRAMMAR);
+        if(grammarPath != null)
+        {
+            configuration.setGrammarPath(grammarPath);
+        }
+        return configuration;
+    }
+
+    /**
+     * Method for getting the current state of the recognition
+     * @return True if the recognition is running, also while a result is recognized
      * @author Philipp Schulz
      */
     public boolean getIsRunning()
     {
-        return this.isRunning;
+        return this.state == STATE_RUNNING || this.state == STATE_RECOGNIZING || this.state == STATE_RESTARTING;
     }
 
     /**
-     * Method for setting a new value of the isRunning field
-     * @param isRunning New value for the isRunning field
+     * Method for starting or stopping the recognition, the new state is published on the StateBus
+     * If a result is recognized at the moment, the microphone is stopped and the recognizing thread finishes the stop
+     * @param isRunning True if the recognition should run
      * @author Philipp Schulz
      */
-    public void setIsRunning(boolean isRunning)
+    public synchronized void setIsRunning(boolean isRunning)
     {
-        // handle new state of isRunning for recognizer
-        if(isRunning && !this.isRunning)
+        // nothing can be started or stopped before the recognizer was created
+        if(this.recognizer == null)
+        {
+            return;
+        }
+        if(isRunning)
         {
-            // catch errors in case recognizer already runs
-            try
+            if(this.state == STATE_STOPPED)
             {
-                // start the recognition
-                recognizer.startRecognition(CLEAR_RECOGNIZER);
+                // start the microphone
+                startRecognizer();
             }
-            catch(Exception ignored)
+            else if(this.state == STATE_STOPPING)
             {
-                // exception can be ignored
+                // the recognizing thread stops the recognizer and starts it again right away
+                this.state = STATE_RESTARTING;
             }
         }
-        else if(!isRunning && this.isRunning)
+        else
         {
-            // stop the recognition
-            boolean flag = RECOGNITION_START;
-            // loop until recognition is no longer busy
-            while(flag)
+            if(this.state == STATE_RUNNING)
             {
-                // catch any errors
-                try
-                {
-                    // stop the recognition module and set the flag
-                    recognizer.stopRecognition();
-                    flag = RECOGNITION_STOP;
-                }
-                catch(NullPointerException e)
-                {
-                    flag = RECOGNITION_STOP;
-                }
-                catch(Exception ignored)
-                {
-
-                }
+                // nobody waits for a result, the recognition can be stopped directly
+                this.speechCapture.stop();
+                this.state = STATE_STOPPED;
+            }
+            else if(this.state == STATE_RECOGNIZING)
+            {
+                // stop the microphone so a thread that waits for the next segment returns, a segment is decoded to the end
+                this.speechCapture.stop();
+                this.state = STATE_STOPPING;
+            }
+            else if(this.state == STATE_RESTARTING)
+            {
+                // take back the restart, the recognizer is only stopped
+                this.state = STATE_STOPPING;
             }
         }
-        // save new state of isRunning
-        this.isRunning = isRunning;
+        // publish new state of the recognition
+        this.runningTopic.publish(getIsRunning());
+    }
+
+    /**
+     * Method for telling the recognition if a dialogue is active, the grammar is switched before the next segment
+     * Every call with true is an input of the dialogue, the timeout of the dialogue starts again
+     * @param dialogueActive True while a dialogue with a component is active
+     * @author Philipp Schulz
+     */
+    public void setDialogueActive(boolean dialogueActive)
+    {
+        if(dialogueActive)
+        {
+            this.lastDialogueInputTime = System.nanoTime();
+        }
+        this.dialogueActive = dialogueActive;
     }
 
     /**
      * Method for using the CMU Sphinx library to recognize a single result
-     * @return String of the next voice recognition result
+     * Waits for the next segment of speech and decodes it, the next segment is captured in the meantime
+     * @return String of the next voice recognition result, empty if the recognition does not run
      * @author Philipp Schulz
      */
     public String recognize()
     {
-        // only recognize when it should do so
-        if(isRunning)
+        // only recognize when it should do so, a single thread recognizes at a time
+        synchronized(this)
         {
-            // get the result from the recognizer
-            try
+            if(this.state != STATE_RUNNING)
             {
-                // get the recognition result
-                SpeechResult result = recognizer.getResult();
-                // return the best final result without filler
-                return result.getResult().getBestFinalResultNoFiller();
+                return EMPTY_RESULT;
             }
-            catch(IllegalStateException e)
+            this.state = STATE_RECOGNIZING;
+        }
+        String result = EMPTY_RESULT;
+        boolean recognizerUsable = RECOGNIZER_USABLE;
+        try
+        {
+            // wait for the end of the next utterance, returns a marker if the microphone was stopped
+            SpeechSegment segment = this.speechCapture.takeSegment();
+            if(!segment.isEndOfCapture())
             {
-                // in case the recognizer is not ready for recognition
-                try
-                {
-                    TimeUnit.MILLISECONDS.sleep(RECOGNIZE_TIMEOUT);
-                }
-                catch(Exception ignored)
-                {
-
-                }
-                return EMPTY_RESULT;
+                result = decodeSegment(segment);
             }
         }
-        else
+        catch(InterruptedException e)
+        {
+            // keep the interrupt for the caller
+            Thread.currentThread().interrupt();
+        }
+        catch(IllegalStateException e)
+        {
+            // the recognizer is not in a state for recognition, it can not be used anymore
+            e.printStackTrace();
+            recognizerUsable = !RECOGNIZER_USABLE;
+        }
+        finally
+        {
+            // finish a stop or start that was requested in the meantime
+            finishRecognition(recognizerUsable);
+        }
+        return result;
+    }
+
+    /**
+     * Method for decoding a single segment of speech
+     * @param segment Segment that was cut out of the microphone signal
+     * @return Best final results of all utterances in the segment without filler, empty if nothing was recognized
+     * @author Philipp Schulz
+     */
+    private String decodeSegment(SpeechSegment segment)
+    {
+        // a dialogue without input is over after its timeout, speech that starts later must wake a component again
+        boolean dialogueRunning = this.dialogueActive
+                && segment.getStartTime() - this.lastDialogueInputTime <= TimeUnit.MILLISECONDS.toNanos(DIALOGUE_TIMEOUT);
+        String grammar = this.wakeWordGating && !dialogueRunning ? SPHINX4_WAKE_GRAMMAR_NAME : SPHINX4_GRAMMAR_NAME;
+        // the grammar can only be exchanged while the recognizer is released
+        if(!grammar.equals(this.activeGrammar))
+        {
+            this.recognizer.setGrammarName(grammar);
+            this.activeGrammar = grammar;
+        }
+        return this.recognizer.decode(segment.getAudio());
+    }
+
+    /**
+     * Method for changing the state after a result was recognized
+     * @param recognizerUsable False if the recognizer could not recognize, the recognition is stopped then
+     * @author Philipp Schulz
+     */
+    private synchronized void finishRecognition(boolean recognizerUsable)
+    {
+        if(!recognizerUsable)
         {
-            // return an empty String
-            return EMPTY_RESULT;
+            this.state = STATE_STOPPED;
+        }
+        else if(this.state == STATE_RECOGNIZING)
+        {
+            // nothing was requested in the meantime, the next result can be recognized
+            this.state = STATE_RUNNING;
+        }
+        else if(this.state == STATE_STOPPING)
+        {
+            // the microphone was already stopped while recognizing
+            this.state = STATE_STOPPED;
+        }
+        else if(this.state == STATE_RESTARTING)
+        {
+            // start again with a cleared microphone
+            this.state = STATE_STOPPED;
+            startRecognizer();
+        }
+        // publish new state of the recognition
+        this.runningTopic.publish(getIsRunning());
+    }
+
+    /**
+     * Method for starting the microphone, the recognition stays stopped if this fails
+     * @author Philipp Schulz
+     */
+    private void startRecognizer()
+    {
+        try
+        {
+            this.speechCapture.start();
+            this.state = STATE_RUNNING;
+        }
+        catch(IllegalStateException e)
+        {
+            // errors should not occur, but if they do, print them to the terminal
+            e.printStackTrace();
         }
     }
 }
@@ -0,0 +1,48 @@
+package model.VoiceRecognition;
+
+/**
+ * Interface for all voice recognitions that can be used by the VoiceRecognitionManager, e.g. the CMU Sphinx4
+ * recognition or a silent stand-in for tests without microphone
+ * @author Philipp Schulz
+ */
+public interface VoiceRecognizer
+{
+    /**
+     * Method for creating the recognizer, done separately from the constructor
+     * @param OS String that contains information about the OS "pi", "windows", ...
+     * @return True if the recognizer was created
+     * @author Philipp Schulz
+     */
+    boolean createRecognizer(String OS);
+
+    /**
+     * Method for getting the current state of the recognition
+     * @return True if the recognition is running
+     * @author Philipp Schulz
+     */
+    boolean getIsRunning();
+
+    /**
+     * Method for starting or stopping the recognition, the new state is published on the StateBus
+     * @param isRunning True if the recognition should run
+     * @author Philipp Schulz
+     */
+    void setIsRunning(boolean isRunning);
+
+    /**
+     * Method for telling the recognition if a dialogue is active
+     * Without a dialogue only the wake words have to be recognized, a recognition with two stages switches to its full
+     * grammar during a dialogue, every call with true counts as input of the dialogue and speech that starts more than
+     * DIALOGUE_TIMEOUT after the last input is recognized with the wake words again
+     * @param dialogueActive True while a dialogue with a component is active
+     * @author Philipp Schulz
+     */
+    void setDialogueActive(boolean dialogueActive);
+
+    /**
+     * Method for recognizing a single result, blocks until the next result is available
+     * @return String of the next voice recognition result, empty if nothing was recognized
+     * @author Philipp Schulz
+     */
+    String recognize();
+}